@@ -1,5 +1,6 @@
 package io.javaoperatorsdk.operator.monitoring.micrometer;
 
+import java.time.Duration;
 import java.util.*;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.Executors;
@@ -15,8 +16,10 @@ import io.javaoperatorsdk.operator.api.reconciler.RetryInfo;
 import io.javaoperatorsdk.operator.processing.Controller;
 import io.javaoperatorsdk.operator.processing.GroupVersionKind;
 import io.javaoperatorsdk.operator.processing.event.Event;
+import io.javaoperatorsdk.operator.processing.event.ReconciliationPriority;
 import io.javaoperatorsdk.operator.processing.event.ResourceID;
 import io.javaoperatorsdk.operator.processing.event.source.controller.ResourceEvent;
+import io.micrometer.core.instrument.DistributionSummary;
 import io.micrometer.core.instrument.Meter;
 import io.micrometer.core.instrument.MeterRegistry;
 import io.micrometer.core.instrument.Tag;
@@ -30,11 +33,43 @@ public class MicrometerMetrics implements Metrics {
   private static final String RECONCILIATIONS = "reconciliations.";
   private static final String RECONCILIATIONS_FAILED = RECONCILIATIONS + "failed";
   private static final String RECONCILIATIONS_SUCCESS = RECONCILIATIONS + "success";
+  private static final String RECONCILIATIONS_SKIPPED = RECONCILIATIONS + "skipped";
   private static final String RECONCILIATIONS_RETRIES_LAST = RECONCILIATIONS + "retries.last";
   private static final String RECONCILIATIONS_RETRIES_NUMBER = RECONCILIATIONS + "retries.number";
   private static final String RECONCILIATIONS_STARTED = RECONCILIATIONS + "started";
   private static final String RECONCILIATIONS_EXECUTIONS = PREFIX + RECONCILIATIONS + "executions.";
   private static final String RECONCILIATIONS_QUEUE_SIZE = PREFIX + RECONCILIATIONS + "queue.size.";
+  private static final String RECONCILIATIONS_PRIORITY_QUEUE_SIZE =
+      PREFIX + RECONCILIATIONS + "priority.queue.size.";
+  private static final String RECONCILIATIONS_SLOTS = PREFIX + RECONCILIATIONS + "slots.";
+  private static final String RECONCILIATIONS_SLOTS_USED = RECONCILIATIONS_SLOTS + "used.";
+  private static final String RECONCILIATIONS_SLOTS_QUEUED = RECONCILIATIONS_SLOTS + "queued.";
+  private static final String RECONCILIATIONS_SLOTS_MAX = RECONCILIATIONS_SLOTS + "max.";
+  private static final String RECONCILIATIONS_CONCURRENCY_LIMIT =
+      PREFIX + RECONCILIATIONS + "concurrency.limit";
+  private static final String RECONCILIATIONS_THROTTLED = RECONCILIATIONS + "throttled";
+  private static final String RECONCILIATIONS_RETRIES_SCHEDULED =
+      PREFIX + RECONCILIATIONS + "retries.scheduled";
+  private static final String RECONCILIATIONS_RETRIES_DELAY =
+      PREFIX + RECONCILIATIONS + "retries.delay";
+  private static final String RECONCILIATIONS_RETRIES_DEFERRED =
+      PREFIX + RECONCILIATIONS + "retries.deferred";
+  private static final String RECONCILIATIONS_RETRIES_RUNNING =
+      PREFIX + RECONCILIATIONS + "retries.running.";
+  private static final String RECONCILIATIONS_RETRIES_BUDGET =
+      PREFIX + RECONCILIATIONS + "retries.budget.";
+  private static final String RECONCILIATIONS_PERIODIC_SCHEDULED =
+      PREFIX + RECONCILIATIONS + "periodic.scheduled";
+  private static final String RECONCILIATIONS_PERIODIC_TRIGGERED =
+      PREFIX + RECONCILIATIONS + "periodic.triggered";
+  private static final String RECONCILIATIONS_PERIODIC_DELAY =
+      PREFIX + RECONCILIATIONS + "periodic.delay";
+  private static final String CACHE_PRUNED_BYTES = PREFIX + "cache.pruned.bytes";
+  private static final String INFORMERS_SYNC_FAILED = PREFIX + "informers.sync.failed";
+  private static final String BOUNDED_CACHE = PREFIX + "cache.bounded.";
+  private static final String BOUNDED_CACHE_HITS = BOUNDED_CACHE + "hits";
+  private static final String BOUNDED_CACHE_MISSES = BOUNDED_CACHE + "misses";
+  private static final String BOUNDED_CACHE_PREFETCHES = BOUNDED_CACHE + "prefetches";
   private static final String NAME = "name";
   private static final String NAMESPACE = "namespace";
   private static final String GROUP = "group";
@@ -53,6 +88,7 @@ public class MicrometerMetrics implements Metrics {
   private static final String EVENTS_RECEIVED = "events.received";
   private static final String EVENTS_DELETE = "events.delete";
   private static final String CLUSTER = "cluster";
+  private static final String PRIORITY = "priority";
   private static final String SIZE_SUFFIX = ".size";
   private final boolean collectPerResourceMetrics;
   private final MeterRegistry registry;
@@ -221,6 +257,163 @@ public class MicrometerMetrics implements Metrics {
     incrementCounter(ResourceID.fromResource(resource), RECONCILIATIONS_SUCCESS, metadata);
   }
 
+  @Override
+  public void periodicReconciliationScheduled(HasMetadata resource, Duration delay,
+      Map<String, Object> metadata) {
+    final var tags = controllerTags(metadata);
+    registry.counter(RECONCILIATIONS_PERIODIC_SCHEDULED, tags).increment();
+    DistributionSummary.builder(RECONCILIATIONS_PERIODIC_DELAY)
+        .baseUnit("seconds")
+        .tags(tags)
+        .publishPercentileHistogram()
+        .register(registry)
+        .record(delay.toMillis() / 1000.0);
+  }
+
+  @Override
+  public void periodicReconciliationTriggered(ResourceID resourceID,
+      Map<String, Object> metadata) {
+    // the rate of this counter is the per-second load of periodic reconciliations
+    registry.counter(RECONCILIATIONS_PERIODIC_TRIGGERED, controllerTags(metadata)).increment();
+  }
+
+  @Override
+  public void reconciliationSkipped(HasMetadata resource, Map<String, Object> metadata) {
+    incrementCounter(ResourceID.fromResource(resource), RECONCILIATIONS_SKIPPED, metadata);
+  }
+
+  @Override
+  public void retryScheduled(ResourceID resourceID, int attempt, Duration delay,
+      Map<String, Object> metadata) {
+    final var tags = controllerTags(metadata);
+    // spikes in the rate of this counter show resources being retried in waves
+    registry.counter(RECONCILIATIONS_RETRIES_SCHEDULED, tags).increment();
+    DistributionSummary.builder(RECONCILIATIONS_RETRIES_DELAY)
+        .baseUnit("seconds")
+        .tags(tags)
+        .publishPercentileHistogram()
+        .register(registry)
+        .record(delay.toMillis() / 1000.0);
+  }
+
+  @Override
+  public void retryDeferred(ResourceID resourceID, Map<String, Object> metadata) {
+    registry.counter(RECONCILIATIONS_RETRIES_DEFERRED, controllerTags(metadata)).increment();
+  }
+
+  @Override
+  public void retryBudgetUsage(int runningRetries, int maxRetries,
+      Map<String, Object> metadata) {
+    controllerGauge(RECONCILIATIONS_RETRIES_RUNNING, metadata).set(runningRetries);
+    controllerGauge(RECONCILIATIONS_RETRIES_BUDGET, metadata).set(maxRetries);
+  }
+
+  private List<Tag> controllerTags(Map<String, Object> metadata) {
+    final var tags = new ArrayList<Tag>(4);
+    tags.add(Tag.of(CONTROLLER, String.valueOf(metadata.get(CONTROLLER_NAME))));
+    final var gvk = (GroupVersionKind) metadata.get(Constants.RESOURCE_GVK_KEY);
+    if (gvk != null) {
+      addGVKTags(gvk, tags, false);
+    }
+    return tags;
+  }
+
+  @Override
+  public void reconciliationQueued(ResourceID resourceID, ReconciliationPriority priority,
+      Map<String, Object> metadata) {
+    priorityQueueSize(priority, metadata).incrementAndGet();
+  }
+
+  @Override
+  public void reconciliationDequeued(ResourceID resourceID, ReconciliationPriority priority,
+      Map<String, Object> metadata) {
+    priorityQueueSize(priority, metadata).decrementAndGet();
+  }
+
+  private AtomicInteger priorityQueueSize(ReconciliationPriority priority,
+      Map<String, Object> metadata) {
+    final var name = RECONCILIATIONS_PRIORITY_QUEUE_SIZE + metadata.get(CONTROLLER_NAME);
+    return gauges.computeIfAbsent(name + "." + priority, k -> {
+      final var tags = new ArrayList<Tag>(4);
+      tags.add(Tag.of(PRIORITY, priority.name()));
+      final var gvk = (GroupVersionKind) metadata.get(Constants.RESOURCE_GVK_KEY);
+      if (gvk != null) {
+        addGVKTags(gvk, tags, false);
+      }
+      return registry.gauge(name, tags, new AtomicInteger(0));
+    });
+  }
+
+  @Override
+  public void reconciliationSlotsUsage(int usedSlots, int queuedReconciliations, int maxSlots,
+      Map<String, Object> metadata) {
+    controllerGauge(RECONCILIATIONS_SLOTS_USED, metadata).set(usedSlots);
+    controllerGauge(RECONCILIATIONS_SLOTS_QUEUED, metadata).set(queuedReconciliations);
+    controllerGauge(RECONCILIATIONS_SLOTS_MAX, metadata).set(maxSlots);
+  }
+
+  private AtomicInteger controllerGauge(String prefix, Map<String, Object> metadata) {
+    final var name = prefix + metadata.get(CONTROLLER_NAME);
+    return gauges.computeIfAbsent(name, k -> {
+      final var tags = new ArrayList<Tag>(3);
+      final var gvk = (GroupVersionKind) metadata.get(Constants.RESOURCE_GVK_KEY);
+      if (gvk != null) {
+        addGVKTags(gvk, tags, false);
+      }
+      return registry.gauge(name, tags, new AtomicInteger(0));
+    });
+  }
+
+  @Override
+  public void reconciliationConcurrencyLimit(int limit) {
+    gauges.computeIfAbsent(RECONCILIATIONS_CONCURRENCY_LIMIT,
+        k -> registry.gauge(k, new AtomicInteger(0))).set(limit);
+  }
+
+  @Override
+  public void reconciliationThrottled(Map<String, Object> metadata) {
+    final var tags = controllerTags(metadata);
+    registry.counter(PREFIX + RECONCILIATIONS_THROTTLED, tags).increment();
+  }
+
+  @Override
+  public void informerCacheBytesPruned(GroupVersionKind gvk, long bytes) {
+    final var tags = new ArrayList<Tag>(3);
+    addGVKTags(gvk, tags, false);
+    registry.counter(CACHE_PRUNED_BYTES, tags).increment(bytes);
+  }
+
+  @Override
+  public void informerSyncFailed(GroupVersionKind gvk, String namespace) {
+    final var tags = new ArrayList<Tag>(4);
+    addGVKTags(gvk, tags, false);
+    tags.add(Tag.of(NAMESPACE, namespace));
+    registry.counter(INFORMERS_SYNC_FAILED, tags).increment();
+  }
+
+  @Override
+  public void boundedCacheHit(GroupVersionKind gvk) {
+    incrementBoundedCacheCounter(BOUNDED_CACHE_HITS, gvk);
+  }
+
+  @Override
+  public void boundedCacheMiss(GroupVersionKind gvk) {
+    incrementBoundedCacheCounter(BOUNDED_CACHE_MISSES, gvk);
+  }
+
+  @Override
+  public void boundedCachePrefetch(GroupVersionKind gvk) {
+    incrementBoundedCacheCounter(BOUNDED_CACHE_PREFETCHES, gvk);
+  }
+
+  private void incrementBoundedCacheCounter(String name, GroupVersionKind gvk) {
+    final var tags = new ArrayList<Tag>(3);
+    if (gvk != null) {
+      addGVKTags(gvk, tags, false);
+    }
+    registry.counter(name, tags).increment();
+  }
+
   @Override
   public void reconciliationExecutionStarted(HasMetadata resource, Map<String, Object> metadata) {
     var reconcilerExecutions =
@@ -0,0 +1,153 @@
+package io.javaoperatorsdk.operator.api.config;
+
+import java.time.Duration;
+import java.util.Map;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import io.fabric8.kubernetes.client.KubernetesClientException;
+import io.javaoperatorsdk.operator.api.monitoring.Metrics;
+
+/**
+ * Adapts the number of reconciliations allowed to run concurrently to the feedback of the
+ * Kubernetes API server, using an additive increase / multiplicative decrease (AIMD) algorithm:
+ * <ul>
+ * <li>when a reconciliation fails because the server throttled a request or was overloaded, i.e.
+ * responded with a 429 or 5xx status code, the limit is multiplied by {@link #BACKOFF_RATIO}, at
+ * most once per {@link #DECREASE_INTERVAL} so that all the reconciliations failing at once only
+ * count as one signal;</li>
+ * <li>when a reconciliation succeeds, the limit is increased by {@code 1 / limit}, i.e. by one once
+ * {@code limit} reconciliations succeeded, unless the recent reconciliation latency went up
+ * compared to its long-term average, which indicates that the server starts to saturate.</li>
+ * </ul>
+ * The limit stays between 1 and the configured maximum, typically
+ * {@link ConfigurationService#concurrentReconciliationThreads()}.
+ */
+public class AdaptiveConcurrencyLimiter {
+
+  private static final Logger log = LoggerFactory.getLogger(AdaptiveConcurrencyLimiter.class);
+
+  public static final double BACKOFF_RATIO = 0.75;
+  public static final Duration DECREASE_INTERVAL = Duration.ofSeconds(1);
+  // the limit is not increased if the recent latency exceeds the long-term one by this factor
+  static final double LATENCY_TOLERANCE = 2.0;
+  private static final double RECENT_LATENCY_WEIGHT = 0.2;
+  private static final double LONG_TERM_LATENCY_WEIGHT = 0.01;
+  private static final int MAX_CAUSE_DEPTH = 10;
+
+  private final int maxLimit;
+  private final Metrics metrics;
+  private volatile Runnable onLimitIncreased = () -> {
+  };
+  // all the state below is guarded by this, the current limit is also published in a volatile
+  // field so that it can be read without locking
+  private volatile int currentLimit;
+  private double limit;
+  private long lastDecreaseNanos;
+  private boolean decreasedOnce;
+  private double recentLatency;
+  private double longTermLatency;
+
+  public AdaptiveConcurrencyLimiter(int maxLimit, Metrics metrics) {
+    if (maxLimit <= 0) {
+      throw new IllegalArgumentException("Maximum limit must be positive: " + maxLimit);
+    }
+    this.maxLimit = maxLimit;
+    this.metrics = metrics != null ? metrics : Metrics.NOOP;
+    this.limit = maxLimit;
+    this.currentLimit = maxLimit;
+    this.metrics.reconciliationConcurrencyLimit(maxLimit);
+  }
+
+  /**
+   * @return the number of reconciliations currently allowed to run concurrently
+   */
+  public int getLimit() {
+    return currentLimit;
+  }
+
+  public int getMaxLimit() {
+    return maxLimit;
+  }
+
+  void setOnLimitIncreased(Runnable onLimitIncreased) {
+    this.onLimitIncreased = onLimitIncreased;
+  }
+
+  /**
+   * Records the outcome of a reconciliation.
+   *
+   * @param latencyNanos how long the reconciliation took, in nanoseconds
+   * @param error the exception the reconciliation failed with, {@code null} if it succeeded
+   * @param metricsMetadata the metadata of the controller the reconciliation belongs to
+   */
+  public void onReconciliationFinished(long latencyNanos, Exception error,
+      Map<String, Object> metricsMetadata) {
+    final boolean throttled = error != null && isThrottling(error);
+    if (throttled) {
+      metrics.reconciliationThrottled(metricsMetadata);
+    }
+    int previous;
+    int updated;
+    synchronized (this) {
+      previous = currentLimit;
+      if (throttled) {
+        decrease(System.nanoTime());
+      } else if (error == null) {
+        increase(latencyNanos);
+      }
+      updated = (int) limit;
+      currentLimit = updated;
+    }
+    if (updated != previous) {
+      log.debug("Reconciliation concurrency limit changed from {} to {}", previous, updated);
+      metrics.reconciliationConcurrencyLimit(updated);
+      if (updated > previous) {
+        onLimitIncreased.run();
+      }
+    }
+  }
+
+  private void decrease(long now) {
+    if (decreasedOnce && now - lastDecreaseNanos < DECREASE_INTERVAL.toNanos()) {
+      return;
+    }
+    decreasedOnce = true;
+    lastDecreaseNanos = now;
+    limit = Math.max(1, limit * BACKOFF_RATIO);
+  }
+
+  private void increase(long latencyNanos) {
+    if (longTermLatency == 0) {
+      recentLatency = latencyNanos;
+      longTermLatency = latencyNanos;
+    } else {
+      recentLatency += RECENT_LATENCY_WEIGHT * (latencyNanos - recentLatency);
+      longTermLatency += LONG_TERM_LATENCY_WEIGHT * (latencyNanos - longTermLatency);
+    }
+    if (recentLatency <= longTermLatency * LATENCY_TOLERANCE) {
+      limit = Math.min(maxLimit, limit + 1 / limit);
+    }
+  }
+
+  /**
+   * @param error an exception a reconciliation failed with
+   * @return {@code true} if the exception, or one of its causes, is a
+   *         {@link KubernetesClientException} signaling that the API server throttles requests or
+   *         is overloaded
+   */
+  public static boolean isThrottling(Throwable error) {
+    var current = error;
+    for (int i = 0; current != null && i < MAX_CAUSE_DEPTH; i++) {
+      if (current instanceof KubernetesClientException) {
+        final var code = ((KubernetesClientException) current).getCode();
+        if (code == 429 || code >= 500) {
+          return true;
+        }
+      }
+      current = current.getCause();
+    }
+    return false;
+  }
+}
@@ -1,6 +1,7 @@
 package io.javaoperatorsdk.operator.api.config;
 
 import java.lang.annotation.Annotation;
+import java.time.Duration;
 import java.util.Collections;
 import java.util.LinkedHashMap;
 import java.util.List;
@@ -130,9 +131,11 @@ public class BaseConfigurationService extends AbstractConfigurationService {
     final var reconciliationInterval = annotation.maxReconciliationInterval();
     long interval = -1;
     TimeUnit timeUnit = null;
+    double jitter = 0;
     if (reconciliationInterval != null && reconciliationInterval.interval() > 0) {
       interval = reconciliationInterval.interval();
       timeUnit = reconciliationInterval.timeUnit();
+      jitter = reconciliationInterval.jitter();
     }
 
     final var dependentFieldManager =
@@ -161,7 +164,16 @@ public class BaseConfigurationService extends AbstractConfigurationService {
             Constants.NO_VALUE_SET),
         null,
         Utils.instantiate(annotation.itemStore(), ItemStore.class, context), dependentFieldManager,
-        this, informerListLimit);
+        this, informerListLimit, jitter,
+        annotation.eventCoalescingWindowMillis() > 0
+            ? Duration.ofMillis(annotation.eventCoalescingWindowMillis())
+            : null,
+        annotation.minReconciliationSlots(), annotation.maxReconciliationSlots(),
+        annotation.expectedResourceCount(),
+        annotation.skipUnchangedReconciliationsForcedIntervalMillis() > 0
+            ? Duration.ofMillis(annotation.skipUnchangedReconciliationsForcedIntervalMillis())
+            : null,
+        Set.of(annotation.prunedFields()));
 
     ResourceEventFilter<P> answer = deprecatedEventFilter(annotation);
     config.setEventFilter(answer != null ? answer : ResourceEventFilters.passthrough());
@@ -0,0 +1,81 @@
+package io.javaoperatorsdk.operator.api.config;
+
+import java.util.List;
+import java.util.concurrent.AbstractExecutorService;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Limits the number of tasks running concurrently on an executor which doesn't bound its number of
+ * threads, typically one starting a new virtual thread per task. Submitting a task never blocks:
+ * the limit is enforced on the thread running the task, which waits for a permit before actually
+ * running it.
+ */
+class ConcurrencyLimitedExecutorService extends AbstractExecutorService {
+
+  private final ExecutorService executor;
+  private final Semaphore slots;
+  private final int maxConcurrentTasks;
+
+  ConcurrencyLimitedExecutorService(ExecutorService executor, int maxConcurrentTasks) {
+    if (maxConcurrentTasks <= 0) {
+      throw new IllegalArgumentException(
+          "Maximum number of concurrent tasks must be positive: " + maxConcurrentTasks);
+    }
+    this.executor = executor;
+    this.maxConcurrentTasks = maxConcurrentTasks;
+    this.slots = new Semaphore(maxConcurrentTasks);
+  }
+
+  @Override
+  public void execute(Runnable command) {
+    executor.execute(() -> {
+      try {
+        slots.acquire();
+      } catch (InterruptedException e) {
+        // executor is shutting down, make sure no one waits for the task forever
+        if (command instanceof Future) {
+          ((Future<?>) command).cancel(false);
+        }
+        Thread.currentThread().interrupt();
+        return;
+      }
+      try {
+        command.run();
+      } finally {
+        slots.release();
+      }
+    });
+  }
+
+  int runningTasks() {
+    return maxConcurrentTasks - slots.availablePermits();
+  }
+
+  @Override
+  public void shutdown() {
+    executor.shutdown();
+  }
+
+  @Override
+  public List<Runnable> shutdownNow() {
+    return executor.shutdownNow();
+  }
+
+  @Override
+  public boolean isShutdown() {
+    return executor.isShutdown();
+  }
+
+  @Override
+  public boolean isTerminated() {
+    return executor.isTerminated();
+  }
+
+  @Override
+  public boolean awaitTermination(long timeout, TimeUnit unit) throws InterruptedException {
+    return executor.awaitTermination(timeout, unit);
+  }
+}
@@ -1,5 +1,6 @@
 package io.javaoperatorsdk.operator.api.config;
 
+import java.nio.file.Path;
 import java.time.Duration;
 import java.util.Optional;
 import java.util.Set;
@@ -27,6 +28,7 @@ import io.javaoperatorsdk.operator.processing.dependent.kubernetes.KubernetesDep
 import io.javaoperatorsdk.operator.processing.dependent.kubernetes.KubernetesDependentResourceConfig;
 import io.javaoperatorsdk.operator.processing.dependent.kubernetes.ResourceUpdaterMatcher;
 import io.javaoperatorsdk.operator.processing.dependent.workflow.ManagedWorkflowFactory;
+import io.javaoperatorsdk.operator.processing.event.ReconciliationPrioritizer;
 
 /** An interface from which to retrieve configuration information. */
 public interface ConfigurationService {
@@ -205,11 +207,137 @@ public interface ConfigurationService {
     return Metrics.NOOP;
   }
 
+  /**
+   * Whether event processing should happen concurrently for different resources of the same
+   * controller. By default, the state transitions performed when an event is received or a
+   * reconciliation finishes are serialized on a single lock per controller. When enabled, these
+   * transitions are guarded by a set of striped locks keyed by
+   * {@link io.javaoperatorsdk.operator.processing.event.ResourceID} so that informer, timer and
+   * reconciler threads handling different resources don't contend on the same lock. Events related
+   * to the same resource are still processed sequentially.
+   *
+   * @return {@code true} if events for different resources can be processed concurrently,
+   *         {@code false} otherwise (default)
+   * @since 4.9.7
+   */
+  default boolean concurrentEventProcessing() {
+    return false;
+  }
+
+  /**
+   * Whether the timer used to trigger retries and re-schedules of reconciliations should be based
+   * on a hashed timing wheel instead of a {@link java.util.Timer}. The wheel based implementation
+   * re-schedules existing timeouts in place, in constant time and without allocation, and removes
+   * cancelled timeouts right away, which is preferable when a large number of resources are
+   * frequently re-scheduled, e.g. when using a max reconciliation interval with many resources.
+   *
+   * @return {@code true} if a
+   *         {@link io.javaoperatorsdk.operator.processing.event.source.timer.HashedWheelTimerEventSource}
+   *         should be used to retry and re-schedule reconciliations, {@code false} otherwise
+   *         (default)
+   * @since 4.9.7
+   */
+  default boolean hashedWheelTimerForRetriesAndReschedules() {
+    return false;
+  }
+
+  /**
+   * Whether the default executors should run tasks on virtual threads instead of platform threads.
+   * Reconcilers typically spend most of their time blocked on requests to the Kubernetes API
+   * server, which virtual threads handle without tying up a platform thread. When enabled, the
+   * default reconciliation and workflow executors start a new virtual thread per task while still
+   * limiting the number of tasks running concurrently to respectively
+   * {@link #concurrentReconciliationThreads()} and {@link #concurrentWorkflowExecutorThreads()}, so
+   * that the number of in-flight requests stays bounded. Virtual threads require Java 21 or later,
+   * fixed pools of as many platform threads are used on previous versions, as when disabled.
+   *
+   * @return {@code true} if the default executors should use virtual threads, {@code false}
+   *         otherwise (default)
+   * @since 4.9.7
+   */
+  default boolean useVirtualThreads() {
+    return false;
+  }
+
+  /**
+   * Enables a reconciliation queue in front of the executor, ordering the reconciliations waiting
+   * for a thread according to the returned {@link ReconciliationPrioritizer} instead of the order
+   * in which they have been submitted. This avoids, for example, that a freshly created resource
+   * waits for all the resources listed when the operator starts to be reconciled. Within a
+   * priority, namespaces are served in a round-robin fashion. The depth of the queue for each
+   * priority is reported via
+   * {@link Metrics#reconciliationQueued(io.javaoperatorsdk.operator.processing.event.ResourceID, io.javaoperatorsdk.operator.processing.event.ReconciliationPriority, java.util.Map)}
+   * and
+   * {@link Metrics#reconciliationDequeued(io.javaoperatorsdk.operator.processing.event.ResourceID, io.javaoperatorsdk.operator.processing.event.ReconciliationPriority, java.util.Map)}.
+   *
+   * @return the {@link ReconciliationPrioritizer} to use, if any, typically
+   *         {@link ReconciliationPrioritizer#DEFAULT}. Reconciliations are submitted directly to
+   *         the executor in FIFO order if empty (default).
+   * @since 4.9.7
+   */
+  default Optional<ReconciliationPrioritizer> reconciliationPrioritizer() {
+    return Optional.empty();
+  }
+
+  /**
+   * Adapts the number of reconciliations running concurrently, up to
+   * {@link #concurrentReconciliationThreads()}, to the feedback of the Kubernetes API server. The
+   * limit is decreased multiplicatively when reconciliations fail because the server throttles
+   * requests or is overloaded (HTTP 429 and 5xx responses), and increased additively while
+   * reconciliations succeed and their latency doesn't increase, see
+   * {@link AdaptiveConcurrencyLimiter}. Reconciliations above the limit wait in the queue of their
+   * controller. The current limit is reported via
+   * {@link Metrics#reconciliationConcurrencyLimit(int)} and the throttled reconciliations via
+   * {@link Metrics#reconciliationThrottled(java.util.Map)}.
+   *
+   * @return {@code true} if the reconciliation concurrency should be adapted, {@code false}
+   *         otherwise (default)
+   */
+  default boolean adaptiveReconciliationConcurrency() {
+    return false;
+  }
+
+  /**
+   * Enables on-disk snapshots of the caches of the informers backing
+   * {@link io.javaoperatorsdk.operator.processing.event.source.informer.InformerEventSource}s. A
+   * compact snapshot is written for each informer in the returned directory every
+   * {@link #informerCacheSnapshotInterval()} and when the informer is stopped. When the operator
+   * restarts, the snapshot is loaded into the cache before the informer starts. The informer still
+   * lists the resources as usual, but only the resources which were added, changed or deleted since
+   * the snapshot result in events and index updates. The caches of the primary resources are not
+   * snapshotted, since all the primary resources need to be reconciled when the operator starts.
+   * Secrets are never snapshotted, so that they are not written to disk.
+   *
+   * @return the directory to write the snapshots to, snapshots being disabled if empty (default)
+   */
+  default Optional<Path> informerCacheSnapshotDirectory() {
+    return Optional.empty();
+  }
+
+  /**
+   * How often informer cache snapshots are written, see {@link #informerCacheSnapshotDirectory()}.
+   * Snapshots are written on {@link ExecutorServiceManager#scheduledExecutorService()}. Default is
+   * 5 minutes.
+   *
+   * @return the interval between snapshots
+   */
+  default Duration informerCacheSnapshotInterval() {
+    return Duration.ofMinutes(5);
+  }
+
   default ExecutorService getExecutorService() {
+    if (useVirtualThreads()) {
+      return VirtualThreads.newBoundedThreadPerTaskExecutor("ReconcilerExecutor-",
+          concurrentReconciliationThreads());
+    }
     return Executors.newFixedThreadPool(concurrentReconciliationThreads());
   }
 
   default ExecutorService getWorkflowExecutorService() {
+    if (useVirtualThreads()) {
+      return VirtualThreads.newBoundedThreadPerTaskExecutor("WorkflowExecutor-",
+          concurrentWorkflowExecutorThreads());
+    }
     return Executors.newFixedThreadPool(concurrentWorkflowExecutorThreads());
   }
 
@@ -255,6 +383,41 @@ public interface ConfigurationService {
     return Duration.ofMinutes(2);
   }
 
+  /**
+   * Lets controllers start reconciling before all their informers finished their initial sync. The
+   * informers are then started without waiting for them to sync, and a primary resource is only
+   * reconciled once the informer of the primary resources and the informers of the
+   * {@link io.javaoperatorsdk.operator.processing.event.source.informer.InformerEventSource}s
+   * watching its namespace synced, so that a slow namespace doesn't delay the reconciliations in
+   * the other ones. The informers still syncing are reported by
+   * {@link io.javaoperatorsdk.operator.health.InformerHealthIndicator#isSyncing()}.
+   * <p>
+   * Since starting doesn't wait for the informers, errors occurring during their initial sync don't
+   * fail the start of the operator, regardless of {@link #stopOnInformerErrorDuringStartup()}, but
+   * are logged and reported through the health indicators of the informers.
+   *
+   * @return {@code true} if reconciliations can start before all the informers synced,
+   *         {@code false} otherwise (default)
+   */
+  default boolean progressiveInformerReadiness() {
+    return false;
+  }
+
+  /**
+   * Whether the resources retrieved through
+   * {@link io.javaoperatorsdk.operator.api.reconciler.Context#getSecondaryResourcesReadOnly(Class)}
+   * are checked not to have been modified once the reconciliation completes. These resources are
+   * the instances held by the informer caches, modifying them silently corrupts the caches. The
+   * check copies each returned resource and compares it afterwards, which defeats the purpose of
+   * read-only access, so it's meant to be enabled in tests or when debugging.
+   *
+   * @return {@code true} if a reconciliation modifying a read-only resource should fail,
+   *         {@code false} otherwise (default)
+   */
+  default boolean verifyReadOnlyResources() {
+    return false;
+  }
+
   /**
    * Handler for an informer stop. Informer stops if there is a non-recoverable error. Like received
    * a resource that cannot be deserialized.
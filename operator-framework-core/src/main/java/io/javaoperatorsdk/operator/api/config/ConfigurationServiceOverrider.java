@@ -1,5 +1,6 @@
 package io.javaoperatorsdk.operator.api.config;
 
+import java.nio.file.Path;
 import java.time.Duration;
 import java.util.Optional;
 import java.util.Set;
@@ -14,6 +15,7 @@ import io.fabric8.kubernetes.client.KubernetesClient;
 import io.javaoperatorsdk.operator.Operator;
 import io.javaoperatorsdk.operator.api.monitoring.Metrics;
 import io.javaoperatorsdk.operator.api.reconciler.dependent.DependentResourceFactory;
+import io.javaoperatorsdk.operator.processing.event.ReconciliationPrioritizer;
 
 @SuppressWarnings("unused")
 public class ConfigurationServiceOverrider {
@@ -41,6 +43,15 @@ public class ConfigurationServiceOverrider {
   private Set<Class<? extends HasMetadata>> defaultNonSSAResource;
   private Boolean previousAnnotationForDependentResources;
   private Boolean parseResourceVersions;
+  private Boolean concurrentEventProcessing;
+  private Boolean hashedWheelTimer;
+  private Boolean useVirtualThreads;
+  private ReconciliationPrioritizer reconciliationPrioritizer;
+  private Boolean adaptiveReconciliationConcurrency;
+  private Path informerCacheSnapshotDirectory;
+  private Boolean progressiveInformerReadiness;
+  private Boolean verifyReadOnlyResources;
+  private Duration informerCacheSnapshotInterval;
   @SuppressWarnings("rawtypes")
   private DependentResourceFactory dependentResourceFactory;
 
@@ -93,6 +104,17 @@ public class ConfigurationServiceOverrider {
     return this;
   }
 
+  /**
+   * Clones resources using a {@link ReflectiveCloner}, which copies them field by field instead of
+   * doing a serialization round-trip. The resource cloner of the original configuration is used as
+   * fallback for resources which cannot be copied by reflection.
+   *
+   * @return this
+   */
+  public ConfigurationServiceOverrider withReflectiveResourceCloner() {
+    return withResourceCloner(new ReflectiveCloner(original.getResourceCloner()));
+  }
+
   public ConfigurationServiceOverrider withTerminationTimeoutSeconds(int timeoutSeconds) {
     this.timeoutSeconds = timeoutSeconds;
     return this;
@@ -203,6 +225,98 @@ public class ConfigurationServiceOverrider {
     return this;
   }
 
+  /**
+   * @param value true if events for different resources of a controller can be processed
+   *        concurrently, see {@link ConfigurationService#concurrentEventProcessing()}
+   * @return this
+   */
+  public ConfigurationServiceOverrider withConcurrentEventProcessing(boolean value) {
+    this.concurrentEventProcessing = value;
+    return this;
+  }
+
+  /**
+   * @param value true if retries and re-schedules should be triggered using a hashed timing wheel,
+   *        see {@link ConfigurationService#hashedWheelTimerForRetriesAndReschedules()}
+   * @return this
+   */
+  public ConfigurationServiceOverrider withHashedWheelTimerForRetriesAndReschedules(
+      boolean value) {
+    this.hashedWheelTimer = value;
+    return this;
+  }
+
+  /**
+   * @param value true if the default executors should run tasks on virtual threads, see
+   *        {@link ConfigurationService#useVirtualThreads()}
+   * @return this
+   */
+  public ConfigurationServiceOverrider withUseVirtualThreads(boolean value) {
+    this.useVirtualThreads = value;
+    return this;
+  }
+
+  /**
+   * @param reconciliationPrioritizer the {@link ReconciliationPrioritizer} used to order queued
+   *        reconciliations, see {@link ConfigurationService#reconciliationPrioritizer()}
+   * @return this
+   */
+  public ConfigurationServiceOverrider withReconciliationPrioritizer(
+      ReconciliationPrioritizer reconciliationPrioritizer) {
+    this.reconciliationPrioritizer = reconciliationPrioritizer;
+    return this;
+  }
+
+  /**
+   * @param value true if the number of concurrent reconciliations should adapt to the feedback of
+   *        the API server, see {@link ConfigurationService#adaptiveReconciliationConcurrency()}
+   * @return this
+   */
+  public ConfigurationServiceOverrider withAdaptiveReconciliationConcurrency(boolean value) {
+    this.adaptiveReconciliationConcurrency = value;
+    return this;
+  }
+
+  /**
+   * @param directory the directory to write informer cache snapshots to, see
+   *        {@link ConfigurationService#informerCacheSnapshotDirectory()}
+   * @return this
+   */
+  public ConfigurationServiceOverrider withInformerCacheSnapshotDirectory(Path directory) {
+    this.informerCacheSnapshotDirectory = directory;
+    return this;
+  }
+
+  /**
+   * @param interval how often informer cache snapshots are written, see
+   *        {@link ConfigurationService#informerCacheSnapshotInterval()}
+   * @return this
+   */
+  public ConfigurationServiceOverrider withInformerCacheSnapshotInterval(Duration interval) {
+    this.informerCacheSnapshotInterval = interval;
+    return this;
+  }
+
+  /**
+   * @param value true if reconciliations can start before all the informers synced, see
+   *        {@link ConfigurationService#progressiveInformerReadiness()}
+   * @return this
+   */
+  public ConfigurationServiceOverrider withProgressiveInformerReadiness(boolean value) {
+    this.progressiveInformerReadiness = value;
+    return this;
+  }
+
+  /**
+   * @param value true if reconciliations modifying read-only resources should fail, see
+   *        {@link ConfigurationService#verifyReadOnlyResources()}
+   * @return this
+   */
+  public ConfigurationServiceOverrider withVerifyReadOnlyResources(boolean value) {
+    this.verifyReadOnlyResources = value;
+    return this;
+  }
+
   public ConfigurationService build() {
     return new BaseConfigurationService(original.getVersion(), cloner, client) {
       @Override
@@ -344,6 +458,59 @@ public class ConfigurationServiceOverrider {
             ? parseResourceVersions
             : super.parseResourceVersionsForEventFilteringAndCaching();
       }
+
+      @Override
+      public boolean concurrentEventProcessing() {
+        return concurrentEventProcessing != null ? concurrentEventProcessing
+            : original.concurrentEventProcessing();
+      }
+
+      @Override
+      public boolean hashedWheelTimerForRetriesAndReschedules() {
+        return hashedWheelTimer != null ? hashedWheelTimer
+            : original.hashedWheelTimerForRetriesAndReschedules();
+      }
+
+      @Override
+      public boolean useVirtualThreads() {
+        return useVirtualThreads != null ? useVirtualThreads : original.useVirtualThreads();
+      }
+
+      @Override
+      public Optional<ReconciliationPrioritizer> reconciliationPrioritizer() {
+        return reconciliationPrioritizer != null ? Optional.of(reconciliationPrioritizer)
+            : original.reconciliationPrioritizer();
+      }
+
+      @Override
+      public boolean adaptiveReconciliationConcurrency() {
+        return adaptiveReconciliationConcurrency != null ? adaptiveReconciliationConcurrency
+            : original.adaptiveReconciliationConcurrency();
+      }
+
+      @Override
+      public Optional<Path> informerCacheSnapshotDirectory() {
+        return informerCacheSnapshotDirectory != null ? Optional.of(informerCacheSnapshotDirectory)
+            : original.informerCacheSnapshotDirectory();
+      }
+
+      @Override
+      public Duration informerCacheSnapshotInterval() {
+        return informerCacheSnapshotInterval != null ? informerCacheSnapshotInterval
+            : original.informerCacheSnapshotInterval();
+      }
+
+      @Override
+      public boolean progressiveInformerReadiness() {
+        return progressiveInformerReadiness != null ? progressiveInformerReadiness
+            : original.progressiveInformerReadiness();
+      }
+
+      @Override
+      public boolean verifyReadOnlyResources() {
+        return verifyReadOnlyResources != null ? verifyReadOnlyResources
+            : original.verifyReadOnlyResources();
+      }
     };
   }
 
@@ -111,6 +111,86 @@ public interface ControllerConfiguration<P extends HasMetadata> extends Resource
     return Optional.of(Duration.ofHours(MaxReconciliationInterval.DEFAULT_INTERVAL));
   }
 
+  /**
+   * Fraction of the {@link #maxReconciliationInterval()}, between 0 and 1, by which the delay until
+   * the next periodic reconciliation is randomly shortened to avoid all resources being reconciled
+   * at the same time. See {@link MaxReconciliationInterval#jitter()}.
+   *
+   * @return the jitter fraction applied to the max reconciliation interval, 0 meaning no jitter
+   */
+  default double maxReconciliationIntervalJitter() {
+    return 0;
+  }
+
+  /**
+   * Optional window during which events received for a primary resource that is not being
+   * reconciled are coalesced: the first event is held for the duration of the window and any event
+   * received meanwhile is merged into the same reconciliation. This limits the number of
+   * reconciliations triggered by bursts of events, e.g. the status updates of the pods of a
+   * deployment rolling out. Events received while the resource is being reconciled still trigger
+   * exactly one reconciliation once the current one finishes, without additional delay. See
+   * {@link io.javaoperatorsdk.operator.api.reconciler.ControllerConfiguration#eventCoalescingWindowMillis()}.
+   *
+   * @return the event coalescing window, if any, events being processed right away otherwise
+   */
+  default Optional<Duration> eventCoalescingWindow() {
+    return Optional.empty();
+  }
+
+  /**
+   * Number of reconciliation slots of the shared reconciliation executor guaranteed to this
+   * controller: as long as it runs fewer reconciliations, other controllers cannot take all the
+   * remaining threads, so that a busy controller cannot starve this one. See
+   * {@link io.javaoperatorsdk.operator.api.reconciler.ControllerConfiguration#minReconciliationSlots()}.
+   *
+   * @return the number of guaranteed reconciliation slots, 0 (the default) meaning none
+   */
+  default int minReconciliationSlots() {
+    return 0;
+  }
+
+  /**
+   * Maximum number of reconciliations of this controller running concurrently on the shared
+   * reconciliation executor, slots above {@link #minReconciliationSlots()} being borrowed from the
+   * ones not guaranteed to any controller. Reconciliations which cannot get a slot wait in a queue
+   * specific to the controller. See
+   * {@link io.javaoperatorsdk.operator.api.reconciler.ControllerConfiguration#maxReconciliationSlots()}.
+   *
+   * @return the maximum number of reconciliation slots, 0 (the default) meaning that the controller
+   *         is only limited by the size of the shared executor
+   */
+  default int maxReconciliationSlots() {
+    return 0;
+  }
+
+  /**
+   * Hint on the number of primary resources the controller is expected to handle, used to size the
+   * structures tracking the state of each resource upfront, so that they don't need to be resized
+   * repeatedly while the resources are discovered, which is costly for very large fleets. See
+   * {@link io.javaoperatorsdk.operator.api.reconciler.ControllerConfiguration#expectedResourceCount()}.
+   *
+   * @return the expected number of primary resources, 0 (the default) if unknown
+   */
+  default int expectedResourceCount() {
+    return 0;
+  }
+
+  /**
+   * If set, reconciliations are skipped when the fingerprint of their inputs, i.e. the resource
+   * version of the primary resource along with the secondary resources of the registered event
+   * sources, didn't change since the last reconciliation which neither updated anything nor asked
+   * to be rescheduled. A reconciliation is nevertheless forced once the returned interval elapsed
+   * since that reconciliation, so that changes to inputs not tracked by event sources are
+   * eventually taken into account. See
+   * {@link io.javaoperatorsdk.operator.api.reconciler.ControllerConfiguration#skipUnchangedReconciliationsForcedIntervalMillis()}.
+   *
+   * @return the interval after which an unchanged resource is reconciled anyway, empty (the
+   *         default) if reconciliations are never skipped
+   */
+  default Optional<Duration> skipUnchangedReconciliationsForcedInterval() {
+    return Optional.empty();
+  }
+
   @SuppressWarnings("unused")
   ConfigurationService getConfigurationService();
 
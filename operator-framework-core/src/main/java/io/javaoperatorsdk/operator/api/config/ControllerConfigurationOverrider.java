@@ -32,6 +32,7 @@ public class ControllerConfigurationOverrider<R extends HasMetadata> {
   private ResourceEventFilter<R> customResourcePredicate;
   private final ControllerConfiguration<R> original;
   private Duration reconciliationMaxInterval;
+  private double reconciliationMaxIntervalJitter;
   private OnAddFilter<? super R> onAddFilter;
   private OnUpdateFilter<? super R> onUpdateFilter;
   private GenericFilter<? super R> genericFilter;
@@ -41,6 +42,12 @@ public class ControllerConfigurationOverrider<R extends HasMetadata> {
   private String name;
   private String fieldManager;
   private Long informerListLimit;
+  private Duration eventCoalescingWindow;
+  private int minReconciliationSlots;
+  private int maxReconciliationSlots;
+  private int expectedResourceCount;
+  private Duration skipUnchangedReconciliationsForcedInterval;
+  private Set<String> prunedFields;
 
   private ControllerConfigurationOverrider(ControllerConfiguration<R> original) {
     this.finalizer = original.getFinalizerName();
@@ -50,6 +57,7 @@ public class ControllerConfigurationOverrider<R extends HasMetadata> {
     this.labelSelector = original.getLabelSelector();
     this.customResourcePredicate = original.getEventFilter();
     this.reconciliationMaxInterval = original.maxReconciliationInterval().orElse(null);
+    this.reconciliationMaxIntervalJitter = original.maxReconciliationIntervalJitter();
     this.onAddFilter = original.onAddFilter().orElse(null);
     this.onUpdateFilter = original.onUpdateFilter().orElse(null);
     this.genericFilter = original.genericFilter().orElse(null);
@@ -58,6 +66,13 @@ public class ControllerConfigurationOverrider<R extends HasMetadata> {
     this.name = original.getName();
     this.fieldManager = original.fieldManager();
     this.informerListLimit = original.getInformerListLimit().orElse(null);
+    this.eventCoalescingWindow = original.eventCoalescingWindow().orElse(null);
+    this.minReconciliationSlots = original.minReconciliationSlots();
+    this.maxReconciliationSlots = original.maxReconciliationSlots();
+    this.expectedResourceCount = original.expectedResourceCount();
+    this.skipUnchangedReconciliationsForcedInterval =
+        original.skipUnchangedReconciliationsForcedInterval().orElse(null);
+    this.prunedFields = original.getPrunedFields();
     this.itemStore = original.getItemStore().orElse(null);
   }
 
@@ -148,6 +163,12 @@ public class ControllerConfigurationOverrider<R extends HasMetadata> {
     return this;
   }
 
+  public ControllerConfigurationOverrider<R> withReconciliationMaxIntervalJitter(
+      double reconciliationMaxIntervalJitter) {
+    this.reconciliationMaxIntervalJitter = reconciliationMaxIntervalJitter;
+    return this;
+  }
+
   public ControllerConfigurationOverrider<R> withOnAddFilter(OnAddFilter<R> onAddFilter) {
     this.onAddFilter = onAddFilter;
     return this;
@@ -193,6 +214,69 @@ public class ControllerConfigurationOverrider<R extends HasMetadata> {
     return this;
   }
 
+  /**
+   * Sets the window during which events received for a primary resource are coalesced into a single
+   * reconciliation, see {@link ControllerConfiguration#eventCoalescingWindow()}.
+   *
+   * @param eventCoalescingWindow null (the default) disables coalescing
+   */
+  public ControllerConfigurationOverrider<R> withEventCoalescingWindow(
+      Duration eventCoalescingWindow) {
+    this.eventCoalescingWindow = eventCoalescingWindow;
+    return this;
+  }
+
+  /**
+   * Sets the reconciliation slots of the shared reconciliation executor used by the controller, see
+   * {@link ControllerConfiguration#minReconciliationSlots()} and
+   * {@link ControllerConfiguration#maxReconciliationSlots()}.
+   *
+   * @param minReconciliationSlots number of slots guaranteed to the controller
+   * @param maxReconciliationSlots maximum number of slots used by the controller, 0 meaning no
+   *        limit other than the size of the executor
+   */
+  public ControllerConfigurationOverrider<R> withReconciliationSlots(int minReconciliationSlots,
+      int maxReconciliationSlots) {
+    this.minReconciliationSlots = minReconciliationSlots;
+    this.maxReconciliationSlots = maxReconciliationSlots;
+    return this;
+  }
+
+  /**
+   * Sets the number of primary resources the controller is expected to handle, see
+   * {@link ControllerConfiguration#expectedResourceCount()}.
+   *
+   * @param expectedResourceCount the expected number of primary resources, 0 if unknown
+   */
+  public ControllerConfigurationOverrider<R> withExpectedResourceCount(int expectedResourceCount) {
+    this.expectedResourceCount = expectedResourceCount;
+    return this;
+  }
+
+  /**
+   * Enables skipping reconciliations of resources whose inputs didn't change, see
+   * {@link ControllerConfiguration#skipUnchangedReconciliationsForcedInterval()}.
+   *
+   * @param forcedInterval interval after which an unchanged resource is reconciled anyway, null
+   *        (the default) disables skipping
+   */
+  public ControllerConfigurationOverrider<R> withSkipUnchangedReconciliations(
+      Duration forcedInterval) {
+    this.skipUnchangedReconciliationsForcedInterval = forcedInterval;
+    return this;
+  }
+
+  /**
+   * Sets the fields to drop from the primary resources before they are cached, see
+   * {@link ControllerConfiguration#getPrunedFields()}.
+   *
+   * @param prunedFields JSON pointers to the fields to drop, e.g. {@code /metadata/managedFields}
+   */
+  public ControllerConfigurationOverrider<R> withPrunedFields(Set<String> prunedFields) {
+    this.prunedFields = prunedFields;
+    return this;
+  }
+
   public ControllerConfigurationOverrider<R> replacingNamedDependentResourceConfig(String name,
       Object dependentResourceConfig) {
 
@@ -216,7 +300,9 @@ public class ControllerConfigurationOverrider<R extends HasMetadata> {
         reconciliationMaxInterval, onAddFilter, onUpdateFilter, genericFilter,
         original.getDependentResources(),
         namespaces, finalizer, labelSelector, configurations, itemStore, fieldManager,
-        original.getConfigurationService(), informerListLimit);
+        original.getConfigurationService(), informerListLimit, reconciliationMaxIntervalJitter,
+        eventCoalescingWindow, minReconciliationSlots, maxReconciliationSlots,
+        expectedResourceCount, skipUnchangedReconciliationsForcedInterval, prunedFields);
     overridden.setEventFilter(customResourcePredicate);
     return overridden;
   }
@@ -1,5 +1,6 @@
 package io.javaoperatorsdk.operator.api.config;
 
+import java.util.Collections;
 import java.util.Optional;
 import java.util.Set;
 
@@ -23,11 +24,20 @@ public class DefaultResourceConfiguration<R extends HasMetadata>
   private final Set<String> namespaces;
   private final ItemStore<R> itemStore;
   private final Long informerListLimit;
+  private final Set<String> prunedFields;
 
   protected DefaultResourceConfiguration(Class<R> resourceClass,
       Set<String> namespaces, String labelSelector, OnAddFilter<? super R> onAddFilter,
       OnUpdateFilter<? super R> onUpdateFilter, GenericFilter<? super R> genericFilter,
       ItemStore<R> itemStore, Long informerListLimit) {
+    this(resourceClass, namespaces, labelSelector, onAddFilter, onUpdateFilter, genericFilter,
+        itemStore, informerListLimit, null);
+  }
+
+  protected DefaultResourceConfiguration(Class<R> resourceClass,
+      Set<String> namespaces, String labelSelector, OnAddFilter<? super R> onAddFilter,
+      OnUpdateFilter<? super R> onUpdateFilter, GenericFilter<? super R> genericFilter,
+      ItemStore<R> itemStore, Long informerListLimit, Set<String> prunedFields) {
     this.resourceClass = resourceClass;
     this.resourceTypeName = resourceClass.isAssignableFrom(GenericKubernetesResource.class)
         // in general this is irrelevant now for secondary resources it is used just by controller
@@ -42,6 +52,7 @@ public class DefaultResourceConfiguration<R extends HasMetadata>
     this.labelSelector = ResourceConfiguration.ensureValidLabelSelector(labelSelector);
     this.itemStore = itemStore;
     this.informerListLimit = informerListLimit;
+    this.prunedFields = prunedFields != null ? Set.copyOf(prunedFields) : Collections.emptySet();
   }
 
   @Override
@@ -88,4 +99,9 @@ public class DefaultResourceConfiguration<R extends HasMetadata>
   public Optional<Long> getInformerListLimit() {
     return Optional.ofNullable(informerListLimit);
   }
+
+  @Override
+  public Set<String> getPrunedFields() {
+    return prunedFields;
+  }
 }
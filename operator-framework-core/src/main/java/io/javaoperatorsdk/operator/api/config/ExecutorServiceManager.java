@@ -3,11 +3,14 @@ package io.javaoperatorsdk.operator.api.config;
 import java.time.Duration;
 import java.util.Collection;
 import java.util.List;
+import java.util.Map;
+import java.util.Optional;
 import java.util.concurrent.Callable;
 import java.util.concurrent.ExecutionException;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
 import java.util.concurrent.Future;
+import java.util.concurrent.ScheduledExecutorService;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.TimeoutException;
 import java.util.function.Function;
@@ -24,8 +27,11 @@ public class ExecutorServiceManager {
   private static final Logger log = LoggerFactory.getLogger(ExecutorServiceManager.class);
   public static final int MIN_THREAD_NUMBER = 0;
   private ExecutorService executor;
+  private ReconciliationBulkheads reconciliationBulkheads;
+  private AdaptiveConcurrencyLimiter adaptiveConcurrencyLimiter;
   private ExecutorService workflowExecutor;
   private ExecutorService cachingExecutorService;
+  private ScheduledExecutorService scheduledExecutorService;
   private boolean started;
   private ConfigurationService configurationService;
 
@@ -55,14 +61,17 @@ public class ExecutorServiceManager {
       instrumented.invokeAll(stream.map(item -> (Callable<Void>) () -> {
         // change thread name for easier debugging
         final var thread = Thread.currentThread();
-        final var name = thread.getName();
+        // virtual threads are not reused, so there is no need to restore their name
+        final var name = VirtualThreads.isVirtual(thread) ? null : thread.getName();
         thread.setName(threadNamer.apply(item));
         try {
           task.apply(item);
           return null;
         } finally {
-          // restore original name
-          thread.setName(name);
+          if (name != null) {
+            // restore original name
+            thread.setName(name);
+          }
         }
       }).collect(Collectors.toList())).forEach(f -> {
         try {
@@ -85,6 +94,34 @@ public class ExecutorServiceManager {
     return executor;
   }
 
+  /**
+   * Returns the executor service running the reconciliations of the specified controller. It runs
+   * them on the shared {@link #reconcileExecutorService()}, within the slots configured by
+   * {@link ControllerConfiguration#minReconciliationSlots()} and
+   * {@link ControllerConfiguration#maxReconciliationSlots()}, reconciliations which cannot get a
+   * slot waiting in a queue specific to the controller.
+   *
+   * @param configuration the configuration of the controller
+   * @param metricsMetadata the metadata passed to {@link ConfigurationService#getMetrics()} when
+   *        reporting the usage of the controller's slots
+   * @return the executor service to submit the reconciliations of the controller to
+   */
+  public ExecutorService reconcileExecutorService(ControllerConfiguration<?> configuration,
+      Map<String, Object> metricsMetadata) {
+    return reconciliationBulkheads.bulkheadFor(configuration.getName(),
+        configuration.minReconciliationSlots(), configuration.maxReconciliationSlots(),
+        metricsMetadata);
+  }
+
+  /**
+   * @return the limiter adapting the number of concurrent reconciliations to the feedback of the
+   *         API server, if {@link ConfigurationService#adaptiveReconciliationConcurrency()} is
+   *         enabled
+   */
+  public Optional<AdaptiveConcurrencyLimiter> adaptiveConcurrencyLimiter() {
+    return Optional.ofNullable(adaptiveConcurrencyLimiter);
+  }
+
   public ExecutorService workflowExecutorService() {
     lazyInitWorkflowExecutorService();
     return workflowExecutor;
@@ -101,11 +138,38 @@ public class ExecutorServiceManager {
     return cachingExecutorService;
   }
 
+  /**
+   * Returns the executor service running the periodic background tasks of the operator, such as
+   * writing informer cache snapshots. It is shared by all the controllers and only runs these tasks
+   * on a single daemon thread, tasks are therefore expected to be short.
+   *
+   * @return the executor service to schedule periodic background tasks on
+   */
+  public synchronized ScheduledExecutorService scheduledExecutorService() {
+    if (scheduledExecutorService == null) {
+      scheduledExecutorService = Executors.newSingleThreadScheduledExecutor(r -> {
+        final var thread = new Thread(r, "ScheduledExecutor");
+        thread.setDaemon(true);
+        return thread;
+      });
+    }
+    return scheduledExecutorService;
+  }
+
   public void start(ConfigurationService configurationService) {
     if (!started) {
       this.configurationService = configurationService; // used to lazy init workflow executor
-      this.cachingExecutorService = Executors.newCachedThreadPool();
+      this.cachingExecutorService = configurationService.useVirtualThreads()
+          ? VirtualThreads.newThreadPerTaskExecutor("CachingExecutor-")
+          : Executors.newCachedThreadPool();
       this.executor = new InstrumentedExecutorService(configurationService.getExecutorService());
+      this.adaptiveConcurrencyLimiter = configurationService.adaptiveReconciliationConcurrency()
+          ? new AdaptiveConcurrencyLimiter(configurationService.concurrentReconciliationThreads(),
+              configurationService.getMetrics())
+          : null;
+      this.reconciliationBulkheads = new ReconciliationBulkheads(executor,
+          configurationService.concurrentReconciliationThreads(),
+          configurationService.getMetrics(), adaptiveConcurrencyLimiter);
       started = true;
     }
   }
@@ -113,11 +177,15 @@ public class ExecutorServiceManager {
   public void stop(Duration gracefulShutdownTimeout) {
     try {
       log.debug("Closing executor");
-      var parallelExec = Executors.newFixedThreadPool(3);
+      var parallelExec = Executors.newFixedThreadPool(4);
       parallelExec.invokeAll(List.of(shutdown(executor, gracefulShutdownTimeout),
           shutdown(workflowExecutor, gracefulShutdownTimeout),
-          shutdown(cachingExecutorService, gracefulShutdownTimeout)));
+          shutdown(cachingExecutorService, gracefulShutdownTimeout),
+          shutdown(scheduledExecutorService, gracefulShutdownTimeout)));
       workflowExecutor = null;
+      synchronized (this) {
+        scheduledExecutorService = null;
+      }
       parallelExec.shutdownNow();
       started = false;
     } catch (InterruptedException e) {
@@ -129,7 +197,7 @@ public class ExecutorServiceManager {
   private static Callable<Void> shutdown(ExecutorService executorService,
       Duration gracefulShutdownTimeout) {
     return () -> {
-      // workflow executor can be null
+      // workflow and scheduled executors can be null
       if (executorService == null) {
         return null;
       }
@@ -0,0 +1,344 @@
+package io.javaoperatorsdk.operator.api.config;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.AbstractExecutorService;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import io.javaoperatorsdk.operator.OperatorException;
+import io.javaoperatorsdk.operator.api.monitoring.Metrics;
+
+/**
+ * Shares the slots of the reconciliation executor between controllers. Each controller submits its
+ * reconciliations to its own {@link Bulkhead}, which is guaranteed a minimum number of slots and
+ * can borrow slots not reserved to any controller, up to its maximum. Reconciliations which cannot
+ * get a slot wait in the queue of their bulkhead, queues being served in turn when slots are
+ * released, so that a busy controller can neither starve the others nor fill the queue of the
+ * shared executor.
+ * <p>
+ * When an {@link AdaptiveConcurrencyLimiter} is used, the total number of running reconciliations
+ * is also kept under its current limit, permits being taken by comparing an atomic count with the
+ * limit, without locking. Queued reconciliations are dispatched when it increases. Otherwise, as
+ * long as no controller declares slots, reconciliations are passed through to the executor
+ * unchanged, only being counted.
+ */
+class ReconciliationBulkheads {
+
+  private static final Logger log = LoggerFactory.getLogger(ReconciliationBulkheads.class);
+
+  private final ExecutorService executor;
+  private final int capacity;
+  private final Metrics metrics;
+  private final AdaptiveConcurrencyLimiter limiter;
+  // total number of running and queued reconciliations, updated without locking so that
+  // reconciliations can be passed through without contention when no slots are declared
+  private final AtomicInteger running = new AtomicInteger();
+  private final AtomicInteger queued = new AtomicInteger();
+  private volatile boolean enforcing;
+  // the state below is guarded by this
+  private final Map<String, Bulkhead> bulkheads = new LinkedHashMap<>();
+  private final List<Bulkhead> dispatchOrder = new ArrayList<>();
+  private int reserved;
+
+  ReconciliationBulkheads(ExecutorService executor, int capacity, Metrics metrics) {
+    this(executor, capacity, metrics, null);
+  }
+
+  ReconciliationBulkheads(ExecutorService executor, int capacity, Metrics metrics,
+      AdaptiveConcurrencyLimiter limiter) {
+    if (capacity <= 0) {
+      throw new IllegalArgumentException("Capacity must be positive: " + capacity);
+    }
+    this.executor = executor;
+    this.capacity = capacity;
+    this.metrics = metrics != null ? metrics : Metrics.NOOP;
+    this.limiter = limiter;
+    if (limiter != null) {
+      limiter.setOnLimitIncreased(() -> {
+        if (queued.get() > 0) {
+          runAll(dispatchQueued(0));
+        }
+      });
+    }
+  }
+
+  /**
+   * Returns the bulkhead of the specified controller, creating it if needed.
+   *
+   * @param controllerName name of the controller
+   * @param minSlots number of slots guaranteed to the controller
+   * @param maxSlots maximum number of slots used by the controller, 0 meaning no maximum other than
+   *        the capacity of the executor
+   * @param metricsMetadata metadata passed to {@link Metrics} when reporting slots usage
+   * @return the bulkhead to submit the reconciliations of the controller to
+   */
+  Bulkhead bulkheadFor(String controllerName, int minSlots, int maxSlots,
+      Map<String, Object> metricsMetadata) {
+    final Bulkhead bulkhead;
+    synchronized (this) {
+      final var existing = bulkheads.get(controllerName);
+      if (existing != null) {
+        return existing;
+      }
+      if (reserved + minSlots > capacity) {
+        throw new OperatorException("Cannot reserve " + minSlots
+            + " reconciliation slots for controller " + controllerName + ": only "
+            + (capacity - reserved) + " out of " + capacity + " are not reserved yet");
+      }
+      final var max = maxSlots > 0 ? Math.min(maxSlots, capacity) : capacity;
+      bulkhead = new Bulkhead(dispatchOrder.size(), minSlots, Math.max(max, minSlots),
+          metricsMetadata);
+      bulkheads.put(controllerName, bulkhead);
+      dispatchOrder.add(bulkhead);
+      reserved += minSlots;
+      if (minSlots > 0 || bulkhead.max < capacity) {
+        if (!enforcing) {
+          log.debug("Enforcing reconciliation slots, controller {} declared min: {}, max: {}",
+              controllerName, minSlots, maxSlots);
+        }
+        // reconciliations passed through concurrently with this switch are only accounted for
+        // once started, which can briefly let the other controllers borrow too many slots
+        enforcing = true;
+      }
+    }
+    reportUsage(bulkhead);
+    return bulkhead;
+  }
+
+  /**
+   * @return the number of running reconciliations using slots which are not reserved to their
+   *         controller
+   */
+  synchronized int borrowedSlots() {
+    int borrowed = 0;
+    for (var bulkhead : dispatchOrder) {
+      borrowed += Math.max(0, bulkhead.running.get() - bulkhead.min);
+    }
+    return borrowed;
+  }
+
+  private void execute(Bulkhead bulkhead, Runnable command) {
+    if (bulkhead.shutdown) {
+      throw new RejectedExecutionException("Bulkhead is shut down");
+    }
+    if (!enforcing && queued.get() == 0 && tryAcquirePermit()) {
+      bulkhead.running.incrementAndGet();
+      reportUsage(bulkhead);
+      run(bulkhead, command);
+      return;
+    }
+    final List<Map.Entry<Bulkhead, Runnable>> toRun;
+    synchronized (this) {
+      if (bulkhead.shutdown) {
+        throw new RejectedExecutionException("Bulkhead is shut down");
+      }
+      bulkhead.queue.add(command);
+      bulkhead.queuedTasks = bulkhead.queue.size();
+      queued.incrementAndGet();
+      // starting with the queue of this bulkhead, whose older reconciliations are run first
+      toRun = dispatchQueued(bulkhead.index);
+    }
+    reportUsage(bulkhead);
+    runAll(toRun);
+  }
+
+  private void run(Bulkhead bulkhead, Runnable command) {
+    try {
+      executor.execute(() -> {
+        try {
+          command.run();
+        } finally {
+          release(bulkhead);
+        }
+      });
+    } catch (RejectedExecutionException e) {
+      release(bulkhead);
+      throw e;
+    }
+  }
+
+  /**
+   * Takes one of the permits of the concurrency limiter, if any, without locking, the limit being
+   * compared with the number of running reconciliations.
+   */
+  private boolean tryAcquirePermit() {
+    if (limiter == null) {
+      running.incrementAndGet();
+      return true;
+    }
+    while (true) {
+      final var current = running.get();
+      if (current >= limiter.getLimit()) {
+        return false;
+      }
+      if (running.compareAndSet(current, current + 1)) {
+        return true;
+      }
+    }
+  }
+
+  // called with this locked
+  private boolean hasSlotFor(Bulkhead bulkhead) {
+    if (!enforcing) {
+      return true;
+    }
+    final var bulkheadRunning = bulkhead.running.get();
+    return bulkheadRunning < bulkhead.min
+        || (bulkheadRunning < bulkhead.max && borrowedSlots() < capacity - reserved);
+  }
+
+  private void release(Bulkhead bulkhead) {
+    bulkhead.running.decrementAndGet();
+    running.decrementAndGet();
+    // the counters are decremented before checking the queues while queued reconciliations are
+    // counted before checking the counters, so that one of them is always dispatched
+    if (queued.get() > 0) {
+      final List<Map.Entry<Bulkhead, Runnable>> toRun;
+      synchronized (this) {
+        // serve the queues in turn, starting after the controller which released the slot, so
+        // that a controller with many queued reconciliations doesn't get all the freed slots
+        toRun = dispatchQueued(bulkhead.index + 1);
+        if (bulkhead.shutdown) {
+          notifyAll();
+        }
+      }
+      runAll(toRun);
+    } else if (bulkhead.shutdown) {
+      synchronized (this) {
+        notifyAll();
+      }
+    }
+    reportUsage(bulkhead);
+  }
+
+  private synchronized List<Map.Entry<Bulkhead, Runnable>> dispatchQueued(int first) {
+    final List<Map.Entry<Bulkhead, Runnable>> toRun = new ArrayList<>();
+    final var size = dispatchOrder.size();
+    var next = first;
+    boolean dispatched = true;
+    while (dispatched) {
+      dispatched = false;
+      for (int i = 0; i < size; i++) {
+        final var candidate = dispatchOrder.get((next + i) % size);
+        if (!candidate.queue.isEmpty() && hasSlotFor(candidate) && tryAcquirePermit()) {
+          candidate.running.incrementAndGet();
+          toRun.add(Map.entry(candidate, candidate.queue.poll()));
+          candidate.queuedTasks = candidate.queue.size();
+          queued.decrementAndGet();
+          next = (next + i + 1) % size;
+          dispatched = true;
+          break;
+        }
+      }
+    }
+    return toRun;
+  }
+
+  private void runAll(List<Map.Entry<Bulkhead, Runnable>> toRun) {
+    for (var entry : toRun) {
+      reportUsage(entry.getKey());
+      try {
+        run(entry.getKey(), entry.getValue());
+      } catch (RejectedExecutionException e) {
+        log.debug("Queued reconciliation rejected by the executor, it is probably shutting down",
+            e);
+      }
+    }
+  }
+
+  // called without holding the lock, the values being read from the bulkhead's counters
+  private void reportUsage(Bulkhead bulkhead) {
+    metrics.reconciliationSlotsUsage(bulkhead.running.get(), bulkhead.queuedTasks, bulkhead.max,
+        bulkhead.metricsMetadata);
+  }
+
+  /**
+   * The slots of the reconciliation executor available to a controller. Shutting a bulkhead down
+   * only affects the reconciliations of its controller, not the shared executor.
+   */
+  class Bulkhead extends AbstractExecutorService {
+    private final int index;
+    private final int min;
+    private final int max;
+    private final Map<String, Object> metricsMetadata;
+    private final AtomicInteger running = new AtomicInteger();
+    // guarded by the enclosing ReconciliationBulkheads, size published in queuedTasks
+    private final Deque<Runnable> queue = new ArrayDeque<>();
+    private volatile int queuedTasks;
+    private volatile boolean shutdown;
+
+    private Bulkhead(int index, int min, int max, Map<String, Object> metricsMetadata) {
+      this.index = index;
+      this.min = min;
+      this.max = max;
+      this.metricsMetadata = metricsMetadata;
+    }
+
+    @Override
+    public void execute(Runnable command) {
+      ReconciliationBulkheads.this.execute(this, command);
+    }
+
+    int runningTasks() {
+      return running.get();
+    }
+
+    int queuedTasks() {
+      return queuedTasks;
+    }
+
+    @Override
+    public void shutdown() {
+      shutdown = true;
+    }
+
+    @Override
+    public List<Runnable> shutdownNow() {
+      final List<Runnable> dropped;
+      synchronized (ReconciliationBulkheads.this) {
+        shutdown = true;
+        dropped = new ArrayList<>(queue);
+        queue.clear();
+        queuedTasks = 0;
+        queued.addAndGet(-dropped.size());
+      }
+      reportUsage(this);
+      return dropped;
+    }
+
+    @Override
+    public boolean isShutdown() {
+      return shutdown;
+    }
+
+    @Override
+    public boolean isTerminated() {
+      return shutdown && running.get() == 0 && queuedTasks == 0;
+    }
+
+    @Override
+    public boolean awaitTermination(long timeout, TimeUnit unit) throws InterruptedException {
+      final var deadline = System.nanoTime() + unit.toNanos(timeout);
+      synchronized (ReconciliationBulkheads.this) {
+        while (!isTerminated()) {
+          final var remaining = deadline - System.nanoTime();
+          if (remaining <= 0) {
+            return false;
+          }
+          TimeUnit.NANOSECONDS.timedWait(ReconciliationBulkheads.this, remaining);
+        }
+        return true;
+      }
+    }
+  }
+}
@@ -22,12 +22,20 @@ public class ResolvedControllerConfiguration<P extends HasMetadata>
     implements io.javaoperatorsdk.operator.api.config.ControllerConfiguration<P>,
     DependentResourceConfigurationProvider {
 
+  private static final String PRUNABLE_PRIMARY_RESOURCE_FIELD = "/metadata/managedFields";
+
   private final String name;
   private final boolean generationAware;
   private final String associatedReconcilerClassName;
   private final Retry retry;
   private final RateLimiter rateLimiter;
   private final Duration maxReconciliationInterval;
+  private final double maxReconciliationIntervalJitter;
+  private final Duration eventCoalescingWindow;
+  private final int minReconciliationSlots;
+  private final int maxReconciliationSlots;
+  private final int expectedResourceCount;
+  private final Duration skipUnchangedReconciliationsForcedInterval;
   private final String finalizer;
   private final Map<DependentResourceSpec, Object> configurations;
   private final ItemStore<P> itemStore;
@@ -47,7 +55,11 @@ public class ResolvedControllerConfiguration<P extends HasMetadata>
         other.getFinalizerName(), other.getLabelSelector(), Collections.emptyMap(),
         other.getItemStore().orElse(null), other.fieldManager(),
         other.getConfigurationService(),
-        other.getInformerListLimit().orElse(null));
+        other.getInformerListLimit().orElse(null), other.maxReconciliationIntervalJitter(),
+        other.eventCoalescingWindow().orElse(null), other.minReconciliationSlots(),
+        other.maxReconciliationSlots(), other.expectedResourceCount(),
+        other.skipUnchangedReconciliationsForcedInterval().orElse(null),
+        other.getPrunedFields());
   }
 
   public static Duration getMaxReconciliationInterval(long interval, TimeUnit timeUnit) {
@@ -77,10 +89,31 @@ public class ResolvedControllerConfiguration<P extends HasMetadata>
       Map<DependentResourceSpec, Object> configurations, ItemStore<P> itemStore,
       String fieldManager,
       ConfigurationService configurationService, Long informerListLimit) {
+    this(resourceClass, name, generationAware, associatedReconcilerClassName, retry, rateLimiter,
+        maxReconciliationInterval, onAddFilter, onUpdateFilter, genericFilter, dependentResources,
+        namespaces, finalizer, labelSelector, configurations, itemStore, fieldManager,
+        configurationService, informerListLimit, 0, null, 0, 0, 0, null, null);
+  }
+
+  public ResolvedControllerConfiguration(Class<P> resourceClass, String name,
+      boolean generationAware, String associatedReconcilerClassName, Retry retry,
+      RateLimiter rateLimiter, Duration maxReconciliationInterval,
+      OnAddFilter<? super P> onAddFilter, OnUpdateFilter<? super P> onUpdateFilter,
+      GenericFilter<? super P> genericFilter,
+      List<DependentResourceSpec> dependentResources,
+      Set<String> namespaces, String finalizer, String labelSelector,
+      Map<DependentResourceSpec, Object> configurations, ItemStore<P> itemStore,
+      String fieldManager,
+      ConfigurationService configurationService, Long informerListLimit,
+      double maxReconciliationIntervalJitter, Duration eventCoalescingWindow,
+      int minReconciliationSlots, int maxReconciliationSlots, int expectedResourceCount,
+      Duration skipUnchangedReconciliationsForcedInterval, Set<String> prunedFields) {
     this(resourceClass, name, generationAware, associatedReconcilerClassName, retry, rateLimiter,
         maxReconciliationInterval, onAddFilter, onUpdateFilter, genericFilter,
         namespaces, finalizer, labelSelector, configurations, itemStore, fieldManager,
-        configurationService, informerListLimit);
+        configurationService, informerListLimit, maxReconciliationIntervalJitter,
+        eventCoalescingWindow, minReconciliationSlots, maxReconciliationSlots,
+        expectedResourceCount, skipUnchangedReconciliationsForcedInterval, prunedFields);
     setDependentResources(dependentResources);
   }
 
@@ -93,8 +126,26 @@ public class ResolvedControllerConfiguration<P extends HasMetadata>
       Map<DependentResourceSpec, Object> configurations, ItemStore<P> itemStore,
       String fieldManager,
       ConfigurationService configurationService, Long informerListLimit) {
+    this(resourceClass, name, generationAware, associatedReconcilerClassName, retry, rateLimiter,
+        maxReconciliationInterval, onAddFilter, onUpdateFilter, genericFilter, namespaces,
+        finalizer, labelSelector, configurations, itemStore, fieldManager, configurationService,
+        informerListLimit, 0, null, 0, 0, 0, null, null);
+  }
+
+  protected ResolvedControllerConfiguration(Class<P> resourceClass, String name,
+      boolean generationAware, String associatedReconcilerClassName, Retry retry,
+      RateLimiter rateLimiter, Duration maxReconciliationInterval,
+      OnAddFilter<? super P> onAddFilter, OnUpdateFilter<? super P> onUpdateFilter,
+      GenericFilter<? super P> genericFilter,
+      Set<String> namespaces, String finalizer, String labelSelector,
+      Map<DependentResourceSpec, Object> configurations, ItemStore<P> itemStore,
+      String fieldManager,
+      ConfigurationService configurationService, Long informerListLimit,
+      double maxReconciliationIntervalJitter, Duration eventCoalescingWindow,
+      int minReconciliationSlots, int maxReconciliationSlots, int expectedResourceCount,
+      Duration skipUnchangedReconciliationsForcedInterval, Set<String> prunedFields) {
     super(resourceClass, namespaces, labelSelector, onAddFilter, onUpdateFilter, genericFilter,
-        itemStore, informerListLimit);
+        itemStore, informerListLimit, prunedFields);
     this.configurationService = configurationService;
     this.name = ControllerConfiguration.ensureValidName(name, associatedReconcilerClassName);
     this.generationAware = generationAware;
@@ -102,6 +153,15 @@ public class ResolvedControllerConfiguration<P extends HasMetadata>
     this.retry = ensureRetry(retry);
     this.rateLimiter = ensureRateLimiter(rateLimiter);
     this.maxReconciliationInterval = maxReconciliationInterval;
+    this.maxReconciliationIntervalJitter =
+        ensureValidJitter(maxReconciliationIntervalJitter);
+    this.eventCoalescingWindow = eventCoalescingWindow;
+    ensureValidReconciliationSlots(minReconciliationSlots, maxReconciliationSlots);
+    ensurePrunableFromPrimaryResources(prunedFields);
+    this.minReconciliationSlots = minReconciliationSlots;
+    this.maxReconciliationSlots = maxReconciliationSlots;
+    this.expectedResourceCount = expectedResourceCount;
+    this.skipUnchangedReconciliationsForcedInterval = skipUnchangedReconciliationsForcedInterval;
     this.configurations = configurations != null ? configurations : Collections.emptyMap();
     this.itemStore = itemStore;
     this.finalizer =
@@ -116,6 +176,39 @@ public class ResolvedControllerConfiguration<P extends HasMetadata>
         null, null, null, null, null, configurationService, null);
   }
 
+  private static double ensureValidJitter(double jitter) {
+    if (jitter < 0 || jitter > 1) {
+      throw new IllegalArgumentException(
+          "Max reconciliation interval jitter must be between 0 and 1, was: " + jitter);
+    }
+    return jitter;
+  }
+
+  private static void ensureValidReconciliationSlots(int min, int max) {
+    if (min < 0 || max < 0 || (max > 0 && max < min)) {
+      throw new IllegalArgumentException(
+          "Reconciliation slots must be positive, with max greater than or equal to min (or 0 for no maximum), was: min="
+              + min + ", max=" + max);
+    }
+  }
+
+  private static void ensurePrunableFromPrimaryResources(Set<String> prunedFields) {
+    // primary resources are sent back to the server when adding the finalizer or updating the
+    // resource or its status, which removes the pruned fields, except the managed fields which are
+    // kept by the server when missing from an update
+    if (prunedFields == null) {
+      return;
+    }
+    prunedFields.stream()
+        .filter(field -> !PRUNABLE_PRIMARY_RESOURCE_FIELD.equals(field))
+        .findAny()
+        .ifPresent(field -> {
+          throw new IllegalArgumentException("Cannot prune " + field
+              + " from primary resources since it would be removed from the resources when updating them, only "
+              + PRUNABLE_PRIMARY_RESOURCE_FIELD + " can be pruned");
+        });
+  }
+
   @Override
   public String getName() {
     return name;
@@ -161,6 +254,36 @@ public class ResolvedControllerConfiguration<P extends HasMetadata>
     return Optional.ofNullable(maxReconciliationInterval);
   }
 
+  @Override
+  public double maxReconciliationIntervalJitter() {
+    return maxReconciliationIntervalJitter;
+  }
+
+  @Override
+  public Optional<Duration> eventCoalescingWindow() {
+    return Optional.ofNullable(eventCoalescingWindow);
+  }
+
+  @Override
+  public int minReconciliationSlots() {
+    return minReconciliationSlots;
+  }
+
+  @Override
+  public int maxReconciliationSlots() {
+    return maxReconciliationSlots;
+  }
+
+  @Override
+  public int expectedResourceCount() {
+    return expectedResourceCount;
+  }
+
+  @Override
+  public Optional<Duration> skipUnchangedReconciliationsForcedInterval() {
+    return Optional.ofNullable(skipUnchangedReconciliationsForcedInterval);
+  }
+
   @Override
   public ConfigurationService getConfigurationService() {
     return configurationService;
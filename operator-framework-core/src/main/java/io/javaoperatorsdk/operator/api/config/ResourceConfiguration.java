@@ -11,9 +11,11 @@ import io.javaoperatorsdk.operator.OperatorException;
 import io.javaoperatorsdk.operator.ReconcilerUtils;
 import io.javaoperatorsdk.operator.api.reconciler.Constants;
 import io.javaoperatorsdk.operator.processing.event.source.cache.BoundedItemStore;
+import io.javaoperatorsdk.operator.processing.event.source.cache.CompressedItemStore;
 import io.javaoperatorsdk.operator.processing.event.source.filter.GenericFilter;
 import io.javaoperatorsdk.operator.processing.event.source.filter.OnAddFilter;
 import io.javaoperatorsdk.operator.processing.event.source.filter.OnUpdateFilter;
+import io.javaoperatorsdk.operator.processing.event.source.informer.CacheFieldPruner;
 
 import static io.javaoperatorsdk.operator.api.reconciler.Constants.DEFAULT_NAMESPACES_SET;
 import static io.javaoperatorsdk.operator.api.reconciler.Constants.WATCH_CURRENT_NAMESPACE_SET;
@@ -135,7 +137,7 @@ public interface ResourceConfiguration<R extends HasMetadata> {
    * </p>
    *
    * <p>
-   * See {@link BoundedItemStore} and <a href=
+   * See {@link BoundedItemStore}, {@link CompressedItemStore} and <a href=
    * "https://github.com/operator-framework/java-operator-sdk/blob/main/caffeine-bounded-cache-support/src/main/java/io/javaoperatorsdk/operator/processing/event/source/cache/CaffeineBoundedCache.java">CaffeineBoundedCache</a>
    * </p>
    *
@@ -153,4 +155,41 @@ public interface ResourceConfiguration<R extends HasMetadata> {
   default Optional<Long> getInformerListLimit() {
     return Optional.empty();
   }
+
+  /**
+   * The fields to drop from the resources before they are cached, as JSON pointers, e.g.
+   * {@code /metadata/managedFields} or {@code /status}, see {@link CacheFieldPruner}. Dropping the
+   * fields the operator doesn't read reduces the memory used by the informer caches, the cached
+   * resources, as well as the ones passed to the event handlers, then being partial objects.
+   *
+   * @return the JSON pointers to the fields to drop from the cached resources, empty (default) to
+   *         cache the resources as they are
+   */
+  default Set<String> getPrunedFields() {
+    return Collections.emptySet();
+  }
+
+  /**
+   * The keys of the labels the informer caches are indexed by, so that the resources with a given
+   * value of one of these labels can be retrieved without scanning the caches, see
+   * {@link io.javaoperatorsdk.operator.processing.event.source.informer.InformerManager#byLabel(String, String)}.
+   * The caches are always indexed by namespace, and by owner UID if {@link #isOwnerIndexed()}.
+   *
+   * @return the keys of the labels to index the cached resources by, empty by default
+   */
+  default Set<String> getIndexedLabelKeys() {
+    return Collections.emptySet();
+  }
+
+  /**
+   * Whether the informer caches are indexed by the UIDs of the owners of the resources, so that the
+   * resources owned by a given resource can be retrieved without scanning the caches, see
+   * {@link io.javaoperatorsdk.operator.processing.event.source.informer.InformerManager#byOwner(io.fabric8.kubernetes.api.model.HasMetadata)}.
+   *
+   * @return {@code true} if the cached resources are indexed by owner UID, {@code false} otherwise
+   *         (default)
+   */
+  default boolean isOwnerIndexed() {
+    return false;
+  }
 }
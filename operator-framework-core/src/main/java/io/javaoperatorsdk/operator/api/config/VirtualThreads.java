@@ -0,0 +1,134 @@
+package io.javaoperatorsdk.operator.api.config;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Gives access to virtual threads when running on a JVM supporting them (Java 21+), while still
+ * allowing the SDK to be compiled and run on older versions. The needed methods are looked up once,
+ * reflectively, and platform threads are used as a fallback when virtual threads are not available.
+ */
+public final class VirtualThreads {
+
+  private static final Logger log = LoggerFactory.getLogger(VirtualThreads.class);
+
+  private static final MethodHandle IS_VIRTUAL;
+  private static final MethodHandle OF_VIRTUAL;
+  private static final MethodHandle NAME;
+  private static final MethodHandle FACTORY;
+  private static final MethodHandle NEW_THREAD_PER_TASK_EXECUTOR;
+
+  static {
+    MethodHandle isVirtual = null;
+    MethodHandle ofVirtual = null;
+    MethodHandle name = null;
+    MethodHandle factory = null;
+    MethodHandle newExecutor = null;
+    try {
+      final var lookup = MethodHandles.publicLookup();
+      final var builderClass = Class.forName("java.lang.Thread$Builder");
+      isVirtual =
+          lookup.findVirtual(Thread.class, "isVirtual", MethodType.methodType(boolean.class));
+      ofVirtual = lookup.findStatic(Thread.class, "ofVirtual",
+          MethodType.methodType(Class.forName("java.lang.Thread$Builder$OfVirtual")));
+      name = lookup.findVirtual(builderClass, "name",
+          MethodType.methodType(builderClass, String.class, long.class));
+      factory =
+          lookup.findVirtual(builderClass, "factory", MethodType.methodType(ThreadFactory.class));
+      newExecutor = lookup.findStatic(Executors.class, "newThreadPerTaskExecutor",
+          MethodType.methodType(ExecutorService.class, ThreadFactory.class));
+      // virtual threads are a preview feature on Java 19 and 20, make sure they can actually be
+      // used
+      ofVirtual.invoke();
+    } catch (Throwable e) {
+      log.debug("Virtual threads are not available: {}", e.toString());
+      newExecutor = null;
+    }
+    IS_VIRTUAL = isVirtual;
+    OF_VIRTUAL = ofVirtual;
+    NAME = name;
+    FACTORY = factory;
+    NEW_THREAD_PER_TASK_EXECUTOR = newExecutor;
+  }
+
+  private VirtualThreads() {}
+
+  /**
+   * @return {@code true} if the current JVM supports virtual threads
+   */
+  public static boolean isSupported() {
+    return NEW_THREAD_PER_TASK_EXECUTOR != null;
+  }
+
+  /**
+   * @param thread the thread to check
+   * @return {@code true} if the specified thread is a virtual thread
+   */
+  public static boolean isVirtual(Thread thread) {
+    if (!isSupported()) {
+      return false;
+    }
+    try {
+      return (boolean) IS_VIRTUAL.invokeExact(thread);
+    } catch (Throwable e) {
+      return false;
+    }
+  }
+
+  /**
+   * Creates an {@link ExecutorService} starting a new virtual thread for each task, or a cached
+   * thread pool if virtual threads are not supported by the current JVM.
+   *
+   * @param namePrefix the prefix of the names of the created threads, followed by a counter
+   * @return the new executor
+   */
+  public static ExecutorService newThreadPerTaskExecutor(String namePrefix) {
+    if (!isSupported()) {
+      log.warn("Virtual threads are not supported by the current JVM, using platform threads");
+      return Executors.newCachedThreadPool();
+    }
+    try {
+      final var builder = NAME.invoke(OF_VIRTUAL.invoke(), namePrefix, 0L);
+      final var factory = (ThreadFactory) FACTORY.invoke(builder);
+      return (ExecutorService) NEW_THREAD_PER_TASK_EXECUTOR.invoke(factory);
+    } catch (Throwable e) {
+      throw new IllegalStateException("Couldn't create virtual thread executor", e);
+    }
+  }
+
+  /**
+   * Creates an {@link ExecutorService} running each task on its own virtual thread, while limiting
+   * the number of tasks running concurrently to the specified value. Tasks submitted while the
+   * limit is reached are not rejected: they wait, on their virtual thread, for a slot to become
+   * available, which bounds for example the number of in-flight requests to the Kubernetes API
+   * server without having to size a pool of platform threads.
+   * <p>
+   * If virtual threads are not supported by the current JVM, a fixed pool of
+   * {@code maxConcurrentTasks} platform threads is used instead, since waiting tasks would
+   * otherwise each hold a platform thread.
+   *
+   * @param namePrefix the prefix of the names of the created threads, followed by a counter
+   * @param maxConcurrentTasks the maximum number of tasks running at the same time
+   * @return the new executor
+   */
+  public static ExecutorService newBoundedThreadPerTaskExecutor(String namePrefix,
+      int maxConcurrentTasks) {
+    if (!isSupported()) {
+      log.warn("Virtual threads are not supported by the current JVM, using {} platform threads",
+          maxConcurrentTasks);
+      final var counter = new AtomicLong();
+      return Executors.newFixedThreadPool(maxConcurrentTasks,
+          r -> new Thread(r, namePrefix + counter.getAndIncrement()));
+    }
+    return new ConcurrencyLimitedExecutorService(newThreadPerTaskExecutor(namePrefix),
+        maxConcurrentTasks);
+  }
+}
@@ -1,5 +1,6 @@
 package io.javaoperatorsdk.operator.api.config.informer;
 
+import java.util.Collections;
 import java.util.Objects;
 import java.util.Optional;
 import java.util.Set;
@@ -19,6 +20,7 @@ import io.javaoperatorsdk.operator.processing.event.source.filter.OnAddFilter;
 import io.javaoperatorsdk.operator.processing.event.source.filter.OnDeleteFilter;
 import io.javaoperatorsdk.operator.processing.event.source.filter.OnUpdateFilter;
 import io.javaoperatorsdk.operator.processing.event.source.informer.Mappers;
+import io.javaoperatorsdk.operator.processing.event.source.informer.MetadataOnlyItemStore;
 
 import static io.javaoperatorsdk.operator.api.reconciler.Constants.DEFAULT_NAMESPACES_SET;
 
@@ -33,6 +35,10 @@ public interface InformerConfiguration<R extends HasMetadata>
     private final boolean followControllerNamespaceChanges;
     private final OnDeleteFilter<? super R> onDeleteFilter;
     private final GroupVersionKind groupVersionKind;
+    private final boolean metadataOnly;
+    private final boolean secondaryToPrimaryMapperMemoized;
+    private final Set<String> indexedLabelKeys;
+    private final boolean ownerIndexed;
 
     protected DefaultInformerConfiguration(String labelSelector,
         Class<R> resourceClass,
@@ -45,8 +51,27 @@ public interface InformerConfiguration<R extends HasMetadata>
         OnDeleteFilter<? super R> onDeleteFilter,
         GenericFilter<? super R> genericFilter,
         ItemStore<R> itemStore, Long informerListLimit) {
+      this(labelSelector, resourceClass, groupVersionKind, primaryToSecondaryMapper,
+          secondaryToPrimaryMapper, namespaces, followControllerNamespaceChanges, onAddFilter,
+          onUpdateFilter, onDeleteFilter, genericFilter, itemStore, informerListLimit, false,
+          null, false, null, false);
+    }
+
+    protected DefaultInformerConfiguration(String labelSelector,
+        Class<R> resourceClass,
+        GroupVersionKind groupVersionKind,
+        PrimaryToSecondaryMapper<?> primaryToSecondaryMapper,
+        SecondaryToPrimaryMapper<R> secondaryToPrimaryMapper,
+        Set<String> namespaces, boolean followControllerNamespaceChanges,
+        OnAddFilter<? super R> onAddFilter,
+        OnUpdateFilter<? super R> onUpdateFilter,
+        OnDeleteFilter<? super R> onDeleteFilter,
+        GenericFilter<? super R> genericFilter,
+        ItemStore<R> itemStore, Long informerListLimit, boolean metadataOnly,
+        Set<String> prunedFields, boolean secondaryToPrimaryMapperMemoized,
+        Set<String> indexedLabelKeys, boolean ownerIndexed) {
       super(resourceClass, namespaces, labelSelector, onAddFilter, onUpdateFilter, genericFilter,
-          itemStore, informerListLimit);
+          itemStore, informerListLimit, prunedFields);
       this.followControllerNamespaceChanges = followControllerNamespaceChanges;
       this.groupVersionKind = groupVersionKind;
       this.primaryToSecondaryMapper = primaryToSecondaryMapper;
@@ -54,6 +79,11 @@ public interface InformerConfiguration<R extends HasMetadata>
           Objects.requireNonNullElse(secondaryToPrimaryMapper,
               Mappers.fromOwnerReference());
       this.onDeleteFilter = onDeleteFilter;
+      this.metadataOnly = metadataOnly;
+      this.secondaryToPrimaryMapperMemoized = secondaryToPrimaryMapperMemoized;
+      this.indexedLabelKeys =
+          indexedLabelKeys != null ? Set.copyOf(indexedLabelKeys) : Collections.emptySet();
+      this.ownerIndexed = ownerIndexed;
     }
 
     @Override
@@ -80,6 +110,26 @@ public interface InformerConfiguration<R extends HasMetadata>
     public Optional<GroupVersionKind> getGroupVersionKind() {
       return Optional.ofNullable(groupVersionKind);
     }
+
+    @Override
+    public boolean isMetadataOnly() {
+      return metadataOnly;
+    }
+
+    @Override
+    public boolean isSecondaryToPrimaryMapperMemoized() {
+      return secondaryToPrimaryMapperMemoized;
+    }
+
+    @Override
+    public Set<String> getIndexedLabelKeys() {
+      return indexedLabelKeys;
+    }
+
+    @Override
+    public boolean isOwnerIndexed() {
+      return ownerIndexed;
+    }
   }
 
   /**
@@ -119,6 +169,33 @@ public interface InformerConfiguration<R extends HasMetadata>
 
   Optional<GroupVersionKind> getGroupVersionKind();
 
+  /**
+   * Whether only the metadata of the resources should be cached, see {@link MetadataOnlyItemStore}.
+   * This drastically reduces the memory used by the cache when the operator only needs to know
+   * which resources exist, e.g. to count them or to check that they are present, or only reads
+   * their metadata. The configured {@link #getItemStore()}, if any, then stores the metadata-only
+   * resources.
+   *
+   * @return {@code true} if only the metadata of the resources should be cached, {@code false}
+   *         otherwise (default)
+   */
+  default boolean isMetadataOnly() {
+    return false;
+  }
+
+  /**
+   * Whether the {@link #getSecondaryToPrimaryMapper()} is only called once per resource version of
+   * each secondary resource to index it, e.g. when a resource created by the operator is indexed
+   * right after being created, then again when the informer receives the related event. Only enable
+   * this if the mapper solely depends on the content of the resource.
+   *
+   * @return {@code true} if the results of the mapper can be reused for a given resource version,
+   *         {@code false} otherwise (default)
+   */
+  default boolean isSecondaryToPrimaryMapperMemoized() {
+    return false;
+  }
+
   @SuppressWarnings("unused")
   class InformerConfigurationBuilder<R extends HasMetadata> {
 
@@ -135,6 +212,11 @@ public interface InformerConfiguration<R extends HasMetadata>
     private boolean inheritControllerNamespacesOnChange = false;
     private ItemStore<R> itemStore;
     private Long informerListLimit;
+    private boolean metadataOnly;
+    private Set<String> prunedFields;
+    private boolean secondaryToPrimaryMapperMemoized;
+    private Set<String> indexedLabelKeys;
+    private boolean ownerIndexed;
 
     private InformerConfigurationBuilder(Class<R> resourceClass) {
       this.resourceClass = resourceClass;
@@ -261,12 +343,74 @@ public interface InformerConfiguration<R extends HasMetadata>
       return this;
     }
 
+    /**
+     * Only caches the metadata of the resources, see
+     * {@link InformerConfiguration#isMetadataOnly()}.
+     *
+     * @param metadataOnly {@code true} to only cache the metadata of the resources
+     * @return the builder instance so that calls can be chained fluently
+     */
+    public InformerConfigurationBuilder<R> withMetadataOnly(boolean metadataOnly) {
+      this.metadataOnly = metadataOnly;
+      return this;
+    }
+
+    /**
+     * Drops the specified fields from the resources before they are cached, see
+     * {@link ResourceConfiguration#getPrunedFields()}.
+     *
+     * @param prunedFields JSON pointers to the fields to drop, e.g. {@code /metadata/managedFields}
+     * @return the builder instance so that calls can be chained fluently
+     */
+    public InformerConfigurationBuilder<R> withPrunedFields(Set<String> prunedFields) {
+      this.prunedFields = prunedFields;
+      return this;
+    }
+
+    /**
+     * Only calls the secondary to primary mapper once per resource version, see
+     * {@link InformerConfiguration#isSecondaryToPrimaryMapperMemoized()}.
+     *
+     * @param memoized {@code true} to reuse the results of the mapper for a given resource version
+     * @return the builder instance so that calls can be chained fluently
+     */
+    public InformerConfigurationBuilder<R> withMemoizedSecondaryToPrimaryMapper(
+        boolean memoized) {
+      this.secondaryToPrimaryMapperMemoized = memoized;
+      return this;
+    }
+
+    /**
+     * Indexes the cached resources by the values of the specified labels, see
+     * {@link ResourceConfiguration#getIndexedLabelKeys()}.
+     *
+     * @param indexedLabelKeys the keys of the labels to index the cached resources by
+     * @return the builder instance so that calls can be chained fluently
+     */
+    public InformerConfigurationBuilder<R> withIndexedLabelKeys(Set<String> indexedLabelKeys) {
+      this.indexedLabelKeys = indexedLabelKeys;
+      return this;
+    }
+
+    /**
+     * Indexes the cached resources by the UIDs of their owners, see
+     * {@link ResourceConfiguration#isOwnerIndexed()}.
+     *
+     * @param ownerIndexed {@code true} to index the cached resources by owner UID
+     * @return the builder instance so that calls can be chained fluently
+     */
+    public InformerConfigurationBuilder<R> withOwnerIndex(boolean ownerIndexed) {
+      this.ownerIndexed = ownerIndexed;
+      return this;
+    }
+
     public InformerConfiguration<R> build() {
       return new DefaultInformerConfiguration<>(labelSelector, resourceClass, groupVersionKind,
           primaryToSecondaryMapper,
           secondaryToPrimaryMapper,
           namespaces, inheritControllerNamespacesOnChange, onAddFilter, onUpdateFilter,
-          onDeleteFilter, genericFilter, itemStore, informerListLimit);
+          onDeleteFilter, genericFilter, itemStore, informerListLimit, metadataOnly, prunedFields,
+          secondaryToPrimaryMapperMemoized, indexedLabelKeys, ownerIndexed);
     }
   }
 
@@ -1,5 +1,6 @@
 package io.javaoperatorsdk.operator.api.monitoring;
 
+import java.time.Duration;
 import java.util.Collections;
 import java.util.Map;
 
@@ -7,7 +8,9 @@ import io.fabric8.kubernetes.api.model.HasMetadata;
 import io.javaoperatorsdk.operator.api.reconciler.Context;
 import io.javaoperatorsdk.operator.api.reconciler.RetryInfo;
 import io.javaoperatorsdk.operator.processing.Controller;
+import io.javaoperatorsdk.operator.processing.GroupVersionKind;
 import io.javaoperatorsdk.operator.processing.event.Event;
+import io.javaoperatorsdk.operator.processing.event.ReconciliationPriority;
 import io.javaoperatorsdk.operator.processing.event.ResourceID;
 
 /**
@@ -86,6 +89,57 @@ public interface Metrics {
   }
 
 
+  /**
+   * Called when a reconciliation is scheduled to be automatically triggered once the max
+   * reconciliation interval elapses, see
+   * {@link io.javaoperatorsdk.operator.api.config.ControllerConfiguration#maxReconciliationInterval()}.
+   * The provided delay takes the configured jitter into account. Since a resource is scheduled
+   * again each time it is reconciled, most of these reconciliations are superseded before being
+   * triggered, see {@link #periodicReconciliationTriggered(ResourceID, Map)} to track the load
+   * periodic reconciliations put on the controller.
+   *
+   * @param resource the resource for which a periodic reconciliation is scheduled
+   * @param delay the delay after which the reconciliation will be triggered
+   * @param metadata metadata associated with the resource being processed
+   */
+  default void periodicReconciliationScheduled(HasMetadata resource, Duration delay,
+      Map<String, Object> metadata) {}
+
+  /**
+   * Called when the max reconciliation interval of a resource elapsed without it being reconciled,
+   * thus triggering a periodic reconciliation. The rate of these calls reflects the per-second load
+   * periodic reconciliations put on the controller.
+   *
+   * @param resourceID of the primary resource to reconcile
+   * @param metadata metadata associated with the resource being processed
+   */
+  default void periodicReconciliationTriggered(ResourceID resourceID,
+      Map<String, Object> metadata) {}
+
+  /**
+   * Called when a reconciliation is added to the reconciliation queue of a controller, see
+   * {@link io.javaoperatorsdk.operator.api.config.ConfigurationService#reconciliationPrioritizer()}.
+   * Along with {@link #reconciliationDequeued(ResourceID, ReconciliationPriority, Map)}, this
+   * allows to track the depth of the queue per priority.
+   *
+   * @param resourceID of the primary resource to reconcile
+   * @param priority the priority of the reconciliation
+   * @param metadata metadata associated with the resource being processed
+   */
+  default void reconciliationQueued(ResourceID resourceID, ReconciliationPriority priority,
+      Map<String, Object> metadata) {}
+
+  /**
+   * Called when a reconciliation is removed from the reconciliation queue of a controller, either
+   * to be executed or because the controller is restarted.
+   *
+   * @param resourceID of the primary resource to reconcile
+   * @param priority the priority of the reconciliation
+   * @param metadata metadata associated with the resource being processed
+   */
+  default void reconciliationDequeued(ResourceID resourceID, ReconciliationPriority priority,
+      Map<String, Object> metadata) {}
+
   default void reconciliationExecutionStarted(HasMetadata resource, Map<String, Object> metadata) {}
 
   default void reconciliationExecutionFinished(HasMetadata resource,
@@ -219,6 +273,132 @@ public interface Metrics {
     return execution.execute();
   }
 
+  /**
+   * Called when the usage of the reconciliation slots of a controller changes, see
+   * {@link io.javaoperatorsdk.operator.api.config.ControllerConfiguration#maxReconciliationSlots()}.
+   *
+   * @param usedSlots number of reconciliations of the controller currently running
+   * @param queuedReconciliations number of reconciliations of the controller waiting for a slot
+   * @param maxSlots maximum number of slots the controller can use
+   * @param metadata metadata associated with the controller
+   */
+  default void reconciliationSlotsUsage(int usedSlots, int queuedReconciliations, int maxSlots,
+      Map<String, Object> metadata) {}
+
+  /**
+   * Called when the limit of concurrent reconciliations changes, if
+   * {@link io.javaoperatorsdk.operator.api.config.ConfigurationService#adaptiveReconciliationConcurrency()}
+   * is enabled.
+   *
+   * @param limit the number of reconciliations which can run concurrently
+   */
+  default void reconciliationConcurrencyLimit(int limit) {}
+
+  /**
+   * Called when a reconciliation failed because the Kubernetes API server throttled a request or
+   * was overloaded, if
+   * {@link io.javaoperatorsdk.operator.api.config.ConfigurationService#adaptiveReconciliationConcurrency()}
+   * is enabled.
+   *
+   * @param metadata metadata associated with the controller
+   */
+  default void reconciliationThrottled(Map<String, Object> metadata) {}
+
+  /**
+   * Called when a reconciliation is skipped because its inputs didn't change since the last one,
+   * see
+   * {@link io.javaoperatorsdk.operator.api.config.ControllerConfiguration#skipUnchangedReconciliationsForcedInterval()}.
+   * Skipped reconciliations are still reported as started and finished, so that the skip rate can
+   * be computed from these calls.
+   *
+   * @param resource the primary resource which reconciliation was skipped
+   * @param metadata metadata associated with the resource being processed
+   */
+  default void reconciliationSkipped(HasMetadata resource, Map<String, Object> metadata) {}
+
+  /**
+   * Called when the reconciliation of a failed resource is scheduled to be retried. Since the delay
+   * is randomized if {@link io.javaoperatorsdk.operator.processing.retry.GradualRetry#jitter()} is
+   * set, the rate of these calls along with the delays show whether resources failing because of
+   * the same outage get retried in waves.
+   *
+   * @param resourceID of the primary resource to retry
+   * @param attempt the number of the retry attempt
+   * @param delay the delay after which the reconciliation will be retried
+   * @param metadata metadata associated with the resource being processed
+   */
+  default void retryScheduled(ResourceID resourceID, int attempt, Duration delay,
+      Map<String, Object> metadata) {}
+
+  /**
+   * Called when the reconciliation of a failed resource is postponed because the retries of the
+   * controller already use all of its
+   * {@link io.javaoperatorsdk.operator.processing.retry.Retry#retryBudget()}.
+   *
+   * @param resourceID of the primary resource to retry
+   * @param metadata metadata associated with the resource being processed
+   */
+  default void retryDeferred(ResourceID resourceID, Map<String, Object> metadata) {}
+
+  /**
+   * Called when the number of running retries of a controller changes, if it has a
+   * {@link io.javaoperatorsdk.operator.processing.retry.Retry#retryBudget()}.
+   *
+   * @param runningRetries number of reconciliations of failed resources currently running
+   * @param maxRetries maximum number of retries which can run concurrently
+   * @param metadata metadata associated with the controller
+   */
+  default void retryBudgetUsage(int runningRetries, int maxRetries,
+      Map<String, Object> metadata) {}
+
+  /**
+   * Called when fields are dropped from a resource before it is cached, see
+   * {@link io.javaoperatorsdk.operator.api.config.ResourceConfiguration#getPrunedFields()}. The
+   * size is the one of the JSON representation of the dropped fields, which approximates the memory
+   * saved by the cache.
+   *
+   * @param gvk the {@link GroupVersionKind} of the cached resource
+   * @param bytes the size of the dropped fields, in bytes
+   */
+  default void informerCacheBytesPruned(GroupVersionKind gvk, long bytes) {}
+
+  /**
+   * Called when the initial sync of an informer failed, the informer being stopped. Only reported
+   * when reconciliations can start before the informers synced, see
+   * {@link io.javaoperatorsdk.operator.api.config.ConfigurationService#progressiveInformerReadiness()}.
+   *
+   * @param gvk the {@link GroupVersionKind} of the resources watched by the informer
+   * @param namespace the namespace watched by the informer
+   */
+  default void informerSyncFailed(GroupVersionKind gvk, String namespace) {}
+
+  /**
+   * Called when a resource requested from a
+   * {@link io.javaoperatorsdk.operator.processing.event.source.cache.BoundedItemStore} is found in
+   * its bounded cache.
+   *
+   * @param gvk the {@link GroupVersionKind} of the cached resources
+   */
+  default void boundedCacheHit(GroupVersionKind gvk) {}
+
+  /**
+   * Called when a resource requested from a
+   * {@link io.javaoperatorsdk.operator.processing.event.source.cache.BoundedItemStore} was evicted
+   * from its bounded cache and needs to be fetched from the server.
+   *
+   * @param gvk the {@link GroupVersionKind} of the cached resources
+   */
+  default void boundedCacheMiss(GroupVersionKind gvk) {}
+
+  /**
+   * Called when an evicted resource starts being fetched ahead of time by a
+   * {@link io.javaoperatorsdk.operator.processing.event.source.cache.BoundedItemStore}, because an
+   * event was received for it.
+   *
+   * @param gvk the {@link GroupVersionKind} of the cached resources
+   */
+  default void boundedCachePrefetch(GroupVersionKind gvk) {}
+
   /**
    * Monitors the size of the specified map. This currently isn't used directly by the SDK but could
    * be used by operators to monitor some of their structures, such as cache size.
@@ -26,6 +26,34 @@ public interface Context<P extends HasMetadata> {
     return getSecondaryResources(expectedType).stream();
   }
 
+  /**
+   * Same as {@link #getSecondaryResource(Class)} except that the returned resource might be the
+   * instance held by the cache of the associated event source instead of a copy, which saves the
+   * cost of cloning it. The returned resource must therefore not be modified: use it only to read
+   * the current state of the resource.
+   *
+   * @param expectedType the type of the secondary resource
+   * @return the secondary resource, if any
+   * @param <R> the type of the secondary resource
+   */
+  default <R> Optional<R> getSecondaryResourceReadOnly(Class<R> expectedType) {
+    return getSecondaryResource(expectedType);
+  }
+
+  /**
+   * Same as {@link #getSecondaryResources(Class)} except that the returned resources might be the
+   * instances held by the cache of the associated event sources instead of copies, which saves the
+   * cost of cloning them. The returned resources must therefore not be modified: use them only to
+   * read the current state of the resources.
+   *
+   * @param expectedType the type of the secondary resources
+   * @return the secondary resources
+   * @param <R> the type of the secondary resources
+   */
+  default <R> Set<R> getSecondaryResourcesReadOnly(Class<R> expectedType) {
+    return getSecondaryResources(expectedType);
+  }
+
   @Deprecated(forRemoval = true)
   <R> Optional<R> getSecondaryResource(Class<R> expectedType, String eventSourceName);
 
@@ -166,4 +166,63 @@ public @interface ControllerConfiguration {
    * the informer cache.
    */
   long informerListLimit() default NO_LONG_VALUE_SET;
+
+  /**
+   * Optional window, in milliseconds, during which events received for a primary resource are
+   * coalesced into a single reconciliation. The first event received for a resource which is not
+   * being reconciled is held for the duration of the window, and events received meanwhile are
+   * merged with it. 0, the default, disables coalescing.
+   *
+   * @return the event coalescing window in milliseconds
+   */
+  long eventCoalescingWindowMillis() default 0;
+
+  /**
+   * Number of threads of the shared reconciliation executor reserved to this controller, so that
+   * its reconciliations are not starved by other, busier, controllers. 0, the default, reserves
+   * none.
+   *
+   * @return the number of guaranteed reconciliation slots
+   */
+  int minReconciliationSlots() default 0;
+
+  /**
+   * Maximum number of reconciliations of this controller running concurrently on the shared
+   * reconciliation executor. Other reconciliations of the controller wait in a queue of their own
+   * until a slot is available. 0, the default, means that the controller is only limited by the
+   * size of the executor.
+   *
+   * @return the maximum number of reconciliation slots
+   */
+  int maxReconciliationSlots() default 0;
+
+  /**
+   * Hint on the number of primary resources the controller is expected to handle, used to size
+   * internal structures upfront. 0, the default, means that the number is unknown.
+   *
+   * @return the expected number of primary resources
+   */
+  int expectedResourceCount() default 0;
+
+  /**
+   * Skips reconciliations when neither the primary resource nor its secondary resources changed
+   * since the last reconciliation which didn't update anything, a reconciliation being however
+   * forced once this interval, in milliseconds, elapsed since then. 0, the default, disables
+   * skipping. Only enable it if the reconciler solely depends on the primary resource and the
+   * resources of its event sources.
+   *
+   * @return the interval after which an unchanged resource is reconciled anyway
+   */
+  long skipUnchangedReconciliationsForcedIntervalMillis() default 0;
+
+  /**
+   * Fields to drop from the primary resources before they are cached, as JSON pointers, see
+   * {@link io.javaoperatorsdk.operator.api.config.ResourceConfiguration#getPrunedFields()}. Since
+   * the cached primary resources are sent back to the server when adding the finalizer or updating
+   * them or their status, only {@code /metadata/managedFields} can be pruned, the server keeping
+   * the managed fields when they are missing from an update.
+   *
+   * @return the JSON pointers to the fields to drop from the cached primary resources
+   */
+  String[] prunedFields() default {};
 }
@@ -1,5 +1,8 @@
 package io.javaoperatorsdk.operator.api.reconciler;
 
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
 import java.util.concurrent.ExecutorService;
@@ -13,6 +16,7 @@ import io.javaoperatorsdk.operator.api.reconciler.dependent.managed.DefaultManag
 import io.javaoperatorsdk.operator.api.reconciler.dependent.managed.ManagedDependentResourceContext;
 import io.javaoperatorsdk.operator.processing.Controller;
 import io.javaoperatorsdk.operator.processing.event.EventSourceRetriever;
+import io.javaoperatorsdk.operator.processing.event.ResourceID;
 
 public class DefaultContext<P extends HasMetadata> implements Context<P> {
 
@@ -21,6 +25,8 @@ public class DefaultContext<P extends HasMetadata> implements Context<P> {
   private final P primaryResource;
   private final ControllerConfiguration<P> controllerConfiguration;
   private final DefaultManagedDependentResourceContext defaultManagedDependentResourceContext;
+  // copies of the read-only resources returned, only kept if they are verified
+  private final Map<HasMetadata, HasMetadata> readOnlyResources;
 
   public DefaultContext(RetryInfo retryInfo, Controller<P> controller, P primaryResource) {
     this.retryInfo = retryInfo;
@@ -28,6 +34,12 @@ public class DefaultContext<P extends HasMetadata> implements Context<P> {
     this.primaryResource = primaryResource;
     this.controllerConfiguration = controller.getConfiguration();
     this.defaultManagedDependentResourceContext = new DefaultManagedDependentResourceContext();
+    final var configurationService =
+        controllerConfiguration != null ? controllerConfiguration.getConfigurationService() : null;
+    this.readOnlyResources =
+        configurationService != null && configurationService.verifyReadOnlyResources()
+            ? Collections.synchronizedMap(new IdentityHashMap<>())
+            : null;
   }
 
   @Override
@@ -52,6 +64,54 @@ public class DefaultContext<P extends HasMetadata> implements Context<P> {
         .flatMap(Set::stream);
   }
 
+  @Override
+  public <R> Optional<R> getSecondaryResourceReadOnly(Class<R> expectedType) {
+    return controller.getEventSourceManager().getResourceEventSourceFor(expectedType, null)
+        .getSecondaryResourceReadOnly(primaryResource)
+        .map(this::trackReadOnly);
+  }
+
+  @Override
+  public <R> Set<R> getSecondaryResourcesReadOnly(Class<R> expectedType) {
+    return controller.getEventSourceManager().getResourceEventSourcesFor(expectedType).stream()
+        .map(es -> es.getSecondaryResourcesReadOnly(primaryResource))
+        .flatMap(Set::stream)
+        .map(this::trackReadOnly)
+        .collect(Collectors.toSet());
+  }
+
+  private <R> R trackReadOnly(R resource) {
+    if (readOnlyResources != null && resource instanceof HasMetadata) {
+      readOnlyResources.computeIfAbsent((HasMetadata) resource,
+          r -> controllerConfiguration.getConfigurationService().getResourceCloner().clone(r));
+    }
+    return resource;
+  }
+
+  /**
+   * Checks that the resources returned by {@link #getSecondaryResourcesReadOnly(Class)} and
+   * {@link #getSecondaryResourceReadOnly(Class)} were not modified, if enabled by
+   * {@link io.javaoperatorsdk.operator.api.config.ConfigurationService#verifyReadOnlyResources()}.
+   *
+   * @throws IllegalStateException if one of these resources was modified
+   */
+  public void verifyReadOnlyResources() {
+    if (readOnlyResources == null) {
+      return;
+    }
+    synchronized (readOnlyResources) {
+      readOnlyResources.forEach((resource, copy) -> {
+        if (!resource.equals(copy)) {
+          throw new IllegalStateException("Read-only " + resource.getKind() + " "
+              + ResourceID.fromResource(resource)
+              + " was modified, which corrupts the informer cache: use getSecondaryResources to"
+              + " retrieve a copy which can be modified");
+        }
+      });
+      readOnlyResources.clear();
+    }
+  }
+
   @Override
   public <T> Optional<T> getSecondaryResource(Class<T> expectedType, String eventSourceName) {
     return controller
@@ -35,4 +35,18 @@ public @interface MaxReconciliationInterval {
    */
   TimeUnit timeUnit() default TimeUnit.HOURS;
 
+  /**
+   * Fraction of the interval, between 0 and 1, by which the delay until the next reconciliation is
+   * randomly shortened. With the default value of 0, all resources are rescheduled with exactly the
+   * configured interval, which means that resources reconciled at the same time, e.g. when the
+   * operator starts, keep being reconciled together at each interval. Setting a jitter spreads
+   * these reconciliations: the actual delay is picked uniformly between
+   * {@code interval * (1 - jitter)} and {@code interval}, so that the max reconciliation interval
+   * is still never exceeded. A value of 1 spreads the reconciliations uniformly over the whole
+   * interval.
+   *
+   * @return the jitter fraction applied to the max reconciliation interval
+   */
+  double jitter() default 0;
+
 }
@@ -1,6 +1,7 @@
 package io.javaoperatorsdk.operator.health;
 
 import java.util.Map;
+import java.util.Set;
 import java.util.stream.Collectors;
 
 import io.javaoperatorsdk.operator.processing.event.EventSourceManager;
@@ -33,6 +34,19 @@ public class ControllerHealthInfo {
 
   }
 
+  /**
+   * @return the namespaces watched by informers which didn't finish their initial sync yet, see
+   *         {@link InformerHealthIndicator#isSyncing()}
+   */
+  public Set<String> syncingNamespaces() {
+    return informerEventSourceHealthIndicators().values().stream()
+        .flatMap(i -> ((Map<String, InformerHealthIndicator>) i.informerHealthIndicators())
+            .values().stream())
+        .filter(InformerHealthIndicator::isSyncing)
+        .map(InformerHealthIndicator::getTargetNamespace)
+        .collect(Collectors.toSet());
+  }
+
   /**
    * @return Map with event sources that wraps an informer. Thus, either a
    *         {@link io.javaoperatorsdk.operator.processing.event.source.controller.ControllerResourceEventSource}
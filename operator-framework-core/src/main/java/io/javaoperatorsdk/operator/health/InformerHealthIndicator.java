@@ -8,6 +8,29 @@ public interface InformerHealthIndicator extends EventSourceHealthIndicator {
 
   boolean isRunning();
 
+  /**
+   * Whether the informer is still performing its initial sync. Only reported when reconciliations
+   * can start before the informers synced, see
+   * {@link io.javaoperatorsdk.operator.api.config.ConfigurationService#progressiveInformerReadiness()},
+   * since starting otherwise waits for the informers to sync.
+   *
+   * @return {@code true} if the informer was started and didn't sync yet
+   */
+  default boolean isSyncing() {
+    return false;
+  }
+
+  /**
+   * Whether the initial sync of the informer failed, the informer then being stopped. Only reported
+   * when reconciliations can start before the informers synced, see
+   * {@link io.javaoperatorsdk.operator.api.config.ConfigurationService#progressiveInformerReadiness()}.
+   *
+   * @return {@code true} if the initial sync of the informer failed
+   */
+  default boolean hasSyncFailed() {
+    return false;
+  }
+
   @Override
   Status getStatus();
 
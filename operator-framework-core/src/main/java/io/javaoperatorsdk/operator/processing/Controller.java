@@ -6,6 +6,7 @@ import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
+import java.util.stream.Collectors;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -44,6 +45,7 @@ import io.javaoperatorsdk.operator.processing.dependent.workflow.WorkflowCleanup
 import io.javaoperatorsdk.operator.processing.event.EventProcessor;
 import io.javaoperatorsdk.operator.processing.event.EventSourceManager;
 import io.javaoperatorsdk.operator.processing.event.ResourceID;
+import io.javaoperatorsdk.operator.processing.event.source.ResourceEventAware;
 import io.javaoperatorsdk.operator.processing.event.source.ResourceEventSource;
 
 import static io.javaoperatorsdk.operator.api.reconciler.Constants.WATCH_CURRENT_NAMESPACE;
@@ -71,6 +73,7 @@ public class Controller<P extends HasMetadata>
   private final boolean isCleaner;
   private final Metrics metrics;
   private final Workflow<P> managedWorkflow;
+  private final List<ResourceEventAware<P>> resourceEventAwareDependents;
 
   private final GroupVersionKind associatedGVK;
   private final EventProcessor<P> eventProcessor;
@@ -93,6 +96,11 @@ public class Controller<P extends HasMetadata>
 
     final var managed = configurationService.getWorkflowFactory().workflowFor(configuration);
     managedWorkflow = managed.resolve(kubernetesClient, configuration);
+    resourceEventAwareDependents =
+        managedWorkflow.getDependentResourcesByNameWithoutActivationCondition().values().stream()
+            .filter(ResourceEventAware.class::isInstance)
+            .map(dependent -> (ResourceEventAware<P>) dependent)
+            .collect(Collectors.toList());
 
     eventSourceManager = new EventSourceManager<>(this);
     eventProcessor = new EventProcessor<>(eventSourceManager, configurationService);
@@ -415,6 +423,15 @@ public class Controller<P extends HasMetadata>
     }
   }
 
+  /**
+   * @return the managed dependent resources to notify of the events affecting the primary
+   *         resources, along with the event sources, see
+   *         {@link EventSourceManager#broadcastOnResourceEvent}
+   */
+  public List<ResourceEventAware<P>> getResourceEventAwareDependents() {
+    return resourceEventAwareDependents;
+  }
+
   public EventSourceManager<P> getEventSourceManager() {
     return eventSourceManager;
   }
@@ -1,5 +1,7 @@
 package io.javaoperatorsdk.operator.processing.dependent;
 
+import java.util.Collections;
+import java.util.List;
 import java.util.Optional;
 
 import org.slf4j.Logger;
@@ -14,10 +16,11 @@ import io.javaoperatorsdk.operator.api.reconciler.dependent.DependentResource;
 import io.javaoperatorsdk.operator.api.reconciler.dependent.ReconcileResult;
 import io.javaoperatorsdk.operator.processing.dependent.Matcher.Result;
 import io.javaoperatorsdk.operator.processing.event.ResourceID;
+import io.javaoperatorsdk.operator.processing.event.source.ResourceEventAware;
 
 @Ignore
 public abstract class AbstractDependentResource<R, P extends HasMetadata>
-    implements DependentResource<R, P> {
+    implements DependentResource<R, P>, ResourceEventAware<P> {
   private static final Logger log = LoggerFactory.getLogger(AbstractDependentResource.class);
 
   private final boolean creatable = this instanceof Creator;
@@ -28,6 +31,7 @@ public abstract class AbstractDependentResource<R, P extends HasMetadata>
   protected Updater<R, P> updater;
   private ResourceDiscriminator<R, P> resourceDiscriminator;
   private final DependentResourceReconciler<R, P> dependentResourceReconciler;
+  private final DesiredStateCache<R> desiredStateCache = new DesiredStateCache<>();
 
   @SuppressWarnings({"unchecked"})
   protected AbstractDependentResource() {
@@ -56,22 +60,32 @@ public abstract class AbstractDependentResource<R, P extends HasMetadata>
     if (creatable || updatable) {
       if (actualResource == null) {
         if (creatable) {
-          var desired = desired(primary, context);
+          var desired = getOrComputeDesired(primary, context);
           throwIfNull(desired, primary, "Desired");
           logForOperation("Creating", primary, desired);
           var createdResource = handleCreate(desired, primary, context);
+          setDesiredStateMatched(primary, createdResource, context);
           return ReconcileResult.resourceCreated(createdResource);
         }
       } else {
         if (updatable) {
+          if (isDesiredStateMatched(primary, actualResource, context)) {
+            log.debug(
+                "Update skipped for dependent {} as it already matched the unchanged desired state",
+                ResourceID.fromResource((HasMetadata) actualResource));
+            return ReconcileResult.noOperation(actualResource);
+          }
           final Matcher.Result<R> match = match(actualResource, primary, context);
           if (!match.matched()) {
-            final var desired = match.computedDesired().orElseGet(() -> desired(primary, context));
+            final var desired =
+                match.computedDesired().orElseGet(() -> getOrComputeDesired(primary, context));
             throwIfNull(desired, primary, "Desired");
             logForOperation("Updating", primary, desired);
             var updatedResource = handleUpdate(actualResource, desired, primary, context);
+            setDesiredStateMatched(primary, updatedResource, context);
             return ReconcileResult.resourceUpdated(updatedResource);
           } else {
+            setDesiredStateMatched(primary, actualResource, context);
             log.debug("Update skipped for dependent {} as it matched the existing one",
                 actualResource instanceof HasMetadata
                     ? ResourceID.fromResource((HasMetadata) actualResource)
@@ -156,6 +170,92 @@ public abstract class AbstractDependentResource<R, P extends HasMetadata>
         "desired method must be implemented if this DependentResource can be created and/or updated");
   }
 
+  /**
+   * Whether the desired state computed by {@link #desired(HasMetadata, Context)} should be cached
+   * for each primary resource, which is disabled by default. When enabled, the desired state is
+   * only computed again when the generation of the primary resource or the versions returned by
+   * {@link #desiredStateInputVersions(HasMetadata, Context)} change. Moreover, matching is skipped
+   * if the actual resource didn't change since it was last found to match the desired state, so
+   * that reconciliations in a steady state neither compute the desired state nor match it.
+   * <p>
+   * This should only be enabled if the desired state only depends on the spec of the primary
+   * resource, which changes its generation, and on the declared inputs: changes to the metadata of
+   * the primary resource or to other resources would otherwise be missed. Only desired states which
+   * are Kubernetes resources are cached, since they are copied using the configured
+   * {@link io.javaoperatorsdk.operator.api.config.Cloner}.
+   *
+   * @return {@code true} to cache the desired state, {@code false} otherwise
+   */
+  protected boolean isDesiredStateCacheEnabled() {
+    return false;
+  }
+
+  /**
+   * Versions of the inputs, other than the spec of the primary resource, the desired state depends
+   * on, for example the resource versions of secondary resources used to compute it. The cached
+   * desired state is discarded when these versions change. Only used if
+   * {@link #isDesiredStateCacheEnabled()} returns {@code true}.
+   *
+   * @param primary the primary resource for which the desired state is computed
+   * @param context the current {@link Context}
+   * @return the versions of the inputs of the desired state, an empty list by default
+   */
+  protected List<String> desiredStateInputVersions(P primary, Context<P> context) {
+    return Collections.emptyList();
+  }
+
+  /**
+   * Retrieves the desired state for the specified primary resource, either from the desired state
+   * cache if enabled and up-to-date, or by calling {@link #desired(HasMetadata, Context)}.
+   *
+   * @param primary the primary resource for which the desired state is requested
+   * @param context the current {@link Context}
+   * @return the desired state
+   */
+  protected R getOrComputeDesired(P primary, Context<P> context) {
+    final var key = desiredStateKey(primary, context);
+    if (key == null) {
+      return desired(primary, context);
+    }
+    final var cloner =
+        context.getControllerConfiguration().getConfigurationService().getResourceCloner();
+    return desiredStateCache.getDesired(key, cloner).orElseGet(() -> {
+      final var desired = desired(primary, context);
+      desiredStateCache.putDesired(key, desired, cloner);
+      return desired;
+    });
+  }
+
+  private boolean isDesiredStateMatched(P primary, R actual, Context<P> context) {
+    final var key = desiredStateKey(primary, context);
+    return key != null && actual instanceof HasMetadata
+        && desiredStateCache.isMatched(key,
+            ((HasMetadata) actual).getMetadata().getResourceVersion());
+  }
+
+  private void setDesiredStateMatched(P primary, R actual, Context<P> context) {
+    final var key = desiredStateKey(primary, context);
+    if (key != null && actual instanceof HasMetadata) {
+      desiredStateCache.setMatched(key, ((HasMetadata) actual).getMetadata().getResourceVersion());
+    }
+  }
+
+  private DesiredStateCache.Key desiredStateKey(P primary, Context<P> context) {
+    if (!isDesiredStateCacheEnabled() || primary.getMetadata().getUid() == null) {
+      return null;
+    }
+    return new DesiredStateCache.Key(primary.getMetadata().getUid(),
+        primary.getMetadata().getGeneration(), desiredStateInputVersions(primary, context));
+  }
+
+  @Override
+  public void onResourceDeleted(P primary) {
+    final var uid = primary.getMetadata().getUid();
+    if (uid != null) {
+      desiredStateCache.remove(uid);
+    }
+  }
+
   public void delete(P primary, Context<P> context) {
     dependentResourceReconciler.delete(primary, context);
   }
@@ -78,7 +78,7 @@ public abstract class AbstractExternalDependentResource<R, P extends HasMetadata
 
   @Override
   public Matcher.Result<R> match(R resource, P primary, Context<P> context) {
-    var desired = desired(primary, context);
+    var desired = getOrComputeDesired(primary, context);
     return Matcher.Result.computed(resource.equals(desired), desired);
   }
 
@@ -0,0 +1,115 @@
+package io.javaoperatorsdk.operator.processing.dependent;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+
+import io.fabric8.kubernetes.api.model.HasMetadata;
+import io.javaoperatorsdk.operator.api.config.Cloner;
+
+/**
+ * Caches, for each primary resource, the desired state of a dependent resource along with the
+ * version of the actual resource which was last found to match it. Entries are valid for a given
+ * {@link Key}, i.e. as long as the generation of the primary resource and the declared input
+ * versions don't change.
+ * <p>
+ * Desired states are stored as copies, and copies are returned, since desired resources get
+ * modified while being created, updated or matched. Only desired states which are Kubernetes
+ * resources are therefore cached.
+ *
+ * @param <R> the dependent resource type
+ */
+class DesiredStateCache<R> {
+
+  private final Map<String, Entry<R>> entries = new ConcurrentHashMap<>();
+
+  Optional<R> getDesired(Key key, Cloner cloner) {
+    final var entry = entries.get(key.primaryUID);
+    if (entry == null || !entry.key.equals(key) || entry.desired == null) {
+      return Optional.empty();
+    }
+    return Optional.of(copy(entry.desired, cloner));
+  }
+
+  void putDesired(Key key, R desired, Cloner cloner) {
+    if (desired instanceof HasMetadata) {
+      entries.put(key.primaryUID, new Entry<>(key, copy(desired, cloner)));
+    }
+  }
+
+  /**
+   * @param key the current key for the primary resource
+   * @param actualVersion the resource version of the actual dependent resource
+   * @return {@code true} if the actual resource with the specified version was already found to
+   *         match the desired state for the specified key
+   */
+  boolean isMatched(Key key, String actualVersion) {
+    final var entry = entries.get(key.primaryUID);
+    return actualVersion != null && entry != null && entry.key.equals(key)
+        && actualVersion.equals(entry.matchedVersion);
+  }
+
+  void setMatched(Key key, String actualVersion) {
+    final var entry = entries.compute(key.primaryUID,
+        (uid, existing) -> existing != null && existing.key.equals(key) ? existing
+            : new Entry<>(key, null));
+    entry.matchedVersion = actualVersion;
+  }
+
+  void remove(String primaryUID) {
+    entries.remove(primaryUID);
+  }
+
+  int size() {
+    return entries.size();
+  }
+
+  @SuppressWarnings("unchecked")
+  private R copy(R desired, Cloner cloner) {
+    return (R) cloner.clone((HasMetadata) desired);
+  }
+
+  static class Key {
+    private final String primaryUID;
+    private final Long primaryGeneration;
+    private final List<String> inputVersions;
+
+    Key(String primaryUID, Long primaryGeneration, List<String> inputVersions) {
+      this.primaryUID = Objects.requireNonNull(primaryUID);
+      this.primaryGeneration = primaryGeneration;
+      this.inputVersions = inputVersions;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+      if (this == o) {
+        return true;
+      }
+      if (o == null || getClass() != o.getClass()) {
+        return false;
+      }
+      Key key = (Key) o;
+      return primaryUID.equals(key.primaryUID)
+          && Objects.equals(primaryGeneration, key.primaryGeneration)
+          && Objects.equals(inputVersions, key.inputVersions);
+    }
+
+    @Override
+    public int hashCode() {
+      return Objects.hash(primaryUID, primaryGeneration, inputVersions);
+    }
+  }
+
+  private static class Entry<R> {
+    private final Key key;
+    private final R desired;
+    private volatile String matchedVersion;
+
+    private Entry(Key key, R desired) {
+      this.key = key;
+      this.desired = desired;
+    }
+  }
+}
@@ -88,4 +88,26 @@ public @interface KubernetesDependent {
    *         global configuration
    */
   BooleanWithUndefined useSSA() default BooleanWithUndefined.UNDEFINED;
+
+  /**
+   * Only caches the metadata of the dependent resources, which drastically reduces the memory used
+   * by the informer, see
+   * {@link io.javaoperatorsdk.operator.api.config.informer.InformerConfiguration#isMetadataOnly()}.
+   * Only supported for read-only dependent resources, since the cached resources cannot be matched
+   * against a desired state.
+   *
+   * @return {@code true} if only the metadata of the dependent resources should be cached
+   */
+  boolean metadataOnly() default false;
+
+  /**
+   * Fields to drop from the dependent resources before they are cached, as JSON pointers, e.g.
+   * {@code /metadata/managedFields}, see
+   * {@link io.javaoperatorsdk.operator.api.config.ResourceConfiguration#getPrunedFields()}. The
+   * managed fields are kept anyway for dependent resources updated using SSA, since they are needed
+   * to match the actual resources against the desired state.
+   *
+   * @return the JSON pointers to the fields to drop from the cached dependent resources
+   */
+  String[] prunedFields() default {};
 }
@@ -35,6 +35,8 @@ public class KubernetesDependentConverter<R extends HasMetadata, P extends HasMe
     GenericFilter<? extends HasMetadata> genericFilter = null;
     ResourceDiscriminator<?, ?> resourceDiscriminator = null;
     Boolean useSSA = null;
+    var metadataOnly = false;
+    Set<String> prunedFields = null;
     if (configAnnotation != null) {
       if (!Arrays.equals(KubernetesDependent.DEFAULT_NAMESPACES, configAnnotation.namespaces())) {
         namespaces = Set.of(configAnnotation.namespaces());
@@ -60,10 +62,13 @@ public class KubernetesDependentConverter<R extends HasMetadata, P extends HasMe
       createResourceOnlyIfNotExistingWithSSA =
           configAnnotation.createResourceOnlyIfNotExistingWithSSA();
       useSSA = configAnnotation.useSSA().asBoolean();
+      metadataOnly = configAnnotation.metadataOnly();
+      prunedFields = Set.of(configAnnotation.prunedFields());
     }
 
     return new KubernetesDependentResourceConfig(namespaces, labelSelector, configuredNS,
         createResourceOnlyIfNotExistingWithSSA,
-        resourceDiscriminator, useSSA, onAddFilter, onUpdateFilter, onDeleteFilter, genericFilter);
+        resourceDiscriminator, useSSA, onAddFilter, onUpdateFilter, onDeleteFilter, genericFilter,
+        metadataOnly, prunedFields);
   }
 }
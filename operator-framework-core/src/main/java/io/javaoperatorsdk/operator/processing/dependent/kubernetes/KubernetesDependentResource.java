@@ -1,8 +1,10 @@
 package io.javaoperatorsdk.operator.processing.dependent.kubernetes;
 
+import java.util.Collections;
 import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
+import java.util.stream.Collectors;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -35,7 +37,10 @@ public abstract class KubernetesDependentResource<R extends HasMetadata, P exten
     implements DependentResourceConfigurator<KubernetesDependentResourceConfig<R>> {
 
   private static final Logger log = LoggerFactory.getLogger(KubernetesDependentResource.class);
+  private static final String MANAGED_FIELDS = "/metadata/managedFields";
   private final ResourceUpdaterMatcher<R> updaterMatcher;
+  private final SSABasedGenericKubernetesResourceMatcher<R> ssaMatcher =
+      new SSABasedGenericKubernetesResourceMatcher<>(true);
   private final boolean garbageCollected = this instanceof GarbageCollected;
   private KubernetesDependentResourceConfig<R> kubernetesDependentResourceConfig;
   private volatile Boolean useSSA;
@@ -60,7 +65,13 @@ public abstract class KubernetesDependentResource<R extends HasMetadata, P exten
   }
 
   private void configureWith(String labelSelector, Set<String> namespaces,
-      boolean inheritNamespacesOnChange, EventSourceContext<P> context) {
+      boolean inheritNamespacesOnChange, boolean metadataOnly, Set<String> prunedFields,
+      EventSourceContext<P> context) {
+    if (metadataOnly && (isCreatable() || isUpdatable())) {
+      throw new OperatorException("Only read-only dependent resources can cache the metadata of "
+          + "their resources only, since the cached resources cannot be matched against a desired "
+          + "state. DependentResource: " + getClass().getName());
+    }
 
     if (namespaces.equals(Constants.SAME_AS_CONTROLLER_NAMESPACES_SET)) {
       namespaces = context.getControllerConfiguration().getNamespaces();
@@ -70,11 +81,33 @@ public abstract class KubernetesDependentResource<R extends HasMetadata, P exten
         .withLabelSelector(labelSelector)
         .withSecondaryToPrimaryMapper(getSecondaryToPrimaryMapper())
         .withNamespaces(namespaces, inheritNamespacesOnChange)
+        .withMetadataOnly(metadataOnly)
+        .withPrunedFields(ensureMatchableWhenPruned(prunedFields, context))
         .build();
 
     configureWith(new InformerEventSource<>(ic, context));
   }
 
+  private Set<String> ensureMatchableWhenPruned(Set<String> prunedFields,
+      EventSourceContext<P> context) {
+    if (prunedFields.isEmpty() || !isUpdatable() || !context.getControllerConfiguration()
+        .getConfigurationService()
+        .shouldUseSSA(getClass(), resourceType(), configuration().orElse(null))) {
+      return prunedFields;
+    }
+    // the SSA matcher needs the managed fields to know which fields of the actual resource to
+    // compare with the desired state
+    final var kept = prunedFields.stream()
+        .filter(f -> !f.equals(MANAGED_FIELDS) && !f.startsWith(MANAGED_FIELDS + "/"))
+        .collect(Collectors.toSet());
+    if (kept.size() != prunedFields.size()) {
+      log.warn("Not pruning managed fields of {} resources since they are needed to match them "
+          + "using SSA. DependentResource: {}", resourceType().getSimpleName(),
+          getClass().getName());
+    }
+    return kept;
+  }
+
   // just to seamlessly handle GenericKubernetesDependentResource
   protected InformerConfiguration.InformerConfigurationBuilder<R> informerConfigurationBuilder() {
     return InformerConfiguration.from(resourceType());
@@ -103,6 +136,13 @@ public abstract class KubernetesDependentResource<R extends HasMetadata, P exten
     setEventSource(informerEventSource);
   }
 
+  @Override
+  protected void setEventSource(InformerEventSource<R, P> eventSource) {
+    super.setEventSource(eventSource);
+    // parsed managed fields are only needed as long as the resource exists
+    eventSource.addDeletionListener(ssaMatcher::forget);
+  }
+
   @SuppressWarnings("unused")
   public R create(R desired, P primary, Context<P> context) {
     if (useSSA(context)) {
@@ -146,7 +186,7 @@ public abstract class KubernetesDependentResource<R extends HasMetadata, P exten
 
   @Override
   public Result<R> match(R actualResource, P primary, Context<P> context) {
-    final var desired = desired(primary, context);
+    final var desired = getOrComputeDesired(primary, context);
     return match(actualResource, desired, primary, updaterMatcher, context);
   }
 
@@ -163,8 +203,7 @@ public abstract class KubernetesDependentResource<R extends HasMetadata, P exten
     final boolean matches;
     addMetadata(true, actualResource, desired, primary, context);
     if (useSSA(context)) {
-      matches = SSABasedGenericKubernetesResourceMatcher.getInstance()
-          .matches(actualResource, desired, context);
+      matches = ssaMatcher.matches(actualResource, desired, context);
     } else {
       matches = matcher.matches(actualResource, desired, context);
     }
@@ -250,10 +289,12 @@ public abstract class KubernetesDependentResource<R extends HasMetadata, P exten
       }
       configureWith(kubernetesDependentResourceConfig.labelSelector(),
           kubernetesDependentResourceConfig.namespaces(),
-          !kubernetesDependentResourceConfig.wereNamespacesConfigured(), context);
+          !kubernetesDependentResourceConfig.wereNamespacesConfigured(),
+          kubernetesDependentResourceConfig.metadataOnly(),
+          kubernetesDependentResourceConfig.prunedFields(), context);
     } else {
       configureWith(null, context.getControllerConfiguration().getNamespaces(),
-          true, context);
+          true, false, Collections.emptySet(), context);
       log.warn(
           "Using default configuration for {} KubernetesDependentResource, call configureWith to provide configuration",
           resourceType().getSimpleName());
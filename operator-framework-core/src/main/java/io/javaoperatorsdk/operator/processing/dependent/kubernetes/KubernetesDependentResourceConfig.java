@@ -1,5 +1,6 @@
 package io.javaoperatorsdk.operator.processing.dependent.kubernetes;
 
+import java.util.Collections;
 import java.util.Optional;
 import java.util.Set;
 
@@ -22,6 +23,8 @@ public class KubernetesDependentResourceConfig<R> {
   private final boolean createResourceOnlyIfNotExistingWithSSA;
   private final ResourceDiscriminator<R, ?> resourceDiscriminator;
   private final Boolean useSSA;
+  private final boolean metadataOnly;
+  private final Set<String> prunedFields;
 
   private final OnAddFilter<R> onAddFilter;
   private final OnUpdateFilter<R> onUpdateFilter;
@@ -44,6 +47,21 @@ public class KubernetesDependentResourceConfig<R> {
       OnAddFilter<R> onAddFilter,
       OnUpdateFilter<R> onUpdateFilter,
       OnDeleteFilter<R> onDeleteFilter, GenericFilter<R> genericFilter) {
+    this(namespaces, labelSelector, configuredNS, createResourceOnlyIfNotExistingWithSSA,
+        resourceDiscriminator, useSSA, onAddFilter, onUpdateFilter, onDeleteFilter, genericFilter,
+        false, null);
+  }
+
+  public KubernetesDependentResourceConfig(Set<String> namespaces,
+      String labelSelector,
+      boolean configuredNS,
+      boolean createResourceOnlyIfNotExistingWithSSA,
+      ResourceDiscriminator<R, ?> resourceDiscriminator,
+      Boolean useSSA,
+      OnAddFilter<R> onAddFilter,
+      OnUpdateFilter<R> onUpdateFilter,
+      OnDeleteFilter<R> onDeleteFilter, GenericFilter<R> genericFilter, boolean metadataOnly,
+      Set<String> prunedFields) {
     this.namespaces = namespaces;
     this.labelSelector = labelSelector;
     this.namespacesWereConfigured = configuredNS;
@@ -54,6 +72,8 @@ public class KubernetesDependentResourceConfig<R> {
     this.genericFilter = genericFilter;
     this.resourceDiscriminator = resourceDiscriminator;
     this.useSSA = useSSA;
+    this.metadataOnly = metadataOnly;
+    this.prunedFields = prunedFields != null ? prunedFields : Collections.emptySet();
   }
 
   // use builder instead
@@ -119,4 +139,12 @@ public class KubernetesDependentResourceConfig<R> {
   public Optional<Boolean> useSSA() {
     return Optional.ofNullable(useSSA);
   }
+
+  public boolean metadataOnly() {
+    return metadataOnly;
+  }
+
+  public Set<String> prunedFields() {
+    return prunedFields;
+  }
 }
@@ -20,6 +20,8 @@ public final class KubernetesDependentResourceConfigBuilder<R> {
   private OnUpdateFilter<R> onUpdateFilter;
   private OnDeleteFilter<R> onDeleteFilter;
   private GenericFilter<R> genericFilter;
+  private boolean metadataOnly;
+  private Set<String> prunedFields;
 
   public KubernetesDependentResourceConfigBuilder() {}
 
@@ -77,10 +79,20 @@ public final class KubernetesDependentResourceConfigBuilder<R> {
     return this;
   }
 
+  public KubernetesDependentResourceConfigBuilder<R> withMetadataOnly(boolean metadataOnly) {
+    this.metadataOnly = metadataOnly;
+    return this;
+  }
+
+  public KubernetesDependentResourceConfigBuilder<R> withPrunedFields(Set<String> prunedFields) {
+    this.prunedFields = prunedFields;
+    return this;
+  }
+
   public KubernetesDependentResourceConfig<R> build() {
     return new KubernetesDependentResourceConfig<>(namespaces, labelSelector,
         namespaces != Constants.SAME_AS_CONTROLLER_NAMESPACES_SET,
         createResourceOnlyIfNotExistingWithSSA, resourceDiscriminator, useSSA, onAddFilter,
-        onUpdateFilter, onDeleteFilter, genericFilter);
+        onUpdateFilter, onDeleteFilter, genericFilter, metadataOnly, prunedFields);
   }
 }
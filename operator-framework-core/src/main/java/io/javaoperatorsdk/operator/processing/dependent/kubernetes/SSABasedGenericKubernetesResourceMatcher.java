@@ -4,6 +4,7 @@ import java.util.AbstractMap;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Map.Entry;
@@ -11,6 +12,7 @@ import java.util.Objects;
 import java.util.Optional;
 import java.util.Set;
 import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.stream.Collectors;
 
 import org.slf4j.Logger;
@@ -34,9 +36,16 @@ import static io.javaoperatorsdk.operator.processing.dependent.kubernetes.Resour
  * Matches the actual state on the server vs the desired state. Based on the managedFields of SSA.
  * <p>
  * The basis of the algorithm is to extract the managed fields by converting resources to a Map/List
- * composition. The actual resource (from the server) is pruned, all the fields which are not
- * mentioned in managedFields of the target manager are removed. Some irrelevant fields are also
- * removed from the desired resource. Finally, the two resulting maps are compared for equality.
+ * composition. The actual resource (from the server) is restricted to the fields which are
+ * mentioned in managedFields of the target manager, some irrelevant fields are also removed from
+ * the desired resource, and the two resulting maps are compared for equality. The comparison is
+ * done while walking the managedFields, stopping at the first difference, so that no pruned copy of
+ * the actual resource needs to be built.
+ * <p>
+ * Matchers created with caching enabled moreover keep, for each resource, the parsed managedFields
+ * and the converted actual map for the last seen resource version, as well as the converted desired
+ * map for as long as the desired resource is equal to the last one matched, so that resources are
+ * only converted again when they change.
  * <p>
  * The implementation is a bit nasty since we have to deal with some specific cases of managedFields
  * formats.
@@ -54,7 +63,7 @@ public class SSABasedGenericKubernetesResourceMatcher<R extends HasMetadata> {
 
   @SuppressWarnings("rawtypes")
   private static final SSABasedGenericKubernetesResourceMatcher INSTANCE =
-      new SSABasedGenericKubernetesResourceMatcher<>();
+      new SSABasedGenericKubernetesResourceMatcher<>(false);
   private static final List<String> IGNORED_METADATA =
       List.of("creationTimestamp", "deletionTimestamp", "generation", "selfLink", "uid");
 
@@ -75,10 +84,26 @@ public class SSABasedGenericKubernetesResourceMatcher<R extends HasMetadata> {
   private static final Logger log =
       LoggerFactory.getLogger(SSABasedGenericKubernetesResourceMatcher.class);
 
+  // converted states by resource UID, see actualStateFor and desiredMapFor, null if not caching
+  private final Map<String, CachedStates> cache;
+
+  public SSABasedGenericKubernetesResourceMatcher() {
+    this(false);
+  }
+
+  /**
+   * @param cacheStates whether parsed managed fields and converted states should be kept per
+   *        resource until the resource changes or {@link #forget(HasMetadata)} is called for it.
+   *        The owner of the matcher is responsible for forgetting deleted resources.
+   */
+  SSABasedGenericKubernetesResourceMatcher(boolean cacheStates) {
+    cache = cacheStates ? new ConcurrentHashMap<>() : null;
+  }
+
   @SuppressWarnings("unchecked")
   public boolean matches(R actual, R desired, Context<?> context) {
-    var optionalManagedFieldsEntry = checkIfFieldManagerExists(actual,
-        context.getControllerConfiguration().fieldManager());
+    final var fieldManager = context.getControllerConfiguration().fieldManager();
+    var optionalManagedFieldsEntry = checkIfFieldManagerExists(actual, fieldManager);
     // If no field is managed by our controller, that means the controller hasn't touched the
     // resource yet and the resource probably doesn't match the desired state. Not matching here
     // means that the resource will need to be updated and since this will be done using SSA, the
@@ -90,25 +115,116 @@ public class SSABasedGenericKubernetesResourceMatcher<R extends HasMetadata> {
     var managedFieldsEntry = optionalManagedFieldsEntry.orElseThrow();
 
     var objectMapper = context.getClient().getKubernetesSerialization();
-    var actualMap = objectMapper.convertValue(actual, Map.class);
-    var desiredMap = objectMapper.convertValue(desired, Map.class);
+    var states = cachedStatesFor(actual);
+    var actualState =
+        actualStateFor(states, actual, fieldManager, managedFieldsEntry, objectMapper);
+    // the actual map is shared when cached, it's therefore copied if it needs to be sanitized
+    var actualMap = needsSanitizing(actual) ? copyOf(actualState.actualMap) : actualState.actualMap;
+    var desiredMap = desiredMapFor(states, desired, context, objectMapper);
     if (LoggingUtils.isNotSensitiveResource(desired)) {
-      log.trace("Original actual:\n {}\n original desired:\n {}", actualMap, desiredMap);
+      log.trace("Original actual:\n {}\n desired:\n {}", actualMap, desiredMap);
     }
 
     sanitizeState(actual, desired, actualMap);
-    var prunedActual = new HashMap<String, Object>(actualMap.size());
-    keepOnlyManagedFields(prunedActual, actualMap,
-        managedFieldsEntry.getFieldsV1().getAdditionalProperties(),
-        objectMapper);
-
-    removeIrrelevantValues(desiredMap);
 
     if (LoggingUtils.isNotSensitiveResource(desired)) {
-      log.debug("Pruned actual: \n {} \n desired: \n {} ", prunedActual, desiredMap);
+      log.debug("Managed fields: \n {} \n desired: \n {} ",
+          managedFieldsEntry.getFieldsV1().getAdditionalProperties(), desiredMap);
+    }
+
+    return actualState.managedFields.matches(actualMap, desiredMap, objectMapper);
+  }
+
+  /**
+   * Removes the states cached for the specified resource, typically once it was deleted.
+   *
+   * @param resource the resource to forget
+   */
+  void forget(HasMetadata resource) {
+    final var uid = resource.getMetadata().getUid();
+    if (cache != null && uid != null) {
+      cache.remove(uid);
+    }
+  }
+
+  private CachedStates cachedStatesFor(R actual) {
+    final var uid = actual.getMetadata().getUid();
+    if (cache == null || uid == null) {
+      return null;
+    }
+    return cache.computeIfAbsent(uid, k -> new CachedStates());
+  }
+
+  /**
+   * Retrieves the parsed managed fields of the specified field manager along with the actual
+   * resource converted to a map. Since both only change when the resource changes, they are
+   * computed once per resource version and cached if caching is enabled.
+   */
+  @SuppressWarnings("unchecked")
+  private ActualState actualStateFor(CachedStates states, R actual, String fieldManager,
+      ManagedFieldsEntry managedFieldsEntry, KubernetesSerialization objectMapper) {
+    final var resourceVersion = actual.getMetadata().getResourceVersion();
+    if (states != null && resourceVersion != null) {
+      final var cached = states.actual;
+      if (cached != null && cached.resourceVersion.equals(resourceVersion)
+          && cached.fieldManager.equals(fieldManager)) {
+        return cached;
+      }
+    }
+    final var actualState = new ActualState(resourceVersion, fieldManager,
+        ManagedFields.parse(managedFieldsEntry.getFieldsV1().getAdditionalProperties(),
+            objectMapper),
+        objectMapper.convertValue(actual, Map.class));
+    if (states != null && resourceVersion != null) {
+      states.actual = actualState;
+    }
+    return actualState;
+  }
+
+  /**
+   * Converts the desired resource to a map, without the values which are irrelevant for matching.
+   * If caching is enabled, the map is reused for as long as the desired resource is equal to the
+   * one it was converted from, a copy of which is kept for that purpose.
+   */
+  @SuppressWarnings("unchecked")
+  private Map<String, Object> desiredMapFor(CachedStates states, R desired, Context<?> context,
+      KubernetesSerialization objectMapper) {
+    if (states != null) {
+      final var cached = states.desired;
+      if (cached != null && cached.desired.equals(desired)) {
+        return cached.desiredMap;
+      }
+    }
+    Map<String, Object> desiredMap = objectMapper.convertValue(desired, Map.class);
+    removeIrrelevantValues(desiredMap);
+    if (states != null) {
+      final var copy = context.getControllerConfiguration().getConfigurationService()
+          .getResourceCloner().clone(desired);
+      states.desired = new DesiredState(copy, desiredMap);
     }
+    return desiredMap;
+  }
 
-    return prunedActual.equals(desiredMap);
+  private static boolean needsSanitizing(HasMetadata actual) {
+    return actual instanceof StatefulSet || actual instanceof Deployment
+        || actual instanceof ReplicaSet || actual instanceof DaemonSet;
+  }
+
+  @SuppressWarnings("unchecked")
+  private static <T> T copyOf(T value) {
+    if (value instanceof Map) {
+      var map = (Map<String, Object>) value;
+      var copy = new LinkedHashMap<String, Object>(map.size());
+      map.forEach((key, nested) -> copy.put(key, copyOf(nested)));
+      return (T) copy;
+    } else if (value instanceof List) {
+      var list = (List<Object>) value;
+      var copy = new ArrayList<>(list.size());
+      list.forEach(element -> copy.add(copyOf(element)));
+      return (T) copy;
+    }
+    // other values of converted resources are immutable
+    return value;
   }
 
   /**
@@ -163,136 +279,16 @@ public class SSABasedGenericKubernetesResourceMatcher<R extends HasMetadata> {
     desiredMap.remove(API_VERSION_KEY);
   }
 
-  @SuppressWarnings("unchecked")
-  private static void keepOnlyManagedFields(Map<String, Object> result,
-      Map<String, Object> actualMap,
-      Map<String, Object> managedFields, KubernetesSerialization objectMapper) {
-    if (managedFields.isEmpty()) {
-      result.putAll(actualMap);
-      return;
-    }
-    for (var entry : managedFields.entrySet()) {
-      var key = entry.getKey();
-      if (key.startsWith(F_PREFIX)) {
-        var keyInActual = keyWithoutPrefix(key);
-        var managedFieldValue = (Map<String, Object>) entry.getValue();
-        if (isNestedValue(managedFieldValue)) {
-          var managedEntrySet = managedFieldValue.entrySet();
-          // two special cases "k:" and "v:" prefixes
-          if (isListKeyEntrySet(managedEntrySet)) {
-            handleListKeyEntrySet(result, actualMap, objectMapper, keyInActual, managedEntrySet);
-          } else if (isSetValueField(managedEntrySet)) {
-            handleSetValues(result, actualMap, objectMapper, keyInActual, managedEntrySet);
-          } else {
-            // basically if we should traverse further
-            fillResultsAndTraverseFurther(result, actualMap, managedFields, objectMapper, key,
-                keyInActual,
-                managedFieldValue);
-          }
-        } else {
-          // this should handle the case when the value is complex in the actual map (not just a
-          // simple value).
-          result.put(keyInActual, actualMap.get(keyInActual));
-        }
-      } else {
-        // .:{} is ignored, other should not be present
-        if (!DOT_KEY.equals(key)) {
-          throw new IllegalStateException("Key: " + key + " has no prefix: " + F_PREFIX);
-        }
-      }
-    }
-  }
-
-  @SuppressWarnings("unchecked")
-  private static void fillResultsAndTraverseFurther(Map<String, Object> result,
-      Map<String, Object> actualMap,
-      Map<String, Object> managedFields, KubernetesSerialization objectMapper, String key,
-      String keyInActual,
-      Object managedFieldValue) {
-    var emptyMapValue = new HashMap<String, Object>();
-    result.put(keyInActual, emptyMapValue);
-    var actualMapValue = actualMap.getOrDefault(keyInActual, Collections.emptyMap());
-    log.debug("key: {} actual map value: managedFieldValue: {}", keyInActual, managedFieldValue);
-    keepOnlyManagedFields(emptyMapValue, (Map<String, Object>) actualMapValue,
-        (Map<String, Object>) managedFields.get(key), objectMapper);
-  }
-
-  private static boolean isNestedValue(Map<?, ?> managedFieldValue) {
-    return !managedFieldValue.isEmpty();
-  }
-
-  /**
-   * List entries referenced by key, or when "k:" prefix is used. It works in a way that it selects
-   * the target element based on the field(s) in "k:" for example when there is a list of element of
-   * owner references, the uid can serve as a key for a list element:
-   * "k:{"uid":"1ef74cb4-dbbd-45ef-9caf-aa76186594ea"}". It selects the element and recursively
-   * processes it. Note that in these lists the order matters and seems that if there are more keys
-   * ("k:"), the ordering of those in the managed fields are not the same as the value order. So
-   * this also explicitly orders the result based on the value order in the resource not the key
-   * order in managed field.
-   */
-  @SuppressWarnings("unchecked")
-  private static void handleListKeyEntrySet(Map<String, Object> result,
-      Map<String, Object> actualMap,
-      KubernetesSerialization objectMapper, String keyInActual,
-      Set<Entry<String, Object>> managedEntrySet) {
-    var valueList = new ArrayList<>();
-    result.put(keyInActual, valueList);
-    var actualValueList = (List<Map<String, Object>>) actualMap.get(keyInActual);
-
-    var targetValuesByIndex = new TreeMap<Integer, Map<String, Object>>();
-    var managedEntryByIndex = new HashMap<Integer, Map<String, Object>>();
-
-    for (var listEntry : managedEntrySet) {
-      if (DOT_KEY.equals(listEntry.getKey())) {
-        continue;
-      }
-      var actualListEntry =
-          selectListEntryBasedOnKey(keyWithoutPrefix(listEntry.getKey()), actualValueList,
-              objectMapper);
-      targetValuesByIndex.put(actualListEntry.getKey(), actualListEntry.getValue());
-      managedEntryByIndex.put(actualListEntry.getKey(), (Map<String, Object>) listEntry.getValue());
-    }
-
-    targetValuesByIndex.forEach((key, value) -> {
-      var emptyResMapValue = new HashMap<String, Object>();
-      valueList.add(emptyResMapValue);
-      keepOnlyManagedFields(emptyResMapValue, value, managedEntryByIndex.get(key), objectMapper);
-    });
-  }
-
-  /**
-   * Set values, the {@code "v:"} prefix. Form in managed fields:
-   * {@code "f:some-set":{"v:1":{}},"v:2":{},"v:3":{}}.
-   * <p>
-   * Note that this should be just used in very rare cases, actually was not able to produce a
-   * sample. Kubernetes developers who worked on this feature were not able to provide one either
-   * when prompted. Basically this method just adds the values from {@code "v:<value>"} to the
-   * result.
-   */
-  private static void handleSetValues(Map<String, Object> result, Map<String, Object> actualMap,
-      KubernetesSerialization objectMapper, String keyInActual,
-      Set<Entry<String, Object>> managedEntrySet) {
-    var valueList = new ArrayList<>();
-    result.put(keyInActual, valueList);
-    for (var valueEntry : managedEntrySet) {
-      // not clear if this can happen
-      if (DOT_KEY.equals(valueEntry.getKey())) {
-        continue;
-      }
-      var values = (List<?>) actualMap.get(keyInActual);
-      var targetClass = (values.get(0) instanceof Map) ? null : values.get(0).getClass();
-      var value = parseKeyValue(keyWithoutPrefix(valueEntry.getKey()), targetClass, objectMapper);
-      valueList.add(value);
-    }
-  }
-
   public static Object parseKeyValue(String stringValue, Class<?> targetClass,
       KubernetesSerialization objectMapper) {
     var type = Objects.requireNonNullElse(targetClass, Map.class);
     return objectMapper.unmarshal(stringValue.trim(), type);
   }
 
+  private static boolean isNestedValue(Map<?, ?> managedFieldValue) {
+    return !managedFieldValue.isEmpty();
+  }
+
   private static boolean isSetValueField(Set<Map.Entry<String, Object>> managedEntrySet) {
     return isKeyPrefixedSkippingDotKey(managedEntrySet, V_PREFIX);
   }
@@ -316,11 +312,8 @@ public class SSABasedGenericKubernetesResourceMatcher<R extends HasMetadata> {
     return managedFieldEntry.getKey().startsWith(prefix);
   }
 
-  @SuppressWarnings("unchecked")
   private static Map.Entry<Integer, Map<String, Object>> selectListEntryBasedOnKey(
-      String key,
-      List<Map<String, Object>> values, KubernetesSerialization objectMapper) {
-    Map<String, Object> ids = objectMapper.unmarshal(key, Map.class);
+      Map<String, Object> ids, List<Map<String, Object>> values) {
     var possibleTargets = new ArrayList<Map<String, Object>>(1);
     int lastIndex = -1;
     for (int i = 0; i < values.size(); i++) {
@@ -331,12 +324,12 @@ public class SSABasedGenericKubernetesResourceMatcher<R extends HasMetadata> {
       }
     }
     if (possibleTargets.isEmpty()) {
-      throw new IllegalStateException("Cannot find list element for key: " + key + ", in map: "
+      throw new IllegalStateException("Cannot find list element for key: " + ids + ", in map: "
           + values.stream().map(Map::keySet).collect(Collectors.toList()));
     }
     if (possibleTargets.size() > 1) {
       throw new IllegalStateException(
-          "More targets found in list element for key: " + key + " in map: "
+          "More targets found in list element for key: " + ids + " in map: "
               + values.stream().map(Map::keySet).collect(Collectors.toList()));
     }
     return new AbstractMap.SimpleEntry<>(lastIndex, possibleTargets.get(0));
@@ -368,4 +361,220 @@ public class SSABasedGenericKubernetesResourceMatcher<R extends HasMetadata> {
   private static String keyWithoutPrefix(String key) {
     return key.substring(2);
   }
+
+  /**
+   * The parsed managed fields ({@code FieldsV1}) of a map: the managed field names, without their
+   * {@code "f:"} prefix, and how each of them is managed. No managed field means that the whole map
+   * is managed.
+   * <p>
+   * Matching compares the actual map, restricted to the managed fields, with the desired map,
+   * without building the restricted map, and stops at the first difference.
+   */
+  private static class ManagedFields {
+    private static final ManagedFields WHOLE_VALUE = new ManagedFields(Collections.emptyList());
+
+    private final List<ManagedField> fields;
+
+    private ManagedFields(List<ManagedField> fields) {
+      this.fields = fields;
+    }
+
+    @SuppressWarnings("unchecked")
+    private static ManagedFields parse(Map<String, Object> managedFields,
+        KubernetesSerialization objectMapper) {
+      if (managedFields.isEmpty()) {
+        return WHOLE_VALUE;
+      }
+      var fields = new ArrayList<ManagedField>(managedFields.size());
+      for (var entry : managedFields.entrySet()) {
+        var key = entry.getKey();
+        if (key.startsWith(F_PREFIX)) {
+          fields.add(ManagedField.parse(keyWithoutPrefix(key),
+              (Map<String, Object>) entry.getValue(), objectMapper));
+        } else {
+          // .:{} is ignored, other should not be present
+          if (!DOT_KEY.equals(key)) {
+            throw new IllegalStateException("Key: " + key + " has no prefix: " + F_PREFIX);
+          }
+        }
+      }
+      return new ManagedFields(fields);
+    }
+
+    @SuppressWarnings("unchecked")
+    private boolean matches(Map<String, Object> actualMap, Object desired,
+        KubernetesSerialization objectMapper) {
+      if (!(desired instanceof Map)) {
+        return false;
+      }
+      var desiredMap = (Map<String, Object>) desired;
+      if (fields.isEmpty()) {
+        return actualMap.equals(desiredMap);
+      }
+      if (fields.size() != desiredMap.size()) {
+        return false;
+      }
+      for (var field : fields) {
+        if (!desiredMap.containsKey(field.name)
+            || !field.matches(actualMap, desiredMap.get(field.name), objectMapper)) {
+          return false;
+        }
+      }
+      return true;
+    }
+  }
+
+  private static class ManagedField {
+    private final String name;
+    // managed sub-fields if the value is a map, null if the value is managed as a whole
+    private final ManagedFields nested;
+    // managed elements of a list by their key ("k:" prefix), null if the value is not such a list
+    private final List<Entry<Map<String, Object>, ManagedFields>> listElements;
+    // managed values of a set ("v:" prefix), null if the value is not a set
+    private final List<String> setValues;
+
+    private ManagedField(String name, ManagedFields nested,
+        List<Entry<Map<String, Object>, ManagedFields>> listElements, List<String> setValues) {
+      this.name = name;
+      this.nested = nested;
+      this.listElements = listElements;
+      this.setValues = setValues;
+    }
+
+    @SuppressWarnings("unchecked")
+    private static ManagedField parse(String name, Map<String, Object> managedFieldValue,
+        KubernetesSerialization objectMapper) {
+      if (!isNestedValue(managedFieldValue)) {
+        // this should handle the case when the value is complex in the actual map (not just a
+        // simple value).
+        return new ManagedField(name, null, null, null);
+      }
+      var managedEntrySet = managedFieldValue.entrySet();
+      // two special cases "k:" and "v:" prefixes
+      if (isListKeyEntrySet(managedEntrySet)) {
+        var listElements = new ArrayList<Entry<Map<String, Object>, ManagedFields>>();
+        for (var listEntry : managedEntrySet) {
+          if (DOT_KEY.equals(listEntry.getKey())) {
+            continue;
+          }
+          Map<String, Object> ids =
+              objectMapper.unmarshal(keyWithoutPrefix(listEntry.getKey()), Map.class);
+          listElements.add(new AbstractMap.SimpleImmutableEntry<>(ids, ManagedFields
+              .parse((Map<String, Object>) listEntry.getValue(), objectMapper)));
+        }
+        return new ManagedField(name, null, listElements, null);
+      } else if (isSetValueField(managedEntrySet)) {
+        var setValues = managedEntrySet.stream()
+            // not clear if this can happen
+            .filter(valueEntry -> !DOT_KEY.equals(valueEntry.getKey()))
+            .map(valueEntry -> keyWithoutPrefix(valueEntry.getKey()))
+            .collect(Collectors.toList());
+        return new ManagedField(name, null, null, setValues);
+      } else {
+        // basically if we should traverse further
+        return new ManagedField(name, ManagedFields.parse(managedFieldValue, objectMapper), null,
+            null);
+      }
+    }
+
+    @SuppressWarnings("unchecked")
+    private boolean matches(Map<String, Object> actualMap, Object desired,
+        KubernetesSerialization objectMapper) {
+      if (nested != null) {
+        var actualMapValue = actualMap.getOrDefault(name, Collections.emptyMap());
+        log.debug("key: {} actual map value: managedFieldValue: {}", name, actualMapValue);
+        return nested.matches((Map<String, Object>) actualMapValue, desired, objectMapper);
+      } else if (listElements != null) {
+        return matchesListElements((List<Map<String, Object>>) actualMap.get(name), desired,
+            objectMapper);
+      } else if (setValues != null) {
+        return parseSetValues((List<?>) actualMap.get(name), objectMapper).equals(desired);
+      } else {
+        return Objects.equals(actualMap.get(name), desired);
+      }
+    }
+
+    /**
+     * List entries referenced by key, or when "k:" prefix is used. It works in a way that it
+     * selects the target element based on the field(s) in "k:" for example when there is a list of
+     * element of owner references, the uid can serve as a key for a list element:
+     * "k:{"uid":"1ef74cb4-dbbd-45ef-9caf-aa76186594ea"}". It selects the element and recursively
+     * processes it. Note that in these lists the order matters and seems that if there are more
+     * keys ("k:"), the ordering of those in the managed fields are not the same as the value order.
+     * So this also explicitly orders the elements based on the value order in the resource not the
+     * key order in managed field.
+     */
+    private boolean matchesListElements(List<Map<String, Object>> actualValueList,
+        Object desired, KubernetesSerialization objectMapper) {
+      if (!(desired instanceof List)) {
+        return false;
+      }
+      var targetValuesByIndex = new TreeMap<Integer, Map<String, Object>>();
+      var managedEntryByIndex = new HashMap<Integer, ManagedFields>();
+      for (var listElement : listElements) {
+        var actualListEntry = selectListEntryBasedOnKey(listElement.getKey(), actualValueList);
+        targetValuesByIndex.put(actualListEntry.getKey(), actualListEntry.getValue());
+        managedEntryByIndex.put(actualListEntry.getKey(), listElement.getValue());
+      }
+      var desiredList = (List<?>) desired;
+      if (targetValuesByIndex.size() != desiredList.size()) {
+        return false;
+      }
+      int i = 0;
+      for (var target : targetValuesByIndex.entrySet()) {
+        if (!managedEntryByIndex.get(target.getKey()).matches(target.getValue(),
+            desiredList.get(i++), objectMapper)) {
+          return false;
+        }
+      }
+      return true;
+    }
+
+    /**
+     * Set values, the {@code "v:"} prefix. Form in managed fields:
+     * {@code "f:some-set":{"v:1":{}},"v:2":{},"v:3":{}}.
+     * <p>
+     * Note that this should be just used in very rare cases, actually was not able to produce a
+     * sample. Kubernetes developers who worked on this feature were not able to provide one either
+     * when prompted. Basically this method just returns the values from {@code "v:<value>"}.
+     */
+    private List<Object> parseSetValues(List<?> values, KubernetesSerialization objectMapper) {
+      var valueList = new ArrayList<>(setValues.size());
+      for (var setValue : setValues) {
+        var targetClass = (values.get(0) instanceof Map) ? null : values.get(0).getClass();
+        valueList.add(parseKeyValue(setValue, targetClass, objectMapper));
+      }
+      return valueList;
+    }
+  }
+
+  private static class CachedStates {
+    private volatile ActualState actual;
+    private volatile DesiredState desired;
+  }
+
+  private static class ActualState {
+    private final String resourceVersion;
+    private final String fieldManager;
+    private final ManagedFields managedFields;
+    private final Map<String, Object> actualMap;
+
+    private ActualState(String resourceVersion, String fieldManager, ManagedFields managedFields,
+        Map<String, Object> actualMap) {
+      this.resourceVersion = resourceVersion;
+      this.fieldManager = fieldManager;
+      this.managedFields = managedFields;
+      this.actualMap = actualMap;
+    }
+  }
+
+  private static class DesiredState {
+    private final HasMetadata desired;
+    private final Map<String, Object> desiredMap;
+
+    private DesiredState(HasMetadata desired, Map<String, Object> desiredMap) {
+      this.desired = desired;
+      this.desiredMap = desiredMap;
+    }
+  }
 }
@@ -2,10 +2,17 @@ package io.javaoperatorsdk.operator.processing.event;
 
 import java.net.HttpURLConnection;
 import java.time.Duration;
+import java.time.Instant;
+import java.time.format.DateTimeParseException;
 import java.util.HashMap;
 import java.util.Map;
 import java.util.Optional;
 import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -13,8 +20,10 @@ import org.slf4j.LoggerFactory;
 import io.fabric8.kubernetes.api.model.HasMetadata;
 import io.fabric8.kubernetes.client.KubernetesClientException;
 import io.javaoperatorsdk.operator.OperatorException;
+import io.javaoperatorsdk.operator.api.config.AdaptiveConcurrencyLimiter;
 import io.javaoperatorsdk.operator.api.config.ConfigurationService;
 import io.javaoperatorsdk.operator.api.config.ControllerConfiguration;
+import io.javaoperatorsdk.operator.api.config.VirtualThreads;
 import io.javaoperatorsdk.operator.api.monitoring.Metrics;
 import io.javaoperatorsdk.operator.api.reconciler.Constants;
 import io.javaoperatorsdk.operator.processing.LifecycleAware;
@@ -22,9 +31,11 @@ import io.javaoperatorsdk.operator.processing.MDCUtils;
 import io.javaoperatorsdk.operator.processing.event.rate.RateLimiter;
 import io.javaoperatorsdk.operator.processing.event.rate.RateLimiter.RateLimitState;
 import io.javaoperatorsdk.operator.processing.event.source.Cache;
+import io.javaoperatorsdk.operator.processing.event.source.cache.BoundedItemStore;
 import io.javaoperatorsdk.operator.processing.event.source.controller.ResourceAction;
 import io.javaoperatorsdk.operator.processing.event.source.controller.ResourceEvent;
 import io.javaoperatorsdk.operator.processing.event.source.timer.TimerEventSource;
+import io.javaoperatorsdk.operator.processing.retry.GradualRetry;
 import io.javaoperatorsdk.operator.processing.retry.Retry;
 import io.javaoperatorsdk.operator.processing.retry.RetryExecution;
 
@@ -34,8 +45,12 @@ public class EventProcessor<P extends HasMetadata> implements EventHandler, Life
 
   private static final Logger log = LoggerFactory.getLogger(EventProcessor.class);
   private static final long MINIMAL_RATE_LIMIT_RESCHEDULE_DURATION = 50;
+  private static final long RETRY_BUDGET_RESCHEDULE_DURATION = 1000;
+  private static final long NOT_SYNCED_RESCHEDULE_DURATION = 500;
+  private static final long MAX_NOT_SYNCED_RESCHEDULE_DURATION = 30_000;
 
   private volatile boolean running;
+  private volatile long startedAt;
   private final ControllerConfiguration<?> controllerConfiguration;
   private final ReconciliationDispatcher<P> reconciliationDispatcher;
   private final Retry retry;
@@ -43,9 +58,19 @@ public class EventProcessor<P extends HasMetadata> implements EventHandler, Life
   private final Cache<P> cache;
   private final EventSourceManager<P> eventSourceManager;
   private final RateLimiter<? extends RateLimitState> rateLimiter;
-  private final ResourceStateManager resourceStateManager = new ResourceStateManager();
+  private final boolean rateLimited;
+  private final ResourceStateManager resourceStateManager;
   private final Map<String, Object> metricsMetadata;
-  private ExecutorService executor;
+  private final ResourceLocks locks;
+  private final ReconciliationPrioritizer prioritizer;
+  private final ReconciliationQueue reconciliationQueue;
+  private final long eventCoalescingWindowMillis;
+  private final int maxConcurrentRetries;
+  private final boolean progressiveInformerReadiness;
+  private final AtomicInteger runningRetries = new AtomicInteger();
+  private final BoundedItemStore<P> boundedItemStore;
+  private volatile ExecutorService executor;
+  private volatile AdaptiveConcurrencyLimiter concurrencyLimiter;
 
   public EventProcessor(EventSourceManager<P> eventSourceManager,
       ConfigurationService configurationService) {
@@ -80,6 +105,27 @@ public class EventProcessor<P extends HasMetadata> implements EventHandler, Life
     this.metrics = metrics != null ? metrics : Metrics.NOOP;
     this.eventSourceManager = eventSourceManager;
     this.rateLimiter = controllerConfiguration.getRateLimiter();
+    // no need to track a rate limit state for each resource if rate limiting is deactivated
+    this.rateLimited = rateLimiter != null && rateLimiter.isActivated();
+    this.resourceStateManager =
+        new ResourceStateManager(controllerConfiguration.expectedResourceCount());
+    final var configurationService = controllerConfiguration.getConfigurationService();
+    this.locks = configurationService != null && configurationService.concurrentEventProcessing()
+        ? ResourceLocks.striped(ResourceLocks.DEFAULT_STRIPES)
+        : ResourceLocks.singleLock();
+    this.prioritizer = configurationService != null
+        ? configurationService.reconciliationPrioritizer().orElse(null)
+        : null;
+    this.reconciliationQueue = prioritizer != null ? new ReconciliationQueue() : null;
+    this.eventCoalescingWindowMillis = this.controllerConfiguration.eventCoalescingWindow()
+        .map(Duration::toMillis).orElse(0L);
+    this.maxConcurrentRetries = maxConcurrentRetries(retry, controllerConfiguration);
+    this.progressiveInformerReadiness =
+        configurationService != null && configurationService.progressiveInformerReadiness();
+    this.boundedItemStore = configurationService != null
+        ? (BoundedItemStore<P>) controllerConfiguration.getItemStore()
+            .filter(BoundedItemStore.class::isInstance).orElse(null)
+        : null;
 
     metricsMetadata = Optional.ofNullable(eventSourceManager.getController())
         .map(c -> Map.of(
@@ -88,15 +134,36 @@ public class EventProcessor<P extends HasMetadata> implements EventHandler, Life
         .orElseGet(HashMap::new);
   }
 
+  private static int maxConcurrentRetries(Retry retry,
+      ControllerConfiguration<?> controllerConfiguration) {
+    if (retry == null || retry.retryBudget() <= 0
+        || retry.retryBudget() >= GradualRetry.NO_RETRY_BUDGET) {
+      return 0;
+    }
+    final var configurationService = controllerConfiguration.getConfigurationService();
+    final var capacity = controllerConfiguration.maxReconciliationSlots() > 0
+        ? controllerConfiguration.maxReconciliationSlots()
+        : configurationService != null ? configurationService.concurrentReconciliationThreads()
+            : ConfigurationService.DEFAULT_RECONCILIATION_THREADS_NUMBER;
+    return Math.max(1, (int) (capacity * retry.retryBudget()));
+  }
+
   @Override
-  public synchronized void handleEvent(Event event) {
+  public void handleEvent(Event event) {
+    final var resourceID = event.getRelatedCustomResourceID();
+    prefetchIfEvicted(event);
+    final var lock = locks.lockFor(resourceID);
+    lock.lock();
     try {
       log.debug("Received event: {}", event);
 
-      final var resourceID = event.getRelatedCustomResourceID();
-      final var state = resourceStateManager.getOrCreate(event.getRelatedCustomResourceID());
+      final var state = resourceStateManager.getOrCreate(resourceID);
       MDCUtils.addResourceIDInfo(resourceID);
       metrics.receivedEvent(event, metricsMetadata);
+      if (!(event instanceof ResourceEvent) && state.periodicReconciliationDue()) {
+        state.clearPeriodicReconciliation();
+        metrics.periodicReconciliationTriggered(resourceID, metricsMetadata);
+      }
       handleEventMarking(event, state);
       if (!this.running) {
         if (state.deleteEventPresent()) {
@@ -109,6 +176,20 @@ public class EventProcessor<P extends HasMetadata> implements EventHandler, Life
       handleMarkedEventForResource(state);
     } finally {
       MDCUtils.removeResourceIDInfo();
+      lock.unlock();
+    }
+  }
+
+  /**
+   * Starts fetching the primary resource the event relates to if it was evicted from the bounded
+   * cache of the controller, so that it's usually available by the time the reconciliation runs.
+   * Events of the controller itself carry the resource, put in the cache when received.
+   */
+  private void prefetchIfEvicted(Event event) {
+    if (boundedItemStore != null && running && !(event instanceof ResourceEvent)) {
+      boundedItemStore.prefetch(event.getRelatedCustomResourceID(),
+          controllerConfiguration.getConfigurationService().getExecutorServiceManager()
+              .cachingExecutorService());
     }
   }
 
@@ -116,7 +197,43 @@ public class EventProcessor<P extends HasMetadata> implements EventHandler, Life
     if (state.deleteEventPresent()) {
       cleanupForDeletedEvent(state.getId());
     } else if (!state.processedMarkForDeletionPresent()) {
-      submitReconciliationExecution(state);
+      if (eventCoalescingWindowMillis > 0 && !state.isUnderProcessing()) {
+        coalesceEvents(state);
+      } else {
+        // events received during a reconciliation are handled once it finishes
+        submitReconciliationExecution(state);
+      }
+    }
+  }
+
+  private void coalesceEvents(ResourceState state) {
+    if (state.isCoalescingEvents()) {
+      log.debug("Coalescing event for resource: {}", state.getId());
+      return;
+    }
+    state.setCoalescingEvents(true);
+    final var resourceID = state.getId();
+    CoalescingScheduler.INSTANCE.schedule(() -> submitCoalescedEvents(resourceID),
+        eventCoalescingWindowMillis, TimeUnit.MILLISECONDS);
+  }
+
+  private void submitCoalescedEvents(ResourceID resourceID) {
+    final var lock = locks.lockFor(resourceID);
+    lock.lock();
+    try {
+      resourceStateManager.get(resourceID).ifPresent(state -> {
+        state.setCoalescingEvents(false);
+        // if not running, the events are still marked and will be processed on start
+        if (running && state.eventPresent()) {
+          MDCUtils.addResourceIDInfo(resourceID);
+          submitReconciliationExecution(state);
+        }
+      });
+    } catch (RuntimeException e) {
+      log.error("Error submitting coalesced events for resource: {}", resourceID, e);
+    } finally {
+      MDCUtils.removeResourceIDInfo();
+      lock.unlock();
     }
   }
 
@@ -127,23 +244,49 @@ public class EventProcessor<P extends HasMetadata> implements EventHandler, Life
       Optional<P> maybeLatest = cache.get(resourceID);
       maybeLatest.ifPresent(MDCUtils::addResourceInfo);
       if (!controllerUnderExecution && maybeLatest.isPresent()) {
-        var rateLimit = state.getRateLimit();
-        if (rateLimit == null) {
-          rateLimit = rateLimiter.initState();
-          state.setRateLimit(rateLimit);
+        if (progressiveInformerReadiness) {
+          final var namespace = resourceID.getNamespace().orElse(null);
+          if (!eventSourceManager.hasSynced(namespace)) {
+            handleNotSyncedSubmission(state, eventSourceManager.hasSyncFailed(namespace));
+            return;
+          }
+          state.resetNotSyncedReschedules();
         }
-        var rateLimiterPermission = rateLimiter.isLimited(rateLimit);
-        if (rateLimiterPermission.isPresent()) {
-          handleRateLimitedSubmission(resourceID, rateLimiterPermission.get());
+        // the retry budget is checked first so that deferred retries don't consume rate limit
+        // tokens
+        final var countedAsRetry = maxConcurrentRetries > 0 && state.getRetry() != null;
+        if (countedAsRetry && !acquireRetryPermit()) {
+          handleRetryBudgetExhausted(resourceID);
           return;
         }
+        if (rateLimited) {
+          var rateLimit = state.getRateLimit();
+          if (rateLimit == null) {
+            rateLimit = rateLimiter.initState(resourceID);
+            state.setRateLimit(rateLimit);
+          }
+          var rateLimiterPermission = rateLimiter.isLimited(rateLimit);
+          if (rateLimiterPermission.isPresent()) {
+            if (countedAsRetry) {
+              releaseRetryPermit();
+            }
+            handleRateLimitedSubmission(resourceID, rateLimiterPermission.get());
+            return;
+          }
+        }
         state.setUnderProcessing(true);
         final var latest = maybeLatest.get();
         ExecutionScope<P> executionScope = new ExecutionScope<>(state.getRetry());
         state.unMarkEventReceived();
         metrics.reconcileCustomResource(latest, state.getRetry(), metricsMetadata);
         log.debug("Executing events for custom resource. Scope: {}", executionScope);
-        executor.execute(new ReconcilerExecutor(resourceID, executionScope));
+        final var reconcilerExecutor =
+            new ReconcilerExecutor(resourceID, executionScope, countedAsRetry);
+        if (reconciliationQueue != null) {
+          enqueue(state, latest, reconcilerExecutor);
+        } else {
+          executor.execute(reconcilerExecutor);
+        }
       } else {
         log.debug(
             "Skipping executing controller for resource id: {}. Controller in execution: {}. Latest Resource present: {}",
@@ -164,6 +307,81 @@ public class EventProcessor<P extends HasMetadata> implements EventHandler, Life
     }
   }
 
+  private boolean acquireRetryPermit() {
+    int running;
+    do {
+      running = runningRetries.get();
+      if (running >= maxConcurrentRetries) {
+        return false;
+      }
+    } while (!runningRetries.compareAndSet(running, running + 1));
+    metrics.retryBudgetUsage(running + 1, maxConcurrentRetries, metricsMetadata);
+    return true;
+  }
+
+  private void releaseRetryPermit() {
+    metrics.retryBudgetUsage(runningRetries.decrementAndGet(), maxConcurrentRetries,
+        metricsMetadata);
+  }
+
+  private void handleNotSyncedSubmission(ResourceState state, boolean syncFailed) {
+    final var resourceID = state.getId();
+    // the event stays marked in both cases, the reconciliation is attempted again on the next event
+    if (syncFailed) {
+      // the failed informer is stopped and won't sync, so it is pointless to check it again
+      log.warn("Informers failed to sync for resource: {}, reconciliation suspended", resourceID);
+      return;
+    }
+    final var delay = Math.min(
+        NOT_SYNCED_RESCHEDULE_DURATION << Math.min(state.incrementNotSyncedReschedules(), 6),
+        MAX_NOT_SYNCED_RESCHEDULE_DURATION);
+    log.debug("Informers not synced yet for resource: {}, rescheduled in {} millis", resourceID,
+        delay);
+    scheduleReconciliation(resourceID, delay);
+  }
+
+  private void handleRetryBudgetExhausted(ResourceID resourceID) {
+    // randomize the delay so that the deferred retries don't all come back at the same time
+    final var delay = RETRY_BUDGET_RESCHEDULE_DURATION
+        + ThreadLocalRandom.current().nextLong(RETRY_BUDGET_RESCHEDULE_DURATION);
+    log.debug("Retry budget exhausted for controller: {}, deferring retry of resource: {} by {}ms",
+        controllerName(), resourceID, delay);
+    metrics.retryDeferred(resourceID, metricsMetadata);
+    scheduleReconciliation(resourceID, delay);
+  }
+
+  private void enqueue(ResourceState state, P latest, ReconcilerExecutor reconcilerExecutor) {
+    final var generation = latest.getMetadata().getGeneration();
+    final var priority = prioritizer.priorityOf(new PendingReconciliation(state.getId(), latest,
+        state.isNewResource(),
+        generation != null && state.hasLastReconciledGeneration()
+            && state.getLastReconciledGeneration() != generation,
+        state.getRetry() != null,
+        state.scheduledReconciliationDue()));
+    state.setNewResource(false);
+    if (generation != null) {
+      state.setLastReconciledGeneration(generation);
+    } else {
+      state.clearLastReconciledGeneration();
+    }
+    state.clearScheduledReconciliation();
+
+    reconciliationQueue.add(new ReconciliationQueue.Entry(state.getId(), priority,
+        reconcilerExecutor));
+    metrics.reconciliationQueued(state.getId(), priority, metricsMetadata);
+    // the executed task doesn't necessarily run this reconciliation but the one with the highest
+    // priority when a thread becomes available
+    executor.execute(this::executeNextQueuedReconciliation);
+  }
+
+  private void executeNextQueuedReconciliation() {
+    final var entry = reconciliationQueue.poll();
+    if (entry != null) {
+      metrics.reconciliationDequeued(entry.getResourceID(), entry.getPriority(), metricsMetadata);
+      entry.getTask().run();
+    }
+  }
+
   private void handleEventMarking(Event event, ResourceState state) {
     final var relatedCustomResourceID = event.getRelatedCustomResourceID();
     if (event instanceof ResourceEvent) {
@@ -185,6 +403,15 @@ public class EventProcessor<P extends HasMetadata> implements EventHandler, Life
         // meanwhile the resource could be deleted and recreated. In this case we just mark a new
         // event as below.
         markEventReceived(state);
+        if (reconciliationQueue != null) {
+          // the primary resource changed, so the reconciliation is not only due to a timer
+          state.clearScheduledReconciliation();
+          if (running && resourceEvent.getAction() == ResourceAction.ADDED
+              && !state.hasLastReconciledGeneration()
+              && createdSinceStarted(resourceEvent)) {
+            state.setNewResource(true);
+          }
+        }
       }
     } else if (!state.deleteEventPresent() || !state.processedMarkForDeletionPresent()) {
       markEventReceived(state);
@@ -196,6 +423,24 @@ public class EventProcessor<P extends HasMetadata> implements EventHandler, Life
     }
   }
 
+  /**
+   * Resources listed when the informers start also result in ADDED events, these resources are part
+   * of the startup backlog though, not newly created ones which should be reconciled first.
+   */
+  private boolean createdSinceStarted(ResourceEvent event) {
+    final var creationTimestamp =
+        event.getResource().map(r -> r.getMetadata().getCreationTimestamp()).orElse(null);
+    if (creationTimestamp == null) {
+      return false;
+    }
+    try {
+      // creation timestamps are truncated to the second
+      return Instant.parse(creationTimestamp).toEpochMilli() >= startedAt - 1000;
+    } catch (DateTimeParseException e) {
+      return false;
+    }
+  }
+
   private void markEventReceived(ResourceState state) {
     log.debug("Marking event received for: {}", state.getId());
     state.markEventReceived();
@@ -209,11 +454,22 @@ public class EventProcessor<P extends HasMetadata> implements EventHandler, Life
     var minimalDurationMillis = minimalDuration.toMillis();
     log.debug("Rate limited resource: {}, rescheduled in {} millis", resourceID,
         minimalDurationMillis);
-    retryEventSource().scheduleOnce(resourceID,
+    scheduleReconciliation(resourceID,
         Math.max(minimalDurationMillis, MINIMAL_RATE_LIMIT_RESCHEDULE_DURATION));
   }
 
-  synchronized void eventProcessingFinished(
+  void eventProcessingFinished(
+      ExecutionScope<P> executionScope, PostExecutionControl<P> postExecutionControl) {
+    final var lock = locks.lockFor(executionScope.getResourceID());
+    lock.lock();
+    try {
+      handleEventProcessingFinished(executionScope, postExecutionControl);
+    } finally {
+      lock.unlock();
+    }
+  }
+
+  private void handleEventProcessingFinished(
       ExecutionScope<P> executionScope, PostExecutionControl<P> postExecutionControl) {
     if (!running) {
       return;
@@ -238,6 +494,9 @@ public class EventProcessor<P extends HasMetadata> implements EventHandler, Life
       return;
     }
     cleanupOnSuccessfulExecution(executionScope);
+    if (postExecutionControl.isSkipped()) {
+      metrics.reconciliationSkipped(executionScope.getResource(), metricsMetadata);
+    }
     metrics.finishedReconciliation(executionScope.getResource(), metricsMetadata);
     if (state.deleteEventPresent()) {
       cleanupForDeletedEvent(executionScope.getResourceID());
@@ -283,7 +542,7 @@ public class EventProcessor<P extends HasMetadata> implements EventHandler, Life
         .ifPresentOrElse(delay -> {
           var resourceID = ResourceID.fromResource(customResource);
           log.debug("Rescheduling event for resource: {} with delay: {}", resourceID, delay);
-          retryEventSource().scheduleOnce(resourceID, delay);
+          scheduleReconciliation(resourceID, delay);
         }, () -> scheduleExecutionForMaxReconciliationInterval(customResource));
   }
 
@@ -292,14 +551,40 @@ public class EventProcessor<P extends HasMetadata> implements EventHandler, Life
         .maxReconciliationInterval()
         .ifPresent(m -> {
           var resourceID = ResourceID.fromResource(customResource);
-          var delay = m.toMillis();
+          var delay = withJitter(m.toMillis());
           log.debug("Rescheduling event for max reconciliation interval for resource: {} : " +
               "with delay: {}",
               resourceID, delay);
-          retryEventSource().scheduleOnce(resourceID, delay);
+          metrics.periodicReconciliationScheduled(customResource, Duration.ofMillis(delay),
+              metricsMetadata);
+          scheduleReconciliation(resourceID, delay, true);
         });
   }
 
+  private long withJitter(long maxDelay) {
+    final var jitter = controllerConfiguration.maxReconciliationIntervalJitter();
+    if (jitter <= 0 || maxDelay <= 0) {
+      return maxDelay;
+    }
+    // never exceed the max interval, only shorten it by a random part of the jitter range
+    final var range = (long) (maxDelay * jitter);
+    return range > 0 ? maxDelay - ThreadLocalRandom.current().nextLong(range + 1) : maxDelay;
+  }
+
+  private void scheduleReconciliation(ResourceID resourceID, long delay) {
+    scheduleReconciliation(resourceID, delay, false);
+  }
+
+  private void scheduleReconciliation(ResourceID resourceID, long delay, boolean periodic) {
+    // the timer only keeps the last scheduled reconciliation of each resource, so it's tracked
+    // regardless of its kind, to know whether the event triggered by the timer is a periodic one.
+    // This is only needed to prioritize reconciliations and to report periodic ones.
+    if (reconciliationQueue != null || metrics != Metrics.NOOP) {
+      resourceStateManager.getOrCreate(resourceID).reconciliationScheduled(delay, periodic);
+    }
+    retryEventSource().scheduleOnce(resourceID, delay);
+  }
+
   TimerEventSource<P> retryEventSource() {
     return eventSourceManager.retryEventSource();
   }
@@ -331,7 +616,9 @@ public class EventProcessor<P extends HasMetadata> implements EventHandler, Life
               delay,
               resourceID);
           metrics.failedReconciliation(executionScope.getResource(), exception, metricsMetadata);
-          retryEventSource().scheduleOnce(resourceID, delay);
+          metrics.retryScheduled(resourceID, state.getRetry().getAttemptCount(),
+              Duration.ofMillis(delay), metricsMetadata);
+          scheduleReconciliation(resourceID, delay);
         },
         () -> {
           log.error("Exhausted retries for scope {}.", executionScope);
@@ -363,6 +650,8 @@ public class EventProcessor<P extends HasMetadata> implements EventHandler, Life
     if (isRetryConfigured()) {
       resourceStateManager.getOrCreate(executionScope.getResourceID()).setRetry(null);
     }
+    resourceStateManager.get(executionScope.getResourceID())
+        .ifPresent(ResourceState::clearPeriodicReconciliation);
     retryEventSource().cancelOnceSchedule(executionScope.getResourceID());
   }
 
@@ -379,6 +668,7 @@ public class EventProcessor<P extends HasMetadata> implements EventHandler, Life
   private void cleanupForDeletedEvent(ResourceID resourceID) {
     log.debug("Cleaning up for delete event for: {}", resourceID);
     resourceStateManager.remove(resourceID);
+    reconciliationDispatcher.cleanupFor(resourceID);
     metrics.cleanupDoneFor(resourceID, metricsMetadata);
   }
 
@@ -403,26 +693,123 @@ public class EventProcessor<P extends HasMetadata> implements EventHandler, Life
   public synchronized void start() throws OperatorException {
     log.debug("Starting event processor: {}", this);
     // on restart new executor service is created and needs to be set here
-    executor = controllerConfiguration.getConfigurationService().getExecutorServiceManager()
-        .reconcileExecutorService();
+    final var executorServiceManager =
+        controllerConfiguration.getConfigurationService().getExecutorServiceManager();
+    executor = executorServiceManager.reconcileExecutorService(controllerConfiguration,
+        metricsMetadata);
+    concurrencyLimiter = executorServiceManager.adaptiveConcurrencyLimiter().orElse(null);
+    if (reconciliationQueue != null) {
+      // reconciliations queued before a restart were meant for the previous executor
+      ReconciliationQueue.Entry entry;
+      while ((entry = reconciliationQueue.poll()) != null) {
+        metrics.reconciliationDequeued(entry.getResourceID(), entry.getPriority(),
+            metricsMetadata);
+        ((ReconcilerExecutor) entry.getTask()).discard();
+      }
+    }
+    startedAt = System.currentTimeMillis();
     this.running = true;
     handleAlreadyMarkedEvents();
   }
 
   private void handleAlreadyMarkedEvents() {
     for (var state : resourceStateManager.resourcesWithEventPresent()) {
-      log.debug("Handling already marked event on start. State: {}", state);
-      handleMarkedEventForResource(state);
+      final var lock = locks.lockFor(state.getId());
+      lock.lock();
+      try {
+        // events might have been processed concurrently since the state was listed
+        if (!state.noEventPresent()) {
+          log.debug("Handling already marked event on start. State: {}", state);
+          handleMarkedEventForResource(state);
+        }
+      } finally {
+        lock.unlock();
+      }
+    }
+  }
+
+  /**
+   * Delays the submission of coalesced events. Only used to trigger the submission, which is cheap,
+   * so a single thread is shared by all controllers.
+   */
+  private static class CoalescingScheduler {
+    private static final ScheduledExecutorService INSTANCE =
+        Executors.newSingleThreadScheduledExecutor(runnable -> {
+          final var thread = new Thread(runnable, "EventCoalescingScheduler");
+          thread.setDaemon(true);
+          return thread;
+        });
+  }
+
+  private static class PendingReconciliation implements ReconciliationRequest {
+    private final ResourceID resourceID;
+    private final HasMetadata resource;
+    private final boolean newResource;
+    private final boolean generationChanged;
+    private final boolean retry;
+    private final boolean scheduled;
+
+    private PendingReconciliation(ResourceID resourceID, HasMetadata resource, boolean newResource,
+        boolean generationChanged, boolean retry, boolean scheduled) {
+      this.resourceID = resourceID;
+      this.resource = resource;
+      this.newResource = newResource;
+      this.generationChanged = generationChanged;
+      this.retry = retry;
+      this.scheduled = scheduled;
+    }
+
+    @Override
+    public ResourceID getResourceID() {
+      return resourceID;
+    }
+
+    @Override
+    public HasMetadata getResource() {
+      return resource;
+    }
+
+    @Override
+    public boolean isNewResource() {
+      return newResource;
+    }
+
+    @Override
+    public boolean isGenerationChanged() {
+      return generationChanged;
+    }
+
+    @Override
+    public boolean isRetry() {
+      return retry;
+    }
+
+    @Override
+    public boolean isScheduled() {
+      return scheduled;
     }
   }
 
   private class ReconcilerExecutor implements Runnable {
     private final ExecutionScope<P> executionScope;
     private final ResourceID resourceID;
+    private boolean holdsRetryPermit;
 
-    private ReconcilerExecutor(ResourceID resourceID, ExecutionScope<P> executionScope) {
+    private ReconcilerExecutor(ResourceID resourceID, ExecutionScope<P> executionScope,
+        boolean holdsRetryPermit) {
       this.executionScope = executionScope;
       this.resourceID = resourceID;
+      this.holdsRetryPermit = holdsRetryPermit;
+    }
+
+    /**
+     * Releases what was acquired for this reconciliation, once it was executed or if it won't be.
+     */
+    private void discard() {
+      if (holdsRetryPermit) {
+        holdsRetryPermit = false;
+        releaseRetryPermit();
+      }
     }
 
     @Override
@@ -432,11 +819,14 @@ public class EventProcessor<P extends HasMetadata> implements EventHandler, Life
         // timeout. that should finish the currently executing reconciliations but not the ones
         // which where submitted but not started yet
         log.debug("Event processor not running skipping resource processing: {}", resourceID);
+        discard();
         return;
       }
       // change thread name for easier debugging
       final var thread = Thread.currentThread();
-      final var name = thread.getName();
+      // virtual threads are started for each task and never reused, so their name doesn't need to
+      // be restored
+      final var name = VirtualThreads.isVirtual(thread) ? null : thread.getName();
       try {
         var actualResource = cache.get(resourceID);
         if (actualResource.isEmpty()) {
@@ -448,13 +838,24 @@ public class EventProcessor<P extends HasMetadata> implements EventHandler, Life
         MDCUtils.addResourceInfo(executionScope.getResource());
         metrics.reconciliationExecutionStarted(executionScope.getResource(), metricsMetadata);
         thread.setName("ReconcilerExecutor-" + controllerName() + "-" + thread.getId());
+        final var start = System.nanoTime();
         PostExecutionControl<P> postExecutionControl =
             reconciliationDispatcher.handleExecution(executionScope);
+        final var limiter = concurrencyLimiter;
+        if (limiter != null) {
+          limiter.onReconciliationFinished(System.nanoTime() - start,
+              postExecutionControl.getRuntimeException().orElse(null), metricsMetadata);
+        }
+        // released before handling the outcome, which might submit another reconciliation
+        discard();
         eventProcessingFinished(executionScope, postExecutionControl);
       } finally {
+        discard();
         metrics.reconciliationExecutionFinished(executionScope.getResource(), metricsMetadata);
-        // restore original name
-        thread.setName(name);
+        if (name != null) {
+          // restore original name
+          thread.setName(name);
+        }
         MDCUtils.removeResourceInfo();
       }
     }
@@ -470,11 +871,17 @@ public class EventProcessor<P extends HasMetadata> implements EventHandler, Life
     return controllerConfiguration.getName();
   }
 
-  public synchronized boolean isUnderProcessing(ResourceID resourceID) {
-    return isControllerUnderExecution(resourceStateManager.getOrCreate(resourceID));
+  public boolean isUnderProcessing(ResourceID resourceID) {
+    final var lock = locks.lockFor(resourceID);
+    lock.lock();
+    try {
+      return isControllerUnderExecution(resourceStateManager.getOrCreate(resourceID));
+    } finally {
+      lock.unlock();
+    }
   }
 
-  public synchronized boolean isRunning() {
+  public boolean isRunning() {
     return running;
   }
 }
@@ -24,6 +24,7 @@ import io.javaoperatorsdk.operator.processing.event.source.ResourceEventSource;
 import io.javaoperatorsdk.operator.processing.event.source.controller.ControllerResourceEventSource;
 import io.javaoperatorsdk.operator.processing.event.source.controller.ResourceAction;
 import io.javaoperatorsdk.operator.processing.event.source.informer.ManagedInformerEventSource;
+import io.javaoperatorsdk.operator.processing.event.source.timer.HashedWheelTimerEventSource;
 import io.javaoperatorsdk.operator.processing.event.source.timer.TimerEventSource;
 
 public class EventSourceManager<P extends HasMetadata>
@@ -36,7 +37,7 @@ public class EventSourceManager<P extends HasMetadata>
   private final ExecutorServiceManager executorServiceManager;
 
   public EventSourceManager(Controller<P> controller) {
-    this(controller, new EventSources<>());
+    this(controller, new EventSources<>(retryAndRescheduleTimerEventSource(controller)));
   }
 
   EventSourceManager(Controller<P> controller, EventSources<P> eventSources) {
@@ -48,6 +49,15 @@ public class EventSourceManager<P extends HasMetadata>
     postProcessDefaultEventSourcesAfterProcessorInitializer();
   }
 
+  private static <P extends HasMetadata> TimerEventSource<P> retryAndRescheduleTimerEventSource(
+      Controller<P> controller) {
+    final var configurationService = controller.getConfiguration().getConfigurationService();
+    return configurationService != null
+        && configurationService.hashedWheelTimerForRetriesAndReschedules()
+            ? new HashedWheelTimerEventSource<>()
+            : new TimerEventSource<>();
+  }
+
   public void postProcessDefaultEventSourcesAfterProcessorInitializer() {
     eventSources.controllerResourceEventSource().setEventHandler(controller.getEventProcessor());
     eventSources.retryEventSource().setEventHandler(controller.getEventProcessor());
@@ -62,6 +72,11 @@ public class EventSourceManager<P extends HasMetadata>
    * <p>
    * Now the event sources are also started sequentially, mainly because others might depend on
    * {@link ControllerResourceEventSource} , which is started first.
+   * <p>
+   * With
+   * {@link io.javaoperatorsdk.operator.api.config.ConfigurationService#progressiveInformerReadiness()},
+   * informers are started without waiting for them to sync, reconciliations being held back by the
+   * processor until the informers they depend on synced, see {@link #hasSynced(String)}.
    */
   @Override
   public synchronized void start() {
@@ -170,22 +185,23 @@ public class EventSourceManager<P extends HasMetadata>
 
   @SuppressWarnings("unchecked")
   public void broadcastOnResourceEvent(ResourceAction action, P resource, P oldResource) {
-    eventSources.additionalNamedEventSources()
-        .map(NamedEventSource::original)
-        .forEach(source -> {
-          if (source instanceof ResourceEventAware) {
-            var lifecycleAwareES = ((ResourceEventAware<P>) source);
-            switch (action) {
-              case ADDED:
-                lifecycleAwareES.onResourceCreated(resource);
-                break;
-              case UPDATED:
-                lifecycleAwareES.onResourceUpdated(resource, oldResource);
-                break;
-              case DELETED:
-                lifecycleAwareES.onResourceDeleted(resource);
-                break;
-            }
+    Stream.concat(
+        eventSources.additionalNamedEventSources()
+            .map(NamedEventSource::original)
+            .filter(ResourceEventAware.class::isInstance)
+            .map(source -> (ResourceEventAware<P>) source),
+        controller.getResourceEventAwareDependents().stream())
+        .forEach(lifecycleAware -> {
+          switch (action) {
+            case ADDED:
+              lifecycleAware.onResourceCreated(resource);
+              break;
+            case UPDATED:
+              lifecycleAware.onResourceUpdated(resource, oldResource);
+              break;
+            case DELETED:
+              lifecycleAware.onResourceDeleted(resource);
+              break;
           }
         });
   }
@@ -204,6 +220,33 @@ public class EventSourceManager<P extends HasMetadata>
         getEventSourceThreadNamer("changeNamespace"));
   }
 
+  /**
+   * @param namespace the namespace of a primary resource, {@code null} if it is cluster-scoped
+   * @return {@code true} if the informer of the primary resources and the informers of the
+   *         {@link ManagedInformerEventSource}s watching the specified namespace synced
+   */
+  @SuppressWarnings("rawtypes")
+  public boolean hasSynced(String namespace) {
+    return eventSources.controllerResourceEventSource().hasSynced(namespace)
+        && eventSources.additionalEventSources()
+            .filter(ManagedInformerEventSource.class::isInstance)
+            .allMatch(es -> ((ManagedInformerEventSource) es).hasSynced(namespace));
+  }
+
+  /**
+   * @param namespace the namespace of a primary resource, {@code null} if it is cluster-scoped
+   * @return {@code true} if the initial sync of the informer of the primary resources or of the
+   *         informer of a {@link ManagedInformerEventSource} watching the specified namespace
+   *         failed, meaning that {@link #hasSynced(String)} won't become {@code true}
+   */
+  @SuppressWarnings("rawtypes")
+  public boolean hasSyncFailed(String namespace) {
+    return eventSources.controllerResourceEventSource().hasSyncFailed(namespace)
+        || eventSources.additionalEventSources()
+            .filter(ManagedInformerEventSource.class::isInstance)
+            .anyMatch(es -> ((ManagedInformerEventSource) es).hasSyncFailed(namespace));
+  }
+
   public Set<EventSource> getRegisteredEventSources() {
     return eventSources.flatMappedSources()
         .map(NamedEventSource::original)
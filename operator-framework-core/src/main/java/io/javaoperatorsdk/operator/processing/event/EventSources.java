@@ -26,9 +26,17 @@ class EventSources<R extends HasMetadata> {
 
   private final ConcurrentNavigableMap<String, Map<String, NamedEventSource>> sources =
       new ConcurrentSkipListMap<>();
-  private final TimerEventSource<R> retryAndRescheduleTimerEventSource = new TimerEventSource<>();
+  private final TimerEventSource<R> retryAndRescheduleTimerEventSource;
   private ControllerResourceEventSource<R> controllerResourceEventSource;
 
+  EventSources() {
+    this(new TimerEventSource<>());
+  }
+
+  EventSources(TimerEventSource<R> retryAndRescheduleTimerEventSource) {
+    this.retryAndRescheduleTimerEventSource = retryAndRescheduleTimerEventSource;
+  }
+
 
   void createControllerEventSource(Controller<R> controller) {
     controllerResourceEventSource = new ControllerResourceEventSource<>(controller);
@@ -10,6 +10,7 @@ final class PostExecutionControl<R extends HasMetadata> {
   private final R updatedCustomResource;
   private final boolean updateIsStatusPatch;
   private final Exception runtimeException;
+  private final boolean skipped;
 
   private Long reScheduleDelay = null;
 
@@ -17,10 +18,18 @@ final class PostExecutionControl<R extends HasMetadata> {
       boolean finalizerRemoved,
       R updatedCustomResource,
       boolean updateIsStatusPatch, Exception runtimeException) {
+    this(finalizerRemoved, updatedCustomResource, updateIsStatusPatch, runtimeException, false);
+  }
+
+  private PostExecutionControl(
+      boolean finalizerRemoved,
+      R updatedCustomResource,
+      boolean updateIsStatusPatch, Exception runtimeException, boolean skipped) {
     this.finalizerRemoved = finalizerRemoved;
     this.updatedCustomResource = updatedCustomResource;
     this.updateIsStatusPatch = updateIsStatusPatch;
     this.runtimeException = runtimeException;
+    this.skipped = skipped;
   }
 
   public static <R extends HasMetadata> PostExecutionControl<R> onlyFinalizerAdded(
@@ -32,6 +41,14 @@ final class PostExecutionControl<R extends HasMetadata> {
     return new PostExecutionControl<>(false, null, false, null);
   }
 
+  /**
+   * The reconciliation was skipped because its inputs didn't change since the last one, see
+   * {@link io.javaoperatorsdk.operator.api.config.ControllerConfiguration#skipUnchangedReconciliationsForcedInterval()}.
+   */
+  public static <R extends HasMetadata> PostExecutionControl<R> skipped() {
+    return new PostExecutionControl<>(false, null, false, null, true);
+  }
+
   public static <R extends HasMetadata> PostExecutionControl<R> customResourceStatusPatched(
       R updatedCustomResource) {
     return new PostExecutionControl<>(false, updatedCustomResource, true, null);
@@ -77,6 +94,10 @@ final class PostExecutionControl<R extends HasMetadata> {
     return updateIsStatusPatch;
   }
 
+  public boolean isSkipped() {
+    return skipped;
+  }
+
   @Override
   public String toString() {
     return "PostExecutionControl{"
@@ -86,6 +107,8 @@ final class PostExecutionControl<R extends HasMetadata> {
         + updatedCustomResource
         + ", runtimeException="
         + runtimeException
+        + ", skipped="
+        + skipped
         + '}';
   }
 
@@ -1,5 +1,6 @@
 package io.javaoperatorsdk.operator.processing.event;
 
+import java.util.OptionalLong;
 import java.util.function.Function;
 
 import org.slf4j.Logger;
@@ -44,12 +45,16 @@ class ReconciliationDispatcher<P extends HasMetadata> {
   // Usually for testing purposes.
   private final boolean retryConfigurationHasZeroAttempts;
   private final Cloner cloner;
+  private final ReconciliationFingerprints<P> fingerprints;
 
   ReconciliationDispatcher(Controller<P> controller,
       CustomResourceFacade<P> customResourceFacade) {
     this.controller = controller;
     this.customResourceFacade = customResourceFacade;
     this.cloner = controller.getConfiguration().getConfigurationService().getResourceCloner();
+    this.fingerprints = controller.getConfiguration().skipUnchangedReconciliationsForcedInterval()
+        .map(ReconciliationFingerprints<P>::new)
+        .orElse(null);
 
     var retry = controller.getConfiguration().getRetry();
     retryConfigurationHasZeroAttempts = retry == null || retry.initExecution().isLastAttempt();
@@ -113,14 +118,71 @@ class ReconciliationDispatcher<P extends HasMetadata> {
           updateCustomResourceWithFinalizer(resourceForExecution, originalResource);
       return PostExecutionControl.onlyFinalizerAdded(updatedResource);
     } else {
+      final var fingerprint = fingerprintOf(originalResource);
+      if (fingerprint.isPresent()
+          && fingerprints.isUnchanged(executionScope.getResourceID(), fingerprint.getAsLong())) {
+        log.debug("Skipping reconciliation of resource {}, its inputs didn't change",
+            getName(originalResource));
+        return PostExecutionControl.skipped();
+      }
       try {
-        return reconcileExecution(executionScope, resourceForExecution, originalResource, context);
+        final var postExecutionControl =
+            reconcileExecution(executionScope, resourceForExecution, originalResource, context);
+        recordFingerprint(executionScope.getResourceID(), fingerprint, postExecutionControl);
+        return postExecutionControl;
       } catch (Exception e) {
+        recordFingerprint(executionScope.getResourceID(), OptionalLong.empty(), null);
         return handleErrorStatusHandler(resourceForExecution, originalResource, context, e);
       }
     }
   }
 
+  private OptionalLong fingerprintOf(P resource) {
+    if (fingerprints == null) {
+      return OptionalLong.empty();
+    }
+    try {
+      return OptionalLong.of(fingerprints.fingerprint(resource,
+          controller.getEventSourceManager().getRegisteredEventSources()));
+    } catch (RuntimeException e) {
+      log.debug("Could not compute the fingerprint of resource {}, it will be reconciled",
+          getName(resource), e);
+      return OptionalLong.empty();
+    }
+  }
+
+  /**
+   * Only reconciliations which neither updated the primary resource nor asked to be rescheduled are
+   * recorded: the outcome of the others might differ even if their inputs don't change.
+   */
+  private void recordFingerprint(ResourceID resourceID, OptionalLong fingerprint,
+      PostExecutionControl<P> postExecutionControl) {
+    if (fingerprints == null) {
+      return;
+    }
+    if (fingerprint.isPresent() && postExecutionControl.getUpdatedCustomResource().isEmpty()
+        && postExecutionControl.getReScheduleDelay().isEmpty()) {
+      fingerprints.record(resourceID, fingerprint.getAsLong());
+    } else {
+      fingerprints.forget(resourceID);
+    }
+  }
+
+  /**
+   * Forgets what was recorded for the specified resource, once it is deleted.
+   */
+  void cleanupFor(ResourceID resourceID) {
+    if (fingerprints != null) {
+      fingerprints.forget(resourceID);
+    }
+  }
+
+  private void verifyReadOnlyResources(Context<P> context) {
+    if (context instanceof DefaultContext) {
+      ((DefaultContext<P>) context).verifyReadOnlyResources();
+    }
+  }
+
   private P cloneResource(P resource) {
     return cloner.clone(resource);
   }
@@ -134,6 +196,7 @@ class ReconciliationDispatcher<P extends HasMetadata> {
         executionScope);
 
     UpdateControl<P> updateControl = controller.reconcile(resourceForExecution, context);
+    verifyReadOnlyResources(context);
     P updatedCustomResource = null;
     if (updateControl.isUpdateResourceAndStatus()) {
       updatedCustomResource =
@@ -289,6 +352,7 @@ class ReconciliationDispatcher<P extends HasMetadata> {
           getVersion(resource));
     }
     DeleteControl deleteControl = controller.cleanup(resource, context);
+    verifyReadOnlyResources(context);
     final var useFinalizer = controller.useFinalizer();
     if (useFinalizer) {
       // note that we don't reschedule here even if instructed. Removing finalizer means that
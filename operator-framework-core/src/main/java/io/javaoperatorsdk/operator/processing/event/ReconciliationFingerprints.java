@@ -0,0 +1,118 @@
+package io.javaoperatorsdk.operator.processing.event;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+
+import io.fabric8.kubernetes.api.model.HasMetadata;
+import io.javaoperatorsdk.operator.processing.event.source.EventSource;
+import io.javaoperatorsdk.operator.processing.event.source.ResourceEventSource;
+import io.javaoperatorsdk.operator.processing.event.source.controller.ControllerResourceEventSource;
+
+/**
+ * Records, for each primary resource, a fingerprint of the inputs of its last reconciliation which
+ * didn't change anything, so that the next reconciliations can be skipped as long as these inputs
+ * don't change. The fingerprint combines the UID and resource version of the primary resource with
+ * the secondary resources of all the {@link ResourceEventSource}s of the controller: Kubernetes
+ * resources contribute their UID and resource version, other resources their hash code. A recorded
+ * fingerprint expires after the forced interval, so that inputs which are not tracked by event
+ * sources are eventually taken into account.
+ *
+ * @param <P> the primary resource type
+ */
+class ReconciliationFingerprints<P extends HasMetadata> {
+
+  private static final long FNV_OFFSET_BASIS = 0xcbf29ce484222325L;
+  private static final long FNV_PRIME = 0x100000001b3L;
+
+  private final Map<ResourceID, Entry> entries = new ConcurrentHashMap<>();
+  private final long forcedIntervalNanos;
+
+  ReconciliationFingerprints(Duration forcedInterval) {
+    this.forcedIntervalNanos = forcedInterval.toNanos();
+  }
+
+  /**
+   * @param primary the primary resource about to be reconciled
+   * @param eventSources the event sources of the controller
+   * @return the fingerprint of the inputs of the reconciliation
+   */
+  @SuppressWarnings("unchecked")
+  long fingerprint(P primary, Iterable<EventSource> eventSources) {
+    long fingerprint = hash(FNV_OFFSET_BASIS, primary.getMetadata().getUid());
+    fingerprint = hash(fingerprint, primary.getMetadata().getResourceVersion());
+    for (var eventSource : eventSources) {
+      if (!(eventSource instanceof ResourceEventSource)
+          || eventSource instanceof ControllerResourceEventSource) {
+        continue;
+      }
+      final var secondaries =
+          ((ResourceEventSource<?, P>) eventSource).getSecondaryResourcesReadOnly(primary);
+      // secondary resources are not ordered, so their hashes are combined commutatively
+      long combined = secondaries.size();
+      for (var secondary : secondaries) {
+        combined += mix(secondaryHash(secondary));
+      }
+      fingerprint = (fingerprint ^ combined) * FNV_PRIME;
+    }
+    return fingerprint;
+  }
+
+  /**
+   * @return {@code true} if the specified fingerprint was recorded for the resource less than the
+   *         forced interval ago
+   */
+  boolean isUnchanged(ResourceID resourceID, long fingerprint) {
+    final var entry = entries.get(resourceID);
+    return entry != null && entry.fingerprint == fingerprint
+        && System.nanoTime() - entry.recordedNanos < forcedIntervalNanos;
+  }
+
+  void record(ResourceID resourceID, long fingerprint) {
+    entries.put(resourceID, new Entry(fingerprint, System.nanoTime()));
+  }
+
+  void forget(ResourceID resourceID) {
+    entries.remove(resourceID);
+  }
+
+  int size() {
+    return entries.size();
+  }
+
+  private static long secondaryHash(Object secondary) {
+    if (secondary instanceof HasMetadata) {
+      final var metadata = ((HasMetadata) secondary).getMetadata();
+      return hash(hash(FNV_OFFSET_BASIS, metadata.getUid()), metadata.getResourceVersion());
+    }
+    return Objects.hashCode(secondary);
+  }
+
+  // 64-bit FNV-1a, String.hashCode being too prone to collisions for this purpose
+  private static long hash(long hash, String value) {
+    if (value != null) {
+      for (int i = 0; i < value.length(); i++) {
+        hash = (hash ^ value.charAt(i)) * FNV_PRIME;
+      }
+    }
+    return (hash ^ 0xff) * FNV_PRIME;
+  }
+
+  // spreads the bits of the hash so that summing hashes doesn't cancel out differences
+  private static long mix(long hash) {
+    hash = (hash ^ (hash >>> 30)) * 0xbf58476d1ce4e5b9L;
+    hash = (hash ^ (hash >>> 27)) * 0x94d049bb133111ebL;
+    return hash ^ (hash >>> 31);
+  }
+
+  private static class Entry {
+    private final long fingerprint;
+    private final long recordedNanos;
+
+    private Entry(long fingerprint, long recordedNanos) {
+      this.fingerprint = fingerprint;
+      this.recordedNanos = recordedNanos;
+    }
+  }
+}
@@ -0,0 +1,28 @@
+package io.javaoperatorsdk.operator.processing.event;
+
+/**
+ * Decides of the priority of reconciliations when the reconciliation queue is enabled, see
+ * {@link io.javaoperatorsdk.operator.api.config.ConfigurationService#reconciliationPrioritizer()}.
+ * Within a given priority, reconciliations are executed in a round-robin fashion across namespaces,
+ * so that a large number of resources in a namespace doesn't delay the reconciliation of resources
+ * in other namespaces, and in FIFO order within a namespace.
+ */
+@FunctionalInterface
+public interface ReconciliationPrioritizer {
+
+  /**
+   * Reconciles new resources and resources whose generation changed first, then any other
+   * reconciliation, and finally retries and reconciliations scheduled by the SDK.
+   */
+  ReconciliationPrioritizer DEFAULT = request -> {
+    if (request.isNewResource() || request.isGenerationChanged()) {
+      return ReconciliationPriority.HIGH;
+    }
+    if (request.isRetry() || request.isScheduled()) {
+      return ReconciliationPriority.LOW;
+    }
+    return ReconciliationPriority.NORMAL;
+  };
+
+  ReconciliationPriority priorityOf(ReconciliationRequest request);
+}
@@ -0,0 +1,23 @@
+package io.javaoperatorsdk.operator.processing.event;
+
+/**
+ * Priority classes of the reconciliations waiting to be executed when the reconciliation queue is
+ * enabled, see {@link ReconciliationPrioritizer}. Queued reconciliations of a higher priority are
+ * always executed before the ones of a lower priority.
+ */
+public enum ReconciliationPriority {
+  /**
+   * Reconciliations of newly created resources or of resources whose spec changed.
+   */
+  HIGH,
+  /**
+   * Reconciliations triggered by other changes, e.g. on metadata or secondary resources, as well as
+   * the ones of resources listed when the controller starts.
+   */
+  NORMAL,
+  /**
+   * Retries of failed reconciliations, and reconciliations triggered by a timer: re-schedules and
+   * periodic reconciliations when a max reconciliation interval is configured.
+   */
+  LOW
+}
@@ -0,0 +1,109 @@
+package io.javaoperatorsdk.operator.processing.event;
+
+import java.util.ArrayDeque;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Objects;
+
+/**
+ * Queue of reconciliations waiting to be executed, ordered by {@link ReconciliationPriority}.
+ * Within a priority, the namespaces having pending reconciliations are served in a round-robin
+ * fashion, and the reconciliations of a namespace in FIFO order. All operations are O(1).
+ * <p>
+ * The queue sits in front of the executor: for each added reconciliation, the caller submits a task
+ * to the executor that runs the next reconciliation of the queue (see {@link #poll()}), so that,
+ * whenever a thread becomes available, the reconciliation with the highest priority is executed,
+ * independently of the order in which reconciliations have been submitted.
+ */
+class ReconciliationQueue {
+
+  private static final ReconciliationPriority[] PRIORITIES = ReconciliationPriority.values();
+
+  private final PriorityClass[] classes = new PriorityClass[PRIORITIES.length];
+
+  ReconciliationQueue() {
+    for (int i = 0; i < classes.length; i++) {
+      classes[i] = new PriorityClass();
+    }
+  }
+
+  synchronized void add(Entry entry) {
+    classes[entry.priority.ordinal()].add(entry);
+  }
+
+  /**
+   * @return the pending reconciliation with the highest priority, or {@code null} if there is none
+   */
+  synchronized Entry poll() {
+    for (PriorityClass priorityClass : classes) {
+      final var entry = priorityClass.poll();
+      if (entry != null) {
+        return entry;
+      }
+    }
+    return null;
+  }
+
+  synchronized int size(ReconciliationPriority priority) {
+    return classes[priority.ordinal()].size;
+  }
+
+  static class Entry {
+    private final ResourceID resourceID;
+    private final ReconciliationPriority priority;
+    private final Runnable task;
+
+    Entry(ResourceID resourceID, ReconciliationPriority priority, Runnable task) {
+      this.resourceID = resourceID;
+      this.priority = Objects.requireNonNull(priority);
+      this.task = task;
+    }
+
+    ResourceID getResourceID() {
+      return resourceID;
+    }
+
+    ReconciliationPriority getPriority() {
+      return priority;
+    }
+
+    Runnable getTask() {
+      return task;
+    }
+  }
+
+  private static class PriorityClass {
+    private final Map<String, ArrayDeque<Entry>> byNamespace = new HashMap<>();
+    // namespaces with pending entries, in the order in which they will be served
+    private final ArrayDeque<String> rotation = new ArrayDeque<>();
+    private int size;
+
+    private void add(Entry entry) {
+      final var namespace = entry.resourceID.getNamespace().orElse("");
+      var entries = byNamespace.get(namespace);
+      if (entries == null) {
+        entries = new ArrayDeque<>();
+        byNamespace.put(namespace, entries);
+        rotation.add(namespace);
+      }
+      entries.add(entry);
+      size++;
+    }
+
+    private Entry poll() {
+      final var namespace = rotation.poll();
+      if (namespace == null) {
+        return null;
+      }
+      final var entries = byNamespace.get(namespace);
+      final var entry = entries.poll();
+      if (entries.isEmpty()) {
+        byNamespace.remove(namespace);
+      } else {
+        rotation.add(namespace);
+      }
+      size--;
+      return entry;
+    }
+  }
+}
@@ -0,0 +1,43 @@
+package io.javaoperatorsdk.operator.processing.event;
+
+import io.fabric8.kubernetes.api.model.HasMetadata;
+
+/**
+ * Describes a reconciliation about to be queued, so that a {@link ReconciliationPrioritizer} can
+ * decide of its priority.
+ */
+public interface ReconciliationRequest {
+
+  ResourceID getResourceID();
+
+  /**
+   * @return the latest version of the primary resource from the cache
+   */
+  HasMetadata getResource();
+
+  /**
+   * @return {@code true} if the resource was created after the controller started, according to its
+   *         creation timestamp, and was not reconciled yet. The resources listed when the informers
+   *         start are thus not considered new.
+   */
+  boolean isNewResource();
+
+  /**
+   * @return {@code true} if the generation of the resource changed since its last reconciliation
+   */
+  boolean isGenerationChanged();
+
+  /**
+   * @return {@code true} if a previous reconciliation of the resource failed and this one is a
+   *         retry
+   */
+  boolean isRetry();
+
+  /**
+   * @return {@code true} if the reconciliation has been scheduled by the SDK, i.e. it's a
+   *         re-schedule, a periodic reconciliation triggered by the max reconciliation interval or
+   *         a reconciliation delayed by the rate limiter, and no other change has been detected
+   *         meanwhile
+   */
+  boolean isScheduled();
+}
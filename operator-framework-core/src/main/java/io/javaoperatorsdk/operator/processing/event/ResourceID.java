@@ -36,10 +36,16 @@ public class ResourceID implements Serializable {
 
   private final String name;
   private final String namespace;
+  // IDs are mostly used as map keys, so the hash is computed once
+  private final int hash;
 
   public ResourceID(String name, String namespace) {
     this.name = name;
-    this.namespace = namespace;
+    // namespaces are shared by many resources, they are interned to avoid each ID retaining its own
+    // copy, deserialized along with the resource it was created from
+    this.namespace = namespace != null ? namespace.intern() : null;
+    // same value as Objects.hash(name, namespace), without allocating a varargs array
+    this.hash = 31 * (31 + Objects.hashCode(name)) + Objects.hashCode(namespace);
   }
 
   public ResourceID(String name) {
@@ -61,19 +67,19 @@ public class ResourceID implements Serializable {
     if (o == null || getClass() != o.getClass())
       return false;
     ResourceID that = (ResourceID) o;
-    return Objects.equals(name, that.name) && Objects.equals(namespace,
+    return hash == that.hash && Objects.equals(name, that.name) && Objects.equals(namespace,
         that.namespace);
   }
 
   public boolean isSameResource(HasMetadata hasMetadata) {
     final var metadata = hasMetadata.getMetadata();
     return getName().equals(metadata.getName()) &&
-        getNamespace().map(ns -> ns.equals(metadata.getNamespace())).orElse(true);
+        (namespace == null || namespace.equals(metadata.getNamespace()));
   }
 
   @Override
   public int hashCode() {
-    return Objects.hash(name, namespace);
+    return hash;
   }
 
   @Override
@@ -0,0 +1,50 @@
+package io.javaoperatorsdk.operator.processing.event;
+
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Provides the locks guarding the per-resource state transitions performed by the
+ * {@link EventProcessor}. In the default mode, a single lock is shared by all resources which
+ * serializes the event processing of a controller. In striped mode, resources are spread over a
+ * fixed set of locks based on the hash of their {@link ResourceID} so that events for different
+ * resources can be processed concurrently.
+ */
+class ResourceLocks {
+
+  static final int DEFAULT_STRIPES = 256;
+
+  private final Lock[] locks;
+  private final int mask;
+
+  private ResourceLocks(int stripes) {
+    // round up to the next power of two so that the stripe can be computed with a mask
+    final var size = stripes <= 1 ? 1 : Integer.highestOneBit(stripes - 1) << 1;
+    locks = new Lock[size];
+    for (int i = 0; i < size; i++) {
+      locks[i] = new ReentrantLock();
+    }
+    mask = size - 1;
+  }
+
+  static ResourceLocks singleLock() {
+    return new ResourceLocks(1);
+  }
+
+  static ResourceLocks striped(int stripes) {
+    return new ResourceLocks(stripes);
+  }
+
+  Lock lockFor(ResourceID resourceID) {
+    if (mask == 0) {
+      return locks[0];
+    }
+    // spread the higher bits, same as HashMap does, since the mask only retains the lower ones
+    final var hash = resourceID.hashCode();
+    return locks[(hash ^ (hash >>> 16)) & mask];
+  }
+
+  int stripes() {
+    return locks.length;
+  }
+}
@@ -26,16 +26,49 @@ class ResourceState {
     DELETE_EVENT_PRESENT,
   }
 
+  // the eventing state and the boolean flags are packed into a single field to keep the state of
+  // each tracked resource small, since one is kept for every primary resource. The state is only
+  // modified while holding the lock of the resource in EventProcessor.
+  private static final int EVENTING_MASK = 0b11;
+  private static final int UNDER_PROCESSING = 1 << 2;
+  private static final int COALESCING_EVENTS = 1 << 3;
+  private static final int NEW_RESOURCE = 1 << 4;
+  private static final int RECONCILIATION_SCHEDULED = 1 << 5;
+  private static final int GENERATION_RECONCILED = 1 << 6;
+  private static final int PERIODIC_RECONCILIATION_SCHEDULED = 1 << 7;
+  private static final int SCHEDULING_FLAGS =
+      GENERATION_RECONCILED | RECONCILIATION_SCHEDULED | PERIODIC_RECONCILIATION_SCHEDULED;
+  // java.util.Timer relies on the wall clock, so a timer can fire slightly before the deadline
+  private static final long DEADLINE_TOLERANCE_NANOS = 10_000_000L;
+  private static final EventingState[] EVENTING_STATES = EventingState.values();
+
   private final ResourceID id;
 
-  private boolean underProcessing;
+  private int flags;
+  // retry, rate limit and scheduling states are only allocated when needed
   private RetryExecution retry;
-  private EventingState eventing;
   private RateLimitState rateLimit;
+  private SchedulingState scheduling;
 
   public ResourceState(ResourceID id) {
     this.id = id;
-    eventing = EventingState.NO_EVENT_PRESENT;
+    setEventing(EventingState.NO_EVENT_PRESENT);
+  }
+
+  private EventingState eventing() {
+    return EVENTING_STATES[flags & EVENTING_MASK];
+  }
+
+  private void setEventing(EventingState eventing) {
+    flags = (flags & ~EVENTING_MASK) | eventing.ordinal();
+  }
+
+  private boolean isSet(int flag) {
+    return (flags & flag) != 0;
+  }
+
+  private void set(int flag, boolean value) {
+    flags = value ? flags | flag : flags & ~flag;
   }
 
   public ResourceID getId() {
@@ -58,49 +91,167 @@ class ResourceState {
     this.retry = retry;
   }
 
+  public boolean isNewResource() {
+    return isSet(NEW_RESOURCE);
+  }
+
+  public void setNewResource(boolean newResource) {
+    set(NEW_RESOURCE, newResource);
+  }
+
+  public boolean hasLastReconciledGeneration() {
+    return isSet(GENERATION_RECONCILED);
+  }
+
+  /**
+   * @return the generation of the resource when it was last submitted for reconciliation, only
+   *         meaningful if {@link #hasLastReconciledGeneration()}
+   */
+  public long getLastReconciledGeneration() {
+    return scheduling != null ? scheduling.lastReconciledGeneration : 0;
+  }
+
+  public void setLastReconciledGeneration(long lastReconciledGeneration) {
+    set(GENERATION_RECONCILED, true);
+    scheduling().lastReconciledGeneration = lastReconciledGeneration;
+  }
+
+  public void clearLastReconciledGeneration() {
+    set(GENERATION_RECONCILED, false);
+    if (scheduling != null) {
+      scheduling.lastReconciledGeneration = 0;
+      releaseSchedulingIfUnused();
+    }
+  }
+
+  /**
+   * Records that a reconciliation has been scheduled, replacing any previously scheduled one since
+   * the timer only keeps the last one for each resource.
+   *
+   * @param delayMillis the delay after which the reconciliation is triggered
+   * @param periodic whether this is a periodic reconciliation, scheduled because of the max
+   *        reconciliation interval
+   */
+  public void reconciliationScheduled(long delayMillis, boolean periodic) {
+    set(RECONCILIATION_SCHEDULED, true);
+    set(PERIODIC_RECONCILIATION_SCHEDULED, periodic);
+    scheduling().scheduledReconciliationDeadline = System.nanoTime() + delayMillis * 1_000_000L;
+  }
+
+  public void clearScheduledReconciliation() {
+    set(RECONCILIATION_SCHEDULED, false);
+    releaseSchedulingIfUnused();
+  }
+
+  public void clearPeriodicReconciliation() {
+    set(PERIODIC_RECONCILIATION_SCHEDULED, false);
+    releaseSchedulingIfUnused();
+  }
+
+  /**
+   * @return {@code true} if a reconciliation has been scheduled and its delay elapsed, meaning that
+   *         an event received now is most likely the one triggered by the timer
+   */
+  public boolean scheduledReconciliationDue() {
+    return isSet(RECONCILIATION_SCHEDULED) && deadlineElapsed();
+  }
+
+  /**
+   * @return {@code true} if the last scheduled reconciliation is a periodic one and its delay
+   *         elapsed, meaning that an event received now is most likely the one triggered by the
+   *         timer
+   */
+  public boolean periodicReconciliationDue() {
+    return isSet(PERIODIC_RECONCILIATION_SCHEDULED) && deadlineElapsed();
+  }
+
+  private boolean deadlineElapsed() {
+    // the scheduling state is allocated as long as a reconciliation is scheduled
+    return System.nanoTime()
+        - scheduling.scheduledReconciliationDeadline >= -DEADLINE_TOLERANCE_NANOS;
+  }
+
+  /**
+   * Counts a reschedule of the reconciliation because the informers it depends on didn't sync yet.
+   *
+   * @return how many times in a row the reconciliation was rescheduled for this reason, before this
+   *         one
+   */
+  public int incrementNotSyncedReschedules() {
+    return scheduling().notSyncedReschedules++;
+  }
+
+  public void resetNotSyncedReschedules() {
+    if (scheduling != null) {
+      scheduling.notSyncedReschedules = 0;
+      releaseSchedulingIfUnused();
+    }
+  }
+
+  private SchedulingState scheduling() {
+    if (scheduling == null) {
+      scheduling = new SchedulingState();
+    }
+    return scheduling;
+  }
+
+  private void releaseSchedulingIfUnused() {
+    if (scheduling != null && !isSet(SCHEDULING_FLAGS) && scheduling.notSyncedReschedules == 0) {
+      scheduling = null;
+    }
+  }
+
+  public boolean isCoalescingEvents() {
+    return isSet(COALESCING_EVENTS);
+  }
+
+  public void setCoalescingEvents(boolean coalescingEvents) {
+    set(COALESCING_EVENTS, coalescingEvents);
+  }
+
   public boolean isUnderProcessing() {
-    return underProcessing;
+    return isSet(UNDER_PROCESSING);
   }
 
   public void setUnderProcessing(boolean underProcessing) {
-    this.underProcessing = underProcessing;
+    set(UNDER_PROCESSING, underProcessing);
   }
 
   public void markDeleteEventReceived() {
-    eventing = EventingState.DELETE_EVENT_PRESENT;
+    setEventing(EventingState.DELETE_EVENT_PRESENT);
   }
 
   public boolean deleteEventPresent() {
-    return eventing == EventingState.DELETE_EVENT_PRESENT;
+    return eventing() == EventingState.DELETE_EVENT_PRESENT;
   }
 
   public boolean processedMarkForDeletionPresent() {
-    return eventing == EventingState.PROCESSED_MARK_FOR_DELETION;
+    return eventing() == EventingState.PROCESSED_MARK_FOR_DELETION;
   }
 
   public void markEventReceived() {
     if (deleteEventPresent()) {
       throw new IllegalStateException("Cannot receive event after a delete event received");
     }
-    eventing = EventingState.EVENT_PRESENT;
+    setEventing(EventingState.EVENT_PRESENT);
   }
 
   public void markProcessedMarkForDeletion() {
-    eventing = EventingState.PROCESSED_MARK_FOR_DELETION;
+    setEventing(EventingState.PROCESSED_MARK_FOR_DELETION);
   }
 
   public boolean eventPresent() {
-    return eventing == EventingState.EVENT_PRESENT;
+    return eventing() == EventingState.EVENT_PRESENT;
   }
 
   public boolean noEventPresent() {
-    return eventing == EventingState.NO_EVENT_PRESENT;
+    return eventing() == EventingState.NO_EVENT_PRESENT;
   }
 
   public void unMarkEventReceived() {
-    switch (eventing) {
+    switch (eventing()) {
       case EVENT_PRESENT:
-        eventing = EventingState.NO_EVENT_PRESENT;
+        setEventing(EventingState.NO_EVENT_PRESENT);
         break;
       case PROCESSED_MARK_FOR_DELETION:
         throw new IllegalStateException("Cannot unmark processed marked for deletion.");
@@ -116,10 +267,20 @@ class ResourceState {
   public String toString() {
     return "ResourceState{" +
         "id=" + id +
-        ", underProcessing=" + underProcessing +
+        ", underProcessing=" + isUnderProcessing() +
         ", retry=" + retry +
-        ", eventing=" + eventing +
+        ", eventing=" + eventing() +
         ", rateLimit=" + rateLimit +
         '}';
   }
+
+  /**
+   * State only needed to prioritize queued reconciliations, to recognize the events triggered by
+   * scheduled reconciliations, or while the informers a reconciliation depends on didn't sync.
+   */
+  private static class SchedulingState {
+    private long lastReconciledGeneration;
+    private long scheduledReconciliationDeadline;
+    private int notSyncedReschedules;
+  }
 }
@@ -2,20 +2,37 @@ package io.javaoperatorsdk.operator.processing.event;
 
 import java.util.List;
 import java.util.Map;
+import java.util.Optional;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.stream.Collectors;
 
 class ResourceStateManager {
-  // maybe we should have a way for users to specify a hint on the amount of CRs their reconciler
-  // will process to avoid under- or over-sizing the state maps and avoid too many resizing that
-  // take time and memory?
-  private final Map<ResourceID, ResourceState> states = new ConcurrentHashMap<>(100);
+  static final int DEFAULT_INITIAL_CAPACITY = 100;
 
+  private final Map<ResourceID, ResourceState> states;
+
+  ResourceStateManager() {
+    this(0);
+  }
+
+  /**
+   * @param expectedResourceCount the number of resources expected to be tracked, used to size the
+   *        state map so that it doesn't need to be resized repeatedly while resources are added, 0
+   *        or less if unknown
+   */
+  ResourceStateManager(int expectedResourceCount) {
+    states = new ConcurrentHashMap<>(
+        expectedResourceCount > 0 ? expectedResourceCount : DEFAULT_INITIAL_CAPACITY);
+  }
 
   public ResourceState getOrCreate(ResourceID resourceID) {
     return states.computeIfAbsent(resourceID, ResourceState::new);
   }
 
+  public Optional<ResourceState> get(ResourceID resourceID) {
+    return Optional.ofNullable(states.get(resourceID));
+  }
+
   public ResourceState remove(ResourceID resourceID) {
     return states.remove(resourceID);
   }
@@ -24,6 +41,10 @@ class ResourceStateManager {
     return states.containsKey(resourceID);
   }
 
+  public int size() {
+    return states.size();
+  }
+
   public List<ResourceState> resourcesWithEventPresent() {
     return states.values().stream()
         .filter(state -> !state.noEventPresent())
@@ -0,0 +1,267 @@
+package io.javaoperatorsdk.operator.processing.event.rate;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+import io.javaoperatorsdk.operator.api.config.AnnotationConfigurable;
+import io.javaoperatorsdk.operator.processing.event.ResourceID;
+
+/**
+ * A rate limiter combining token buckets at three levels: each resource, each namespace and the
+ * whole controller. A reconciliation is only allowed if all the relevant buckets have a token, so
+ * that, for example, a namespace with many frequently changing resources cannot use the whole
+ * reconciliation capacity, or API server budget, of the operator. Levels with a non-positive limit
+ * are not limited.
+ * <p>
+ * All levels share the same period, configured along with the limits using {@link RateLimited}:
+ * {@link RateLimited#maxReconciliations()} and {@link RateLimited#burst()} for each resource,
+ * {@link RateLimited#maxReconciliationsPerNamespace()} and
+ * {@link RateLimited#maxReconciliationsPerController()}. Namespace and controller buckets allow
+ * bursts of their full limit. Namespace buckets which stayed full for a whole period are evicted,
+ * since a new bucket would behave the same.
+ * <p>
+ * The namespace level requires the state of each resource to be created using
+ * {@link #initState(ResourceID)}.
+ */
+public class HierarchicalRateLimiter
+    implements RateLimiter<HierarchicalRateLimiter.State>, AnnotationConfigurable<RateLimited> {
+
+  // returned when a namespace bucket was evicted while acquiring a token from it
+  private static final long EVICTED = -1;
+
+  private Duration period;
+  private int maxReconciliations;
+  private int burst;
+  private int maxReconciliationsPerNamespace;
+  private int maxReconciliationsPerController;
+  private final Map<String, NamespaceBucket> namespaceBuckets = new ConcurrentHashMap<>();
+  private final AtomicLong lastEvictionNanos = new AtomicLong(System.nanoTime());
+  private volatile TokenBucket controllerBucket;
+
+  /**
+   * Creates a deactivated rate limiter, to be configured using {@link RateLimited}.
+   */
+  public HierarchicalRateLimiter() {
+    this(LinearRateLimiter.DEFAULT_REFRESH_PERIOD, LinearRateLimiter.NO_LIMIT_PERIOD, 0,
+        LinearRateLimiter.NO_LIMIT_PERIOD, LinearRateLimiter.NO_LIMIT_PERIOD);
+  }
+
+  /**
+   * @param period the period during which the specified numbers of reconciliations are allowed
+   * @param maxReconciliations the number of reconciliations allowed per period for each resource
+   * @param burst the number of reconciliations allowed at once for each resource, non-positive to
+   *        use {@code maxReconciliations}
+   * @param maxReconciliationsPerNamespace the number of reconciliations allowed per period for all
+   *        the resources of each namespace
+   * @param maxReconciliationsPerController the number of reconciliations allowed per period for all
+   *        the resources of the controller
+   */
+  public HierarchicalRateLimiter(Duration period, int maxReconciliations, int burst,
+      int maxReconciliationsPerNamespace, int maxReconciliationsPerController) {
+    configure(period, maxReconciliations, burst, maxReconciliationsPerNamespace,
+        maxReconciliationsPerController);
+  }
+
+  private synchronized void configure(Duration period, int maxReconciliations, int burst,
+      int maxReconciliationsPerNamespace, int maxReconciliationsPerController) {
+    this.period = period;
+    this.maxReconciliations = maxReconciliations;
+    this.burst = burst > 0 ? burst : maxReconciliations;
+    this.maxReconciliationsPerNamespace = maxReconciliationsPerNamespace;
+    this.maxReconciliationsPerController = maxReconciliationsPerController;
+    this.namespaceBuckets.values().forEach(bucket -> bucket.evicted = true);
+    this.namespaceBuckets.clear();
+    this.controllerBucket = maxReconciliationsPerController > 0
+        ? sharedBucket(maxReconciliationsPerController)
+        : null;
+  }
+
+  @Override
+  public void initFrom(RateLimited configuration) {
+    configure(Duration.of(configuration.within(), configuration.unit().toChronoUnit()),
+        configuration.maxReconciliations(), configuration.burst(),
+        configuration.maxReconciliationsPerNamespace(),
+        configuration.maxReconciliationsPerController());
+  }
+
+  /**
+   * @throws IllegalStateException if reconciliations are limited per namespace, since the namespace
+   *         of the resource is needed, see {@link #initState(ResourceID)}
+   */
+  @Override
+  public State initState() {
+    if (maxReconciliationsPerNamespace > 0) {
+      throw new IllegalStateException(
+          "Limiting reconciliations per namespace requires the ID of the resource");
+    }
+    return new State(resourceBucket(), null);
+  }
+
+  @Override
+  public State initState(ResourceID resourceID) {
+    final var namespace = maxReconciliationsPerNamespace > 0
+        ? resourceID.getNamespace().orElse(null)
+        : null;
+    return new State(resourceBucket(), namespace);
+  }
+
+  private TokenBucket resourceBucket() {
+    return maxReconciliations > 0
+        ? new TokenBucket(maxReconciliations, period, burst, System.nanoTime())
+        : null;
+  }
+
+  private TokenBucket sharedBucket(int limit) {
+    return new TokenBucket(limit, period, limit, System.nanoTime());
+  }
+
+  private NamespaceBucket namespaceBucket(State state) {
+    var bucket = state.namespaceBucket;
+    if (state.namespace != null && (bucket == null || bucket.evicted)) {
+      bucket = namespaceBuckets.computeIfAbsent(state.namespace,
+          ns -> new NamespaceBucket(maxReconciliationsPerNamespace, period));
+      state.namespaceBucket = bucket;
+    }
+    return bucket;
+  }
+
+  @Override
+  public Optional<Duration> isLimited(RateLimitState rateLimitState) {
+    if (!(rateLimitState instanceof State)) {
+      return Optional.empty();
+    }
+    final var state = (State) rateLimitState;
+    final var now = System.nanoTime();
+    if (state.namespace != null) {
+      evictIdleNamespaceBuckets(now);
+    }
+    long wait;
+    do {
+      wait = tryAcquire(now, state.resource, namespaceBucket(state));
+    } while (wait == EVICTED);
+    return wait > 0 ? Optional.of(Duration.ofNanos(wait)) : Optional.empty();
+  }
+
+  // Buckets are shared between resources, so checking and consuming their tokens needs to be
+  // atomic: tokens are only consumed if all the buckets have one. Rather than locking the whole
+  // limiter, each bucket is locked, always from the most to the least specific one so that
+  // resources sharing buckets cannot deadlock. The returned wait is the one of the first bucket
+  // found without a token.
+  private long tryAcquire(long now, TokenBucket resource, NamespaceBucket namespace) {
+    if (resource == null) {
+      return tryAcquire(now, namespace);
+    }
+    synchronized (resource) {
+      final var wait = resource.nanosUntilAvailable(now);
+      if (wait > 0) {
+        return wait;
+      }
+      final var sharedWait = tryAcquire(now, namespace);
+      if (sharedWait == 0) {
+        resource.consume(now);
+      }
+      return sharedWait;
+    }
+  }
+
+  private long tryAcquire(long now, NamespaceBucket namespace) {
+    if (namespace == null) {
+      return tryAcquireFromController(now);
+    }
+    synchronized (namespace) {
+      if (namespace.evicted) {
+        return EVICTED;
+      }
+      final var wait = namespace.nanosUntilAvailable(now);
+      if (wait > 0) {
+        return wait;
+      }
+      final var controllerWait = tryAcquireFromController(now);
+      if (controllerWait == 0) {
+        namespace.consume(now);
+      }
+      return controllerWait;
+    }
+  }
+
+  private long tryAcquireFromController(long now) {
+    final var bucket = controllerBucket;
+    if (bucket == null) {
+      return 0;
+    }
+    synchronized (bucket) {
+      return bucket.tryAcquire(now);
+    }
+  }
+
+  private void evictIdleNamespaceBuckets(long now) {
+    final var last = lastEvictionNanos.get();
+    if (now - last < period.toNanos() || !lastEvictionNanos.compareAndSet(last, now)) {
+      return;
+    }
+    for (var entry : namespaceBuckets.entrySet()) {
+      final var bucket = entry.getValue();
+      synchronized (bucket) {
+        // a bucket which is full at least a period after the previous eviction check hasn't been
+        // used during the period, states still referencing it get a new one once it is evicted
+        if (bucket.isFull(now)) {
+          bucket.evicted = true;
+          namespaceBuckets.remove(entry.getKey(), bucket);
+        }
+      }
+    }
+  }
+
+  @Override
+  public boolean isActivated() {
+    return maxReconciliations > 0 || maxReconciliationsPerNamespace > 0
+        || maxReconciliationsPerController > 0;
+  }
+
+  public Duration getPeriod() {
+    return period;
+  }
+
+  public int getMaxReconciliations() {
+    return maxReconciliations;
+  }
+
+  public int getBurst() {
+    return burst;
+  }
+
+  public int getMaxReconciliationsPerNamespace() {
+    return maxReconciliationsPerNamespace;
+  }
+
+  public int getMaxReconciliationsPerController() {
+    return maxReconciliationsPerController;
+  }
+
+  int namespaceBucketCount() {
+    return namespaceBuckets.size();
+  }
+
+  public static class State implements RateLimitState {
+    private final TokenBucket resource;
+    private final String namespace;
+    private volatile NamespaceBucket namespaceBucket;
+
+    private State(TokenBucket resource, String namespace) {
+      this.resource = resource;
+      this.namespace = namespace;
+    }
+  }
+
+  private static class NamespaceBucket extends TokenBucket {
+    // set while holding the bucket's lock, also read without it to look up a new bucket
+    private volatile boolean evicted;
+
+    private NamespaceBucket(int limit, Duration period) {
+      super(limit, period, limit, System.nanoTime());
+    }
+  }
+}
@@ -1,7 +1,6 @@
 package io.javaoperatorsdk.operator.processing.event.rate;
 
 import java.time.Duration;
-import java.time.LocalDateTime;
 import java.util.Optional;
 
 import io.javaoperatorsdk.operator.api.config.AnnotationConfigurable;
@@ -44,13 +43,15 @@ public class LinearRateLimiter
     if (actualState.getCount() < limitForPeriod) {
       actualState.increaseCount();
       return Optional.empty();
-    } else if (actualState.getLastRefreshTime()
-        .isBefore(LocalDateTime.now().minus(refreshPeriod))) {
+    }
+    final var untilRefresh =
+        refreshPeriod.toNanos() - (System.nanoTime() - actualState.getLastRefreshNanos());
+    if (untilRefresh < 0) {
       actualState.reset();
       actualState.increaseCount();
       return Optional.empty();
     } else {
-      return Optional.of(Duration.between(actualState.getLastRefreshTime(), LocalDateTime.now()));
+      return Optional.of(Duration.ofNanos(untilRefresh));
     }
   }
 
@@ -66,6 +67,7 @@ public class LinearRateLimiter
     this.limitForPeriod = configuration.maxReconciliations();
   }
 
+  @Override
   public boolean isActivated() {
     return limitForPeriod > 0;
   }
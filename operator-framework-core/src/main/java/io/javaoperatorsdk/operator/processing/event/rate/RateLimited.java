@@ -20,4 +20,29 @@ public @interface RateLimited {
    * @return time unit for max delay between reconciliations
    */
   TimeUnit unit() default TimeUnit.SECONDS;
+
+  /**
+   * Number of reconciliations of a resource which can happen in a burst, for limiters based on
+   * token buckets such as {@link TokenBucketRateLimiter}. 0, the default, uses
+   * {@link #maxReconciliations()}.
+   *
+   * @return the size of the token bucket of each resource
+   */
+  int burst() default 0;
+
+  /**
+   * Maximum number of reconciliations of all the resources of a namespace within the period, for
+   * {@link HierarchicalRateLimiter}. 0, the default, doesn't limit namespaces.
+   *
+   * @return the maximum number of reconciliations per namespace
+   */
+  int maxReconciliationsPerNamespace() default 0;
+
+  /**
+   * Maximum number of reconciliations of all the resources of the controller within the period, for
+   * {@link HierarchicalRateLimiter}. 0, the default, doesn't limit the controller.
+   *
+   * @return the maximum number of reconciliations of the controller
+   */
+  int maxReconciliationsPerController() default 0;
 }
@@ -3,6 +3,7 @@ package io.javaoperatorsdk.operator.processing.event.rate;
 import java.time.Duration;
 import java.util.Optional;
 
+import io.javaoperatorsdk.operator.processing.event.ResourceID;
 import io.javaoperatorsdk.operator.processing.event.rate.RateLimiter.RateLimitState;
 
 public interface RateLimiter<S extends RateLimitState> {
@@ -17,4 +18,24 @@ public interface RateLimiter<S extends RateLimitState> {
   Optional<Duration> isLimited(RateLimitState rateLimitState);
 
   S initState();
+
+  /**
+   * Creates the rate limiting state of the specified resource. Limiters sharing budgets between
+   * resources, e.g. per namespace, can override this to associate the state with the relevant
+   * budgets.
+   *
+   * @param resourceID the resource which reconciliations will be limited using the state
+   * @return the initial state for the resource
+   */
+  default S initState(ResourceID resourceID) {
+    return initState();
+  }
+
+  /**
+   * @return {@code false} if the limiter never limits reconciliations, in which case no state is
+   *         tracked for the resources, {@code true} otherwise
+   */
+  default boolean isActivated() {
+    return true;
+  }
 }
@@ -0,0 +1,89 @@
+package io.javaoperatorsdk.operator.processing.event.rate;
+
+import java.time.Duration;
+
+import io.javaoperatorsdk.operator.processing.event.rate.RateLimiter.RateLimitState;
+
+/**
+ * A bucket holding up to a given number of tokens, refilled at a constant rate, each reconciliation
+ * consuming one token. Time is measured using {@link System#nanoTime()} so that no object is
+ * allocated when acquiring tokens. Not thread-safe.
+ */
+class TokenBucket implements RateLimitState {
+
+  private final int capacity;
+  private final long nanosPerToken;
+  private int tokens;
+  private long lastRefillNanos;
+
+  /**
+   * @param tokensPerPeriod number of tokens added to the bucket during each period
+   * @param period the refill period
+   * @param capacity the maximum number of tokens the bucket can hold, i.e. the size of bursts
+   * @param now the current {@link System#nanoTime()}
+   */
+  TokenBucket(int tokensPerPeriod, Duration period, int capacity, long now) {
+    this.capacity = capacity;
+    this.nanosPerToken = Math.max(1, period.toNanos() / tokensPerPeriod);
+    this.tokens = capacity;
+    this.lastRefillNanos = now;
+  }
+
+  /**
+   * @param now the current {@link System#nanoTime()}
+   * @return 0 if a token is available, the number of nanoseconds until one is otherwise
+   */
+  long nanosUntilAvailable(long now) {
+    final var elapsed = now - lastRefillNanos;
+    if (elapsed >= nanosPerToken) {
+      final var added = elapsed / nanosPerToken;
+      if (tokens + added >= capacity) {
+        tokens = capacity;
+        lastRefillNanos = now;
+      } else {
+        tokens += (int) added;
+        // keep the time elapsed since the last added token
+        lastRefillNanos += added * nanosPerToken;
+      }
+    }
+    return tokens > 0 ? 0 : nanosPerToken - (now - lastRefillNanos);
+  }
+
+  /**
+   * Consumes a token, which must be available according to {@link #nanosUntilAvailable(long)}.
+   *
+   * @param now the current {@link System#nanoTime()}
+   */
+  void consume(long now) {
+    if (tokens == capacity) {
+      // a full bucket doesn't get refilled, the refill period starts now
+      lastRefillNanos = now;
+    }
+    tokens--;
+  }
+
+  /**
+   * @param now the current {@link System#nanoTime()}
+   * @return 0 if a token was acquired, the number of nanoseconds until one is available otherwise
+   */
+  long tryAcquire(long now) {
+    final var wait = nanosUntilAvailable(now);
+    if (wait == 0) {
+      consume(now);
+    }
+    return wait;
+  }
+
+  /**
+   * @param now the current {@link System#nanoTime()}
+   * @return {@code true} if the bucket holds as many tokens as it can, i.e. behaves as a new one
+   */
+  boolean isFull(long now) {
+    nanosUntilAvailable(now);
+    return tokens == capacity;
+  }
+
+  int availableTokens() {
+    return tokens;
+  }
+}
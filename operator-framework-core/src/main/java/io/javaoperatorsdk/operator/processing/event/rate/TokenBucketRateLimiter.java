@@ -0,0 +1,83 @@
+package io.javaoperatorsdk.operator.processing.event.rate;
+
+import java.time.Duration;
+import java.util.Optional;
+
+import io.javaoperatorsdk.operator.api.config.AnnotationConfigurable;
+
+/**
+ * A rate limiter giving each resource a token bucket: up to {@link #getBurst()} reconciliations can
+ * happen right away, after which reconciliations are allowed at a steady rate of
+ * {@link #getMaxReconciliations()} per {@link #getPeriod()}. Compared to {@link LinearRateLimiter},
+ * reconciliations are spread over the period instead of all being allowed at its start, and no
+ * object is allocated when checking the limit.
+ */
+public class TokenBucketRateLimiter
+    implements RateLimiter<TokenBucket>, AnnotationConfigurable<RateLimited> {
+
+  private Duration period;
+  private int maxReconciliations;
+  private int burst;
+
+  /**
+   * Creates a deactivated rate limiter, to be configured using {@link RateLimited}.
+   */
+  public TokenBucketRateLimiter() {
+    this(LinearRateLimiter.DEFAULT_REFRESH_PERIOD, LinearRateLimiter.NO_LIMIT_PERIOD);
+  }
+
+  public TokenBucketRateLimiter(Duration period, int maxReconciliations) {
+    this(period, maxReconciliations, maxReconciliations);
+  }
+
+  /**
+   * @param period the period during which {@code maxReconciliations} are allowed
+   * @param maxReconciliations the number of reconciliations allowed per period, non-positive to
+   *        deactivate rate limiting
+   * @param burst the number of reconciliations allowed at once
+   */
+  public TokenBucketRateLimiter(Duration period, int maxReconciliations, int burst) {
+    this.period = period;
+    this.maxReconciliations = maxReconciliations;
+    this.burst = burst > 0 ? burst : maxReconciliations;
+  }
+
+  @Override
+  public Optional<Duration> isLimited(RateLimitState rateLimitState) {
+    if (!isActivated() || !(rateLimitState instanceof TokenBucket)) {
+      return Optional.empty();
+    }
+    final var wait = ((TokenBucket) rateLimitState).tryAcquire(System.nanoTime());
+    return wait == 0 ? Optional.empty() : Optional.of(Duration.ofNanos(wait));
+  }
+
+  @Override
+  public TokenBucket initState() {
+    return new TokenBucket(Math.max(1, maxReconciliations), period, Math.max(1, burst),
+        System.nanoTime());
+  }
+
+  @Override
+  public void initFrom(RateLimited configuration) {
+    this.period = Duration.of(configuration.within(), configuration.unit().toChronoUnit());
+    this.maxReconciliations = configuration.maxReconciliations();
+    this.burst = configuration.burst() > 0 ? configuration.burst() : maxReconciliations;
+  }
+
+  @Override
+  public boolean isActivated() {
+    return maxReconciliations > 0;
+  }
+
+  public Duration getPeriod() {
+    return period;
+  }
+
+  public int getMaxReconciliations() {
+    return maxReconciliations;
+  }
+
+  public int getBurst() {
+    return burst;
+  }
+}
@@ -32,6 +32,39 @@ public interface ResourceEventSource<R, P extends HasMetadata> extends EventSour
 
   Set<R> getSecondaryResources(P primary);
 
+  /**
+   * Same as {@link #getSecondaryResource(HasMetadata)} but the returned resource might be the
+   * instance held by the cache of the event source, and must therefore not be modified.
+   *
+   * @param primary the primary resource
+   * @return the secondary resource associated with the primary, if any
+   * @see #getSecondaryResourcesReadOnly(HasMetadata)
+   */
+  default Optional<R> getSecondaryResourceReadOnly(P primary) {
+    var resources = getSecondaryResourcesReadOnly(primary);
+    if (resources.isEmpty()) {
+      return Optional.empty();
+    } else if (resources.size() == 1) {
+      return Optional.of(resources.iterator().next());
+    } else {
+      throw new IllegalStateException("More than 1 secondary resource related to primary");
+    }
+  }
+
+  /**
+   * Same as {@link #getSecondaryResources(HasMetadata)} but the returned resources might be the
+   * instances held by the cache of the event source, and must therefore not be modified. Event
+   * sources which copy resources when retrieving them from their cache can avoid this copy here,
+   * which is useful when resources are only read, e.g. to compute or match a desired state. By
+   * default, returns the same resources as {@link #getSecondaryResources(HasMetadata)}.
+   *
+   * @param primary the primary resource
+   * @return the secondary resources associated with the primary
+   */
+  default Set<R> getSecondaryResourcesReadOnly(P primary) {
+    return getSecondaryResources(primary);
+  }
+
   void setOnAddFilter(OnAddFilter<? super R> onAddFilter);
 
   void setOnUpdateFilter(OnUpdateFilter<? super R> onUpdateFilter);
@@ -3,7 +3,12 @@ package io.javaoperatorsdk.operator.processing.event.source.cache;
 import java.lang.reflect.Constructor;
 import java.lang.reflect.InvocationTargetException;
 import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.function.Function;
 import java.util.stream.Stream;
 
@@ -16,17 +21,40 @@ import io.fabric8.kubernetes.client.KubernetesClient;
 import io.fabric8.kubernetes.client.informers.cache.Cache;
 import io.fabric8.kubernetes.client.informers.cache.ItemStore;
 import io.javaoperatorsdk.operator.api.config.Utils;
+import io.javaoperatorsdk.operator.api.monitoring.Metrics;
+import io.javaoperatorsdk.operator.processing.GroupVersionKind;
+import io.javaoperatorsdk.operator.processing.event.ResourceID;
 
+/**
+ * An {@link ItemStore} keeping the full resources in a {@link BoundedCache}, only minimal versions
+ * of the resources being kept for all the known resources. Resources evicted from the bounded cache
+ * are fetched from the server when requested again, concurrent requests for the same resource
+ * sharing a single fetch. Evicted resources can also be fetched ahead of time, see
+ * {@link #prefetch(String, Executor)}.
+ *
+ * @param <R> the type of the cached resources
+ */
 public class BoundedItemStore<R extends HasMetadata>
     implements ItemStore<R> {
 
   private static final Logger log = LoggerFactory.getLogger(BoundedItemStore.class);
 
+  /**
+   * Maximum number of resources being prefetched concurrently, further prefetches being skipped so
+   * that a burst of events doesn't result in a burst of requests to the server. Skipped resources
+   * are fetched when requested.
+   */
+  public static final int MAX_CONCURRENT_PREFETCHES = 8;
+
   private final ResourceFetcher<String, R> resourceFetcher;
   private final BoundedCache<String, R> cache;
   private final Function<R, String> keyFunction;
   private final Map<String, R> existingMinimalResources = new ConcurrentHashMap<>();
   private final Constructor<R> resourceConstructor;
+  private final Map<String, CompletableFuture<R>> inFlightFetches = new ConcurrentHashMap<>();
+  private final AtomicInteger runningPrefetches = new AtomicInteger();
+  private volatile Metrics metrics = Metrics.NOOP;
+  private volatile GroupVersionKind groupVersionKind;
 
   public BoundedItemStore(BoundedCache<String, R> cache, Class<R> resourceClass,
       KubernetesClient client) {
@@ -98,12 +126,97 @@ public class BoundedItemStore<R extends HasMetadata>
   public R get(String key) {
     var res = cache.get(key);
     if (res != null) {
+      metrics.boundedCacheHit(groupVersionKind);
       return res;
     }
     if (!existingMinimalResources.containsKey(key)) {
       return null;
     } else {
-      return refreshMissingStateFromServer(key);
+      metrics.boundedCacheMiss(groupVersionKind);
+      return fetch(key);
+    }
+  }
+
+  /**
+   * Starts fetching the specified resource from the server, if it is known but was evicted from the
+   * bounded cache, so that it's available by the time it is requested. A subsequent {@link #get}
+   * while the resource is still being fetched waits for this fetch instead of issuing another one.
+   *
+   * @param key the key of the resource
+   * @param executor the executor to fetch the resource with
+   */
+  public void prefetch(String key, Executor executor) {
+    if (!existingMinimalResources.containsKey(key) || inFlightFetches.containsKey(key)
+        || cache.get(key) != null) {
+      return;
+    }
+    if (runningPrefetches.incrementAndGet() > MAX_CONCURRENT_PREFETCHES) {
+      runningPrefetches.decrementAndGet();
+      log.debug("Too many running prefetches, skipping prefetch of resource for key: {}", key);
+      return;
+    }
+    try {
+      executor.execute(() -> {
+        try {
+          fetch(key);
+        } catch (RuntimeException e) {
+          log.warn("Error prefetching resource for key: {}", key, e);
+        } finally {
+          runningPrefetches.decrementAndGet();
+        }
+      });
+      metrics.boundedCachePrefetch(groupVersionKind);
+    } catch (RejectedExecutionException e) {
+      runningPrefetches.decrementAndGet();
+      log.debug("Skipping prefetch of resource for key: {}", key, e);
+    }
+  }
+
+  /**
+   * Same as {@link #prefetch(String, Executor)} for stores using the default
+   * {@link #namespaceKeyFunc()}.
+   *
+   * @param resourceID the identifier of the resource
+   * @param executor the executor to fetch the resource with
+   */
+  public void prefetch(ResourceID resourceID, Executor executor) {
+    prefetch(Cache.namespaceKeyFunc(resourceID.getNamespace().orElse(null),
+        resourceID.getName()), executor);
+  }
+
+  /**
+   * Sets the {@link Metrics} the hits, misses and prefetches of the bounded cache are reported to.
+   *
+   * @param metrics the metrics to report to
+   * @param groupVersionKind the {@link GroupVersionKind} of the cached resources
+   */
+  public void setMetrics(Metrics metrics, GroupVersionKind groupVersionKind) {
+    this.groupVersionKind = groupVersionKind;
+    this.metrics = metrics != null ? metrics : Metrics.NOOP;
+  }
+
+  private R fetch(String key) {
+    final var fetching = new CompletableFuture<R>();
+    final var inFlight = inFlightFetches.putIfAbsent(key, fetching);
+    if (inFlight != null) {
+      log.debug("Waiting for in-flight fetch of resource for key: {}", key);
+      try {
+        return inFlight.join();
+      } catch (CompletionException e) {
+        throw e.getCause() instanceof RuntimeException ? (RuntimeException) e.getCause() : e;
+      }
+    }
+    try {
+      // the resource might have been fetched or received from the informer in the meantime
+      final var cached = cache.get(key);
+      final var fetched = cached != null ? cached : refreshMissingStateFromServer(key);
+      fetching.complete(fetched);
+      return fetched;
+    } catch (RuntimeException e) {
+      fetching.completeExceptionally(e);
+      throw e;
+    } finally {
+      inFlightFetches.remove(key, fetching);
     }
   }
 
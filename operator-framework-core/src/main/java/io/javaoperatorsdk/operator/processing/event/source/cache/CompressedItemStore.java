@@ -0,0 +1,200 @@
+package io.javaoperatorsdk.operator.processing.event.source.cache;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+import java.util.stream.Stream;
+import java.util.zip.Deflater;
+import java.util.zip.DeflaterOutputStream;
+import java.util.zip.Inflater;
+import java.util.zip.InflaterInputStream;
+
+import io.fabric8.kubernetes.api.model.HasMetadata;
+import io.fabric8.kubernetes.client.informers.cache.Cache;
+import io.fabric8.kubernetes.client.informers.cache.ItemStore;
+import io.fabric8.kubernetes.client.utils.KubernetesSerialization;
+
+/**
+ * An {@link ItemStore} keeping the resources as compressed JSON, which takes a fraction of the
+ * memory of the inflated resources, e.g. for resources with large specs or statuses, or ConfigMaps
+ * and Secrets holding a lot of data. Resources are inflated when read, the most recently read or
+ * received resources being kept inflated in a small LRU cache, so that reading the same resources
+ * repeatedly, e.g. during a reconciliation, doesn't inflate them each time.
+ * <p>
+ * Contrary to {@link BoundedItemStore}, all the resources are kept, so that the server is never
+ * queried. Listing the values of the store, as the informer does when resyncing, inflates all the
+ * resources though, so this store is best suited to large resources which are rarely read.
+ * <p>
+ * Can be configured using {@code @ControllerConfiguration(itemStore = CompressedItemStore.class)},
+ * or a subclass to tune the size of the LRU cache or the compression level.
+ *
+ * @param <R> the type of the stored resources
+ */
+public class CompressedItemStore<R extends HasMetadata> implements ItemStore<R> {
+
+  public static final int DEFAULT_DECODED_CACHE_SIZE = 64;
+
+  private static final KubernetesSerialization serialization = new KubernetesSerialization();
+
+  private final Function<R, String> keyFunction;
+  private final int compressionLevel;
+  private final Map<String, Entry<R>> entries = new ConcurrentHashMap<>();
+  private final Map<String, R> decoded;
+
+  public CompressedItemStore() {
+    this(DEFAULT_DECODED_CACHE_SIZE);
+  }
+
+  public CompressedItemStore(int decodedCacheSize) {
+    this(Cache::metaNamespaceKeyFunc, decodedCacheSize, Deflater.BEST_SPEED);
+  }
+
+  /**
+   * @param keyFunction computes the key of the resources
+   * @param decodedCacheSize maximum number of resources kept inflated, 0 to inflate the resources
+   *        each time they are read
+   * @param compressionLevel the {@link Deflater} compression level, between
+   *        {@link Deflater#BEST_SPEED} and {@link Deflater#BEST_COMPRESSION}
+   */
+  public CompressedItemStore(Function<R, String> keyFunction, int decodedCacheSize,
+      int compressionLevel) {
+    if (decodedCacheSize < 0) {
+      throw new IllegalArgumentException(
+          "Decoded cache size must be positive, was: " + decodedCacheSize);
+    }
+    this.keyFunction = keyFunction;
+    this.compressionLevel = compressionLevel;
+    this.decoded = new LinkedHashMap<>(16, 0.75f, true) {
+      @Override
+      protected boolean removeEldestEntry(Map.Entry<String, R> eldest) {
+        return size() > decodedCacheSize;
+      }
+    };
+  }
+
+  @Override
+  public String getKey(R obj) {
+    return keyFunction.apply(obj);
+  }
+
+  @Override
+  public R put(String key, R obj) {
+    final var previous = entries.put(key, encode(obj));
+    final R previousDecoded;
+    synchronized (decoded) {
+      previousDecoded = decoded.put(key, obj);
+    }
+    if (previousDecoded != null) {
+      return previousDecoded;
+    }
+    return previous != null ? decode(previous) : null;
+  }
+
+  @Override
+  public R remove(String key) {
+    final var removed = entries.remove(key);
+    final R removedDecoded;
+    synchronized (decoded) {
+      removedDecoded = decoded.remove(key);
+    }
+    if (removedDecoded != null) {
+      return removedDecoded;
+    }
+    return removed != null ? decode(removed) : null;
+  }
+
+  @Override
+  public Stream<String> keySet() {
+    return entries.keySet().stream();
+  }
+
+  @Override
+  public Stream<R> values() {
+    // doesn't cache the inflated resources, so that listing doesn't evict the recently read ones
+    return entries.entrySet().stream().map(e -> {
+      final var cached = cachedDecoded(e.getKey());
+      return cached != null ? cached : decode(e.getValue());
+    });
+  }
+
+  @Override
+  public int size() {
+    return entries.size();
+  }
+
+  @Override
+  public R get(String key) {
+    final var cached = cachedDecoded(key);
+    if (cached != null) {
+      return cached;
+    }
+    final var entry = entries.get(key);
+    if (entry == null) {
+      return null;
+    }
+    final var resource = decode(entry);
+    synchronized (decoded) {
+      // only caches the inflated resource if it wasn't replaced while being inflated
+      if (entries.get(key) == entry) {
+        decoded.put(key, resource);
+      }
+    }
+    return resource;
+  }
+
+  private R cachedDecoded(String key) {
+    synchronized (decoded) {
+      return decoded.get(key);
+    }
+  }
+
+  /**
+   * @return the total size of the compressed resources, in bytes
+   */
+  public long compressedSize() {
+    return entries.values().stream().mapToLong(e -> e.compressed.length).sum();
+  }
+
+  private Entry<R> encode(R resource) {
+    final var json = serialization.asJson(resource).getBytes(StandardCharsets.UTF_8);
+    final var deflater = new Deflater(compressionLevel);
+    final var bytes = new ByteArrayOutputStream(Math.max(64, json.length / 4));
+    try (var out = new DeflaterOutputStream(bytes, deflater)) {
+      out.write(json);
+    } catch (IOException e) {
+      throw new UncheckedIOException(e);
+    } finally {
+      deflater.end();
+    }
+    @SuppressWarnings("unchecked")
+    final var type = (Class<? extends R>) resource.getClass();
+    return new Entry<>(type, bytes.toByteArray());
+  }
+
+  private R decode(Entry<R> entry) {
+    final var inflater = new Inflater();
+    try (var in = new InflaterInputStream(new ByteArrayInputStream(entry.compressed), inflater)) {
+      return serialization.unmarshal(in, entry.type);
+    } catch (IOException e) {
+      throw new UncheckedIOException(e);
+    } finally {
+      inflater.end();
+    }
+  }
+
+  private static class Entry<R> {
+    private final Class<? extends R> type;
+    private final byte[] compressed;
+
+    private Entry(Class<? extends R> type, byte[] compressed) {
+      this.type = type;
+      this.compressed = compressed;
+    }
+  }
+}
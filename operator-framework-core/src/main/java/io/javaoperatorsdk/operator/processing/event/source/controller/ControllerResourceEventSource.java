@@ -64,11 +64,19 @@ public class ControllerResourceEventSource<T extends HasMetadata>
     }
   }
 
+  @Override
+  protected boolean supportsCacheSnapshots() {
+    // primary resources restored from a snapshot wouldn't get an add event, and therefore wouldn't
+    // be reconciled when the operator starts
+    return false;
+  }
+
   public void eventReceived(ResourceAction action, T resource, T oldResource) {
     try {
+      final var resourceID = ResourceID.fromResource(resource);
       if (log.isDebugEnabled()) {
         log.debug("Event received for resource: {} version: {} uuid: {} action: {}",
-            ResourceID.fromResource(resource),
+            resourceID,
             getVersion(resource), resource.getMetadata().getUid(), action);
         log.trace("Event Old resource: {},\n new resource: {}", oldResource, resource);
       }
@@ -78,10 +86,9 @@ public class ControllerResourceEventSource<T extends HasMetadata>
           legacyFilters.acceptChange(controller, oldResource, resource))
           && isAcceptedByFilters(action, resource, oldResource)) {
         getEventHandler().handleEvent(
-            new ResourceEvent(action, ResourceID.fromResource(resource), resource));
+            new ResourceEvent(action, resourceID, resource));
       } else {
-        log.debug("Skipping event handling resource {}",
-            ResourceID.fromResource(resource));
+        log.debug("Skipping event handling resource {}", resourceID);
       }
     } finally {
       MDCUtils.removeResourceInfo();
@@ -0,0 +1,226 @@
+package io.javaoperatorsdk.operator.processing.event.source.informer;
+
+import java.lang.reflect.Field;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.UnaryOperator;
+
+import io.fabric8.kubernetes.api.model.HasMetadata;
+import io.fabric8.kubernetes.client.utils.KubernetesSerialization;
+import io.javaoperatorsdk.operator.OperatorException;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+/**
+ * Drops fields of resources before they are cached, e.g. managed fields, the
+ * {@code kubectl.kubernetes.io/last-applied-configuration} annotation, status blocks or large data
+ * fields which the operator doesn't need. Fields are identified by JSON pointers (RFC 6901), e.g.
+ * {@code /metadata/managedFields} or
+ * {@code /metadata/annotations/kubectl.kubernetes.io~1last-applied-configuration}, {@code ~1}
+ * standing for {@code /} in a key. A pointer traversing an array applies to all its elements, e.g.
+ * {@code /spec/containers/env} drops the environment of all the containers.
+ * <p>
+ * Pointers are compiled once into a tree walked over the resources, which are modified in place,
+ * the properties of typed resources being resolved through their JSON property names. The fields
+ * the SDK relies on to identify resources, map them to their primary resources and filter events,
+ * see {@link #PROTECTED_FIELDS}, cannot be dropped.
+ *
+ * @param <R> the type of the pruned resources
+ */
+public class CacheFieldPruner<R extends HasMetadata> implements UnaryOperator<R> {
+
+  public static final Set<String> PROTECTED_FIELDS = Set.of("/apiVersion", "/kind",
+      "/metadata/name", "/metadata/namespace", "/metadata/uid", "/metadata/resourceVersion",
+      "/metadata/generation", "/metadata/deletionTimestamp", "/metadata/finalizers",
+      "/metadata/ownerReferences",
+      "/metadata/annotations/" + escape(InformerEventSource.PREVIOUS_ANNOTATION_KEY));
+
+  private static final Map<Class<?>, Map<String, Optional<Field>>> fields =
+      new ConcurrentHashMap<>();
+  private static final Map<Class<?>, Optional<Method>> additionalProperties =
+      new ConcurrentHashMap<>();
+  private static final KubernetesSerialization serialization = new KubernetesSerialization();
+
+  private final Node root = new Node();
+  private final Set<String> prunedFields;
+
+  /**
+   * @param prunedFields JSON pointers to the fields to drop
+   * @throws IllegalArgumentException if a pointer is invalid or points to a protected field, or to
+   *         one of its parents
+   */
+  public CacheFieldPruner(Collection<String> prunedFields) {
+    this.prunedFields = Set.copyOf(prunedFields);
+    for (var pointer : this.prunedFields) {
+      if (pointer == null || !pointer.startsWith("/") || pointer.length() == 1) {
+        throw new IllegalArgumentException("Invalid field to prune: '" + pointer
+            + "', a JSON pointer such as /metadata/managedFields is expected");
+      }
+      PROTECTED_FIELDS.stream()
+          .filter(p -> p.equals(pointer) || p.startsWith(pointer + "/"))
+          .findAny()
+          .ifPresent(p -> {
+            throw new IllegalArgumentException(
+                "Cannot prune " + pointer + " since the SDK needs " + p);
+          });
+      var node = root;
+      for (var segment : pointer.substring(1).split("/", -1)) {
+        node = node.children.computeIfAbsent(unescape(segment), k -> new Node());
+      }
+      node.drop = true;
+    }
+  }
+
+  public Set<String> getPrunedFields() {
+    return prunedFields;
+  }
+
+  @Override
+  public R apply(R resource) {
+    prune(resource, false);
+    return resource;
+  }
+
+  /**
+   * Drops the configured fields of the specified resource, in place.
+   *
+   * @param resource the resource to prune
+   * @param measure whether the size of the dropped fields should be computed, which requires
+   *        serializing them
+   * @return the size of the dropped fields once serialized to JSON, in bytes, {@code 0} if not
+   *         measured
+   */
+  public long prune(R resource, boolean measure) {
+    return prune(resource, root, measure);
+  }
+
+  @SuppressWarnings("unchecked")
+  private long prune(Object target, Node node, boolean measure) {
+    if (target == null) {
+      return 0;
+    }
+    if (target instanceof List) {
+      long pruned = 0;
+      for (var element : (List<Object>) target) {
+        pruned += prune(element, node, measure);
+      }
+      return pruned;
+    }
+    long pruned = 0;
+    for (var child : node.children.entrySet()) {
+      final var name = child.getKey();
+      final var childNode = child.getValue();
+      if (target instanceof Map) {
+        final var map = (Map<String, Object>) target;
+        if (childNode.drop) {
+          pruned += sizeOf(map.remove(name), measure);
+        } else {
+          pruned += prune(map.get(name), childNode, measure);
+        }
+        continue;
+      }
+      final var field = fieldOf(target.getClass(), name);
+      if (field.isPresent()) {
+        pruned += pruneField(target, field.get(), childNode, measure);
+      } else {
+        // properties unknown to the model end up in the additional properties of the resource
+        final var properties = additionalPropertiesOf(target);
+        if (properties != null) {
+          pruned += prune(properties, singleChild(name, childNode), measure);
+        }
+      }
+    }
+    return pruned;
+  }
+
+  private long pruneField(Object target, Field field, Node node, boolean measure) {
+    try {
+      final var value = field.get(target);
+      if (node.drop) {
+        if (value == null) {
+          return 0;
+        }
+        field.set(target, null);
+        return sizeOf(value, measure);
+      }
+      return prune(value, node, measure);
+    } catch (IllegalAccessException e) {
+      throw new OperatorException("Cannot prune field " + field, e);
+    }
+  }
+
+  private static long sizeOf(Object value, boolean measure) {
+    if (!measure || value == null) {
+      return 0;
+    }
+    return serialization.asJson(value).length();
+  }
+
+  private static Node singleChild(String name, Node node) {
+    final var parent = new Node();
+    parent.children.put(name, node);
+    return parent;
+  }
+
+  private static Optional<Field> fieldOf(Class<?> type, String name) {
+    return fields.computeIfAbsent(type, t -> new ConcurrentHashMap<>())
+        .computeIfAbsent(name, n -> findField(type, n));
+  }
+
+  private static Optional<Field> findField(Class<?> type, String name) {
+    for (var current = type; current != null && current != Object.class; current =
+        current.getSuperclass()) {
+      for (var field : current.getDeclaredFields()) {
+        final var property = field.getAnnotation(JsonProperty.class);
+        final var propertyName = property != null && !property.value().isEmpty()
+            ? property.value()
+            : field.getName();
+        if (propertyName.equals(name) && !Modifier.isStatic(field.getModifiers())) {
+          field.setAccessible(true);
+          return Optional.of(field);
+        }
+      }
+    }
+    return Optional.empty();
+  }
+
+  private static Map<?, ?> additionalPropertiesOf(Object target) {
+    final var getter = additionalProperties.computeIfAbsent(target.getClass(), type -> {
+      try {
+        final var method = type.getMethod("getAdditionalProperties");
+        return Map.class.isAssignableFrom(method.getReturnType()) ? Optional.of(method)
+            : Optional.empty();
+      } catch (NoSuchMethodException e) {
+        return Optional.empty();
+      }
+    });
+    if (getter.isEmpty()) {
+      return null;
+    }
+    try {
+      return (Map<?, ?>) getter.get().invoke(target);
+    } catch (ReflectiveOperationException e) {
+      throw new OperatorException("Cannot read additional properties of " + target.getClass(), e);
+    }
+  }
+
+  static String escape(String key) {
+    return key.replace("~", "~0").replace("/", "~1");
+  }
+
+  private static String unescape(String segment) {
+    return segment.replace("~1", "/").replace("~0", "~");
+  }
+
+  private static class Node {
+    private final Map<String, Node> children = new LinkedHashMap<>();
+    private boolean drop;
+  }
+}
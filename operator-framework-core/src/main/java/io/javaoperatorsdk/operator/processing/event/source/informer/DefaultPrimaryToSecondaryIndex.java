@@ -7,51 +7,129 @@ import io.fabric8.kubernetes.api.model.HasMetadata;
 import io.javaoperatorsdk.operator.processing.event.ResourceID;
 import io.javaoperatorsdk.operator.processing.event.source.SecondaryToPrimaryMapper;
 
+/**
+ * Index of the secondary resources associated with each primary resource, built using the
+ * {@link SecondaryToPrimaryMapper}. The primary resources each secondary resource was last mapped
+ * to are recorded, so that an update only adds and removes the links which changed, e.g. when an
+ * owner reference or a label of the secondary resource changed, and a deletion removes exactly the
+ * links which were added.
+ * <p>
+ * The sets of secondary resources are concurrent sets updated in place, so that linking or
+ * unlinking a secondary resource doesn't depend on how many secondary resources the primary
+ * resource has, and reads return a copy without taking any lock, which they iterate anyway. Updates
+ * of distinct secondary resources don't contend either, except when they are associated with the
+ * same primary resource. Since the mapper is called without holding any lock, the mapping of a
+ * resource older than the one already recorded, e.g. an event delivered after the resource returned
+ * by an update was indexed, is ignored.
+ */
 class DefaultPrimaryToSecondaryIndex<R extends HasMetadata> implements PrimaryToSecondaryIndex<R> {
 
   private final SecondaryToPrimaryMapper<R> secondaryToPrimaryMapper;
-  private final Map<ResourceID, Set<ResourceID>> index = new HashMap<>();
+  private final boolean memoizeMappings;
+  private final Map<ResourceID, Set<ResourceID>> index = new ConcurrentHashMap<>();
+  private final Map<ResourceID, Mapping> mappings = new ConcurrentHashMap<>();
 
   public DefaultPrimaryToSecondaryIndex(SecondaryToPrimaryMapper<R> secondaryToPrimaryMapper) {
+    this(secondaryToPrimaryMapper, false);
+  }
+
+  /**
+   * @param secondaryToPrimaryMapper the mapper used to build the index
+   * @param memoizeMappings whether the mapper should only be called once per resource version of a
+   *        secondary resource, which is only correct if the mapper solely depends on the resource
+   */
+  public DefaultPrimaryToSecondaryIndex(SecondaryToPrimaryMapper<R> secondaryToPrimaryMapper,
+      boolean memoizeMappings) {
     this.secondaryToPrimaryMapper = secondaryToPrimaryMapper;
+    this.memoizeMappings = memoizeMappings;
   }
 
   @Override
-  public synchronized void onAddOrUpdate(R resource) {
-    Set<ResourceID> primaryResources = secondaryToPrimaryMapper.toPrimaryResourceIDs(resource);
-    primaryResources.forEach(
-        primaryResource -> {
-          var resourceSet =
-              index.computeIfAbsent(primaryResource, pr -> ConcurrentHashMap.newKeySet());
-          resourceSet.add(ResourceID.fromResource(resource));
-        });
+  public void onAddOrUpdate(R resource) {
+    final var secondary = ResourceID.fromResource(resource);
+    final var resourceVersion = resource.getMetadata().getResourceVersion();
+    if (memoizeMappings && resourceVersion != null) {
+      final var current = mappings.get(secondary);
+      if (current != null && resourceVersion.equals(current.resourceVersion)) {
+        return;
+      }
+    }
+    final var primaries = Set.copyOf(secondaryToPrimaryMapper.toPrimaryResourceIDs(resource));
+    final var mapping = new Mapping(resourceVersion, primaries);
+    mappings.compute(secondary, (id, previous) -> {
+      if (previous != null && isOlder(resourceVersion, previous.resourceVersion)) {
+        return previous;
+      }
+      final var previousPrimaries =
+          previous != null ? previous.primaries : Collections.<ResourceID>emptySet();
+      previousPrimaries.stream().filter(p -> !primaries.contains(p))
+          .forEach(p -> unlink(p, secondary));
+      primaries.stream().filter(p -> !previousPrimaries.contains(p))
+          .forEach(p -> link(p, secondary));
+      return mapping;
+    });
   }
 
   @Override
-  public synchronized void onDelete(R resource) {
-    Set<ResourceID> primaryResources = secondaryToPrimaryMapper.toPrimaryResourceIDs(resource);
-    primaryResources.forEach(
-        primaryResource -> {
-          var secondaryResources = index.get(primaryResource);
-          // this can be null in just very special cases, like when the secondaryToPrimaryMapper is
-          // changing dynamically. Like if a list of ResourceIDs mapped dynamically extended in the
-          // mapper between the onAddOrUpdate and onDelete is called.
-          if (secondaryResources != null) {
-            secondaryResources.remove(ResourceID.fromResource(resource));
-            if (secondaryResources.isEmpty()) {
-              index.remove(primaryResource);
-            }
-          }
-        });
+  public void onDelete(R resource) {
+    final var secondary = ResourceID.fromResource(resource);
+    mappings.compute(secondary, (id, previous) -> {
+      // the mapping can be missing if the resource was deleted before being indexed, the mapper is
+      // then the only way to find the primary resources
+      final var primaries = previous != null ? previous.primaries
+          : secondaryToPrimaryMapper.toPrimaryResourceIDs(resource);
+      primaries.forEach(p -> unlink(p, secondary));
+      return null;
+    });
   }
 
   @Override
-  public synchronized Set<ResourceID> getSecondaryResources(ResourceID primary) {
-    var resourceIDs = index.get(primary);
-    if (resourceIDs == null) {
-      return Collections.emptySet();
-    } else {
-      return Collections.unmodifiableSet(resourceIDs);
+  public Set<ResourceID> getSecondaryResources(ResourceID primary) {
+    final var secondaries = index.get(primary);
+    return secondaries != null ? Set.copyOf(secondaries) : Collections.emptySet();
+  }
+
+  // the sets are only modified while holding the lock of their entry, so that a set emptied by
+  // unlink is never removed while link adds to it
+  private void link(ResourceID primary, ResourceID secondary) {
+    index.compute(primary, (id, secondaries) -> {
+      if (secondaries == null) {
+        secondaries = ConcurrentHashMap.newKeySet();
+      }
+      secondaries.add(secondary);
+      return secondaries;
+    });
+  }
+
+  private void unlink(ResourceID primary, ResourceID secondary) {
+    index.computeIfPresent(primary, (id, secondaries) -> {
+      secondaries.remove(secondary);
+      return secondaries.isEmpty() ? null : secondaries;
+    });
+  }
+
+  /**
+   * Resource versions are opaque, but the ones of a given resource are increasing numbers in
+   * practice: if they can't be parsed, they are considered as not ordered.
+   */
+  private static boolean isOlder(String resourceVersion, String recordedResourceVersion) {
+    if (resourceVersion == null || recordedResourceVersion == null) {
+      return false;
+    }
+    try {
+      return Long.parseLong(resourceVersion) < Long.parseLong(recordedResourceVersion);
+    } catch (NumberFormatException e) {
+      return false;
+    }
+  }
+
+  private static class Mapping {
+    private final String resourceVersion;
+    private final Set<ResourceID> primaries;
+
+    private Mapping(String resourceVersion, Set<ResourceID> primaries) {
+      this.resourceVersion = resourceVersion;
+      this.primaries = primaries;
     }
   }
 }
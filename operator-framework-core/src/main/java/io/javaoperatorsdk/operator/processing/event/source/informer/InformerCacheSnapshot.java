@@ -0,0 +1,119 @@
+package io.javaoperatorsdk.operator.processing.event.source.informer;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.ByteArrayInputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.GZIPOutputStream;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import io.fabric8.kubernetes.api.model.HasMetadata;
+import io.fabric8.kubernetes.client.utils.KubernetesSerialization;
+
+/**
+ * The content of an informer cache written to disk, along with the resource version the informer
+ * last synced to. Snapshots are stored in a compressed binary file holding the length-prefixed JSON
+ * representation of each resource. Files are written to a temporary file first, then moved, so that
+ * a snapshot interrupted by a crash never replaces a valid one.
+ *
+ * @param <T> the type of the cached resources
+ */
+class InformerCacheSnapshot<T extends HasMetadata> {
+
+  private static final Logger log = LoggerFactory.getLogger(InformerCacheSnapshot.class);
+
+  static final int MAGIC = 0x4A4F5344;
+  static final int FORMAT_VERSION = 1;
+  private static final KubernetesSerialization serialization = new KubernetesSerialization();
+
+  private final String resourceVersion;
+  private final List<T> resources;
+
+  private InformerCacheSnapshot(String resourceVersion, List<T> resources) {
+    this.resourceVersion = resourceVersion;
+    this.resources = resources;
+  }
+
+  String getResourceVersion() {
+    return resourceVersion;
+  }
+
+  List<T> getResources() {
+    return resources;
+  }
+
+  static void write(Path file, String resourceVersion, Collection<? extends HasMetadata> resources)
+      throws IOException {
+    final var directory = file.toAbsolutePath().getParent();
+    Files.createDirectories(directory);
+    final var temporary = Files.createTempFile(directory, file.getFileName().toString(), ".tmp");
+    try {
+      try (var out = new DataOutputStream(new BufferedOutputStream(
+          new GZIPOutputStream(Files.newOutputStream(temporary))))) {
+        out.writeInt(MAGIC);
+        out.writeInt(FORMAT_VERSION);
+        out.writeUTF(resourceVersion != null ? resourceVersion : "");
+        out.writeInt(resources.size());
+        for (var resource : resources) {
+          final var json = serialization.asJson(resource).getBytes(StandardCharsets.UTF_8);
+          out.writeInt(json.length);
+          out.write(json);
+        }
+      }
+      Files.move(temporary, file, StandardCopyOption.REPLACE_EXISTING,
+          StandardCopyOption.ATOMIC_MOVE);
+    } finally {
+      Files.deleteIfExists(temporary);
+    }
+  }
+
+  /**
+   * Reads the snapshot stored in the specified file. A missing, truncated or otherwise unreadable
+   * snapshot is ignored, the informer then starting with an empty cache as usual.
+   *
+   * @param file the file the snapshot was written to
+   * @param resourceType the type of the cached resources
+   * @return the snapshot, if it could be read
+   * @param <T> the type of the cached resources
+   */
+  static <T extends HasMetadata> Optional<InformerCacheSnapshot<T>> read(Path file,
+      Class<T> resourceType) {
+    try (var in = new DataInputStream(
+        new BufferedInputStream(new GZIPInputStream(Files.newInputStream(file))))) {
+      if (in.readInt() != MAGIC || in.readInt() != FORMAT_VERSION) {
+        log.warn("Ignoring informer cache snapshot with unknown format: {}", file);
+        return Optional.empty();
+      }
+      final var resourceVersion = in.readUTF();
+      final var size = in.readInt();
+      final List<T> resources = new ArrayList<>();
+      for (int i = 0; i < size; i++) {
+        final var json = new byte[in.readInt()];
+        in.readFully(json);
+        resources.add(serialization.unmarshal(new ByteArrayInputStream(json), resourceType));
+      }
+      return Optional.of(new InformerCacheSnapshot<>(
+          resourceVersion.isEmpty() ? null : resourceVersion, resources));
+    } catch (NoSuchFileException e) {
+      log.debug("No informer cache snapshot found: {}", file);
+      return Optional.empty();
+    } catch (IOException | RuntimeException e) {
+      log.warn("Ignoring unreadable informer cache snapshot: {}", file, e);
+      return Optional.empty();
+    }
+  }
+}
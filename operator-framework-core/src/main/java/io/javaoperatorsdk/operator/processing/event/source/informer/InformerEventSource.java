@@ -1,6 +1,8 @@
 package io.javaoperatorsdk.operator.processing.event.source.informer;
 
 import java.util.*;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.function.Consumer;
 import java.util.stream.Collectors;
 
 import org.slf4j.Logger;
@@ -75,6 +77,7 @@ public class InformerEventSource<R extends HasMetadata, P extends HasMetadata>
   private final PrimaryToSecondaryIndex<R> primaryToSecondaryIndex;
   private final PrimaryToSecondaryMapper<P> primaryToSecondaryMapper;
   private final String id = UUID.randomUUID().toString();
+  private final List<Consumer<R>> deletionListeners = new CopyOnWriteArrayList<>();
 
   public InformerEventSource(
       InformerConfiguration<R> configuration, EventSourceContext<P> context) {
@@ -99,7 +102,8 @@ public class InformerEventSource<R extends HasMetadata, P extends HasMetadata>
     if (primaryToSecondaryMapper == null) {
       primaryToSecondaryIndex =
           // The index uses the secondary to primary mapper (always present) to build the index
-          new DefaultPrimaryToSecondaryIndex<>(configuration.getSecondaryToPrimaryMapper());
+          new DefaultPrimaryToSecondaryIndex<>(configuration.getSecondaryToPrimaryMapper(),
+              configuration.isSecondaryToPrimaryMapperMemoized());
     } else {
       primaryToSecondaryIndex = NOOPPrimaryToSecondaryIndex.getInstance();
     }
@@ -112,28 +116,35 @@ public class InformerEventSource<R extends HasMetadata, P extends HasMetadata>
 
   @Override
   public void onAdd(R newResource) {
+    final var resourceID = ResourceID.fromResource(newResource);
     if (log.isDebugEnabled()) {
       log.debug("On add event received for resource id: {} type: {} version: {}",
-          ResourceID.fromResource(newResource),
+          resourceID,
           resourceType().getSimpleName(), newResource.getMetadata().getResourceVersion());
     }
     primaryToSecondaryIndex.onAddOrUpdate(newResource);
-    onAddOrUpdate(Operation.ADD, newResource, null,
+    onAddOrUpdate(Operation.ADD, newResource, null, resourceID,
         () -> InformerEventSource.super.onAdd(newResource));
   }
 
+  @Override
+  protected void onCacheSnapshotRestored(R resource) {
+    primaryToSecondaryIndex.onAddOrUpdate(resource);
+  }
+
   @Override
   public void onUpdate(R oldObject, R newObject) {
+    final var resourceID = ResourceID.fromResource(newObject);
     if (log.isDebugEnabled()) {
       log.debug(
           "On update event received for resource id: {} type: {} version: {} old version: {} ",
-          ResourceID.fromResource(newObject),
+          resourceID,
           resourceType().getSimpleName(),
           newObject.getMetadata().getResourceVersion(),
           oldObject.getMetadata().getResourceVersion());
     }
     primaryToSecondaryIndex.onAddOrUpdate(newObject);
-    onAddOrUpdate(Operation.UPDATE, newObject, oldObject,
+    onAddOrUpdate(Operation.UPDATE, newObject, oldObject, resourceID,
         () -> InformerEventSource.super.onUpdate(oldObject, newObject));
   }
 
@@ -146,20 +157,19 @@ public class InformerEventSource<R extends HasMetadata, P extends HasMetadata>
     }
     primaryToSecondaryIndex.onDelete(resource);
     super.onDelete(resource, b);
+    deletionListeners.forEach(listener -> listener.accept(resource));
     if (acceptedByDeleteFilters(resource, b)) {
       propagateEvent(resource);
     }
   }
 
   private synchronized void onAddOrUpdate(Operation operation, R newObject, R oldObject,
-      Runnable superOnOp) {
-    var resourceID = ResourceID.fromResource(newObject);
-
+      ResourceID resourceID, Runnable superOnOp) {
     if (canSkipEvent(newObject, oldObject, resourceID)) {
       log.debug(
           "Skipping event propagation for {}, since was a result of a reconcile action. Resource ID: {}",
           operation,
-          ResourceID.fromResource(newObject));
+          resourceID);
       superOnOp.run();
     } else {
       superOnOp.run();
@@ -230,6 +240,18 @@ public class InformerEventSource<R extends HasMetadata, P extends HasMetadata>
 
   @Override
   public Set<R> getSecondaryResources(P primary) {
+    return secondaryResourceIDs(primary).stream().map(this::get).flatMap(Optional::stream)
+        .collect(Collectors.toSet());
+  }
+
+  @Override
+  public Set<R> getSecondaryResourcesReadOnly(P primary) {
+    return secondaryResourceIDs(primary).stream().map(this::getReadOnly)
+        .flatMap(Optional::stream)
+        .collect(Collectors.toSet());
+  }
+
+  private Set<ResourceID> secondaryResourceIDs(P primary) {
     Set<ResourceID> secondaryIDs;
     if (useSecondaryToPrimaryIndex()) {
       var primaryResourceID = ResourceID.fromResource(primary);
@@ -243,8 +265,17 @@ public class InformerEventSource<R extends HasMetadata, P extends HasMetadata>
           "Using PrimaryToSecondaryMapper to find secondary resources for primary: {}. Found secondary ids: {} ",
           primary, secondaryIDs);
     }
-    return secondaryIDs.stream().map(this::get).flatMap(Optional::stream)
-        .collect(Collectors.toSet());
+    return secondaryIDs;
+  }
+
+  /**
+   * Registers a listener notified whenever a resource is removed from this event source's cache,
+   * regardless of the configured delete filters, so that state kept about it can be released.
+   *
+   * @param listener the listener to notify with the deleted resource
+   */
+  public void addDeletionListener(Consumer<R> listener) {
+    deletionListeners.add(listener);
   }
 
   /**
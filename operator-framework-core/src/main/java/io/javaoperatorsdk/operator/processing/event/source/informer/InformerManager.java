@@ -1,8 +1,13 @@
 package io.javaoperatorsdk.operator.processing.event.source.informer;
 
+import java.nio.file.Path;
 import java.util.*;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
 import java.util.function.Function;
+import java.util.function.LongConsumer;
 import java.util.function.Predicate;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
@@ -10,27 +15,43 @@ import java.util.stream.Stream;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import io.fabric8.kubernetes.api.model.GenericKubernetesResource;
 import io.fabric8.kubernetes.api.model.HasMetadata;
 import io.fabric8.kubernetes.api.model.KubernetesResourceList;
+import io.fabric8.kubernetes.api.model.OwnerReference;
+import io.fabric8.kubernetes.api.model.Secret;
 import io.fabric8.kubernetes.client.dsl.FilterWatchListDeletable;
 import io.fabric8.kubernetes.client.dsl.MixedOperation;
 import io.fabric8.kubernetes.client.dsl.Resource;
 import io.fabric8.kubernetes.client.informers.ResourceEventHandler;
+import io.fabric8.kubernetes.client.informers.SharedIndexInformer;
+import io.fabric8.kubernetes.client.informers.cache.ItemStore;
 import io.javaoperatorsdk.operator.OperatorException;
 import io.javaoperatorsdk.operator.ReconcilerUtils;
 import io.javaoperatorsdk.operator.api.config.ConfigurationService;
 import io.javaoperatorsdk.operator.api.config.ResourceConfiguration;
+import io.javaoperatorsdk.operator.api.config.informer.InformerConfiguration;
+import io.javaoperatorsdk.operator.api.monitoring.Metrics;
 import io.javaoperatorsdk.operator.health.InformerHealthIndicator;
+import io.javaoperatorsdk.operator.processing.GroupVersionKind;
 import io.javaoperatorsdk.operator.processing.LifecycleAware;
 import io.javaoperatorsdk.operator.processing.event.ResourceID;
 import io.javaoperatorsdk.operator.processing.event.source.Cache;
 import io.javaoperatorsdk.operator.processing.event.source.IndexerResourceCache;
+import io.javaoperatorsdk.operator.processing.event.source.cache.BoundedItemStore;
 
 import static io.javaoperatorsdk.operator.api.reconciler.Constants.WATCH_ALL_NAMESPACES;
 
 public class InformerManager<T extends HasMetadata, C extends ResourceConfiguration<T>>
     implements LifecycleAware, IndexerResourceCache<T> {
 
+  /**
+   * Name of the built-in index of the cached resources by the UIDs of their owners, only registered
+   * if {@link ResourceConfiguration#isOwnerIndexed()}, see {@link #byOwner(HasMetadata)}.
+   */
+  public static final String OWNER_UID_INDEX = "josdk.io/owner-uid";
+  private static final String LABEL_INDEX_PREFIX = "josdk.io/label:";
+
   private static final Logger log = LoggerFactory.getLogger(InformerManager.class);
 
   private final Map<String, InformerWrapper<T>> sources = new ConcurrentHashMap<>();
@@ -38,7 +59,11 @@ public class InformerManager<T extends HasMetadata, C extends ResourceConfigurat
   private final MixedOperation<T, KubernetesResourceList<T>, Resource<T>> client;
   private final ResourceEventHandler<T> eventHandler;
   private final Map<String, Function<T, List<String>>> indexers = new HashMap<>();
+  private final CacheFieldPruner<T> pruner;
+  private final Set<String> indexedLabelKeys;
   private ConfigurationService configurationService;
+  private Consumer<T> onSnapshotRestored;
+  private ScheduledFuture<?> snapshotTask;
 
   InformerManager(MixedOperation<T, KubernetesResourceList<T>, Resource<T>> client,
       C configuration,
@@ -46,12 +71,59 @@ public class InformerManager<T extends HasMetadata, C extends ResourceConfigurat
     this.client = client;
     this.configuration = configuration;
     this.eventHandler = eventHandler;
+    final var prunedFields = configuration.getPrunedFields();
+    this.pruner = prunedFields.isEmpty() ? null : new CacheFieldPruner<>(prunedFields);
+    this.indexedLabelKeys = configuration.getIndexedLabelKeys();
+    if (configuration.isOwnerIndexed()) {
+      indexers.put(OWNER_UID_INDEX, InformerManager::ownerUids);
+    }
+    indexedLabelKeys.forEach(key -> {
+      if (prunedFields.contains("/metadata/labels")
+          || prunedFields.contains("/metadata/labels/" + CacheFieldPruner.escape(key))) {
+        throw new IllegalArgumentException(
+            "Cannot index resources by label " + key + " since it is pruned from the cache");
+      }
+      indexers.put(labelIndexName(key), r -> labelValue(r, key));
+    });
+  }
+
+  /**
+   * @param labelKey the key of a label, see {@link ResourceConfiguration#getIndexedLabelKeys()}
+   * @return the name of the built-in index of the cached resources by the values of this label
+   */
+  public static String labelIndexName(String labelKey) {
+    return LABEL_INDEX_PREFIX + labelKey;
+  }
+
+  private static List<String> ownerUids(HasMetadata resource) {
+    final var ownerReferences = resource.getMetadata().getOwnerReferences();
+    if (ownerReferences == null || ownerReferences.isEmpty()) {
+      return Collections.emptyList();
+    }
+    return ownerReferences.stream().map(OwnerReference::getUid).filter(Objects::nonNull)
+        .collect(Collectors.toList());
+  }
+
+  private static List<String> labelValue(HasMetadata resource, String key) {
+    final var labels = resource.getMetadata().getLabels();
+    final var value = labels != null ? labels.get(key) : null;
+    return value != null ? List.of(value) : Collections.emptyList();
   }
 
   void setConfigurationService(ConfigurationService configurationService) {
     this.configurationService = configurationService;
   }
 
+  /**
+   * Snapshots the informer caches if a snapshot directory is configured, see
+   * {@link ConfigurationService#informerCacheSnapshotDirectory()}.
+   *
+   * @param onSnapshotRestored called for each resource restored from a snapshot when starting
+   */
+  void enableCacheSnapshots(Consumer<T> onSnapshotRestored) {
+    this.onSnapshotRestored = onSnapshotRestored;
+  }
+
   @Override
   public void start() throws OperatorException {
     initSources();
@@ -64,6 +136,18 @@ public class InformerManager<T extends HasMetadata, C extends ResourceConfigurat
         },
         iw -> "InformerStarter-" + iw.getTargetNamespace() + "-"
             + configuration.getResourceClass().getSimpleName());
+    scheduleSnapshots();
+  }
+
+  private void scheduleSnapshots() {
+    if (onSnapshotRestored == null
+        || configurationService.informerCacheSnapshotDirectory().isEmpty()) {
+      return;
+    }
+    final var interval = configurationService.informerCacheSnapshotInterval().toMillis();
+    snapshotTask = configurationService.getExecutorServiceManager().scheduledExecutorService()
+        .scheduleWithFixedDelay(() -> sources.values().forEach(InformerWrapper::writeSnapshot),
+            interval, interval, TimeUnit.MILLISECONDS);
   }
 
   private void initSources() {
@@ -123,17 +207,74 @@ public class InformerManager<T extends HasMetadata, C extends ResourceConfigurat
   private InformerWrapper<T> createEventSource(
       FilterWatchListDeletable<T, KubernetesResourceList<T>, Resource<T>> filteredBySelectorClient,
       ResourceEventHandler<T> eventHandler, String namespaceIdentifier) {
-    var informer = configuration.getInformerListLimit().map(filteredBySelectorClient::withLimit)
-        .orElse(filteredBySelectorClient).runnableInformer(0);
-    configuration.getItemStore().ifPresent(informer::itemStore);
-    var source = new InformerWrapper<>(informer, configurationService, namespaceIdentifier);
+    final var listed = configuration.getInformerListLimit()
+        .map(filteredBySelectorClient::withLimit).orElse(filteredBySelectorClient);
+    final SharedIndexInformer<T> informer = listed.runnableInformer(0);
+    ItemStore<T> itemStore = configuration.getItemStore().orElse(null);
+    if (itemStore instanceof BoundedItemStore && configurationService != null) {
+      ((BoundedItemStore<T>) itemStore).setMetrics(configurationService.getMetrics(),
+          groupVersionKind());
+    }
+    if (configuration instanceof InformerConfiguration
+        && ((InformerConfiguration<T>) configuration).isMetadataOnly()) {
+      itemStore = new MetadataOnlyItemStore<>(itemStore);
+    }
+    if (pruner != null) {
+      itemStore = new PruningItemStore<>(itemStore, pruner, prunedBytesRecorder());
+    }
+    if (itemStore != null) {
+      informer.itemStore(itemStore);
+    }
+    // stores which don't keep all the resources, such as BoundedItemStore, fetch the missing ones
+    // when looked up by index, the cache is thus scanned instead
+    final var indexed = itemStore == null || itemStore.isFullState();
+    var source = new InformerWrapper<>(informer, configurationService, namespaceIdentifier,
+        snapshotFile(namespaceIdentifier), onSnapshotRestored, indexed, groupVersionKind());
     source.addEventHandler(eventHandler);
     sources.put(namespaceIdentifier, source);
     return source;
   }
 
+  private LongConsumer prunedBytesRecorder() {
+    if (configurationService == null || configurationService.getMetrics() == Metrics.NOOP) {
+      return null;
+    }
+    final var metrics = configurationService.getMetrics();
+    final var gvk = groupVersionKind();
+    return bytes -> metrics.informerCacheBytesPruned(gvk, bytes);
+  }
+
+  @SuppressWarnings("unchecked")
+  private GroupVersionKind groupVersionKind() {
+    return configuration instanceof InformerConfiguration
+        ? ((InformerConfiguration<T>) configuration).getGroupVersionKind()
+            .orElseGet(() -> GroupVersionKind.gvkFor(configuration.getResourceClass()))
+        : GroupVersionKind.gvkFor(configuration.getResourceClass());
+  }
+
+  private Path snapshotFile(String namespaceIdentifier) {
+    final var resourceClass = configuration.getResourceClass();
+    // Secrets are never written to disk
+    if (onSnapshotRestored == null
+        || GenericKubernetesResource.class.isAssignableFrom(resourceClass)
+        || Secret.class.isAssignableFrom(resourceClass)) {
+      return null;
+    }
+    return configurationService.informerCacheSnapshotDirectory().map(directory -> {
+      final var selector = configuration.getLabelSelector();
+      final var name = ReconcilerUtils.getResourceTypeNameWithVersion(resourceClass) + "-"
+          + namespaceIdentifier
+          + (selector != null ? "-" + Integer.toHexString(selector.hashCode()) : "");
+      return directory.resolve(name.replaceAll("[^A-Za-z0-9._-]", "_") + ".snapshot");
+    }).orElse(null);
+  }
+
   @Override
   public void stop() {
+    if (snapshotTask != null) {
+      snapshotTask.cancel(false);
+      snapshotTask = null;
+    }
     sources.forEach((ns, source) -> {
       try {
         log.debug("Stopping informer for namespace: {} -> {}", ns, source);
@@ -173,11 +314,48 @@ public class InformerManager<T extends HasMetadata, C extends ResourceConfigurat
         .map(r -> configurationService.getResourceCloner().clone(r));
   }
 
+  /**
+   * Retrieves the cached instance of the resource with the specified identifier, without cloning it
+   * contrary to {@link #get(ResourceID)}. The returned instance is shared with the informer cache
+   * and must therefore not be modified.
+   *
+   * @param resourceID the identifier of the resource to retrieve
+   * @return the cached instance of the resource, if any
+   */
+  public Optional<T> getReadOnly(ResourceID resourceID) {
+    return getSource(resourceID.getNamespace().orElse(WATCH_ALL_NAMESPACES))
+        .flatMap(source -> source.get(resourceID));
+  }
+
   @Override
   public Stream<ResourceID> keys() {
     return sources.values().stream().flatMap(Cache::keys);
   }
 
+  /**
+   * @param namespace the namespace of a resource, {@code null} for cluster-scoped resources
+   * @return {@code true} if the informer watching the specified namespace synced, or all the
+   *         informers if none watches it specifically
+   */
+  public boolean hasSynced(String namespace) {
+    return sourcesWatching(namespace).allMatch(InformerWrapper::hasSynced);
+  }
+
+  /**
+   * @param namespace the namespace of a resource, {@code null} for cluster-scoped resources
+   * @return {@code true} if the initial sync of the informer watching the specified namespace
+   *         failed, or of any informer if none watches it specifically
+   */
+  public boolean hasSyncFailed(String namespace) {
+    return sourcesWatching(namespace).anyMatch(InformerWrapper::hasSyncFailed);
+  }
+
+  private Stream<InformerWrapper<T>> sourcesWatching(String namespace) {
+    final var source =
+        namespace != null ? getSource(namespace) : Optional.<InformerWrapper<T>>empty();
+    return source.map(Stream::of).orElseGet(() -> sources.values().stream());
+  }
+
   private boolean isWatchingAllNamespaces() {
     return sources.containsKey(WATCH_ALL_NAMESPACES);
   }
@@ -198,6 +376,51 @@ public class InformerManager<T extends HasMetadata, C extends ResourceConfigurat
         .flatMap(List::stream).collect(Collectors.toList());
   }
 
+  /**
+   * Retrieves the cached resources owned by the specified resource, using the built-in
+   * {@link #OWNER_UID_INDEX} index rather than scanning the caches. Only the cache of the namespace
+   * of the owner is looked up, since owners are in the same namespace as the resources they own.
+   *
+   * @param owner the owner of the resources to retrieve
+   * @return the cached resources with an owner reference to the specified resource
+   * @throws IllegalArgumentException if the resources are not indexed by owner, see
+   *         {@link ResourceConfiguration#isOwnerIndexed()}
+   */
+  public List<T> byOwner(HasMetadata owner) {
+    if (!configuration.isOwnerIndexed()) {
+      throw new IllegalArgumentException("Resources are not indexed by owner, see "
+          + ResourceConfiguration.class.getSimpleName() + "#isOwnerIndexed()");
+    }
+    final var uid = owner.getMetadata().getUid();
+    if (uid == null) {
+      return Collections.emptyList();
+    }
+    final var namespace = owner.getMetadata().getNamespace();
+    if (namespace == null) {
+      return byIndex(OWNER_UID_INDEX, uid);
+    }
+    return getSource(namespace).map(source -> source.byIndex(OWNER_UID_INDEX, uid))
+        .orElseGet(Collections::emptyList);
+  }
+
+  /**
+   * Retrieves the cached resources with the specified label value, using the built-in index of this
+   * label rather than scanning the caches.
+   *
+   * @param labelKey the key of the label, which must be one of the
+   *        {@link ResourceConfiguration#getIndexedLabelKeys()}
+   * @param labelValue the value of the label
+   * @return the cached resources with the specified label value
+   * @throws IllegalArgumentException if the resources are not indexed by the specified label
+   */
+  public List<T> byLabel(String labelKey, String labelValue) {
+    if (!indexedLabelKeys.contains(labelKey)) {
+      throw new IllegalArgumentException("Resources are not indexed by label " + labelKey
+          + ", indexed labels: " + indexedLabelKeys);
+    }
+    return byIndex(labelIndexName(labelKey), labelValue);
+  }
+
   @Override
   public String toString() {
     final var selector = configuration.getLabelSelector();
@@ -1,13 +1,17 @@
 package io.javaoperatorsdk.operator.processing.event.source.informer;
 
+import java.io.IOException;
+import java.nio.file.Path;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 import java.util.concurrent.ExecutionException;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.TimeoutException;
+import java.util.function.Consumer;
 import java.util.function.Function;
 import java.util.function.Predicate;
+import java.util.stream.Collectors;
 import java.util.stream.Stream;
 
 import org.slf4j.Logger;
@@ -24,6 +28,7 @@ import io.javaoperatorsdk.operator.ReconcilerUtils;
 import io.javaoperatorsdk.operator.api.config.ConfigurationService;
 import io.javaoperatorsdk.operator.health.InformerHealthIndicator;
 import io.javaoperatorsdk.operator.health.Status;
+import io.javaoperatorsdk.operator.processing.GroupVersionKind;
 import io.javaoperatorsdk.operator.processing.LifecycleAware;
 import io.javaoperatorsdk.operator.processing.event.ResourceID;
 import io.javaoperatorsdk.operator.processing.event.source.IndexerResourceCache;
@@ -37,13 +42,40 @@ class InformerWrapper<T extends HasMetadata>
   private final Cache<T> cache;
   private final String namespaceIdentifier;
   private final ConfigurationService configurationService;
+  private final Path snapshotFile;
+  private final Consumer<T> onSnapshotRestored;
+  private final boolean indexed;
+  private final GroupVersionKind groupVersionKind;
+  private volatile boolean syncing;
+  private volatile boolean syncFailed;
 
   public InformerWrapper(SharedIndexInformer<T> informer, ConfigurationService configurationService,
       String namespaceIdentifier) {
+    this(informer, configurationService, namespaceIdentifier, null, null, false, null);
+  }
+
+  /**
+   * @param snapshotFile the file the cache of the informer is snapshotted to, {@code null} if
+   *        snapshots are disabled
+   * @param onSnapshotRestored called for each resource restored from the snapshot, since these
+   *        resources are put in the cache without an add event
+   * @param indexed whether resources can be looked up using the indexes of the cache, e.g. listed
+   *        by namespace using the {@link Cache#NAMESPACE_INDEX} index, which is only the case if
+   *        the cache holds all the resources, otherwise the cache is scanned
+   * @param groupVersionKind the {@link GroupVersionKind} of the watched resources, reported to the
+   *        metrics if the initial sync fails
+   */
+  InformerWrapper(SharedIndexInformer<T> informer, ConfigurationService configurationService,
+      String namespaceIdentifier, Path snapshotFile, Consumer<T> onSnapshotRestored,
+      boolean indexed, GroupVersionKind groupVersionKind) {
     this.informer = informer;
     this.namespaceIdentifier = namespaceIdentifier;
     this.cache = (Cache<T>) informer.getStore();
     this.configurationService = configurationService;
+    this.snapshotFile = snapshotFile;
+    this.onSnapshotRestored = onSnapshotRestored;
+    this.indexed = indexed;
+    this.groupVersionKind = groupVersionKind;
   }
 
   @Override
@@ -79,7 +111,29 @@ class InformerWrapper<T extends HasMetadata>
         final var resourceName = informer.getApiTypeClass().getSimpleName();
         log.debug("Starting informer for namespace: {} resource: {}", namespaceIdentifier,
             resourceName);
+        restoreSnapshot();
         var start = informer.start();
+        if (configurationService.progressiveInformerReadiness()) {
+          // reconciliations are held back until the informers they depend on synced
+          syncing = true;
+          start.whenComplete((r, e) -> {
+            syncing = false;
+            if (e != null) {
+              syncFailed = true;
+              log.warn(
+                  "Informer failed to sync, resources depending on it won't be reconciled. Informer: {}",
+                  informer, e);
+              if (groupVersionKind != null) {
+                configurationService.getMetrics().informerSyncFailed(groupVersionKind,
+                    namespaceIdentifier);
+              }
+            } else {
+              log.debug("Synced informer for namespace: {} resource: {}", namespaceIdentifier,
+                  resourceName);
+            }
+          });
+          return;
+        }
         // note that in case we don't put here timeout and stopOnInformerErrorDuringStartup is
         // false, and there is a rbac issue the get never returns; therefore operator never really
         // starts
@@ -120,8 +174,51 @@ class InformerWrapper<T extends HasMetadata>
     return ReconcilerUtils.getResourceTypeNameWithVersion(apiTypeClass);
   }
 
+  void restoreSnapshot() {
+    if (snapshotFile == null) {
+      return;
+    }
+    InformerCacheSnapshot.read(snapshotFile, informer.getApiTypeClass()).ifPresent(snapshot -> {
+      if (snapshot.getResourceVersion() == null) {
+        log.debug("Ignoring snapshot {} without resource version", snapshotFile);
+        return;
+      }
+      final var resources = snapshot.getResources();
+      resources.forEach(onSnapshotRestored);
+      // restored resources don't result in events, and since the informer only notifies about
+      // listed resources whose version differs from the cached one, only the resources which
+      // changed since the snapshot result in events once the informer lists them
+      informer.initialState(resources.stream());
+      log.debug("Restored {} resources at version {} from snapshot {} for namespace: {}",
+          resources.size(), snapshot.getResourceVersion(), snapshotFile, namespaceIdentifier);
+    });
+  }
+
+  /**
+   * Writes the current content of the cache to the snapshot file, if snapshots are enabled and the
+   * informer synced, so that the snapshot never misses resources.
+   */
+  void writeSnapshot() {
+    if (snapshotFile == null || !informer.hasSynced()) {
+      return;
+    }
+    // read before listing so that the snapshot never is older than its version
+    final var resourceVersion = informer.lastSyncResourceVersion();
+    if (resourceVersion == null) {
+      return;
+    }
+    try {
+      final var resources = cache.list();
+      InformerCacheSnapshot.write(snapshotFile, resourceVersion, resources);
+      log.debug("Wrote snapshot of {} resources to {}", resources.size(), snapshotFile);
+    } catch (IOException | RuntimeException e) {
+      log.warn("Couldn't write informer cache snapshot to {}", snapshotFile, e);
+    }
+  }
+
   @Override
   public void stop() throws OperatorException {
+    writeSnapshot();
     informer.stop();
   }
 
@@ -141,8 +238,13 @@ class InformerWrapper<T extends HasMetadata>
 
   @Override
   public Stream<T> list(String namespace, Predicate<T> predicate) {
-    final var stream = cache.list().stream()
-        .filter(r -> namespace.equals(r.getMetadata().getNamespace()));
+    final Stream<T> stream;
+    if (indexed && cache.getIndexers().containsKey(Cache.NAMESPACE_INDEX)) {
+      stream = cache.byIndex(Cache.NAMESPACE_INDEX, namespace).stream();
+    } else {
+      stream = cache.list().stream()
+          .filter(r -> namespace.equals(r.getMetadata().getNamespace()));
+    }
     return predicate != null ? stream.filter(predicate) : stream;
   }
 
@@ -162,7 +264,16 @@ class InformerWrapper<T extends HasMetadata>
 
   @Override
   public List<T> byIndex(String indexName, String indexKey) {
-    return informer.getIndexer().byIndex(indexName, indexKey);
+    final var indexer = informer.getIndexer();
+    if (!indexed) {
+      final var indexFunction = indexer.getIndexers().get(indexName);
+      if (indexFunction != null) {
+        return cache.list().stream()
+            .filter(r -> indexFunction.apply(r).contains(indexKey))
+            .collect(Collectors.toList());
+      }
+    }
+    return indexer.byIndex(indexName, indexKey);
   }
 
   @Override
@@ -189,9 +300,20 @@ class InformerWrapper<T extends HasMetadata>
     return informer.isRunning();
   }
 
+  @Override
+  public boolean isSyncing() {
+    return syncing;
+  }
+
+  @Override
+  public boolean hasSyncFailed() {
+    return syncFailed;
+  }
+
   @Override
   public Status getStatus() {
-    var status = isRunning() && hasSynced() && isWatching() ? Status.HEALTHY : Status.UNHEALTHY;
+    var status = !syncFailed && isRunning() && hasSynced() && isWatching() ? Status.HEALTHY
+        : Status.UNHEALTHY;
     log.debug(
         "Informer status: {} for for type: {}, namespace: {}, details[ is running: {}, has synced: {}, is watching: {} ]",
         status, informer.getApiTypeClass().getSimpleName(), namespaceIdentifier, isRunning(),
@@ -64,6 +64,24 @@ public abstract class ManagedInformerEventSource<R extends HasMetadata, P extend
     temporaryResourceCache.onDeleteEvent(obj, deletedFinalStateUnknown);
   }
 
+  /**
+   * Whether the cache of this event source can be restored from a snapshot when starting, see
+   * {@link io.javaoperatorsdk.operator.api.config.ConfigurationService#informerCacheSnapshotDirectory()}.
+   *
+   * @return {@code true} if the cache can be snapshotted
+   */
+  protected boolean supportsCacheSnapshots() {
+    return true;
+  }
+
+  /**
+   * Called for each resource restored from a snapshot when starting, such resources being put in
+   * the cache without triggering {@link #onAdd(HasMetadata)}.
+   *
+   * @param resource the restored resource
+   */
+  protected void onCacheSnapshotRestored(R resource) {}
+
   protected InformerManager<R, C> manager() {
     return cache;
   }
@@ -84,6 +102,9 @@ public abstract class ManagedInformerEventSource<R extends HasMetadata, P extend
     this.cache = new InformerManager<>(client, configuration, this);
     cache.setConfigurationService(configurationService);
     cache.addIndexers(indexers);
+    if (supportsCacheSnapshots()) {
+      cache.enableCacheSnapshots(this::onCacheSnapshotRestored);
+    }
     manager().start();
     super.start();
   }
@@ -124,6 +145,22 @@ public abstract class ManagedInformerEventSource<R extends HasMetadata, P extend
     }
   }
 
+  /**
+   * Same as {@link #get(ResourceID)} except that the resource is not cloned when read from the
+   * informer cache. The returned instance must therefore not be modified. This avoids the cost of
+   * cloning when the resource is only read, e.g. to compare it with a desired state.
+   *
+   * @param resourceID the identifier of the resource to retrieve
+   * @return the resource, if any
+   */
+  public Optional<R> getReadOnly(ResourceID resourceID) {
+    Optional<R> resource = temporaryResourceCache.getResourceFromCache(resourceID);
+    if (resource.isPresent()) {
+      return resource;
+    }
+    return cache.getReadOnly(resourceID);
+  }
+
   public Optional<R> getCachedValue(ResourceID resourceID) {
     return get(resourceID);
   }
@@ -150,6 +187,32 @@ public abstract class ManagedInformerEventSource<R extends HasMetadata, P extend
     return manager().byIndex(indexName, indexKey);
   }
 
+  /**
+   * Retrieves the cached resources owned by the specified resource, without scanning the cache, see
+   * {@link InformerManager#byOwner(HasMetadata)}.
+   *
+   * @param owner the owner of the resources to retrieve
+   * @return the cached resources with an owner reference to the specified resource
+   * @throws IllegalArgumentException if the resources are not indexed by owner, see
+   *         {@link io.javaoperatorsdk.operator.api.config.ResourceConfiguration#isOwnerIndexed()}
+   */
+  public List<R> byOwner(HasMetadata owner) {
+    return manager().byOwner(owner);
+  }
+
+  /**
+   * Retrieves the cached resources with the specified label value, without scanning the cache, see
+   * {@link InformerManager#byLabel(String, String)}.
+   *
+   * @param labelKey the key of the label, which must be one of the indexed label keys of the
+   *        configuration
+   * @param labelValue the value of the label
+   * @return the cached resources with the specified label value
+   */
+  public List<R> byLabel(String labelKey, String labelValue) {
+    return manager().byLabel(labelKey, labelValue);
+  }
+
   @Override
   public Stream<ResourceID> keys() {
     return cache.keys();
@@ -160,6 +223,24 @@ public abstract class ManagedInformerEventSource<R extends HasMetadata, P extend
     return cache.list(predicate);
   }
 
+  /**
+   * @param namespace the namespace of a primary resource, {@code null} if it is cluster-scoped
+   * @return {@code true} if the informer watching the resources related to primary resources in the
+   *         specified namespace synced
+   */
+  public boolean hasSynced(String namespace) {
+    return cache != null && cache.hasSynced(namespace);
+  }
+
+  /**
+   * @param namespace the namespace of a primary resource, {@code null} if it is cluster-scoped
+   * @return {@code true} if the initial sync of the informer watching the resources related to
+   *         primary resources in the specified namespace failed
+   */
+  public boolean hasSyncFailed(String namespace) {
+    return cache != null && cache.hasSyncFailed(namespace);
+  }
+
   @Override
   public Map<String, InformerHealthIndicator> informerHealthIndicators() {
     return cache.informerHealthIndicators();
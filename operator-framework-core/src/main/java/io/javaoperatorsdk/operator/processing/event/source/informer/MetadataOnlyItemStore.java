@@ -0,0 +1,120 @@
+package io.javaoperatorsdk.operator.processing.event.source.informer;
+
+import java.lang.reflect.Constructor;
+import java.util.List;
+import java.util.stream.Stream;
+
+import io.fabric8.kubernetes.api.model.GenericKubernetesResource;
+import io.fabric8.kubernetes.api.model.HasMetadata;
+import io.fabric8.kubernetes.api.model.ManagedFieldsEntry;
+import io.fabric8.kubernetes.api.model.ObjectMetaBuilder;
+import io.fabric8.kubernetes.client.informers.cache.BasicItemStore;
+import io.fabric8.kubernetes.client.informers.cache.Cache;
+import io.fabric8.kubernetes.client.informers.cache.ItemStore;
+import io.javaoperatorsdk.operator.OperatorException;
+
+/**
+ * An {@link ItemStore} only keeping the metadata of the resources, without their managed fields,
+ * everything else, e.g. the spec, status or data of the resources, being dropped before they are
+ * cached. Names, labels, annotations, owner references and resource versions being kept, the
+ * {@link Mappers}, the primary to secondary index and the event filtering based on resource
+ * versions work as for a regular cache, while the cache only takes a fraction of the memory.
+ * <p>
+ * The cached resources are instances of the same class as the watched ones, so that they can be
+ * retrieved through the usual APIs, but must be treated as partial objects: they can be used to
+ * check the existence of resources, count them or read their metadata, but not to compare them with
+ * a desired state.
+ *
+ * @param <R> the type of the cached resources
+ */
+public class MetadataOnlyItemStore<R extends HasMetadata> implements ItemStore<R> {
+
+  private final ItemStore<R> delegate;
+  private volatile Constructor<? extends HasMetadata> constructor;
+
+  public MetadataOnlyItemStore() {
+    this(null);
+  }
+
+  /**
+   * @param delegate the store the metadata-only resources are put in, {@code null} to use a basic
+   *        in-memory store
+   */
+  public MetadataOnlyItemStore(ItemStore<R> delegate) {
+    this.delegate = delegate != null ? delegate : new BasicItemStore<>(Cache::metaNamespaceKeyFunc);
+  }
+
+  @Override
+  public String getKey(R obj) {
+    return delegate.getKey(obj);
+  }
+
+  @Override
+  public R put(String key, R obj) {
+    return delegate.put(key, metadataOnly(obj));
+  }
+
+  @SuppressWarnings("unchecked")
+  R metadataOnly(R resource) {
+    final HasMetadata partial;
+    if (resource instanceof GenericKubernetesResource) {
+      final var generic = new GenericKubernetesResource();
+      generic.setKind(resource.getKind());
+      partial = generic;
+    } else {
+      partial = newInstance(resource);
+    }
+    partial.setApiVersion(resource.getApiVersion());
+    partial.setMetadata(new ObjectMetaBuilder(resource.getMetadata())
+        .withManagedFields((List<ManagedFieldsEntry>) null)
+        .build());
+    return (R) partial;
+  }
+
+  private HasMetadata newInstance(R resource) {
+    var current = constructor;
+    try {
+      if (current == null || current.getDeclaringClass() != resource.getClass()) {
+        current = resource.getClass().getDeclaredConstructor();
+        current.setAccessible(true);
+        constructor = current;
+      }
+      return current.newInstance();
+    } catch (ReflectiveOperationException | RuntimeException e) {
+      throw new OperatorException(
+          "Cannot create a metadata-only instance of " + resource.getClass().getName()
+              + ", it must have a no-argument constructor",
+          e);
+    }
+  }
+
+  @Override
+  public R remove(String key) {
+    return delegate.remove(key);
+  }
+
+  @Override
+  public Stream<String> keySet() {
+    return delegate.keySet();
+  }
+
+  @Override
+  public Stream<R> values() {
+    return delegate.values();
+  }
+
+  @Override
+  public int size() {
+    return delegate.size();
+  }
+
+  @Override
+  public R get(String key) {
+    return delegate.get(key);
+  }
+
+  @Override
+  public boolean isFullState() {
+    return delegate.isFullState();
+  }
+}
@@ -0,0 +1,79 @@
+package io.javaoperatorsdk.operator.processing.event.source.informer;
+
+import java.util.function.LongConsumer;
+import java.util.stream.Stream;
+
+import io.fabric8.kubernetes.api.model.HasMetadata;
+import io.fabric8.kubernetes.client.informers.cache.BasicItemStore;
+import io.fabric8.kubernetes.client.informers.cache.Cache;
+import io.fabric8.kubernetes.client.informers.cache.ItemStore;
+
+/**
+ * An {@link ItemStore} dropping the fields configured on a {@link CacheFieldPruner} from the
+ * resources before they are put in the delegate store.
+ *
+ * @param <R> the type of the cached resources
+ */
+class PruningItemStore<R extends HasMetadata> implements ItemStore<R> {
+
+  private final ItemStore<R> delegate;
+  private final CacheFieldPruner<R> pruner;
+  private final LongConsumer prunedBytes;
+
+  /**
+   * @param delegate the store the pruned resources are put in, {@code null} to use a basic
+   *        in-memory store
+   * @param pruner the pruner to apply to the resources
+   * @param prunedBytes notified of the size of the dropped fields, {@code null} if they don't need
+   *        to be measured
+   */
+  PruningItemStore(ItemStore<R> delegate, CacheFieldPruner<R> pruner, LongConsumer prunedBytes) {
+    this.delegate = delegate != null ? delegate : new BasicItemStore<>(Cache::metaNamespaceKeyFunc);
+    this.pruner = pruner;
+    this.prunedBytes = prunedBytes;
+  }
+
+  @Override
+  public String getKey(R obj) {
+    return delegate.getKey(obj);
+  }
+
+  @Override
+  public R put(String key, R obj) {
+    final var pruned = pruner.prune(obj, prunedBytes != null);
+    if (pruned > 0) {
+      prunedBytes.accept(pruned);
+    }
+    return delegate.put(key, obj);
+  }
+
+  @Override
+  public R remove(String key) {
+    return delegate.remove(key);
+  }
+
+  @Override
+  public Stream<String> keySet() {
+    return delegate.keySet();
+  }
+
+  @Override
+  public Stream<R> values() {
+    return delegate.values();
+  }
+
+  @Override
+  public int size() {
+    return delegate.size();
+  }
+
+  @Override
+  public R get(String key) {
+    return delegate.get(key);
+  }
+
+  @Override
+  public boolean isFullState() {
+    return delegate.isFullState();
+  }
+}
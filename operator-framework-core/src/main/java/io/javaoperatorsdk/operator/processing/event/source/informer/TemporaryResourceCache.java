@@ -106,6 +106,10 @@ public class TemporaryResourceCache<T extends HasMetadata> {
   }
 
   synchronized void onEvent(T resource, boolean unknownState) {
+    if (cache.isEmpty()) {
+      // most events are received while no resource is cached, no need to compute the id then
+      return;
+    }
     cache.computeIfPresent(ResourceID.fromResource(resource),
         (id, cached) -> (unknownState || !isLaterResourceVersion(id, cached, resource)) ? null
             : cached);
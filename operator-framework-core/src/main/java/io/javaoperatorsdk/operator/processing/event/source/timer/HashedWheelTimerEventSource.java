@@ -0,0 +1,264 @@
+package io.javaoperatorsdk.operator.processing.event.source.timer;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import io.fabric8.kubernetes.api.model.HasMetadata;
+import io.javaoperatorsdk.operator.processing.event.Event;
+import io.javaoperatorsdk.operator.processing.event.ResourceID;
+
+/**
+ * A {@link TimerEventSource} backed by a hashed timing wheel instead of a {@link java.util.Timer}.
+ * Each resource has at most one timeout entry which is reused across schedules: re-scheduling only
+ * updates the entry in place and moves it to the bucket of the wheel matching the new deadline,
+ * which is an O(1) operation not allocating any new object. Cancelled entries are unlinked from the
+ * wheel right away instead of lingering until their deadline, and are only discarded when the
+ * associated resource is deleted.
+ * <p>
+ * Events are triggered with a precision of one tick, and never before the requested delay elapsed.
+ *
+ * @param <R> the primary resource type
+ */
+public class HashedWheelTimerEventSource<R extends HasMetadata> extends TimerEventSource<R> {
+
+  private static final Logger log = LoggerFactory.getLogger(HashedWheelTimerEventSource.class);
+
+  public static final Duration DEFAULT_TICK_DURATION = Duration.ofMillis(10);
+  public static final int DEFAULT_TICKS_PER_WHEEL = 512;
+
+  private final long tickNanos;
+  private final Bucket[] wheel;
+  private final int mask;
+  private final Map<ResourceID, Timeout> timeouts = new ConcurrentHashMap<>();
+  private final Object lock = new Object();
+  // only accessed while holding the lock
+  private long tick;
+  private long startTime;
+  private Thread worker;
+
+  public HashedWheelTimerEventSource() {
+    this(DEFAULT_TICK_DURATION, DEFAULT_TICKS_PER_WHEEL);
+  }
+
+  public HashedWheelTimerEventSource(Duration tickDuration, int ticksPerWheel) {
+    if (tickDuration.isNegative() || tickDuration.isZero()) {
+      throw new IllegalArgumentException("Tick duration must be positive: " + tickDuration);
+    }
+    if (ticksPerWheel <= 0) {
+      throw new IllegalArgumentException("Ticks per wheel must be positive: " + ticksPerWheel);
+    }
+    this.tickNanos = tickDuration.toNanos();
+    final var size = ticksPerWheel == 1 ? 1 : Integer.highestOneBit(ticksPerWheel - 1) << 1;
+    this.wheel = new Bucket[size];
+    for (int i = 0; i < size; i++) {
+      wheel[i] = new Bucket();
+    }
+    this.mask = size - 1;
+  }
+
+  @Override
+  public void scheduleOnce(ResourceID resourceID, long delay) {
+    if (!isRunning()) {
+      throw new IllegalStateException("The TimerEventSource is not running");
+    }
+    final var timeout = timeouts.computeIfAbsent(resourceID, Timeout::new);
+    final var delayNanos = TimeUnit.MILLISECONDS.toNanos(Math.max(delay, 0));
+    synchronized (lock) {
+      if (timeout.bucket != null) {
+        timeout.bucket.remove(timeout);
+      }
+      final var deadline = System.nanoTime() - startTime + delayNanos;
+      final var calculated = deadline / tickNanos;
+      timeout.remainingRounds = (calculated - tick) / wheel.length;
+      // if the deadline is already in the past, make sure it's handled by the next tick
+      final var ticks = Math.max(calculated, tick);
+      wheel[(int) (ticks & mask)].add(timeout);
+    }
+  }
+
+  @Override
+  public void onResourceDeleted(R resource) {
+    final var timeout = timeouts.remove(ResourceID.fromResource(resource));
+    if (timeout != null) {
+      unlink(timeout);
+    }
+  }
+
+  @Override
+  public void cancelOnceSchedule(ResourceID customResourceUid) {
+    // the entry is kept so that it can be reused by the next schedule for the same resource
+    final var timeout = timeouts.get(customResourceUid);
+    if (timeout != null) {
+      unlink(timeout);
+    }
+  }
+
+  private void unlink(Timeout timeout) {
+    synchronized (lock) {
+      if (timeout.bucket != null) {
+        timeout.bucket.remove(timeout);
+      }
+    }
+  }
+
+  @Override
+  void startTimer() {
+    synchronized (lock) {
+      startTime = System.nanoTime();
+      tick = 0;
+    }
+    worker = new Thread(this::run, "HashedWheelTimerEventSource");
+    worker.setDaemon(true);
+    worker.start();
+  }
+
+  @Override
+  void stopTimer() {
+    worker.interrupt();
+    synchronized (lock) {
+      for (Bucket bucket : wheel) {
+        bucket.clear();
+      }
+    }
+    timeouts.clear();
+  }
+
+  int pendingTimeouts() {
+    synchronized (lock) {
+      int count = 0;
+      for (Bucket bucket : wheel) {
+        count += bucket.size;
+      }
+      return count;
+    }
+  }
+
+  private void run() {
+    final List<ResourceID> expired = new ArrayList<>();
+    while (isRunning()) {
+      final long deadline;
+      synchronized (lock) {
+        deadline = tickNanos * (tick + 1);
+      }
+      if (!waitUntil(deadline)) {
+        return;
+      }
+      synchronized (lock) {
+        wheel[(int) (tick & mask)].expire(expired);
+        tick++;
+      }
+      for (ResourceID resourceID : expired) {
+        if (isRunning()) {
+          log.debug("Producing event for custom resource id: {}", resourceID);
+          try {
+            getEventHandler().handleEvent(new Event(resourceID));
+          } catch (RuntimeException e) {
+            log.error("Error producing timer event for resource: {}", resourceID, e);
+          }
+        }
+      }
+      expired.clear();
+    }
+  }
+
+  private boolean waitUntil(long deadline) {
+    long sleepNanos;
+    while ((sleepNanos = deadline - (System.nanoTime() - startTime)) > 0) {
+      try {
+        TimeUnit.NANOSECONDS.sleep(sleepNanos);
+      } catch (InterruptedException e) {
+        Thread.currentThread().interrupt();
+        return false;
+      }
+    }
+    return isRunning();
+  }
+
+  private static class Timeout {
+    private final ResourceID resourceID;
+    private long remainingRounds;
+    private Bucket bucket;
+    private Timeout prev;
+    private Timeout next;
+
+    private Timeout(ResourceID resourceID) {
+      this.resourceID = resourceID;
+    }
+  }
+
+  /**
+   * Doubly linked list of timeouts, so that timeouts can be removed in constant time. All accesses
+   * happen while holding the wheel lock.
+   */
+  private static class Bucket {
+    private Timeout head;
+    private Timeout tail;
+    private int size;
+
+    private void add(Timeout timeout) {
+      timeout.bucket = this;
+      if (head == null) {
+        head = tail = timeout;
+      } else {
+        tail.next = timeout;
+        timeout.prev = tail;
+        tail = timeout;
+      }
+      size++;
+    }
+
+    private void remove(Timeout timeout) {
+      final var next = timeout.next;
+      if (timeout.prev != null) {
+        timeout.prev.next = next;
+      }
+      if (timeout.next != null) {
+        timeout.next.prev = timeout.prev;
+      }
+      if (timeout == head) {
+        head = next;
+      }
+      if (timeout == tail) {
+        tail = timeout.prev;
+      }
+      timeout.prev = null;
+      timeout.next = null;
+      timeout.bucket = null;
+      size--;
+    }
+
+    private void expire(List<ResourceID> expired) {
+      var timeout = head;
+      while (timeout != null) {
+        final var next = timeout.next;
+        if (timeout.remainingRounds <= 0) {
+          remove(timeout);
+          expired.add(timeout.resourceID);
+        } else {
+          timeout.remainingRounds--;
+        }
+        timeout = next;
+      }
+    }
+
+    private void clear() {
+      var timeout = head;
+      while (timeout != null) {
+        final var next = timeout.next;
+        timeout.prev = null;
+        timeout.next = null;
+        timeout.bucket = null;
+        timeout = next;
+      }
+      head = tail = null;
+      size = 0;
+    }
+  }
+}
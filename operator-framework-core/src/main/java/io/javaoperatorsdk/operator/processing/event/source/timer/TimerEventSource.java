@@ -56,19 +56,27 @@ public class TimerEventSource<R extends HasMetadata>
   public void start() {
     if (!isRunning()) {
       super.start();
-      timer = new Timer(true);
+      startTimer();
     }
   }
 
   @Override
   public void stop() {
     if (isRunning()) {
-      onceTasks.keySet().forEach(this::cancelOnceSchedule);
-      timer.cancel();
+      stopTimer();
       super.stop();
     }
   }
 
+  void startTimer() {
+    timer = new Timer(true);
+  }
+
+  void stopTimer() {
+    onceTasks.keySet().forEach(this::cancelOnceSchedule);
+    timer.cancel();
+  }
+
   public class EventProducerTimeTask extends TimerTask {
 
     protected final ResourceID customResourceUid;
@@ -0,0 +1,22 @@
+package io.javaoperatorsdk.operator.processing.retry;
+
+/**
+ * How the delays computed by {@link GenericRetry} are randomized, so that resources failing because
+ * of the same outage don't all get retried at the same time.
+ */
+public enum BackoffJitter {
+  /**
+   * Delays are not randomized: the exponentially growing interval is used as is.
+   */
+  NONE,
+  /**
+   * The delay is picked uniformly between 0 and the exponentially growing interval.
+   */
+  FULL,
+  /**
+   * The delay is picked uniformly between the initial interval and three times the previous delay,
+   * capped by the maximum interval. Delays therefore don't depend on the attempt number, only on
+   * the previous delay, which spreads retries more evenly over time.
+   */
+  DECORRELATED
+}
@@ -8,6 +8,8 @@ public class GenericRetry implements Retry, AnnotationConfigurable<GradualRetry>
   private long initialInterval = GradualRetry.DEFAULT_INITIAL_INTERVAL;
   private double intervalMultiplier = GradualRetry.DEFAULT_MULTIPLIER;
   private long maxInterval = GradualRetry.DEFAULT_MAX_INTERVAL;
+  private BackoffJitter jitter = BackoffJitter.NONE;
+  private double retryBudget = GradualRetry.NO_RETRY_BUDGET;
 
   public static final Retry DEFAULT = new GenericRetry();
 
@@ -81,6 +83,25 @@ public class GenericRetry implements Retry, AnnotationConfigurable<GradualRetry>
     return this;
   }
 
+  public BackoffJitter getJitter() {
+    return jitter;
+  }
+
+  public GenericRetry setJitter(BackoffJitter jitter) {
+    this.jitter = jitter != null ? jitter : BackoffJitter.NONE;
+    return this;
+  }
+
+  @Override
+  public double retryBudget() {
+    return retryBudget;
+  }
+
+  public GenericRetry setRetryBudget(double retryBudget) {
+    this.retryBudget = validRetryBudget(retryBudget);
+    return this;
+  }
+
   public GenericRetry withoutMaxInterval() {
     this.maxInterval = -1;
     return this;
@@ -103,5 +124,15 @@ public class GenericRetry implements Retry, AnnotationConfigurable<GradualRetry>
     this.maxInterval = configuration.maxInterval() == GradualRetry.UNSET_VALUE
         ? GradualRetry.DEFAULT_MAX_INTERVAL
         : configuration.maxInterval();
+    this.jitter = configuration.jitter();
+    this.retryBudget = validRetryBudget(configuration.retryBudget());
+  }
+
+  private static double validRetryBudget(double retryBudget) {
+    if (retryBudget <= 0 || retryBudget > GradualRetry.NO_RETRY_BUDGET) {
+      throw new IllegalArgumentException(
+          "Retry budget must be greater than 0 and at most 1: " + retryBudget);
+    }
+    return retryBudget;
   }
 }
@@ -1,17 +1,22 @@
 package io.javaoperatorsdk.operator.processing.retry;
 
 import java.util.Optional;
+import java.util.concurrent.ThreadLocalRandom;
 
 public class GenericRetryExecution implements RetryExecution {
 
+  private static final long DECORRELATED_JITTER_FACTOR = 3;
+
   private final GenericRetry genericRetry;
 
   private int lastAttemptIndex = 0;
   private long currentInterval;
+  private long lastDelay;
 
   public GenericRetryExecution(GenericRetry genericRetry) {
     this.genericRetry = genericRetry;
     this.currentInterval = genericRetry.getInitialInterval();
+    this.lastDelay = currentInterval;
   }
 
   public Optional<Long> nextDelay() {
@@ -26,7 +31,27 @@ public class GenericRetryExecution implements RetryExecution {
       }
     }
     lastAttemptIndex++;
-    return Optional.of(currentInterval);
+    lastDelay = withJitter();
+    return Optional.of(lastDelay);
+  }
+
+  private long withJitter() {
+    final var random = ThreadLocalRandom.current();
+    switch (genericRetry.getJitter()) {
+      case FULL:
+        return random.nextLong(currentInterval + 1);
+      case DECORRELATED:
+        final var initial = genericRetry.getInitialInterval();
+        // without a max interval the delays keep growing, capped so that they don't overflow
+        final var upper = Math.max(initial,
+            Math.min(lastDelay, Long.MAX_VALUE / DECORRELATED_JITTER_FACTOR)
+                * DECORRELATED_JITTER_FACTOR);
+        final var delay = initial + random.nextLong(upper - initial + 1);
+        final var max = genericRetry.getMaxInterval();
+        return max > -1 ? Math.min(delay, max) : delay;
+      default:
+        return currentInterval;
+    }
   }
 
   @Override
@@ -20,6 +20,8 @@ public @interface GradualRetry {
 
   long UNSET_VALUE = Long.MAX_VALUE;
 
+  double NO_RETRY_BUDGET = 1.0;
+
   int maxAttempts() default DEFAULT_MAX_ATTEMPTS;
 
   long initialInterval() default DEFAULT_INITIAL_INTERVAL;
@@ -27,4 +29,15 @@ public @interface GradualRetry {
   double intervalMultiplier() default DEFAULT_MULTIPLIER;
 
   long maxInterval() default UNSET_VALUE;
+
+  /**
+   * @return how the retry delays are randomized
+   */
+  BackoffJitter jitter() default BackoffJitter.NONE;
+
+  /**
+   * @return the fraction of the reconciliation capacity of the controller that retries can use
+   *         concurrently, see {@link Retry#retryBudget()}
+   */
+  double retryBudget() default NO_RETRY_BUDGET;
 }
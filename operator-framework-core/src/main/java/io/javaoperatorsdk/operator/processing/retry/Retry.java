@@ -5,4 +5,17 @@ public interface Retry {
 
   RetryExecution initExecution();
 
+  /**
+   * The fraction, greater than 0 and at most 1, of the reconciliation capacity of the controller,
+   * i.e. its maximum number of reconciliation slots or the number of reconciliation threads, that
+   * reconciliations of failed resources can use concurrently. Retries exceeding this budget are
+   * deferred so that fresh events still get reconciled when many resources fail at once.
+   *
+   * @return the retry budget, values outside of this range, such as
+   *         {@link GradualRetry#NO_RETRY_BUDGET}, meaning retries are not limited
+   */
+  default double retryBudget() {
+    return GradualRetry.NO_RETRY_BUDGET;
+  }
+
 }
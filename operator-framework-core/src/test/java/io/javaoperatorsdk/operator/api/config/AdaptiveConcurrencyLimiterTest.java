@@ -0,0 +1,169 @@
+package io.javaoperatorsdk.operator.api.config;
+
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import io.fabric8.kubernetes.client.KubernetesClientException;
+import io.javaoperatorsdk.operator.OperatorException;
+import io.javaoperatorsdk.operator.api.monitoring.Metrics;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.awaitility.Awaitility.await;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+class AdaptiveConcurrencyLimiterTest {
+
+  private static final Map<String, Object> METADATA = Map.of("controller.name", "controller");
+  private static final long LATENCY = TimeUnit.MILLISECONDS.toNanos(10);
+
+  private final ExecutorService executor = Executors.newCachedThreadPool();
+
+  @AfterEach
+  void shutdown() {
+    executor.shutdownNow();
+  }
+
+  @Test
+  void decreasesLimitWhenThrottled() {
+    final var metrics = mock(Metrics.class);
+    final var limiter = new AdaptiveConcurrencyLimiter(8, metrics);
+
+    limiter.onReconciliationFinished(LATENCY, throttled(429), METADATA);
+
+    assertThat(limiter.getLimit()).isEqualTo(6);
+    verify(metrics).reconciliationThrottled(METADATA);
+    verify(metrics).reconciliationConcurrencyLimit(6);
+  }
+
+  @Test
+  void decreasesLimitAtMostOncePerInterval() {
+    final var limiter = new AdaptiveConcurrencyLimiter(8, Metrics.NOOP);
+
+    for (int i = 0; i < 5; i++) {
+      limiter.onReconciliationFinished(LATENCY, throttled(503), METADATA);
+    }
+
+    assertThat(limiter.getLimit()).isEqualTo(6);
+  }
+
+  @Test
+  void increasesLimitOnSuccessUpToMaximum() {
+    final var metrics = mock(Metrics.class);
+    final var limiter = new AdaptiveConcurrencyLimiter(8, metrics);
+    limiter.onReconciliationFinished(LATENCY, throttled(429), METADATA);
+
+    for (int i = 0; i < 100; i++) {
+      limiter.onReconciliationFinished(LATENCY, null, METADATA);
+    }
+
+    assertThat(limiter.getLimit()).isEqualTo(8);
+    verify(metrics).reconciliationConcurrencyLimit(7);
+    verify(metrics, times(2)).reconciliationConcurrencyLimit(8);
+  }
+
+  @Test
+  void doesNotIncreaseLimitWhenLatencyGrows() {
+    final var limiter = new AdaptiveConcurrencyLimiter(8, Metrics.NOOP);
+    limiter.onReconciliationFinished(LATENCY, throttled(429), METADATA);
+
+    limiter.onReconciliationFinished(LATENCY, null, METADATA);
+    for (int i = 0; i < 20; i++) {
+      limiter.onReconciliationFinished(LATENCY * 10, null, METADATA);
+    }
+
+    assertThat(limiter.getLimit()).isEqualTo(6);
+  }
+
+  @Test
+  void ignoresErrorsNotCausedByThrottling() {
+    final var metrics = mock(Metrics.class);
+    final var limiter = new AdaptiveConcurrencyLimiter(8, metrics);
+
+    limiter.onReconciliationFinished(LATENCY, throttled(404), METADATA);
+    limiter.onReconciliationFinished(LATENCY, new IllegalStateException(), METADATA);
+
+    assertThat(limiter.getLimit()).isEqualTo(8);
+    verify(metrics, times(0)).reconciliationThrottled(METADATA);
+  }
+
+  @Test
+  void detectsThrottlingInCauses() {
+    assertThat(AdaptiveConcurrencyLimiter
+        .isThrottling(new OperatorException(new RuntimeException(throttled(429))))).isTrue();
+    assertThat(AdaptiveConcurrencyLimiter.isThrottling(throttled(500))).isTrue();
+    assertThat(AdaptiveConcurrencyLimiter.isThrottling(throttled(409))).isFalse();
+    assertThat(AdaptiveConcurrencyLimiter.isThrottling(new RuntimeException())).isFalse();
+  }
+
+  @Test
+  void bulkheadsQueueReconciliationsAboveLimit() throws InterruptedException {
+    final var limiter = new AdaptiveConcurrencyLimiter(2, Metrics.NOOP);
+    final var bulkheads = new ReconciliationBulkheads(executor, 2, Metrics.NOOP, limiter);
+    final var bulkhead = bulkheads.bulkheadFor("controller", 0, 0, METADATA);
+    final var release = new CountDownLatch(1);
+    final var secondExecuted = new CountDownLatch(1);
+    // limit goes down to 1
+    limiter.onReconciliationFinished(LATENCY, throttled(429), METADATA);
+    assertThat(limiter.getLimit()).isEqualTo(1);
+
+    bulkhead.execute(() -> {
+      try {
+        release.await();
+      } catch (InterruptedException e) {
+        Thread.currentThread().interrupt();
+      }
+    });
+    bulkhead.execute(secondExecuted::countDown);
+    assertThat(bulkhead.queuedTasks()).isEqualTo(1);
+
+    // increasing the limit dispatches the queued reconciliation without waiting for a release
+    limiter.onReconciliationFinished(LATENCY, null, METADATA);
+    assertThat(limiter.getLimit()).isEqualTo(2);
+    assertThat(secondExecuted.await(5, TimeUnit.SECONDS)).isTrue();
+
+    release.countDown();
+    await().untilAsserted(() -> assertThat(bulkhead.runningTasks()).isZero());
+  }
+
+  @Test
+  void concurrentSubmissionsNeverExceedLimit() throws InterruptedException {
+    final var limiter = new AdaptiveConcurrencyLimiter(3, Metrics.NOOP);
+    final var bulkheads = new ReconciliationBulkheads(executor, 10, Metrics.NOOP, limiter);
+    final var bulkhead = bulkheads.bulkheadFor("controller", 0, 0, METADATA);
+    final var submissions = 200;
+    final var executed = new CountDownLatch(submissions);
+    final var running = new AtomicInteger();
+    final var maxRunning = new AtomicInteger();
+    final var submitters = Executors.newFixedThreadPool(8);
+    try {
+      for (int i = 0; i < submissions; i++) {
+        submitters.execute(() -> bulkhead.execute(() -> {
+          maxRunning.accumulateAndGet(running.incrementAndGet(), Math::max);
+          Thread.yield();
+          running.decrementAndGet();
+          executed.countDown();
+        }));
+      }
+
+      assertThat(executed.await(10, TimeUnit.SECONDS)).isTrue();
+      assertThat(maxRunning.get()).isLessThanOrEqualTo(3);
+      await().untilAsserted(() -> assertThat(bulkhead.runningTasks()).isZero());
+      assertThat(bulkhead.queuedTasks()).isZero();
+    } finally {
+      submitters.shutdownNow();
+    }
+  }
+
+  private static KubernetesClientException throttled(int code) {
+    return new KubernetesClientException("error", code, null);
+  }
+}
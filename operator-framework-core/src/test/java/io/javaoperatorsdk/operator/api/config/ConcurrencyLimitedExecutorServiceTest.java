@@ -0,0 +1,91 @@
+package io.javaoperatorsdk.operator.api.config;
+
+import java.util.ArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatIllegalArgumentException;
+import static org.awaitility.Awaitility.await;
+
+class ConcurrencyLimitedExecutorServiceTest {
+
+  @Test
+  void limitsNumberOfConcurrentlyRunningTasks() throws Exception {
+    final var executor =
+        new ConcurrencyLimitedExecutorService(Executors.newCachedThreadPool(), 3);
+    final var release = new CountDownLatch(1);
+    final var running = new AtomicInteger();
+    final var maxRunning = new AtomicInteger();
+    try {
+      final var futures = new ArrayList<Future<?>>();
+      for (int i = 0; i < 10; i++) {
+        futures.add(executor.submit(() -> {
+          maxRunning.accumulateAndGet(running.incrementAndGet(), Math::max);
+          try {
+            release.await();
+          } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+          }
+          running.decrementAndGet();
+        }));
+      }
+
+      await().untilAsserted(() -> assertThat(executor.runningTasks()).isEqualTo(3));
+      assertThat(running.get()).isEqualTo(3);
+
+      release.countDown();
+      for (Future<?> future : futures) {
+        future.get(5, TimeUnit.SECONDS);
+      }
+      assertThat(maxRunning.get()).isEqualTo(3);
+      // slots are released right after the futures complete
+      await().untilAsserted(() -> assertThat(executor.runningTasks()).isZero());
+    } finally {
+      executor.shutdownNow();
+    }
+  }
+
+  @Test
+  void releasesPermitWhenTaskFails() throws Exception {
+    final var executor =
+        new ConcurrencyLimitedExecutorService(Executors.newCachedThreadPool(), 1);
+    try {
+      executor.submit(() -> {
+        throw new IllegalStateException();
+      });
+      assertThat(executor.submit(() -> "done").get(5, TimeUnit.SECONDS)).isEqualTo("done");
+    } finally {
+      executor.shutdownNow();
+    }
+  }
+
+  @Test
+  void fallsBackToPlatformThreadsWithoutVirtualThreadSupport() throws Exception {
+    final var executor = VirtualThreads.newBoundedThreadPerTaskExecutor("test-", 2);
+    try {
+      final var virtual = executor.submit(() -> VirtualThreads.isVirtual(Thread.currentThread()))
+          .get(5, TimeUnit.SECONDS);
+      assertThat(virtual).isEqualTo(VirtualThreads.isSupported());
+      if (!VirtualThreads.isSupported()) {
+        // a bounded pool, so that waiting tasks don't each hold a platform thread
+        assertThat(executor).isInstanceOf(ThreadPoolExecutor.class);
+        assertThat(((ThreadPoolExecutor) executor).getMaximumPoolSize()).isEqualTo(2);
+      }
+    } finally {
+      executor.shutdownNow();
+    }
+  }
+
+  @Test
+  void rejectsInvalidLimit() {
+    assertThatIllegalArgumentException().isThrownBy(
+        () -> new ConcurrencyLimitedExecutorService(Executors.newCachedThreadPool(), 0));
+  }
+}
@@ -1,7 +1,10 @@
 package io.javaoperatorsdk.operator.api.config;
 
+import java.nio.file.Path;
+import java.time.Duration;
 import java.util.Optional;
 import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadPoolExecutor;
 
 import org.junit.jupiter.api.Test;
 
@@ -9,7 +12,9 @@ import io.fabric8.kubernetes.api.model.HasMetadata;
 import io.javaoperatorsdk.operator.api.monitoring.Metrics;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
 import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 
 class ConfigurationServiceOverriderTest {
 
@@ -60,6 +65,10 @@ class ConfigurationServiceOverriderTest {
           }
         })
         .withConcurrentReconciliationThreads(25)
+        .withAdaptiveReconciliationConcurrency(true)
+        .withInformerCacheSnapshotDirectory(Path.of("snapshots"))
+        .withInformerCacheSnapshotInterval(Duration.ofSeconds(30))
+        .withProgressiveInformerReadiness(true)
         .withTerminationTimeoutSeconds(100)
         .withMetrics(new Metrics() {})
         .withLeaderElectionConfiguration(new LeaderElectionConfiguration("newLease", "newLeaseNS"))
@@ -72,6 +81,13 @@ class ConfigurationServiceOverriderTest {
         overridden.checkCRDAndValidateLocalModel());
     assertNotEquals(config.concurrentReconciliationThreads(),
         overridden.concurrentReconciliationThreads());
+    assertNotEquals(config.adaptiveReconciliationConcurrency(),
+        overridden.adaptiveReconciliationConcurrency());
+    assertEquals(Optional.of(Path.of("snapshots")), overridden.informerCacheSnapshotDirectory());
+    assertNotEquals(config.informerCacheSnapshotInterval(),
+        overridden.informerCacheSnapshotInterval());
+    assertNotEquals(config.progressiveInformerReadiness(),
+        overridden.progressiveInformerReadiness());
     assertNotEquals(config.getTerminationTimeoutSeconds(),
         overridden.getTerminationTimeoutSeconds());
     assertNotEquals(config.getExecutorService(), overridden.getExecutorService());
@@ -103,4 +119,32 @@ class ConfigurationServiceOverriderTest {
         service.concurrentWorkflowExecutorThreads());
   }
 
+  @Test
+  void virtualThreadExecutorsAreBoundedByConcurrentThreads() {
+    final var service = ConfigurationService.newOverriddenConfigurationService(
+        new BaseConfigurationService(),
+        o -> o.withUseVirtualThreads(true).withConcurrentReconciliationThreads(5));
+
+    assertTrue(service.useVirtualThreads());
+    final var executor = service.getExecutorService();
+    try {
+      if (VirtualThreads.isSupported()) {
+        assertInstanceOf(ConcurrencyLimitedExecutorService.class, executor);
+      } else {
+        assertEquals(5, assertInstanceOf(ThreadPoolExecutor.class, executor).getMaximumPoolSize());
+      }
+    } finally {
+      executor.shutdownNow();
+    }
+  }
+
+  @Test
+  void reflectiveResourceClonerCanBeSelected() {
+    final var service = ConfigurationService.newOverriddenConfigurationService(
+        new BaseConfigurationService(),
+        ConfigurationServiceOverrider::withReflectiveResourceCloner);
+
+    assertInstanceOf(ReflectiveCloner.class, service.getResourceCloner());
+  }
+
 }
@@ -1,5 +1,6 @@
 package io.javaoperatorsdk.operator.api.config;
 
+import java.time.Duration;
 import java.util.Optional;
 import java.util.Set;
 
@@ -30,6 +31,7 @@ import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
 import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
 class ControllerConfigurationOverriderTest {
@@ -208,6 +210,85 @@ class ControllerConfigurationOverriderTest {
     assertNotNull(configuration.getItemStore().orElse(null));
   }
 
+  @Test
+  void overridingEventCoalescingWindowShouldWork() {
+    var configuration = createConfiguration(new WatchCurrentReconciler());
+    assertTrue(configuration.eventCoalescingWindow().isEmpty());
+
+    configuration = ControllerConfigurationOverrider.override(configuration)
+        .withEventCoalescingWindow(Duration.ofMillis(200))
+        .build();
+    assertEquals(Optional.of(Duration.ofMillis(200)), configuration.eventCoalescingWindow());
+
+    // preserved by subsequent overrides
+    configuration = ControllerConfigurationOverrider.override(configuration).build();
+    assertEquals(Optional.of(Duration.ofMillis(200)), configuration.eventCoalescingWindow());
+  }
+
+  @Test
+  void overridingExpectedResourceCountShouldWork() {
+    var configuration = createConfiguration(new WatchCurrentReconciler());
+    assertEquals(0, configuration.expectedResourceCount());
+
+    configuration = ControllerConfigurationOverrider.override(configuration)
+        .withExpectedResourceCount(200_000)
+        .build();
+    assertEquals(200_000, configuration.expectedResourceCount());
+  }
+
+  @Test
+  void overridingSkipUnchangedReconciliationsShouldWork() {
+    var configuration = createConfiguration(new WatchCurrentReconciler());
+    assertTrue(configuration.skipUnchangedReconciliationsForcedInterval().isEmpty());
+
+    configuration = ControllerConfigurationOverrider.override(configuration)
+        .withSkipUnchangedReconciliations(Duration.ofMinutes(10))
+        .build();
+    assertEquals(Optional.of(Duration.ofMinutes(10)),
+        configuration.skipUnchangedReconciliationsForcedInterval());
+  }
+
+  @Test
+  void overridingPrunedFieldsShouldWork() {
+    var configuration = createConfiguration(new WatchCurrentReconciler());
+    assertTrue(configuration.getPrunedFields().isEmpty());
+
+    configuration = ControllerConfigurationOverrider.override(configuration)
+        .withPrunedFields(Set.of("/metadata/managedFields"))
+        .build();
+    assertEquals(Set.of("/metadata/managedFields"), configuration.getPrunedFields());
+  }
+
+  @Test
+  void rejectsPruningPrimaryResourceFieldsRemovedOnUpdate() {
+    final var configuration = createConfiguration(new WatchCurrentReconciler());
+
+    // the pruned primary resources are sent back when updating them, which would remove the fields
+    for (var field : Set.of("/status", "/spec/data", "/metadata/labels",
+        "/metadata/managedFields/0/fieldsV1")) {
+      final var overrider =
+          ControllerConfigurationOverrider.override(configuration).withPrunedFields(Set.of(field));
+      assertThrows(IllegalArgumentException.class, overrider::build, field);
+    }
+  }
+
+  @Test
+  void overridingReconciliationSlotsShouldWork() {
+    var configuration = createConfiguration(new WatchCurrentReconciler());
+    assertEquals(0, configuration.minReconciliationSlots());
+    assertEquals(0, configuration.maxReconciliationSlots());
+
+    configuration = ControllerConfigurationOverrider.override(configuration)
+        .withReconciliationSlots(2, 5)
+        .build();
+    assertEquals(2, configuration.minReconciliationSlots());
+    assertEquals(5, configuration.maxReconciliationSlots());
+
+    final var invalid = ControllerConfigurationOverrider.override(configuration)
+        .withReconciliationSlots(3, 2);
+    assertThrows(IllegalArgumentException.class, invalid::build);
+  }
+
   @Test
   void configuredDependentShouldNotChangeOnParentOverrideEvenWhenInitialConfigIsSame() {
     var configuration = createConfiguration(new OverriddenNSOnDepReconciler());
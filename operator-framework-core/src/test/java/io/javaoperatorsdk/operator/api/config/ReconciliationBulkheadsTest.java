@@ -0,0 +1,154 @@
+package io.javaoperatorsdk.operator.api.config;
+
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import io.javaoperatorsdk.operator.OperatorException;
+import io.javaoperatorsdk.operator.api.monitoring.Metrics;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.awaitility.Awaitility.await;
+import static org.mockito.Mockito.atLeast;
+import static org.mockito.Mockito.atLeastOnce;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+
+class ReconciliationBulkheadsTest {
+
+  private final ExecutorService executor = Executors.newCachedThreadPool();
+  private final CountDownLatch release = new CountDownLatch(1);
+
+  @AfterEach
+  void shutdown() {
+    release.countDown();
+    executor.shutdownNow();
+  }
+
+  @Test
+  void passesThroughWhenNoSlotsAreDeclared() {
+    final var bulkheads = new ReconciliationBulkheads(executor, 2, Metrics.NOOP);
+    final var bulkhead = bulkheads.bulkheadFor("controller", 0, 0, Map.of());
+
+    for (int i = 0; i < 3; i++) {
+      bulkhead.execute(this::blockUntilReleased);
+    }
+
+    await().untilAsserted(() -> assertThat(bulkhead.runningTasks()).isEqualTo(3));
+    assertThat(bulkhead.queuedTasks()).isZero();
+  }
+
+  @Test
+  void queuesReconciliationsAboveMaxSlots() throws InterruptedException {
+    final var bulkheads = new ReconciliationBulkheads(executor, 4, Metrics.NOOP);
+    final var bulkhead = bulkheads.bulkheadFor("controller", 0, 1, Map.of());
+    final var secondExecuted = new CountDownLatch(1);
+
+    bulkhead.execute(this::blockUntilReleased);
+    bulkhead.execute(secondExecuted::countDown);
+
+    assertThat(bulkhead.runningTasks()).isEqualTo(1);
+    assertThat(bulkhead.queuedTasks()).isEqualTo(1);
+    assertThat(secondExecuted.getCount()).isEqualTo(1);
+
+    release.countDown();
+    assertThat(secondExecuted.await(5, TimeUnit.SECONDS)).isTrue();
+    await().untilAsserted(() -> assertThat(bulkhead.runningTasks()).isZero());
+    assertThat(bulkheads.borrowedSlots()).isZero();
+  }
+
+  @Test
+  void busyControllerCannotTakeGuaranteedSlots() throws InterruptedException {
+    final var bulkheads = new ReconciliationBulkheads(executor, 3, Metrics.NOOP);
+    final var guaranteed = bulkheads.bulkheadFor("guaranteed", 1, 0, Map.of());
+    final var busy = bulkheads.bulkheadFor("busy", 0, 0, Map.of());
+
+    for (int i = 0; i < 5; i++) {
+      busy.execute(this::blockUntilReleased);
+    }
+    // one of the three slots is reserved
+    assertThat(busy.runningTasks()).isEqualTo(2);
+    assertThat(busy.queuedTasks()).isEqualTo(3);
+
+    final var guaranteedExecuted = new CountDownLatch(1);
+    guaranteed.execute(guaranteedExecuted::countDown);
+    assertThat(guaranteedExecuted.await(5, TimeUnit.SECONDS)).isTrue();
+
+    release.countDown();
+    await().untilAsserted(() -> assertThat(busy.queuedTasks() + busy.runningTasks()).isZero());
+  }
+
+  @Test
+  void queuedReconciliationsOfControllersAreServedInTurn() throws InterruptedException {
+    final var bulkheads = new ReconciliationBulkheads(executor, 2, Metrics.NOOP);
+    final var first = bulkheads.bulkheadFor("first", 0, 2, Map.of());
+    final var second = bulkheads.bulkheadFor("second", 0, 1, Map.of());
+    final var releaseOne = new CountDownLatch(1);
+    final var secondExecuted = new CountDownLatch(1);
+
+    first.execute(() -> {
+      try {
+        releaseOne.await();
+      } catch (InterruptedException e) {
+        Thread.currentThread().interrupt();
+      }
+    });
+    first.execute(this::blockUntilReleased);
+    first.execute(this::blockUntilReleased);
+    second.execute(() -> {
+      secondExecuted.countDown();
+      // keep the slot so that it doesn't go to the first controller's queued reconciliation
+      blockUntilReleased();
+    });
+    assertThat(first.queuedTasks()).isEqualTo(1);
+    assertThat(second.queuedTasks()).isEqualTo(1);
+
+    // the freed slot goes to the other controller, even though the first one queued earlier
+    releaseOne.countDown();
+    assertThat(secondExecuted.await(5, TimeUnit.SECONDS)).isTrue();
+    assertThat(first.queuedTasks()).isEqualTo(1);
+
+    release.countDown();
+    await().untilAsserted(() -> assertThat(first.queuedTasks() + first.runningTasks()).isZero());
+  }
+
+  @Test
+  void rejectsReservingMoreSlotsThanAvailable() {
+    final var bulkheads = new ReconciliationBulkheads(executor, 4, Metrics.NOOP);
+    bulkheads.bulkheadFor("first", 3, 0, Map.of());
+
+    assertThatThrownBy(() -> bulkheads.bulkheadFor("second", 2, 0, Map.of()))
+        .isInstanceOf(OperatorException.class);
+  }
+
+  @Test
+  void reportsSlotsUsage() {
+    final var metrics = mock(Metrics.class);
+    final Map<String, Object> metadata = Map.of("controller.name", "controller");
+    final var bulkheads = new ReconciliationBulkheads(executor, 4, metrics);
+    final var bulkhead = bulkheads.bulkheadFor("controller", 0, 1, metadata);
+
+    bulkhead.execute(this::blockUntilReleased);
+    bulkhead.execute(this::blockUntilReleased);
+
+    verify(metrics, atLeastOnce()).reconciliationSlotsUsage(1, 1, 1, metadata);
+    release.countDown();
+    // reported once when registering the bulkhead, then once all the reconciliations are done
+    await().untilAsserted(
+        () -> verify(metrics, atLeast(2)).reconciliationSlotsUsage(0, 0, 1, metadata));
+  }
+
+  private void blockUntilReleased() {
+    try {
+      release.await();
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+    }
+  }
+}
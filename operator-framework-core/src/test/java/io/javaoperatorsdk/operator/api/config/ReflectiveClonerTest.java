@@ -0,0 +1,231 @@
+package io.javaoperatorsdk.operator.api.config;
+
+import java.util.ArrayList;
+import java.util.EnumSet;
+import java.util.LinkedHashMap;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.Test;
+
+import io.fabric8.kubernetes.api.model.GenericKubernetesResource;
+import io.fabric8.kubernetes.api.model.HasMetadata;
+import io.fabric8.kubernetes.api.model.ObjectMetaBuilder;
+import io.fabric8.kubernetes.api.model.Quantity;
+import io.fabric8.kubernetes.api.model.apps.Deployment;
+import io.fabric8.kubernetes.api.model.apps.DeploymentBuilder;
+import io.fabric8.kubernetes.api.model.apps.StatefulSet;
+import io.fabric8.kubernetes.api.model.apps.StatefulSetBuilder;
+import io.javaoperatorsdk.operator.sample.simple.TestCustomResource;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ReflectiveClonerTest {
+
+  private final ReflectiveCloner cloner = new ReflectiveCloner();
+
+  @Test
+  void clonesDeployment() {
+    final var deployment = deployment();
+
+    final var copy = cloner.clone(deployment);
+
+    assertThat(copy).isEqualTo(deployment).isNotSameAs(deployment);
+    assertThat(copy.getSpec()).isNotSameAs(deployment.getSpec());
+    copy.getSpec().getTemplate().getSpec().getContainers().get(0).setImage("nginx:latest");
+    copy.getMetadata().getLabels().put("changed", "true");
+    assertThat(deployment.getSpec().getTemplate().getSpec().getContainers().get(0).getImage())
+        .isEqualTo("nginx:1.25");
+    assertThat(deployment.getMetadata().getLabels()).doesNotContainKey("changed");
+  }
+
+  @Test
+  void clonesStatefulSet() {
+    final var statefulSet = statefulSet();
+
+    final var copy = cloner.clone(statefulSet);
+
+    assertThat(copy).isEqualTo(statefulSet).isNotSameAs(statefulSet);
+    assertThat(copy.getSpec().getVolumeClaimTemplates().get(0).getSpec().getResources())
+        .isNotSameAs(statefulSet.getSpec().getVolumeClaimTemplates().get(0).getSpec()
+            .getResources());
+  }
+
+  @Test
+  void clonesCustomResource() {
+    final var resource = new TestCustomResource();
+    resource.setMetadata(new ObjectMetaBuilder().withName("test").withNamespace("default")
+        .withResourceVersion("1").build());
+    resource.getSpec().setConfigMapName("config");
+    resource.getSpec().setValue("value");
+    resource.getStatus().setConfigMapStatus("ready");
+
+    final var copy = cloner.clone(resource);
+
+    assertThat(copy).isEqualTo(resource);
+    assertThat(copy.getSpec()).isEqualTo(resource.getSpec()).isNotSameAs(resource.getSpec());
+    assertThat(copy.getStatus()).isEqualTo(resource.getStatus())
+        .isNotSameAs(resource.getStatus());
+    assertThat(copy.getPlural()).isEqualTo(resource.getPlural());
+  }
+
+  @Test
+  @SuppressWarnings("unchecked")
+  void clonesLargeGenericResource() {
+    final var resource = largeGenericResource();
+
+    final var copy = cloner.clone(resource);
+
+    assertThat(copy).isEqualTo(resource);
+    final var copiedEntries = (List<Object>) ((Map<String, Object>) copy
+        .getAdditionalProperties().get("status")).get("entries");
+    final var entries = (List<Object>) ((Map<String, Object>) resource
+        .getAdditionalProperties().get("status")).get("entries");
+    assertThat(copiedEntries).isNotSameAs(entries);
+    assertThat(copiedEntries.get(0)).isEqualTo(entries.get(0)).isNotSameAs(entries.get(0));
+  }
+
+  @Test
+  void usesFallbackForTypesWhichCannotBeCopied() {
+    final var resource = new GenericKubernetesResource();
+    resource.setMetadata(new ObjectMetaBuilder().withName("test").build());
+    resource.setAdditionalProperty("value", new WithoutNoArgConstructor("value"));
+    final var fallbackResult = new GenericKubernetesResource();
+
+    final var copy = new ReflectiveCloner(new Cloner() {
+      @Override
+      @SuppressWarnings("unchecked")
+      public <R extends HasMetadata> R clone(R object) {
+        return (R) fallbackResult;
+      }
+    }).clone(resource);
+
+    assertThat(copy).isSameAs(fallbackResult);
+  }
+
+  @Test
+  void keepsConcreteCollectionTypesOfFields() {
+    final var resource = new WithCollectionFields();
+    resource.setMetadata(new ObjectMetaBuilder().withName("test").build());
+    resource.sorted.put("b", "2");
+    resource.sorted.put("a", "1");
+    resource.concurrent.put("key", "value");
+    resource.linked.add("element");
+
+    final var copy = new ReflectiveCloner(new Cloner() {
+      @Override
+      public <R extends HasMetadata> R clone(R object) {
+        throw new AssertionError("fallback shouldn't be used");
+      }
+    }).clone(resource);
+
+    assertThat(copy.sorted).isInstanceOf(TreeMap.class).isEqualTo(resource.sorted)
+        .isNotSameAs(resource.sorted);
+    assertThat(copy.concurrent).isInstanceOf(ConcurrentHashMap.class)
+        .isEqualTo(resource.concurrent).isNotSameAs(resource.concurrent);
+    assertThat(copy.linked).isInstanceOf(LinkedList.class).isEqualTo(resource.linked)
+        .isNotSameAs(resource.linked);
+  }
+
+  @Test
+  void usesFallbackForCollectionFieldsWhichCannotHoldTheCopy() {
+    final var resource = new WithEnumSetField();
+    resource.setMetadata(new ObjectMetaBuilder().withName("test").build());
+    final var fallbackResult = new WithEnumSetField();
+
+    final var copy = new ReflectiveCloner(new Cloner() {
+      @Override
+      @SuppressWarnings("unchecked")
+      public <R extends HasMetadata> R clone(R object) {
+        return (R) fallbackResult;
+      }
+    }).clone(resource);
+
+    assertThat(copy).isSameAs(fallbackResult);
+  }
+
+  private static Deployment deployment() {
+    return new DeploymentBuilder()
+        .withNewMetadata().withName("test").withNamespace("default")
+        .addToLabels("app", "test").addToAnnotations("note", "deployment")
+        .endMetadata()
+        .withNewSpec().withReplicas(3)
+        .withNewSelector().addToMatchLabels("app", "test").endSelector()
+        .withNewTemplate()
+        .withNewMetadata().addToLabels("app", "test").endMetadata()
+        .withNewSpec()
+        .addNewContainer().withName("nginx").withImage("nginx:1.25")
+        .addNewPort().withContainerPort(80).endPort()
+        .addNewEnv().withName("KEY").withValue("value").endEnv()
+        .withNewResources().addToRequests("cpu", new Quantity("100m"))
+        .addToLimits("memory", new Quantity("128Mi")).endResources()
+        .endContainer()
+        .endSpec()
+        .endTemplate()
+        .endSpec()
+        .build();
+  }
+
+  private static StatefulSet statefulSet() {
+    return new StatefulSetBuilder()
+        .withNewMetadata().withName("test").withNamespace("default").endMetadata()
+        .withNewSpec().withReplicas(1).withServiceName("test")
+        .withNewSelector().addToMatchLabels("app", "test").endSelector()
+        .withNewTemplate()
+        .withNewMetadata().addToLabels("app", "test").endMetadata()
+        .withNewSpec()
+        .addNewContainer().withName("db").withImage("postgres:16")
+        .addNewVolumeMount().withName("data").withMountPath("/data").endVolumeMount()
+        .endContainer()
+        .endSpec()
+        .endTemplate()
+        .addNewVolumeClaimTemplate()
+        .withNewMetadata().withName("data").endMetadata()
+        .withNewSpec().withAccessModes("ReadWriteOnce")
+        .withNewResources().addToRequests("storage", new Quantity("1Gi")).endResources()
+        .endSpec()
+        .endVolumeClaimTemplate()
+        .endSpec()
+        .build();
+  }
+
+  private static GenericKubernetesResource largeGenericResource() {
+    final var resource = new GenericKubernetesResource();
+    resource.setApiVersion("sample.javaoperatorsdk.io/v1");
+    resource.setKind("Large");
+    resource.setMetadata(new ObjectMetaBuilder().withName("large").build());
+    final var entries = new ArrayList<Object>();
+    for (int i = 0; i < 1000; i++) {
+      final var entry = new LinkedHashMap<String, Object>();
+      entry.put("name", "entry-" + i);
+      entry.put("index", i);
+      entry.put("ready", i % 2 == 0);
+      entry.put("tags", List.of("a", "b", "c"));
+      entries.add(entry);
+    }
+    resource.setAdditionalProperty("status", Map.of("entries", entries));
+    return resource;
+  }
+
+  public static class WithCollectionFields extends GenericKubernetesResource {
+    private final TreeMap<String, String> sorted = new TreeMap<>();
+    private final ConcurrentHashMap<String, String> concurrent = new ConcurrentHashMap<>();
+    private final LinkedList<String> linked = new LinkedList<>();
+  }
+
+  public static class WithEnumSetField extends GenericKubernetesResource {
+    private final EnumSet<TimeUnit> units = EnumSet.of(TimeUnit.SECONDS);
+  }
+
+  private static class WithoutNoArgConstructor {
+    private final String value;
+
+    private WithoutNoArgConstructor(String value) {
+      this.value = value;
+    }
+  }
+}
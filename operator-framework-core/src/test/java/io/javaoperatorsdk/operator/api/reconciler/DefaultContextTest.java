@@ -0,0 +1,85 @@
+package io.javaoperatorsdk.operator.api.reconciler;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import org.junit.jupiter.api.Test;
+
+import io.fabric8.kubernetes.api.model.ConfigMap;
+import io.fabric8.kubernetes.api.model.ConfigMapBuilder;
+import io.javaoperatorsdk.operator.api.config.BaseConfigurationService;
+import io.javaoperatorsdk.operator.api.config.ConfigurationService;
+import io.javaoperatorsdk.operator.api.config.ControllerConfiguration;
+import io.javaoperatorsdk.operator.api.config.ReflectiveCloner;
+import io.javaoperatorsdk.operator.processing.Controller;
+import io.javaoperatorsdk.operator.processing.event.EventSourceManager;
+import io.javaoperatorsdk.operator.processing.event.source.ResourceEventSource;
+import io.javaoperatorsdk.operator.sample.simple.TestCustomResource;
+
+import static org.assertj.core.api.Assertions.assertThatCode;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+@SuppressWarnings("unchecked")
+class DefaultContextTest {
+
+  private final ConfigMap cached = new ConfigMapBuilder().withNewMetadata().withName("name")
+      .withNamespace("default").endMetadata().withData(new HashMap<>(Map.of("key", "value")))
+      .build();
+
+  @Test
+  void failsIfReadOnlyResourceWasModified() {
+    final var context = context(ConfigurationService.newOverriddenConfigurationService(
+        new BaseConfigurationService(),
+        o -> o.withResourceCloner(new ReflectiveCloner()).withVerifyReadOnlyResources(true)));
+
+    context.getSecondaryResourcesReadOnly(ConfigMap.class).iterator().next().getData()
+        .put("key", "modified");
+
+    assertThatThrownBy(context::verifyReadOnlyResources)
+        .isInstanceOf(IllegalStateException.class)
+        .hasMessageContaining("ConfigMap");
+  }
+
+  @Test
+  void acceptsUnmodifiedReadOnlyResources() {
+    final var context = context(ConfigurationService.newOverriddenConfigurationService(
+        new BaseConfigurationService(),
+        o -> o.withResourceCloner(new ReflectiveCloner()).withVerifyReadOnlyResources(true)));
+
+    context.getSecondaryResourcesReadOnly(ConfigMap.class);
+
+    assertThatCode(context::verifyReadOnlyResources).doesNotThrowAnyException();
+  }
+
+  @Test
+  void doesNotVerifyByDefault() {
+    final var context = context(new BaseConfigurationService());
+
+    context.getSecondaryResourcesReadOnly(ConfigMap.class).iterator().next().getData()
+        .put("key", "modified");
+
+    assertThatCode(context::verifyReadOnlyResources).doesNotThrowAnyException();
+  }
+
+  private DefaultContext<TestCustomResource> context(ConfigurationService configurationService) {
+    final Controller<TestCustomResource> controller = mock(Controller.class);
+    final ControllerConfiguration<TestCustomResource> configuration =
+        mock(ControllerConfiguration.class);
+    final EventSourceManager<TestCustomResource> eventSourceManager =
+        mock(EventSourceManager.class);
+    final ResourceEventSource<ConfigMap, TestCustomResource> eventSource =
+        mock(ResourceEventSource.class);
+    when(controller.getConfiguration()).thenReturn(configuration);
+    when(controller.getEventSourceManager()).thenReturn(eventSourceManager);
+    when(configuration.getConfigurationService()).thenReturn(configurationService);
+    when(eventSourceManager.getResourceEventSourcesFor(ConfigMap.class))
+        .thenReturn(List.of(eventSource));
+    when(eventSource.getSecondaryResourcesReadOnly(any())).thenReturn(Set.of(cached));
+    return new DefaultContext<>(null, controller, new TestCustomResource());
+  }
+}
@@ -5,7 +5,11 @@ import java.util.Optional;
 import org.junit.jupiter.api.Test;
 
 import io.fabric8.kubernetes.api.model.ConfigMap;
+import io.fabric8.kubernetes.api.model.ConfigMapBuilder;
 import io.fabric8.kubernetes.api.model.ObjectMetaBuilder;
+import io.javaoperatorsdk.operator.api.config.ConfigurationService;
+import io.javaoperatorsdk.operator.api.config.ControllerConfiguration;
+import io.javaoperatorsdk.operator.api.config.ReflectiveCloner;
 import io.javaoperatorsdk.operator.api.reconciler.Context;
 import io.javaoperatorsdk.operator.sample.simple.TestCustomResource;
 
@@ -56,6 +60,72 @@ class AbstractDependentResourceTest {
         () -> testDependentResource.reconcile(new TestCustomResource(), null));
   }
 
+  @Test
+  void desiredStateIsCachedUntilPrimaryGenerationChanges() {
+    final var dependent = new CachingTestDependentResource();
+    final var primary = primary(1L);
+    final var context = contextWithCloner();
+
+    final var created = dependent.reconcile(primary, context).getSingleResource().orElseThrow();
+    assertEquals(1, dependent.desiredCount);
+
+    // actual resource didn't change since it was created: neither desired nor match are needed
+    dependent.secondary = created;
+    dependent.reconcile(primary, context);
+    assertEquals(1, dependent.desiredCount);
+    assertEquals(0, dependent.matchCount);
+
+    // actual resource changed: it needs to be matched, against the cached desired state
+    dependent.secondary = configMap("2", "value");
+    dependent.reconcile(primary, context);
+    assertEquals(1, dependent.desiredCount);
+    assertEquals(1, dependent.matchCount);
+
+    dependent.reconcile(primary(2L), context);
+    assertEquals(2, dependent.desiredCount);
+    assertEquals(2, dependent.matchCount);
+  }
+
+  @Test
+  void desiredStateCacheIsEvictedOnPrimaryDeletion() {
+    final var dependent = new CachingTestDependentResource();
+    final var primary = primary(1L);
+    final var context = contextWithCloner();
+    dependent.secondary = dependent.reconcile(primary, context).getSingleResource().orElseThrow();
+
+    dependent.onResourceDeleted(primary);
+    dependent.reconcile(primary, context);
+
+    assertEquals(2, dependent.desiredCount);
+    assertEquals(1, dependent.matchCount);
+  }
+
+  private static TestCustomResource primary(long generation) {
+    final var primary = new TestCustomResource();
+    primary.setMetadata(new ObjectMetaBuilder().withName("primary").withNamespace("default")
+        .withUid("primary-uid").withGeneration(generation).build());
+    return primary;
+  }
+
+  @SuppressWarnings("unchecked")
+  private static Context<TestCustomResource> contextWithCloner() {
+    final var configurationService = mock(ConfigurationService.class);
+    when(configurationService.getResourceCloner()).thenReturn(new ReflectiveCloner());
+    final var controllerConfiguration = mock(ControllerConfiguration.class);
+    when(controllerConfiguration.getConfigurationService()).thenReturn(configurationService);
+    final Context<TestCustomResource> context = mock(Context.class);
+    when(context.getControllerConfiguration()).thenReturn(controllerConfiguration);
+    return context;
+  }
+
+  private static ConfigMap configMap(String resourceVersion, String value) {
+    return new ConfigMapBuilder()
+        .withNewMetadata().withName("test").withNamespace("default")
+        .withResourceVersion(resourceVersion).endMetadata()
+        .addToData("key", value)
+        .build();
+  }
+
   private ConfigMap configMap() {
     ConfigMap configMap = new ConfigMap();
     configMap.setMetadata(new ObjectMetaBuilder()
@@ -135,4 +205,65 @@ class AbstractDependentResourceTest {
       return result;
     }
   }
+
+  private static class CachingTestDependentResource
+      extends AbstractDependentResource<ConfigMap, TestCustomResource>
+      implements Creator<ConfigMap, TestCustomResource>, Updater<ConfigMap, TestCustomResource> {
+
+    private ConfigMap secondary;
+    private int desiredCount;
+    private int matchCount;
+
+    @Override
+    public Class<ConfigMap> resourceType() {
+      return ConfigMap.class;
+    }
+
+    @Override
+    public Optional<ConfigMap> getSecondaryResource(TestCustomResource primary,
+        Context<TestCustomResource> context) {
+      return Optional.ofNullable(secondary);
+    }
+
+    @Override
+    protected boolean isDesiredStateCacheEnabled() {
+      return true;
+    }
+
+    @Override
+    protected ConfigMap desired(TestCustomResource primary, Context<TestCustomResource> context) {
+      desiredCount++;
+      return configMap(null, "value");
+    }
+
+    @Override
+    public Matcher.Result<ConfigMap> match(ConfigMap actualResource, TestCustomResource primary,
+        Context<TestCustomResource> context) {
+      matchCount++;
+      final var desired = getOrComputeDesired(primary, context);
+      return Matcher.Result.computed(desired.getData().equals(actualResource.getData()), desired);
+    }
+
+    @Override
+    public ConfigMap create(ConfigMap desired, TestCustomResource primary,
+        Context<TestCustomResource> context) {
+      desired.getMetadata().setResourceVersion("1");
+      return desired;
+    }
+
+    @Override
+    public ConfigMap update(ConfigMap actual, ConfigMap desired, TestCustomResource primary,
+        Context<TestCustomResource> context) {
+      desired.getMetadata().setResourceVersion("3");
+      return desired;
+    }
+
+    @Override
+    protected void onCreated(TestCustomResource primary, ConfigMap created,
+        Context<TestCustomResource> context) {}
+
+    @Override
+    protected void onUpdated(TestCustomResource primary, ConfigMap updated, ConfigMap actual,
+        Context<TestCustomResource> context) {}
+  }
 }
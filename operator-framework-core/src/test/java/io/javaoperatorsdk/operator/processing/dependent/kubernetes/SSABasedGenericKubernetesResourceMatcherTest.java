@@ -13,30 +13,40 @@ import io.fabric8.kubernetes.api.model.apps.DaemonSet;
 import io.fabric8.kubernetes.api.model.apps.Deployment;
 import io.fabric8.kubernetes.api.model.apps.ReplicaSet;
 import io.fabric8.kubernetes.api.model.apps.StatefulSet;
+import io.fabric8.kubernetes.client.utils.KubernetesSerialization;
 import io.javaoperatorsdk.operator.MockKubernetesClient;
 import io.javaoperatorsdk.operator.ReconcilerUtils;
 import io.javaoperatorsdk.operator.api.config.ConfigurationService;
 import io.javaoperatorsdk.operator.api.config.ControllerConfiguration;
+import io.javaoperatorsdk.operator.api.config.ReflectiveCloner;
 import io.javaoperatorsdk.operator.api.reconciler.Context;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.spy;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 class SSABasedGenericKubernetesResourceMatcherTest {
 
   private final Context<?> mockedContext = mock();
+  private final KubernetesSerialization serialization = spy(new KubernetesSerialization());
 
   private final SSABasedGenericKubernetesResourceMatcher<HasMetadata> matcher =
-      SSABasedGenericKubernetesResourceMatcher.getInstance();
+      new SSABasedGenericKubernetesResourceMatcher<>(true);
 
   @BeforeEach
   @SuppressWarnings("unchecked")
   void setup() {
     final var client = MockKubernetesClient.client(HasMetadata.class);
+    when(client.getKubernetesSerialization()).thenReturn(serialization);
     when(mockedContext.getClient()).thenReturn(client);
 
     final var configurationService = mock(ConfigurationService.class);
+    when(configurationService.getResourceCloner()).thenReturn(new ReflectiveCloner());
     final var controllerConfiguration = mock(ControllerConfiguration.class);
     when(controllerConfiguration.getConfigurationService()).thenReturn(configurationService);
     when(controllerConfiguration.fieldManager()).thenReturn("controller");
@@ -202,6 +212,67 @@ class SSABasedGenericKubernetesResourceMatcherTest {
     assertThat(matcher.matches(actualDaemonSet, desiredDaemonSet, mockedContext)).isFalse();
   }
 
+  @Test
+  void managedFieldsAreParsedAgainForNewResourceVersion() {
+    var desired = loadResource("nginx-deployment.yaml", Deployment.class);
+    var actual =
+        loadResource("deployment-with-managed-fields-additional-controller.yaml", Deployment.class);
+    assertThat(matcher.matches(actual, desired, mockedContext)).isTrue();
+
+    // the whole resource being managed, fields set by the other controller now make it differ
+    actual.getMetadata().setResourceVersion("423");
+    actual.getMetadata().getManagedFields().stream()
+        .filter(f -> f.getManager().equals("controller"))
+        .forEach(f -> f.getFieldsV1().getAdditionalProperties().clear());
+
+    assertThat(matcher.matches(actual, desired, mockedContext)).isFalse();
+  }
+
+  @Test
+  void forgottenResourcesHaveTheirManagedFieldsParsedAgain() {
+    var desired = loadResource("nginx-deployment.yaml", Deployment.class);
+    var actual =
+        loadResource("deployment-with-managed-fields-additional-controller.yaml", Deployment.class);
+    assertThat(matcher.matches(actual, desired, mockedContext)).isTrue();
+
+    actual.getMetadata().getManagedFields().stream()
+        .filter(f -> f.getManager().equals("controller"))
+        .forEach(f -> f.getFieldsV1().getAdditionalProperties().clear());
+    // same resource version, so the cached managed fields are still used
+    assertThat(matcher.matches(actual, desired, mockedContext)).isTrue();
+
+    matcher.forget(actual);
+
+    assertThat(matcher.matches(actual, desired, mockedContext)).isFalse();
+  }
+
+  @Test
+  void unchangedResourcesAreNotConvertedAgain() {
+    var desired = loadResource("nginx-deployment.yaml", Deployment.class);
+    var actual =
+        loadResource("deployment-with-managed-fields-additional-controller.yaml", Deployment.class);
+    assertThat(matcher.matches(actual, desired, mockedContext)).isTrue();
+
+    var sameDesired = loadResource("nginx-deployment.yaml", Deployment.class);
+    assertThat(matcher.matches(actual, sameDesired, mockedContext)).isTrue();
+
+    verify(serialization, times(2)).convertValue(any(), eq(Map.class));
+  }
+
+  @Test
+  void changedDesiredResourcesAreConvertedAgain() {
+    var desired = loadResource("nginx-deployment.yaml", Deployment.class);
+    var actual =
+        loadResource("deployment-with-managed-fields-additional-controller.yaml", Deployment.class);
+    assertThat(matcher.matches(actual, desired, mockedContext)).isTrue();
+
+    // changed in place, the matcher keeps its own copy of the desired resource
+    desired.getSpec().setReplicas(5);
+
+    assertThat(matcher.matches(actual, desired, mockedContext)).isFalse();
+    verify(serialization, times(3)).convertValue(any(), eq(Map.class));
+  }
+
   private static <R> R loadResource(String fileName, Class<R> clazz) {
     return ReconcilerUtils.loadYaml(clazz, SSABasedGenericKubernetesResourceMatcherTest.class,
         fileName);
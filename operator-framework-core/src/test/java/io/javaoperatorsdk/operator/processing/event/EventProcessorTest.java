@@ -1,9 +1,16 @@
 package io.javaoperatorsdk.operator.processing.event;
 
 import java.time.Duration;
+import java.time.Instant;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
 
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -28,6 +35,7 @@ import io.javaoperatorsdk.operator.processing.event.source.controller.ResourceAc
 import io.javaoperatorsdk.operator.processing.event.source.controller.ResourceEvent;
 import io.javaoperatorsdk.operator.processing.event.source.timer.TimerEventSource;
 import io.javaoperatorsdk.operator.processing.retry.GenericRetry;
+import io.javaoperatorsdk.operator.processing.retry.GradualRetry;
 import io.javaoperatorsdk.operator.processing.retry.Retry;
 import io.javaoperatorsdk.operator.processing.retry.RetryExecution;
 import io.javaoperatorsdk.operator.sample.simple.TestCustomResource;
@@ -75,6 +83,7 @@ class EventProcessorTest {
 
   @BeforeEach
   void setup() {
+    when(rateLimiterMock.isActivated()).thenReturn(true);
     when(eventSourceManagerMock.getControllerResourceEventSource())
         .thenReturn(controllerResourceEventSourceMock);
     eventProcessor =
@@ -372,7 +381,7 @@ class EventProcessorTest {
     var event = prepareCREvent();
 
     final var rateLimit = new RateLimitState() {};
-    when(rateLimiterMock.initState()).thenReturn(rateLimit);
+    when(rateLimiterMock.initState(any())).thenReturn(rateLimit);
     when(rateLimiterMock.isLimited(rateLimit))
         .thenReturn(Optional.empty())
         .thenReturn(Optional.of(refreshPeriod));
@@ -386,6 +395,21 @@ class EventProcessorTest {
     verify(retryTimerEventSourceMock, times(1)).scheduleOnce((ResourceID) any(), anyLong());
   }
 
+  @Test
+  void doesNotTrackRateLimitStateIfRateLimitingIsDeactivated() {
+    final var rateLimiter = spy(LinearRateLimiter.deactivatedRateLimiter());
+    eventProcessor =
+        spy(new EventProcessor(controllerConfiguration(null, rateLimiter),
+            reconciliationDispatcherMock, eventSourceManagerMock, null));
+    eventProcessor.start();
+
+    eventProcessor.handleEvent(prepareCREvent());
+
+    verify(reconciliationDispatcherMock, timeout(50).times(1)).handleExecution(any());
+    verify(rateLimiter, never()).initState();
+    verify(rateLimiter, never()).isLimited(any());
+  }
+
   @Test
   void schedulesRetryForMarReconciliationInterval() {
     TestCustomResource customResource = testCustomResource();
@@ -399,6 +423,57 @@ class EventProcessorTest {
     verify(retryTimerEventSourceMock, times(1)).scheduleOnce((ResourceID) any(), anyLong());
   }
 
+  @Test
+  void spreadsMaxReconciliationIntervalWithJitter() {
+    final var configuration = controllerConfiguration(null, rateLimiterMock);
+    when(configuration.maxReconciliationIntervalJitter()).thenReturn(0.5);
+    eventProcessor = spy(new EventProcessor(configuration, reconciliationDispatcherMock,
+        eventSourceManagerMock, metricsMock));
+    eventProcessor.start();
+    when(eventProcessor.retryEventSource()).thenReturn(retryTimerEventSourceMock);
+
+    for (int i = 0; i < 20; i++) {
+      ExecutionScope executionScope =
+          new ExecutionScope(null).setResource(testCustomResource());
+      eventProcessor.eventProcessingFinished(executionScope,
+          PostExecutionControl.defaultDispatch());
+    }
+
+    ArgumentCaptor<Long> delays = ArgumentCaptor.forClass(Long.class);
+    verify(retryTimerEventSourceMock, times(20)).scheduleOnce((ResourceID) any(),
+        delays.capture());
+    assertThat(delays.getAllValues()).allSatisfy(d -> assertThat(d).isBetween(500L, 1000L));
+    // delays are spread instead of all being equal to the max interval
+    assertThat(delays.getAllValues().stream().distinct().count()).isGreaterThan(1);
+    verify(metricsMock, times(20)).periodicReconciliationScheduled(any(), any(), any());
+  }
+
+  @Test
+  void countsPeriodicReconciliationsOnlyOnceTriggered() throws InterruptedException {
+    final var configuration = controllerConfiguration(null, rateLimiterMock);
+    when(configuration.maxReconciliationInterval())
+        .thenReturn(Optional.of(Duration.ofMillis(50)));
+    eventProcessor = spy(new EventProcessor(configuration, reconciliationDispatcherMock,
+        eventSourceManagerMock, metricsMock));
+    eventProcessor.start();
+    when(eventProcessor.retryEventSource()).thenReturn(retryTimerEventSourceMock);
+    final var resource = testCustomResource();
+    final var resourceID = ResourceID.fromResource(resource);
+
+    eventProcessor.eventProcessingFinished(new ExecutionScope(null).setResource(resource),
+        PostExecutionControl.defaultDispatch());
+    // an event received before the interval elapsed doesn't come from the periodic timer
+    eventProcessor.handleEvent(new Event(resourceID));
+    verify(metricsMock, times(1)).periodicReconciliationScheduled(any(), any(), any());
+    verify(metricsMock, never()).periodicReconciliationTriggered(any(), any());
+
+    Thread.sleep(60);
+    eventProcessor.handleEvent(new Event(resourceID));
+    eventProcessor.handleEvent(new Event(resourceID));
+
+    verify(metricsMock, times(1)).periodicReconciliationTriggered(eq(resourceID), any());
+  }
+
   @Test
   void schedulesRetryForMarReconciliationIntervalIfRetryExhausted() {
     RetryExecution mockRetryExecution = mock(RetryExecution.class);
@@ -422,6 +497,59 @@ class EventProcessorTest {
     verify(retryTimerEventSourceMock, times(1)).scheduleOnce((ResourceID) any(), anyLong());
   }
 
+  @Test
+  void defersRetriesExceedingRetryBudget() throws InterruptedException {
+    final var configurationService = ConfigurationService.newOverriddenConfigurationService(
+        new BaseConfigurationService(), o -> o.withConcurrentReconciliationThreads(2));
+    eventProcessorWithRetry = spy(new EventProcessor(
+        controllerConfiguration(new GenericRetry().setRetryBudget(0.5), rateLimiterMock,
+            configurationService),
+        reconciliationDispatcherMock, eventSourceManagerMock, metricsMock));
+    eventProcessorWithRetry.start();
+    when(eventProcessorWithRetry.retryEventSource()).thenReturn(retryTimerEventSourceMock);
+    final var first = prepareCREvent();
+    final var second = prepareCREvent();
+    final var release = new CountDownLatch(1);
+    when(reconciliationDispatcherMock.handleExecution(any()))
+        .thenReturn(PostExecutionControl.exceptionDuringExecution(new RuntimeException("test")))
+        .thenReturn(PostExecutionControl.exceptionDuringExecution(new RuntimeException("test")))
+        .thenAnswer(invocation -> {
+          release.await();
+          return PostExecutionControl.defaultDispatch();
+        });
+    eventProcessorWithRetry.handleEvent(first);
+    eventProcessorWithRetry.handleEvent(second);
+    verify(reconciliationDispatcherMock, timeout(SEPARATE_EXECUTION_TIMEOUT).times(2))
+        .handleExecution(any());
+    waitUntilProcessingFinished(eventProcessorWithRetry, first.getRelatedCustomResourceID());
+    waitUntilProcessingFinished(eventProcessorWithRetry, second.getRelatedCustomResourceID());
+    verify(metricsMock, times(2)).retryScheduled(any(), eq(1),
+        eq(Duration.ofMillis(GradualRetry.DEFAULT_INITIAL_INTERVAL)), any());
+
+    // the retry of the first resource uses the whole budget
+    eventProcessorWithRetry.handleEvent(first);
+    verify(reconciliationDispatcherMock, timeout(SEPARATE_EXECUTION_TIMEOUT).times(3))
+        .handleExecution(any());
+    eventProcessorWithRetry.handleEvent(second);
+
+    verify(metricsMock).retryDeferred(eq(second.getRelatedCustomResourceID()), any());
+    // the deferred retry didn't consume a rate limit token
+    verify(rateLimiterMock, times(3)).isLimited(any());
+    ArgumentCaptor<Long> delay = ArgumentCaptor.forClass(Long.class);
+    // scheduled once for the retry, then once when deferring it
+    verify(retryTimerEventSourceMock, times(2)).scheduleOnce(
+        eq(second.getRelatedCustomResourceID()), delay.capture());
+    assertThat(delay.getAllValues()).last().satisfies(d -> assertThat(d).isBetween(1000L, 2000L));
+    assertThat(eventProcessorWithRetry.isUnderProcessing(second.getRelatedCustomResourceID()))
+        .isFalse();
+
+    release.countDown();
+    waitUntilProcessingFinished(eventProcessorWithRetry, first.getRelatedCustomResourceID());
+    eventProcessorWithRetry.handleEvent(second);
+    verify(reconciliationDispatcherMock, timeout(SEPARATE_EXECUTION_TIMEOUT).times(4))
+        .handleExecution(any());
+  }
+
   @Test
   void executionOfReconciliationShouldNotStartIfProcessorStopped() throws InterruptedException {
     when(reconciliationDispatcherMock.handleExecution(any()))
@@ -451,6 +579,58 @@ class EventProcessorTest {
         .handleExecution(any());
   }
 
+  @Test
+  void defersReconciliationUntilInformersOfNamespaceSynced() {
+    final var configurationService = ConfigurationService.newOverriddenConfigurationService(
+        new BaseConfigurationService(), o -> o.withProgressiveInformerReadiness(true));
+    eventProcessor =
+        spy(new EventProcessor(controllerConfiguration(null, rateLimiterMock, configurationService),
+            reconciliationDispatcherMock, eventSourceManagerMock, null));
+    eventProcessor.start();
+    when(eventProcessor.retryEventSource()).thenReturn(retryTimerEventSourceMock);
+    when(eventSourceManagerMock.hasSynced(TEST_NAMESPACE)).thenReturn(false);
+    final var event = prepareCREvent();
+    final var resourceID = event.getRelatedCustomResourceID();
+
+    eventProcessor.handleEvent(event);
+
+    verify(retryTimerEventSourceMock).scheduleOnce(eq(resourceID), anyLong());
+    verify(reconciliationDispatcherMock, after(FAKE_CONTROLLER_EXECUTION_DURATION).never())
+        .handleExecution(any());
+
+    when(eventSourceManagerMock.hasSynced(TEST_NAMESPACE)).thenReturn(true);
+    eventProcessor.handleEvent(new Event(resourceID));
+
+    verify(reconciliationDispatcherMock, timeout(SEPARATE_EXECUTION_TIMEOUT))
+        .handleExecution(any());
+  }
+
+  @Test
+  void backsOffWhileInformersSyncAndStopsReschedulingOnceSyncFailed() {
+    final var configurationService = ConfigurationService.newOverriddenConfigurationService(
+        new BaseConfigurationService(), o -> o.withProgressiveInformerReadiness(true));
+    eventProcessor =
+        spy(new EventProcessor(controllerConfiguration(null, rateLimiterMock, configurationService),
+            reconciliationDispatcherMock, eventSourceManagerMock, null));
+    eventProcessor.start();
+    when(eventProcessor.retryEventSource()).thenReturn(retryTimerEventSourceMock);
+    when(eventSourceManagerMock.hasSynced(TEST_NAMESPACE)).thenReturn(false);
+    final var event = prepareCREvent();
+    final var resourceID = event.getRelatedCustomResourceID();
+
+    eventProcessor.handleEvent(event);
+    eventProcessor.handleEvent(new Event(resourceID));
+
+    verify(retryTimerEventSourceMock).scheduleOnce(resourceID, 500L);
+    verify(retryTimerEventSourceMock).scheduleOnce(resourceID, 1000L);
+
+    when(eventSourceManagerMock.hasSyncFailed(TEST_NAMESPACE)).thenReturn(true);
+    eventProcessor.handleEvent(new Event(resourceID));
+
+    verify(retryTimerEventSourceMock, times(2)).scheduleOnce(eq(resourceID), anyLong());
+    verify(reconciliationDispatcherMock, never()).handleExecution(any());
+  }
+
   @Test
   void cleansUpForDeleteEventEvenIfProcessorNotStarted() {
     ResourceID resourceID = new ResourceID("test1", "default");
@@ -466,6 +646,186 @@ class EventProcessorTest {
     // no exception thrown
   }
 
+  @Test
+  void concurrentModeDoesNotBlockEventsOfOtherResources() throws InterruptedException {
+    final var configurationService = ConfigurationService.newOverriddenConfigurationService(
+        new BaseConfigurationService(),
+        o -> o.withConcurrentEventProcessing(true));
+    eventProcessor =
+        spy(new EventProcessor(controllerConfiguration(null, rateLimiterMock, configurationService),
+            reconciliationDispatcherMock,
+            eventSourceManagerMock, null));
+    when(eventProcessor.retryEventSource()).thenReturn(retryTimerEventSourceMock);
+    eventProcessor.start();
+
+    final var blockedEvent = prepareCREvent();
+    final var blockedID = blockedEvent.getRelatedCustomResourceID();
+    final var release = new CountDownLatch(1);
+    when(controllerResourceEventSourceMock.get(eq(blockedID))).then(invocation -> {
+      release.await();
+      return blockedEvent.getResource();
+    });
+    final var blockedThread = new Thread(() -> eventProcessor.handleEvent(blockedEvent));
+    blockedThread.start();
+    await().untilAsserted(() -> verify(controllerResourceEventSourceMock).get(eq(blockedID)));
+
+    final var otherEvent = prepareCREvent();
+    eventProcessor.handleEvent(otherEvent);
+
+    verify(reconciliationDispatcherMock, timeout(SEPARATE_EXECUTION_TIMEOUT).times(1))
+        .handleExecution(any());
+    release.countDown();
+    blockedThread.join();
+    verify(reconciliationDispatcherMock, timeout(SEPARATE_EXECUTION_TIMEOUT).times(2))
+        .handleExecution(any());
+  }
+
+  @Test
+  void concurrentModeProcessesEventsFromManyProducers() throws InterruptedException {
+    final var configurationService = ConfigurationService.newOverriddenConfigurationService(
+        new BaseConfigurationService(),
+        o -> o.withConcurrentEventProcessing(true));
+    eventProcessor =
+        spy(new EventProcessor(controllerConfiguration(null, rateLimiterMock, configurationService),
+            reconciliationDispatcherMock,
+            eventSourceManagerMock, null));
+    when(eventProcessor.retryEventSource()).thenReturn(retryTimerEventSourceMock);
+    eventProcessor.start();
+    when(reconciliationDispatcherMock.handleExecution(any()))
+        .thenReturn(PostExecutionControl.defaultDispatch());
+    final var resourceIDs = IntStream.range(0, 20)
+        .mapToObj(i -> new ResourceID("resource" + i, TEST_NAMESPACE))
+        .collect(Collectors.toList());
+    final var events = resourceIDs.stream().map(this::prepareCREvent).collect(Collectors.toList());
+
+    final var producers = Executors.newFixedThreadPool(8);
+    for (int i = 0; i < 8; i++) {
+      producers.execute(() -> events.forEach(eventProcessor::handleEvent));
+    }
+    producers.shutdown();
+    assertThat(producers.awaitTermination(5, TimeUnit.SECONDS)).isTrue();
+
+    await().untilAsserted(() -> resourceIDs.forEach(id -> {
+      assertThat(eventProcessor.isUnderProcessing(id)).isFalse();
+    }));
+    verify(reconciliationDispatcherMock, timeout(SEPARATE_EXECUTION_TIMEOUT).atLeast(20))
+        .handleExecution(any());
+  }
+
+  @Test
+  void prioritizedModeReconcilesNewResourcesFirst() throws InterruptedException {
+    final var configurationService = ConfigurationService.newOverriddenConfigurationService(
+        new BaseConfigurationService(),
+        o -> o.withReconciliationPrioritizer(ReconciliationPrioritizer.DEFAULT)
+            .withConcurrentReconciliationThreads(1));
+    eventProcessor =
+        spy(new EventProcessor(controllerConfiguration(null, rateLimiterMock, configurationService),
+            reconciliationDispatcherMock,
+            eventSourceManagerMock, metricsMock));
+    when(eventProcessor.retryEventSource()).thenReturn(retryTimerEventSourceMock);
+    eventProcessor.start();
+
+    final var release = new CountDownLatch(1);
+    final var reconciled = new CopyOnWriteArrayList<ResourceID>();
+    when(reconciliationDispatcherMock.handleExecution(any())).then(invocation -> {
+      reconciled.add(((ExecutionScope) invocation.getArgument(0)).getResourceID());
+      release.await();
+      return PostExecutionControl.defaultDispatch();
+    });
+    // occupies the only reconciliation thread
+    eventProcessor.handleEvent(prepareCREvent());
+    await().untilAsserted(() -> assertThat(reconciled).hasSize(1));
+
+    final var listed = IntStream.range(0, 3)
+        .mapToObj(i -> prepareCREvent(new ResourceID("listed" + i, TEST_NAMESPACE)))
+        .collect(Collectors.toList());
+    listed.forEach(eventProcessor::handleEvent);
+    // resources listed by the informer when starting are part of the startup backlog
+    final var relisted = prepareCREvent(new ResourceID("relisted", TEST_NAMESPACE));
+    relisted.getResource().orElseThrow().getMetadata()
+        .setCreationTimestamp(Instant.now().minus(Duration.ofHours(1)).toString());
+    eventProcessor.handleEvent(new ResourceEvent(ResourceAction.ADDED,
+        relisted.getRelatedCustomResourceID(), relisted.getResource().orElseThrow()));
+    final var created = prepareCREvent(new ResourceID("created", TEST_NAMESPACE));
+    created.getResource().orElseThrow().getMetadata()
+        .setCreationTimestamp(Instant.now().toString());
+    eventProcessor.handleEvent(new ResourceEvent(ResourceAction.ADDED,
+        created.getRelatedCustomResourceID(), created.getResource().orElseThrow()));
+    release.countDown();
+
+    await().untilAsserted(() -> assertThat(reconciled).hasSize(6));
+    assertThat(reconciled.get(1)).isEqualTo(created.getRelatedCustomResourceID());
+    verify(metricsMock).reconciliationQueued(eq(created.getRelatedCustomResourceID()),
+        eq(ReconciliationPriority.HIGH), any());
+    verify(metricsMock, times(5)).reconciliationQueued(any(),
+        eq(ReconciliationPriority.NORMAL), any());
+    verify(metricsMock, times(6)).reconciliationDequeued(any(), any(), any());
+  }
+
+  @Test
+  void coalescesEventsReceivedDuringWindow() {
+    eventProcessor = coalescingEventProcessor(200);
+    when(reconciliationDispatcherMock.handleExecution(any()))
+        .thenReturn(PostExecutionControl.defaultDispatch());
+    final var event = prepareCREvent();
+
+    eventProcessor.handleEvent(event);
+    for (int i = 0; i < 10; i++) {
+      eventProcessor.handleEvent(nonCREvent(event.getRelatedCustomResourceID()));
+    }
+
+    verify(reconciliationDispatcherMock, after(100).never()).handleExecution(any());
+    verify(reconciliationDispatcherMock, timeout(SEPARATE_EXECUTION_TIMEOUT).times(1))
+        .handleExecution(any());
+    verify(reconciliationDispatcherMock, after(300).times(1)).handleExecution(any());
+  }
+
+  @Test
+  void coalescingKeepsSingleFollowUpForEventsReceivedDuringExecution() {
+    eventProcessor = coalescingEventProcessor(50);
+    final var release = new CountDownLatch(1);
+    when(reconciliationDispatcherMock.handleExecution(any())).then(invocation -> {
+      release.await();
+      return PostExecutionControl.defaultDispatch();
+    });
+    final var event = prepareCREvent();
+    eventProcessor.handleEvent(event);
+    verify(reconciliationDispatcherMock, timeout(SEPARATE_EXECUTION_TIMEOUT).times(1))
+        .handleExecution(any());
+
+    for (int i = 0; i < 10; i++) {
+      eventProcessor.handleEvent(nonCREvent(event.getRelatedCustomResourceID()));
+    }
+    release.countDown();
+
+    verify(reconciliationDispatcherMock, timeout(SEPARATE_EXECUTION_TIMEOUT).times(2))
+        .handleExecution(any());
+    verify(reconciliationDispatcherMock, after(300).times(2)).handleExecution(any());
+  }
+
+  @Test
+  void coalescedEventsAreDroppedWhenResourceIsDeleted() {
+    eventProcessor = coalescingEventProcessor(100);
+    final var event = prepareCREvent();
+
+    eventProcessor.handleEvent(event);
+    eventProcessor.handleEvent(new ResourceEvent(ResourceAction.DELETED,
+        event.getRelatedCustomResourceID(), event.getResource().orElseThrow()));
+
+    verify(reconciliationDispatcherMock, after(300).never()).handleExecution(any());
+  }
+
+  private EventProcessor coalescingEventProcessor(long windowMillis) {
+    final var configuration = controllerConfiguration(null, rateLimiterMock);
+    when(configuration.eventCoalescingWindow())
+        .thenReturn(Optional.of(Duration.ofMillis(windowMillis)));
+    final var processor = spy(new EventProcessor(configuration, reconciliationDispatcherMock,
+        eventSourceManagerMock, null));
+    when(processor.retryEventSource()).thenReturn(retryTimerEventSourceMock);
+    processor.start();
+    return processor;
+  }
+
   private ResourceID eventAlreadyUnderProcessing() {
     when(reconciliationDispatcherMock.handleExecution(any()))
         .then(
@@ -413,6 +413,58 @@ class ReconciliationDispatcherTest {
     assertThat(retryInfo.isLastAttempt()).isEqualTo(true);
   }
 
+  @Test
+  void skipsReconciliationIfInputsDidNotChange() {
+    final var configuration =
+        MockControllerConfiguration.forResource(TestCustomResource.class, configurationService);
+    when(configuration.skipUnchangedReconciliationsForcedInterval())
+        .thenReturn(Optional.of(Duration.ofHours(1)));
+    reconciliationDispatcher =
+        init(testCustomResource, reconciler, configuration, customResourceFacade, true);
+    testCustomResource.addFinalizer(DEFAULT_FINALIZER);
+    testCustomResource.getMetadata().setResourceVersion("1");
+
+    var control =
+        reconciliationDispatcher.handleExecution(executionScopeWithCREvent(testCustomResource));
+    assertThat(control.isSkipped()).isFalse();
+    control =
+        reconciliationDispatcher.handleExecution(executionScopeWithCREvent(testCustomResource));
+    assertThat(control.isSkipped()).isTrue();
+    verify(reconciler, times(1)).reconcile(any(), any());
+
+    testCustomResource.getMetadata().setResourceVersion("2");
+    control =
+        reconciliationDispatcher.handleExecution(executionScopeWithCREvent(testCustomResource));
+    assertThat(control.isSkipped()).isFalse();
+    verify(reconciler, times(2)).reconcile(any(), any());
+  }
+
+  @Test
+  void doesNotSkipReconciliationAfterUpdateOrFailure() {
+    final var configuration =
+        MockControllerConfiguration.forResource(TestCustomResource.class, configurationService);
+    when(configuration.skipUnchangedReconciliationsForcedInterval())
+        .thenReturn(Optional.of(Duration.ofHours(1)));
+    reconciliationDispatcher =
+        init(testCustomResource, reconciler, configuration, customResourceFacade, true);
+    testCustomResource.addFinalizer(DEFAULT_FINALIZER);
+    testCustomResource.getMetadata().setResourceVersion("1");
+
+    reconciler.reconcile = (r, c) -> UpdateControl.<TestCustomResource>noUpdate()
+        .rescheduleAfter(1000L);
+    reconciliationDispatcher.handleExecution(executionScopeWithCREvent(testCustomResource));
+    reconciler.reconcile = (r, c) -> {
+      throw new IllegalStateException("test");
+    };
+    reconciliationDispatcher.handleExecution(executionScopeWithCREvent(testCustomResource));
+    reconciler.reconcile = (r, c) -> UpdateControl.noUpdate();
+    final var control =
+        reconciliationDispatcher.handleExecution(executionScopeWithCREvent(testCustomResource));
+
+    assertThat(control.isSkipped()).isFalse();
+    verify(reconciler, times(3)).reconcile(any(), any());
+  }
+
   @Test
   void setReScheduleToPostExecutionControlFromUpdateControl() {
     testCustomResource.addFinalizer(DEFAULT_FINALIZER);
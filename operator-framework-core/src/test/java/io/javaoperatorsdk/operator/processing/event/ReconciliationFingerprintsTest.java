@@ -0,0 +1,76 @@
+package io.javaoperatorsdk.operator.processing.event;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Set;
+
+import org.junit.jupiter.api.Test;
+
+import io.fabric8.kubernetes.api.model.ConfigMap;
+import io.fabric8.kubernetes.api.model.ConfigMapBuilder;
+import io.javaoperatorsdk.operator.processing.event.source.EventSource;
+import io.javaoperatorsdk.operator.processing.event.source.ResourceEventSource;
+import io.javaoperatorsdk.operator.processing.event.source.timer.TimerEventSource;
+import io.javaoperatorsdk.operator.sample.simple.TestCustomResource;
+
+import static io.javaoperatorsdk.operator.TestUtils.testCustomResource;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+@SuppressWarnings("unchecked")
+class ReconciliationFingerprintsTest {
+
+  private final ReconciliationFingerprints<TestCustomResource> fingerprints =
+      new ReconciliationFingerprints<>(Duration.ofHours(1));
+  private final ResourceEventSource<ConfigMap, TestCustomResource> eventSource =
+      mock(ResourceEventSource.class);
+  private final List<EventSource> eventSources = List.of(eventSource, new TimerEventSource<>());
+  private final TestCustomResource primary = testCustomResource();
+
+  @Test
+  void fingerprintChangesWithPrimaryOrSecondaryVersions() {
+    primary.getMetadata().setResourceVersion("1");
+    when(eventSource.getSecondaryResourcesReadOnly(any()))
+        .thenReturn(Set.of(configMap("a", "1"), configMap("b", "1")));
+    final var fingerprint = fingerprints.fingerprint(primary, eventSources);
+
+    assertThat(fingerprints.fingerprint(primary, eventSources)).isEqualTo(fingerprint);
+
+    when(eventSource.getSecondaryResourcesReadOnly(any()))
+        .thenReturn(Set.of(configMap("a", "1"), configMap("b", "2")));
+    assertThat(fingerprints.fingerprint(primary, eventSources)).isNotEqualTo(fingerprint);
+
+    when(eventSource.getSecondaryResourcesReadOnly(any()))
+        .thenReturn(Set.of(configMap("a", "1")));
+    assertThat(fingerprints.fingerprint(primary, eventSources)).isNotEqualTo(fingerprint);
+
+    when(eventSource.getSecondaryResourcesReadOnly(any()))
+        .thenReturn(Set.of(configMap("a", "1"), configMap("b", "1")));
+    primary.getMetadata().setResourceVersion("2");
+    assertThat(fingerprints.fingerprint(primary, eventSources)).isNotEqualTo(fingerprint);
+  }
+
+  @Test
+  void recordedFingerprintsExpireAfterForcedInterval() {
+    final var resourceID = ResourceID.fromResource(primary);
+    final var expiring = new ReconciliationFingerprints<TestCustomResource>(Duration.ZERO);
+
+    fingerprints.record(resourceID, 42);
+    expiring.record(resourceID, 42);
+
+    assertThat(fingerprints.isUnchanged(resourceID, 42)).isTrue();
+    assertThat(fingerprints.isUnchanged(resourceID, 43)).isFalse();
+    assertThat(expiring.isUnchanged(resourceID, 42)).isFalse();
+
+    fingerprints.forget(resourceID);
+    assertThat(fingerprints.isUnchanged(resourceID, 42)).isFalse();
+    assertThat(fingerprints.size()).isZero();
+  }
+
+  private static ConfigMap configMap(String uid, String resourceVersion) {
+    return new ConfigMapBuilder().withNewMetadata().withName(uid).withUid(uid)
+        .withResourceVersion(resourceVersion).endMetadata().build();
+  }
+}
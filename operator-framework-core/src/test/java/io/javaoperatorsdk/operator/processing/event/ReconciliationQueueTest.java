@@ -0,0 +1,117 @@
+package io.javaoperatorsdk.operator.processing.event;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import io.fabric8.kubernetes.api.model.HasMetadata;
+
+import static io.javaoperatorsdk.operator.processing.event.ReconciliationPriority.HIGH;
+import static io.javaoperatorsdk.operator.processing.event.ReconciliationPriority.LOW;
+import static io.javaoperatorsdk.operator.processing.event.ReconciliationPriority.NORMAL;
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ReconciliationQueueTest {
+
+  private final ReconciliationQueue queue = new ReconciliationQueue();
+
+  @Test
+  void returnsNullWhenEmpty() {
+    assertThat(queue.poll()).isNull();
+  }
+
+  @Test
+  void pollsHigherPrioritiesFirst() {
+    add("low", "ns", LOW);
+    add("normal", "ns", NORMAL);
+    add("high", "ns", HIGH);
+
+    assertThat(queue.size(LOW)).isEqualTo(1);
+    assertThat(pollAll()).containsExactly("high", "normal", "low");
+    assertThat(queue.size(LOW)).isZero();
+  }
+
+  @Test
+  void servesNamespacesInRoundRobin() {
+    add("a1", "a", NORMAL);
+    add("a2", "a", NORMAL);
+    add("a3", "a", NORMAL);
+    add("b1", "b", NORMAL);
+    add("c1", null, NORMAL);
+    add("b2", "b", NORMAL);
+
+    assertThat(pollAll()).containsExactly("a1", "b1", "c1", "a2", "b2", "a3");
+  }
+
+  @Test
+  void newHigherPriorityEntryOvertakesPendingOnes() {
+    add("normal1", "ns", NORMAL);
+    add("normal2", "ns", NORMAL);
+    assertThat(queue.poll().getResourceID().getName()).isEqualTo("normal1");
+
+    add("high", "other", HIGH);
+
+    assertThat(pollAll()).containsExactly("high", "normal2");
+  }
+
+  @Test
+  void defaultPrioritizerClassifiesRequests() {
+    final var prioritizer = ReconciliationPrioritizer.DEFAULT;
+
+    assertThat(prioritizer.priorityOf(request(true, false, false, false))).isEqualTo(HIGH);
+    assertThat(prioritizer.priorityOf(request(false, true, true, false))).isEqualTo(HIGH);
+    assertThat(prioritizer.priorityOf(request(false, false, false, false))).isEqualTo(NORMAL);
+    assertThat(prioritizer.priorityOf(request(false, false, true, false))).isEqualTo(LOW);
+    assertThat(prioritizer.priorityOf(request(false, false, false, true))).isEqualTo(LOW);
+  }
+
+  private void add(String name, String namespace, ReconciliationPriority priority) {
+    queue.add(new ReconciliationQueue.Entry(new ResourceID(name, namespace), priority, () -> {
+    }));
+  }
+
+  private List<String> pollAll() {
+    final var names = new ArrayList<String>();
+    ReconciliationQueue.Entry entry;
+    while ((entry = queue.poll()) != null) {
+      names.add(entry.getResourceID().getName());
+    }
+    return names;
+  }
+
+  private static ReconciliationRequest request(boolean newResource, boolean generationChanged,
+      boolean retry, boolean scheduled) {
+    return new ReconciliationRequest() {
+      @Override
+      public ResourceID getResourceID() {
+        return new ResourceID("test", "test");
+      }
+
+      @Override
+      public HasMetadata getResource() {
+        return null;
+      }
+
+      @Override
+      public boolean isNewResource() {
+        return newResource;
+      }
+
+      @Override
+      public boolean isGenerationChanged() {
+        return generationChanged;
+      }
+
+      @Override
+      public boolean isRetry() {
+        return retry;
+      }
+
+      @Override
+      public boolean isScheduled() {
+        return scheduled;
+      }
+    };
+  }
+}
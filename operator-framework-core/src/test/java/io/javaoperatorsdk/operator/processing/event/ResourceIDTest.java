@@ -0,0 +1,43 @@
+package io.javaoperatorsdk.operator.processing.event;
+
+import java.util.Objects;
+
+import org.junit.jupiter.api.Test;
+
+import io.fabric8.kubernetes.api.model.ConfigMapBuilder;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ResourceIDTest {
+
+  @Test
+  void hashCodeIsConsistentWithEquals() {
+    final var id = new ResourceID("name", "namespace");
+    final var same = new ResourceID("name", "namespace");
+
+    assertThat(id).isEqualTo(same).hasSameHashCodeAs(same);
+    assertThat(id.hashCode()).isEqualTo(Objects.hash("name", "namespace"));
+    assertThat(new ResourceID("name").hashCode()).isEqualTo(Objects.hash("name", null));
+    assertThat(id).isNotEqualTo(new ResourceID("name", "other"))
+        .isNotEqualTo(new ResourceID("name"));
+  }
+
+  @Test
+  void deduplicatesNamespaces() {
+    final var id = new ResourceID("name", new String("namespace"));
+    final var other = new ResourceID("other", new String("namespace"));
+
+    assertThat(id.getNamespace().orElseThrow()).isSameAs(other.getNamespace().orElseThrow());
+  }
+
+  @Test
+  void matchesResourceWithSameNameAndNamespace() {
+    final var configMap = new ConfigMapBuilder().withNewMetadata().withName("name")
+        .withNamespace("namespace").endMetadata().build();
+
+    assertThat(ResourceID.fromResource(configMap)).isEqualTo(new ResourceID("name", "namespace"));
+    assertThat(new ResourceID("name", "namespace").isSameResource(configMap)).isTrue();
+    assertThat(new ResourceID("name").isSameResource(configMap)).isTrue();
+    assertThat(new ResourceID("name", "other").isSameResource(configMap)).isFalse();
+  }
+}
@@ -87,4 +87,68 @@ class ResourceStateManagerTest {
     assertThat(res.get(0).getId()).isEqualTo(sampleResourceID2);
   }
 
+  @Test
+  public void flagsAreIndependentOfEventingState() {
+    state.setUnderProcessing(true);
+    state.setNewResource(true);
+    state.markEventReceived();
+    state.setCoalescingEvents(true);
+
+    assertThat(state.eventPresent()).isTrue();
+    assertThat(state.isUnderProcessing()).isTrue();
+    assertThat(state.isNewResource()).isTrue();
+    assertThat(state.isCoalescingEvents()).isTrue();
+
+    state.unMarkEventReceived();
+    state.setNewResource(false);
+
+    assertThat(state.noEventPresent()).isTrue();
+    assertThat(state.isUnderProcessing()).isTrue();
+    assertThat(state.isNewResource()).isFalse();
+    assertThat(state.isCoalescingEvents()).isTrue();
+  }
+
+  @Test
+  public void tracksLastReconciledGeneration() {
+    assertThat(state.hasLastReconciledGeneration()).isFalse();
+
+    state.setLastReconciledGeneration(0L);
+    assertThat(state.hasLastReconciledGeneration()).isTrue();
+    assertThat(state.getLastReconciledGeneration()).isZero();
+
+    state.clearLastReconciledGeneration();
+    assertThat(state.hasLastReconciledGeneration()).isFalse();
+  }
+
+  @Test
+  public void countsNotSyncedReschedulesUntilReset() {
+    assertThat(state.incrementNotSyncedReschedules()).isZero();
+    assertThat(state.incrementNotSyncedReschedules()).isEqualTo(1);
+
+    state.resetNotSyncedReschedules();
+    assertThat(state.incrementNotSyncedReschedules()).isZero();
+  }
+
+  @Test
+  public void keepsLastReconciledGenerationWhenScheduledReconciliationIsCleared() {
+    state.setLastReconciledGeneration(2L);
+    state.reconciliationScheduled(0, false);
+    assertThat(state.scheduledReconciliationDue()).isTrue();
+
+    state.clearScheduledReconciliation();
+    assertThat(state.scheduledReconciliationDue()).isFalse();
+    assertThat(state.getLastReconciledGeneration()).isEqualTo(2L);
+  }
+
+  @Test
+  public void retryAndRateLimitStatesAreNotAllocatedUpfront() {
+    final var sizedManager = new ResourceStateManager(200_000);
+
+    final var created = sizedManager.getOrCreate(sampleResourceID);
+
+    assertThat(created.getRetry()).isNull();
+    assertThat(created.getRateLimit()).isNull();
+    assertThat(sizedManager.size()).isEqualTo(1);
+  }
+
 }
@@ -0,0 +1,99 @@
+package io.javaoperatorsdk.operator.processing.event.rate;
+
+import java.time.Duration;
+
+import org.junit.jupiter.api.Test;
+
+import io.javaoperatorsdk.operator.processing.event.ResourceID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class HierarchicalRateLimiterTest {
+
+  public static final Duration PERIOD = Duration.ofMinutes(1);
+
+  @Test
+  void limitsEachResource() {
+    var rl = new HierarchicalRateLimiter(PERIOD, 1, 0, 0, 0);
+    var state = rl.initState(new ResourceID("r1", "ns"));
+    var other = rl.initState(new ResourceID("r2", "ns"));
+
+    assertThat(rl.isLimited(state)).isEmpty();
+    assertThat(rl.isLimited(state)).isPresent();
+    assertThat(rl.isLimited(other)).isEmpty();
+  }
+
+  @Test
+  void noisyNamespaceDoesNotLimitOtherNamespaces() {
+    var rl = new HierarchicalRateLimiter(PERIOD, 10, 0, 2, 0);
+    var noisy1 = rl.initState(new ResourceID("r1", "noisy"));
+    var noisy2 = rl.initState(new ResourceID("r2", "noisy"));
+    var noisy3 = rl.initState(new ResourceID("r3", "noisy"));
+    var quiet = rl.initState(new ResourceID("r1", "quiet"));
+
+    assertThat(rl.isLimited(noisy1)).isEmpty();
+    assertThat(rl.isLimited(noisy2)).isEmpty();
+    assertThat(rl.isLimited(noisy3)).isPresent();
+    assertThat(rl.isLimited(quiet)).isEmpty();
+  }
+
+  @Test
+  void limitsWholeController() {
+    var rl = new HierarchicalRateLimiter(PERIOD, 10, 0, 0, 2);
+    var first = rl.initState(new ResourceID("r1", "ns1"));
+    var second = rl.initState(new ResourceID("r2", "ns2"));
+
+    assertThat(rl.isLimited(first)).isEmpty();
+    assertThat(rl.isLimited(second)).isEmpty();
+    assertThat(rl.isLimited(first)).isPresent();
+    assertThat(rl.isLimited(second)).isPresent();
+  }
+
+  @Test
+  void doesNotConsumeTokensWhenLimited() {
+    var rl = new HierarchicalRateLimiter(PERIOD, 1, 0, 0, 2);
+    var limited = rl.initState(new ResourceID("r1", "ns"));
+    var other = rl.initState(new ResourceID("r2", "ns"));
+
+    assertThat(rl.isLimited(limited)).isEmpty();
+    // limited by its own bucket, mustn't use the controller's remaining token
+    assertThat(rl.isLimited(limited)).isPresent();
+    assertThat(rl.isLimited(other)).isEmpty();
+  }
+
+  @Test
+  void evictsIdleNamespaceBuckets() throws InterruptedException {
+    var period = Duration.ofMillis(200);
+    var rl = new HierarchicalRateLimiter(period, 10, 0, 2, 0);
+    var idle = rl.initState(new ResourceID("r1", "idle"));
+    var busy = rl.initState(new ResourceID("r1", "busy"));
+
+    assertThat(rl.isLimited(idle)).isEmpty();
+    assertThat(rl.namespaceBucketCount()).isEqualTo(1);
+    Thread.sleep(period.toMillis() * 2);
+
+    // the idle namespace refilled its bucket during the period, so the bucket is evicted
+    assertThat(rl.isLimited(busy)).isEmpty();
+    assertThat(rl.namespaceBucketCount()).isEqualTo(1);
+    // the evicted bucket is replaced by a new one, still limiting the namespace
+    assertThat(rl.isLimited(idle)).isEmpty();
+    assertThat(rl.isLimited(rl.initState(new ResourceID("r2", "idle")))).isEmpty();
+    assertThat(rl.isLimited(rl.initState(new ResourceID("r3", "idle")))).isPresent();
+  }
+
+  @Test
+  void namespaceLimitRequiresResourceID() {
+    assertThatThrownBy(() -> new HierarchicalRateLimiter(PERIOD, 10, 0, 2, 0).initState())
+        .isInstanceOf(IllegalStateException.class);
+    assertThat(new HierarchicalRateLimiter(PERIOD, 10, 0, 0, 2).initState()).isNotNull();
+  }
+
+  @Test
+  void rateLimitCanBeTurnedOff() {
+    var rl = new HierarchicalRateLimiter();
+
+    assertThat(rl.isActivated()).isFalse();
+    assertThat(rl.isLimited(rl.initState(new ResourceID("r1", "ns")))).isEmpty();
+  }
+}
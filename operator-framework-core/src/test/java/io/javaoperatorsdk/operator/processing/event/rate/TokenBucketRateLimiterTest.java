@@ -0,0 +1,59 @@
+package io.javaoperatorsdk.operator.processing.event.rate;
+
+import java.time.Duration;
+
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class TokenBucketRateLimiterTest {
+
+  public static final Duration PERIOD = Duration.ofMillis(300);
+
+  @Test
+  void allowsBurstThenLimits() {
+    var rl = new TokenBucketRateLimiter(PERIOD, 2, 3);
+    var state = rl.initState();
+
+    assertThat(rl.isLimited(state)).isEmpty();
+    assertThat(rl.isLimited(state)).isEmpty();
+    assertThat(rl.isLimited(state)).isEmpty();
+
+    var res = rl.isLimited(state);
+    assertThat(res).isPresent();
+    // one token is added every half period
+    assertThat(res.get()).isPositive().isLessThanOrEqualTo(PERIOD.dividedBy(2));
+  }
+
+  @Test
+  void refillsAtSteadyRate() throws InterruptedException {
+    var rl = new TokenBucketRateLimiter(PERIOD, 2);
+    var state = rl.initState();
+    assertThat(rl.isLimited(state)).isEmpty();
+    assertThat(rl.isLimited(state)).isEmpty();
+    assertThat(rl.isLimited(state)).isPresent();
+
+    // sleep for a bit more than the time needed to add one token
+    Thread.sleep(PERIOD.toMillis() / 2 + PERIOD.toMillis() / 6);
+
+    assertThat(rl.isLimited(state)).isEmpty();
+    assertThat(rl.isLimited(state)).isPresent();
+  }
+
+  @Test
+  void bucketDoesNotGrowBeyondItsCapacity() {
+    var now = 0L;
+    var bucket = new TokenBucket(1, Duration.ofNanos(10), 2, now);
+
+    assertThat(bucket.nanosUntilAvailable(now + 1_000)).isZero();
+    assertThat(bucket.availableTokens()).isEqualTo(2);
+  }
+
+  @Test
+  void rateLimitCanBeTurnedOff() {
+    var rl = new TokenBucketRateLimiter();
+
+    assertThat(rl.isActivated()).isFalse();
+    assertThat(rl.isLimited(rl.initState())).isEmpty();
+  }
+}
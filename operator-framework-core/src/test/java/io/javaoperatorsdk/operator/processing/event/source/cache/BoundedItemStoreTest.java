@@ -1,16 +1,22 @@
 package io.javaoperatorsdk.operator.processing.event.source.cache;
 
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 
 import io.fabric8.kubernetes.api.model.HasMetadata;
 import io.fabric8.kubernetes.client.informers.cache.Cache;
 import io.javaoperatorsdk.operator.TestUtils;
+import io.javaoperatorsdk.operator.processing.event.ResourceID;
 import io.javaoperatorsdk.operator.sample.simple.TestCustomResource;
 
 import static io.javaoperatorsdk.operator.processing.event.source.cache.BoundedItemStore.namespaceKeyFunc;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.times;
@@ -68,6 +74,56 @@ class BoundedItemStoreTest {
     assertThat(boundedItemStore.keySet()).isEmpty();
   }
 
+  @Test
+  void concurrentGetsOfEvictedResourceShareSingleFetch() throws Exception {
+    boundedItemStore.put(testRes1Key(), TestUtils.testCustomResource1());
+    final var fetchStarted = new CountDownLatch(1);
+    final var fetchReleased = new CountDownLatch(1);
+    when(resourceFetcher.fetchResource(testRes1Key())).thenAnswer(invocation -> {
+      fetchStarted.countDown();
+      fetchReleased.await(5, TimeUnit.SECONDS);
+      return TestUtils.testCustomResource1();
+    });
+    final var executor = Executors.newFixedThreadPool(2);
+    try {
+      final var first = executor.submit(() -> boundedItemStore.get(testRes1Key()));
+      assertThat(fetchStarted.await(5, TimeUnit.SECONDS)).isTrue();
+      final var second = executor.submit(() -> boundedItemStore.get(testRes1Key()));
+      // gives the second get the time to join the in-flight fetch
+      Thread.sleep(100);
+      fetchReleased.countDown();
+
+      assertThat(first.get(5, TimeUnit.SECONDS)).isNotNull();
+      assertThat(second.get(5, TimeUnit.SECONDS)).isNotNull();
+      verify(resourceFetcher, times(1)).fetchResource(any());
+    } finally {
+      executor.shutdownNow();
+    }
+  }
+
+  @Test
+  void prefetchesEvictedResource() {
+    boundedItemStore.put(testRes1Key(), TestUtils.testCustomResource1());
+    when(resourceFetcher.fetchResource(testRes1Key()))
+        .thenReturn(TestUtils.testCustomResource1());
+
+    boundedItemStore.prefetch(ResourceID.fromResource(TestUtils.testCustomResource1()),
+        Runnable::run);
+
+    verify(resourceFetcher, times(1)).fetchResource(testRes1Key());
+    verify(boundedCache, times(2)).put(eq(testRes1Key()), any());
+  }
+
+  @Test
+  void doesNotPrefetchUnknownOrCachedResources() {
+    boundedItemStore.prefetch(testRes1Key(), Runnable::run);
+    boundedItemStore.put(testRes1Key(), TestUtils.testCustomResource1());
+    when(boundedCache.get(testRes1Key())).thenReturn(TestUtils.testCustomResource1());
+    boundedItemStore.prefetch(testRes1Key(), Runnable::run);
+
+    verify(resourceFetcher, never()).fetchResource(any());
+  }
+
   @Test
   void removesResourceFromCache() {
     boundedItemStore.put(testRes1Key(),
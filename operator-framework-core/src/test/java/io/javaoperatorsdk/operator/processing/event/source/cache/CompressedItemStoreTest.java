@@ -0,0 +1,81 @@
+package io.javaoperatorsdk.operator.processing.event.source.cache;
+
+import java.util.Map;
+import java.util.zip.Deflater;
+
+import org.junit.jupiter.api.Test;
+
+import io.fabric8.kubernetes.api.model.ConfigMap;
+import io.fabric8.kubernetes.api.model.ConfigMapBuilder;
+import io.fabric8.kubernetes.client.informers.cache.Cache;
+import io.fabric8.kubernetes.client.utils.KubernetesSerialization;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class CompressedItemStoreTest {
+
+  @Test
+  void storesAndInflatesResources() {
+    final var store = new CompressedItemStore<ConfigMap>(Cache::metaNamespaceKeyFunc, 0,
+        Deflater.BEST_SPEED);
+    final var configMap = configMap("name", "1", "value");
+    final var key = store.getKey(configMap);
+
+    assertThat(store.put(key, configMap)).isNull();
+    final var read = store.get(key);
+
+    assertThat(read).isEqualTo(configMap).isNotSameAs(configMap);
+    assertThat(store.size()).isEqualTo(1);
+    assertThat(store.keySet()).containsExactly("default/name");
+    assertThat(store.values()).containsExactly(configMap);
+    assertThat(store.get("default/unknown")).isNull();
+  }
+
+  @Test
+  void returnsPreviousAndRemovedResources() {
+    final var store = new CompressedItemStore<ConfigMap>(Cache::metaNamespaceKeyFunc, 0,
+        Deflater.BEST_SPEED);
+    final var first = configMap("name", "1", "first");
+    final var second = configMap("name", "2", "second");
+
+    store.put("default/name", first);
+
+    assertThat(store.put("default/name", second)).isEqualTo(first);
+    assertThat(store.remove("default/name")).isEqualTo(second);
+    assertThat(store.remove("default/name")).isNull();
+    assertThat(store.size()).isZero();
+  }
+
+  @Test
+  void keepsRecentlyUsedResourcesInflated() {
+    final var store = new CompressedItemStore<ConfigMap>(1);
+    final var first = configMap("first", "1", "first");
+    final var second = configMap("second", "1", "second");
+
+    store.put("default/first", first);
+    assertThat(store.get("default/first")).isSameAs(first);
+
+    store.put("default/second", second);
+    assertThat(store.get("default/second")).isSameAs(second);
+    // evicted from the decoded cache, thus inflated again
+    final var inflated = store.get("default/first");
+    assertThat(inflated).isEqualTo(first).isNotSameAs(first);
+    assertThat(store.get("default/first")).isSameAs(inflated);
+  }
+
+  @Test
+  void compressesLargeResources() {
+    final var store = new CompressedItemStore<ConfigMap>();
+    final var configMap = configMap("name", "1", "some repeated content ".repeat(10_000));
+
+    store.put("default/name", configMap);
+
+    final var jsonSize = new KubernetesSerialization().asJson(configMap).length();
+    assertThat(store.compressedSize()).isLessThan(jsonSize / 10);
+  }
+
+  private static ConfigMap configMap(String name, String resourceVersion, String data) {
+    return new ConfigMapBuilder().withNewMetadata().withName(name).withNamespace("default")
+        .withResourceVersion(resourceVersion).endMetadata().withData(Map.of("key", data)).build();
+  }
+}
@@ -0,0 +1,94 @@
+package io.javaoperatorsdk.operator.processing.event.source.informer;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import org.junit.jupiter.api.Test;
+
+import io.fabric8.kubernetes.api.model.ConfigMap;
+import io.fabric8.kubernetes.api.model.ConfigMapBuilder;
+import io.fabric8.kubernetes.api.model.GenericKubernetesResource;
+import io.fabric8.kubernetes.api.model.GenericKubernetesResourceBuilder;
+import io.fabric8.kubernetes.api.model.ManagedFieldsEntryBuilder;
+import io.fabric8.kubernetes.api.model.apps.Deployment;
+import io.fabric8.kubernetes.api.model.apps.DeploymentBuilder;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class CacheFieldPrunerTest {
+
+  private static final String LAST_APPLIED =
+      "kubectl.kubernetes.io/last-applied-configuration";
+
+  @Test
+  void prunesTypedFieldsAndMapEntries() {
+    final var pruner = new CacheFieldPruner<ConfigMap>(Set.of("/metadata/managedFields",
+        "/metadata/annotations/" + CacheFieldPruner.escape(LAST_APPLIED), "/data"));
+    final var configMap = new ConfigMapBuilder().withNewMetadata().withName("name")
+        .withNamespace("default").withResourceVersion("1")
+        .withAnnotations(Map.of(LAST_APPLIED, "{}", "key", "value"))
+        .withManagedFields(new ManagedFieldsEntryBuilder().withManager("manager").build())
+        .endMetadata().withData(Map.of("data", "value")).build();
+
+    final var pruned = pruner.prune(configMap, true);
+
+    assertThat(pruned).isPositive();
+    assertThat(configMap.getData()).isNull();
+    assertThat(configMap.getMetadata().getManagedFields()).isNull();
+    assertThat(configMap.getMetadata().getAnnotations()).isEqualTo(Map.of("key", "value"));
+    assertThat(configMap.getMetadata().getName()).isEqualTo("name");
+    assertThat(configMap.getMetadata().getResourceVersion()).isEqualTo("1");
+  }
+
+  @Test
+  void appliesToAllElementsOfArrays() {
+    final var pruner = new CacheFieldPruner<Deployment>(
+        Set.of("/spec/template/spec/containers/env", "/status"));
+    final var deployment = new DeploymentBuilder().withNewMetadata().withName("name")
+        .endMetadata().withNewSpec().withNewTemplate().withNewSpec()
+        .addNewContainer().withName("first").addNewEnv().withName("A").endEnv().endContainer()
+        .addNewContainer().withName("second").addNewEnv().withName("B").endEnv().endContainer()
+        .endSpec().endTemplate().endSpec().withNewStatus().withReplicas(1).endStatus().build();
+
+    assertThat(pruner.prune(deployment, false)).isZero();
+
+    assertThat(deployment.getStatus()).isNull();
+    final var containers = deployment.getSpec().getTemplate().getSpec().getContainers();
+    assertThat(containers).extracting("name").containsExactly("first", "second");
+    assertThat(containers).allSatisfy(c -> assertThat(c.getEnv()).isNull());
+  }
+
+  @Test
+  void prunesAdditionalPropertiesOfGenericResources() {
+    final var pruner = new CacheFieldPruner<GenericKubernetesResource>(
+        Set.of("/spec/template", "/status"));
+    final var spec = new HashMap<String, Object>(
+        Map.of("replicas", 1, "template", Map.of("large", "value")));
+    final var resource = new GenericKubernetesResourceBuilder().withApiVersion("example.com/v1")
+        .withKind("Example").withNewMetadata().withName("name").endMetadata()
+        .withAdditionalProperties(new HashMap<>(Map.of("spec", spec,
+            "status", new ArrayList<>(List.of("ready")))))
+        .build();
+
+    pruner.apply(resource);
+
+    assertThat(resource.getAdditionalProperties()).containsOnlyKeys("spec");
+    assertThat(spec).isEqualTo(Map.of("replicas", 1));
+  }
+
+  @Test
+  void rejectsProtectedAndInvalidFields() {
+    assertThatThrownBy(() -> new CacheFieldPruner<>(Set.of("/metadata")))
+        .isInstanceOf(IllegalArgumentException.class);
+    assertThatThrownBy(() -> new CacheFieldPruner<>(Set.of("/metadata/resourceVersion")))
+        .isInstanceOf(IllegalArgumentException.class);
+    assertThatThrownBy(() -> new CacheFieldPruner<>(Set.of("/metadata/annotations")))
+        .isInstanceOf(IllegalArgumentException.class);
+    assertThatThrownBy(() -> new CacheFieldPruner<>(Set.of("spec")))
+        .isInstanceOf(IllegalArgumentException.class);
+  }
+}
@@ -0,0 +1,112 @@
+package io.javaoperatorsdk.operator.processing.event.source.informer;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Stream;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import io.fabric8.kubernetes.api.model.ConfigMap;
+import io.fabric8.kubernetes.api.model.ConfigMapBuilder;
+import io.fabric8.kubernetes.client.informers.SharedIndexInformer;
+import io.fabric8.kubernetes.client.informers.cache.Cache;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@SuppressWarnings("unchecked")
+class InformerCacheSnapshotTest {
+
+  @TempDir
+  Path directory;
+
+  @Test
+  void restoresWrittenSnapshot() throws IOException {
+    final var file = directory.resolve("nested").resolve("configmaps.snapshot");
+    final var resources = List.of(configMap("first", "1"), configMap("second", "2"));
+
+    InformerCacheSnapshot.write(file, "42", resources);
+    final var snapshot = InformerCacheSnapshot.read(file, ConfigMap.class).orElseThrow();
+
+    assertThat(snapshot.getResourceVersion()).isEqualTo("42");
+    assertThat(snapshot.getResources()).isEqualTo(resources);
+    try (var files = Files.list(file.getParent())) {
+      // the temporary file is moved to the snapshot file
+      assertThat(files).containsExactly(file);
+    }
+  }
+
+  @Test
+  void overwritesPreviousSnapshot() throws IOException {
+    final var file = directory.resolve("configmaps.snapshot");
+
+    InformerCacheSnapshot.write(file, "1", List.of(configMap("first", "1")));
+    InformerCacheSnapshot.write(file, null, List.of());
+    final var snapshot = InformerCacheSnapshot.read(file, ConfigMap.class).orElseThrow();
+
+    assertThat(snapshot.getResourceVersion()).isNull();
+    assertThat(snapshot.getResources()).isEmpty();
+  }
+
+  @Test
+  void ignoresMissingOrUnreadableSnapshot() throws IOException {
+    final var file = directory.resolve("configmaps.snapshot");
+    assertThat(InformerCacheSnapshot.read(file, ConfigMap.class)).isEmpty();
+
+    Files.writeString(file, "not a snapshot");
+    assertThat(InformerCacheSnapshot.read(file, ConfigMap.class)).isEmpty();
+  }
+
+  @Test
+  void restoresCacheAndIndexFromSnapshot() throws Exception {
+    final var file = directory.resolve("configmaps.snapshot");
+    final var resources = List.of(configMap("first", "1"), configMap("second", "2"));
+    InformerCacheSnapshot.write(file, "42", resources);
+    final SharedIndexInformer<ConfigMap> informer = mock(SharedIndexInformer.class);
+    when(informer.getStore()).thenReturn(mock(Cache.class));
+    when(informer.getApiTypeClass()).thenReturn(ConfigMap.class);
+    final var restored = new ArrayList<ConfigMap>();
+    final var initialState = new ArrayList<ConfigMap>();
+    when(informer.initialState(any(Stream.class))).thenAnswer(invocation -> {
+      ((Stream<ConfigMap>) invocation.getArgument(0)).forEach(initialState::add);
+      return informer;
+    });
+
+    new InformerWrapper<>(informer, null, "default", file, restored::add, true, null)
+        .restoreSnapshot();
+
+    // the index is updated for each restored resource, which are put in the cache
+    assertThat(restored).isEqualTo(resources);
+    assertThat(initialState).isEqualTo(resources);
+  }
+
+  @Test
+  void ignoresSnapshotWithoutResourceVersion() throws IOException {
+    final var file = directory.resolve("configmaps.snapshot");
+    InformerCacheSnapshot.write(file, null, List.of(configMap("first", "1")));
+    final SharedIndexInformer<ConfigMap> informer = mock(SharedIndexInformer.class);
+    when(informer.getStore()).thenReturn(mock(Cache.class));
+    when(informer.getApiTypeClass()).thenReturn(ConfigMap.class);
+    final var restored = new ArrayList<ConfigMap>();
+
+    new InformerWrapper<>(informer, null, "default", file, restored::add, true, null)
+        .restoreSnapshot();
+
+    assertThat(restored).isEmpty();
+    verify(informer, never()).initialState(any());
+  }
+
+  private static ConfigMap configMap(String name, String resourceVersion) {
+    return new ConfigMapBuilder().withNewMetadata().withName(name).withNamespace("default")
+        .withResourceVersion(resourceVersion).endMetadata().withData(Map.of("key", name)).build();
+  }
+}
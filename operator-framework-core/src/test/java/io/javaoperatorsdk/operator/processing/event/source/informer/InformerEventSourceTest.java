@@ -18,10 +18,12 @@ import io.javaoperatorsdk.operator.api.config.InformerStoppedHandler;
 import io.javaoperatorsdk.operator.api.config.informer.InformerConfiguration;
 import io.javaoperatorsdk.operator.processing.event.EventHandler;
 import io.javaoperatorsdk.operator.processing.event.ResourceID;
+import io.javaoperatorsdk.operator.processing.event.source.PrimaryToSecondaryMapper;
 import io.javaoperatorsdk.operator.processing.event.source.SecondaryToPrimaryMapper;
 import io.javaoperatorsdk.operator.sample.simple.TestCustomResource;
 
 import static io.javaoperatorsdk.operator.api.reconciler.Constants.DEFAULT_NAMESPACES_SET;
+import static org.assertj.core.api.Assertions.assertThat;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.eq;
@@ -169,6 +171,29 @@ class InformerEventSourceTest {
     verify(eventHandlerMock, never()).handleEvent(any());
   }
 
+  @Test
+  void readOnlySecondaryResourcesAreNotCloned() {
+    final var cached = testDeployment();
+    final PrimaryToSecondaryMapper primaryToSecondaryMapper =
+        p -> Set.of(ResourceID.fromResource(cached));
+    when(informerConfiguration.getPrimaryToSecondaryMapper())
+        .thenReturn(primaryToSecondaryMapper);
+    informerEventSource = new InformerEventSource<>(informerConfiguration, clientMock);
+    informerEventSource.setConfigurationService(new BaseConfigurationService());
+    informerEventSource.start();
+    informerEventSource.setTemporalResourceCache(temporaryResourceCacheMock);
+    when(temporaryResourceCacheMock.getResourceFromCache(any()))
+        .thenReturn(Optional.of(cached));
+
+    final var secondaries =
+        informerEventSource.getSecondaryResourcesReadOnly(new TestCustomResource());
+
+    assertThat(secondaries).hasSize(1);
+    assertThat(secondaries.iterator().next()).isSameAs(cached);
+    assertThat(informerEventSource.getReadOnly(ResourceID.fromResource(cached)))
+        .containsSame(cached);
+  }
+
   @Test
   void informerStoppedHandlerShouldBeCalledWhenInformerStops() {
     final var exception = new RuntimeException("Informer stopped exceptionally!");
@@ -0,0 +1,262 @@
+package io.javaoperatorsdk.operator.processing.event.source.informer;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import io.fabric8.kubernetes.api.model.ConfigMap;
+import io.fabric8.kubernetes.api.model.ConfigMapBuilder;
+import io.fabric8.kubernetes.api.model.KubernetesResourceList;
+import io.fabric8.kubernetes.client.dsl.AnyNamespaceOperation;
+import io.fabric8.kubernetes.client.dsl.FilterWatchListDeletable;
+import io.fabric8.kubernetes.client.dsl.MixedOperation;
+import io.fabric8.kubernetes.client.dsl.NonNamespaceOperation;
+import io.fabric8.kubernetes.client.dsl.Resource;
+import io.fabric8.kubernetes.client.informers.ResourceEventHandler;
+import io.fabric8.kubernetes.client.informers.SharedIndexInformer;
+import io.fabric8.kubernetes.client.informers.cache.Cache;
+import io.fabric8.kubernetes.client.informers.cache.ItemStore;
+import io.fabric8.kubernetes.client.informers.impl.cache.CacheImpl;
+import io.javaoperatorsdk.operator.api.config.BaseConfigurationService;
+import io.javaoperatorsdk.operator.api.config.ConfigurationService;
+import io.javaoperatorsdk.operator.api.config.ResourceConfiguration;
+import io.javaoperatorsdk.operator.api.config.informer.InformerConfiguration;
+import io.javaoperatorsdk.operator.health.Status;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.awaitility.Awaitility.await;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.nullable;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.spy;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@SuppressWarnings("unchecked")
+class InformerManagerTest {
+
+  private final MixedOperation<ConfigMap, KubernetesResourceList<ConfigMap>, Resource<ConfigMap>> client =
+      mock(MixedOperation.class);
+  private final CacheImpl<ConfigMap> cache = spy(new CacheImpl<>());
+
+  @BeforeEach
+  void setup() {
+    final AnyNamespaceOperation<ConfigMap, KubernetesResourceList<ConfigMap>, Resource<ConfigMap>> inAnyNamespace =
+        mock(AnyNamespaceOperation.class);
+    final FilterWatchListDeletable<ConfigMap, KubernetesResourceList<ConfigMap>, Resource<ConfigMap>> filterable =
+        mock(FilterWatchListDeletable.class);
+    final SharedIndexInformer<ConfigMap> informer = mock(SharedIndexInformer.class);
+    when(client.inAnyNamespace()).thenReturn(inAnyNamespace);
+    when(inAnyNamespace.withLabelSelector(nullable(String.class))).thenReturn(filterable);
+    when(filterable.runnableInformer(anyLong())).thenReturn(informer);
+    when(informer.getApiTypeClass()).thenReturn(ConfigMap.class);
+    when(informer.start()).thenReturn(CompletableFuture.completedFuture(null));
+    when(informer.stopped()).thenReturn(new CompletableFuture<>());
+    when(informer.getStore()).thenReturn(cache);
+    when(informer.getIndexer()).thenReturn(cache);
+  }
+
+  @Test
+  void listsNamespaceAndOwnedResourcesUsingIndexes() {
+    final var manager =
+        startedManager(InformerConfiguration.from(ConfigMap.class).withOwnerIndex(true).build());
+    final var owner = configMap("owner", "ns1", "owner-uid", null);
+    cache.put(owner);
+    cache.put(configMap("owned", "ns1", "owned-uid", "owner-uid"));
+    cache.put(configMap("other", "ns2", "other-uid", null));
+
+    assertThat(manager.list("ns1").map(this::name)).containsExactlyInAnyOrder("owner", "owned");
+    assertThat(manager.list("ns2", c -> false)).isEmpty();
+    verify(cache).byIndex(Cache.NAMESPACE_INDEX, "ns1");
+    verify(cache, never()).list();
+
+    assertThat(manager.byOwner(owner)).extracting(this::name).containsExactly("owned");
+    assertThat(manager.byOwner(configMap("owned", "ns1", "owned-uid", null))).isEmpty();
+  }
+
+  @Test
+  void indexesResourcesByOwnerOnlyIfEnabled() {
+    final var manager = startedManager(InformerConfiguration.from(ConfigMap.class).build());
+
+    assertThat(cache.getIndexers()).doesNotContainKey(InformerManager.OWNER_UID_INDEX);
+    assertThatThrownBy(() -> manager.byOwner(configMap("owner", "ns1", "owner-uid", null)))
+        .isInstanceOf(IllegalArgumentException.class);
+  }
+
+  @Test
+  void scansCacheNotHoldingAllResourcesInsteadOfUsingIndexes() {
+    final ItemStore<ConfigMap> itemStore = mock(ItemStore.class);
+    when(itemStore.isFullState()).thenReturn(false);
+    final var manager = startedManager(InformerConfiguration.from(ConfigMap.class)
+        .withItemStore(itemStore).withOwnerIndex(true).withIndexedLabelKeys(Set.of("app"))
+        .build());
+    final var owner = configMap("owner", "ns1", "owner-uid", null);
+    cache.put(owner);
+    cache.put(configMap("owned", "ns1", "owned-uid", "owner-uid"));
+    cache.put(labelled("first", Map.of("app", "a")));
+
+    assertThat(manager.byOwner(owner)).extracting(this::name).containsExactly("owned");
+    assertThat(manager.byLabel("app", "a")).extracting(this::name).containsExactly("first");
+    // indexes of caches not holding all the resources would fetch the missing ones
+    verify(cache, never()).byIndex(any(), any());
+  }
+
+  @Test
+  void indexesResourcesByConfiguredLabels() {
+    final var manager = startedManager(InformerConfiguration.from(ConfigMap.class)
+        .withIndexedLabelKeys(Set.of("app")).build());
+    cache.put(labelled("first", Map.of("app", "a")));
+    cache.put(labelled("second", Map.of("app", "b", "tier", "a")));
+    cache.put(labelled("third", Map.of()));
+
+    assertThat(manager.byLabel("app", "a")).extracting(this::name).containsExactly("first");
+    assertThat(manager.byIndex(InformerManager.labelIndexName("app"), "b"))
+        .extracting(this::name).containsExactly("second");
+    assertThatThrownBy(() -> manager.byLabel("tier", "a"))
+        .isInstanceOf(IllegalArgumentException.class);
+  }
+
+  @Test
+  void rejectsIndexedLabelsWhichArePruned() {
+    final var configuration = InformerConfiguration.from(ConfigMap.class)
+        .withIndexedLabelKeys(Set.of("app")).withPrunedFields(Set.of("/metadata/labels/app"))
+        .build();
+
+    assertThatThrownBy(() -> new InformerManager<>(client, configuration, eventHandler()))
+        .isInstanceOf(IllegalArgumentException.class);
+  }
+
+  @Test
+  void hasSyncedChecksInformerOfNamespaceOrAllInformers() {
+    final var ns1 = namespacedInformer("ns1", CompletableFuture.completedFuture(null));
+    final var ns2 = namespacedInformer("ns2", CompletableFuture.completedFuture(null));
+    when(ns1.hasSynced()).thenReturn(true);
+    final var manager = startedManager(InformerConfiguration.from(ConfigMap.class)
+        .withNamespaces(Set.of("ns1", "ns2")).build());
+
+    assertThat(manager.hasSynced("ns1")).isTrue();
+    assertThat(manager.hasSynced("ns2")).isFalse();
+    // without an informer for the namespace, all the informers need to have synced
+    assertThat(manager.hasSynced(null)).isFalse();
+    assertThat(manager.hasSynced("ns3")).isFalse();
+
+    when(ns2.hasSynced()).thenReturn(true);
+    assertThat(manager.hasSynced(null)).isTrue();
+    assertThat(manager.hasSynced("ns3")).isTrue();
+  }
+
+  @Test
+  void reportsFailedInitialSync() {
+    final var ns1 = namespacedInformer("ns1", CompletableFuture.completedFuture(null));
+    namespacedInformer("ns2", CompletableFuture.failedFuture(new RuntimeException("forbidden")));
+    when(ns1.hasSynced()).thenReturn(true);
+    when(ns1.isRunning()).thenReturn(true);
+    when(ns1.isWatching()).thenReturn(true);
+    final var manager = startedManager(
+        InformerConfiguration.from(ConfigMap.class).withNamespaces(Set.of("ns1", "ns2")).build(),
+        ConfigurationService.newOverriddenConfigurationService(new BaseConfigurationService(),
+            o -> o.withProgressiveInformerReadiness(true)));
+
+    assertThat(manager.hasSyncFailed("ns1")).isFalse();
+    assertThat(manager.hasSyncFailed("ns2")).isTrue();
+    assertThat(manager.hasSyncFailed(null)).isTrue();
+    assertThat(manager.informerHealthIndicators().get("ns1").getStatus())
+        .isEqualTo(Status.HEALTHY);
+    assertThat(manager.informerHealthIndicators().get("ns2").getStatus())
+        .isEqualTo(Status.UNHEALTHY);
+  }
+
+  @Test
+  void periodicallyWritesSnapshots(@TempDir Path directory) throws IOException {
+    final var informer = namespacedInformer("ns1", CompletableFuture.completedFuture(null));
+    when(informer.hasSynced()).thenReturn(true);
+    when(informer.lastSyncResourceVersion()).thenReturn("42");
+    ((CacheImpl<ConfigMap>) informer.getStore()).put(configMap("cm", "ns1", "uid", null));
+    final var configurationService =
+        ConfigurationService.newOverriddenConfigurationService(new BaseConfigurationService(),
+            o -> o.withInformerCacheSnapshotDirectory(directory)
+                .withInformerCacheSnapshotInterval(Duration.ofMillis(10)));
+    final var manager = new InformerManager<>(client,
+        InformerConfiguration.from(ConfigMap.class).withNamespaces(Set.of("ns1")).build(),
+        eventHandler());
+    manager.setConfigurationService(configurationService);
+    manager.enableCacheSnapshots(r -> {
+    });
+    manager.start();
+
+    await().untilAsserted(() -> assertThat(directory).isNotEmptyDirectory());
+    manager.stop();
+
+    try (var files = Files.list(directory)) {
+      final var snapshot = InformerCacheSnapshot
+          .read(files.findFirst().orElseThrow(), ConfigMap.class).orElseThrow();
+      assertThat(snapshot.getResourceVersion()).isEqualTo("42");
+      assertThat(snapshot.getResources()).extracting(this::name).containsExactly("cm");
+    }
+  }
+
+  private SharedIndexInformer<ConfigMap> namespacedInformer(String namespace,
+      CompletableFuture<Void> start) {
+    final NonNamespaceOperation<ConfigMap, KubernetesResourceList<ConfigMap>, Resource<ConfigMap>> inNamespace =
+        mock(NonNamespaceOperation.class);
+    final FilterWatchListDeletable<ConfigMap, KubernetesResourceList<ConfigMap>, Resource<ConfigMap>> filterable =
+        mock(FilterWatchListDeletable.class);
+    final SharedIndexInformer<ConfigMap> informer = mock(SharedIndexInformer.class);
+    when(client.inNamespace(namespace)).thenReturn(inNamespace);
+    when(inNamespace.withLabelSelector(nullable(String.class))).thenReturn(filterable);
+    when(filterable.runnableInformer(anyLong())).thenReturn(informer);
+    when(informer.getApiTypeClass()).thenReturn(ConfigMap.class);
+    when(informer.start()).thenReturn(start);
+    when(informer.stopped()).thenReturn(new CompletableFuture<>());
+    when(informer.getStore()).thenReturn(new CacheImpl<>());
+    when(informer.getIndexer()).thenReturn(new CacheImpl<>());
+    return informer;
+  }
+
+  private <C extends ResourceConfiguration<ConfigMap>> InformerManager<ConfigMap, C> startedManager(
+      C configuration) {
+    return startedManager(configuration, new BaseConfigurationService());
+  }
+
+  private <C extends ResourceConfiguration<ConfigMap>> InformerManager<ConfigMap, C> startedManager(
+      C configuration, ConfigurationService configurationService) {
+    final var manager = new InformerManager<>(client, configuration, eventHandler());
+    manager.setConfigurationService(configurationService);
+    manager.start();
+    return manager;
+  }
+
+  private static ResourceEventHandler<ConfigMap> eventHandler() {
+    return mock(ResourceEventHandler.class);
+  }
+
+  private String name(ConfigMap configMap) {
+    return configMap.getMetadata().getName();
+  }
+
+  private static ConfigMap configMap(String name, String namespace, String uid, String ownerUid) {
+    final var builder = new ConfigMapBuilder().withNewMetadata().withName(name)
+        .withNamespace(namespace).withUid(uid).endMetadata();
+    if (ownerUid != null) {
+      builder.editMetadata().addNewOwnerReference().withApiVersion("v1").withKind("ConfigMap")
+          .withName("owner").withUid(ownerUid).endOwnerReference().endMetadata();
+    }
+    return builder.build();
+  }
+
+  private static ConfigMap labelled(String name, Map<String, String> labels) {
+    return new ConfigMapBuilder().withNewMetadata().withName(name).withNamespace("default")
+        .withLabels(labels).endMetadata().build();
+  }
+}
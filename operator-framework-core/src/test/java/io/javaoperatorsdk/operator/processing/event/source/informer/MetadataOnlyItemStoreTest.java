@@ -0,0 +1,65 @@
+package io.javaoperatorsdk.operator.processing.event.source.informer;
+
+import java.util.Map;
+
+import org.junit.jupiter.api.Test;
+
+import io.fabric8.kubernetes.api.model.ConfigMap;
+import io.fabric8.kubernetes.api.model.ConfigMapBuilder;
+import io.fabric8.kubernetes.api.model.GenericKubernetesResource;
+import io.fabric8.kubernetes.api.model.GenericKubernetesResourceBuilder;
+import io.fabric8.kubernetes.api.model.ManagedFieldsEntryBuilder;
+import io.fabric8.kubernetes.api.model.OwnerReferenceBuilder;
+import io.fabric8.kubernetes.client.informers.cache.BasicItemStore;
+import io.fabric8.kubernetes.client.informers.cache.Cache;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class MetadataOnlyItemStoreTest {
+
+  @Test
+  void keepsOnlyMetadataOfCachedResources() {
+    final var store = new MetadataOnlyItemStore<ConfigMap>();
+    final var configMap = new ConfigMapBuilder().withNewMetadata().withName("name")
+        .withNamespace("default").withResourceVersion("1").withLabels(Map.of("app", "test"))
+        .withAnnotations(Map.of("key", "value"))
+        .withOwnerReferences(new OwnerReferenceBuilder().withName("owner").withUid("uid").build())
+        .withManagedFields(new ManagedFieldsEntryBuilder().withManager("manager").build())
+        .endMetadata().withData(Map.of("data", "value")).build();
+
+    store.put(store.getKey(configMap), configMap);
+    final var cached = store.get("default/name");
+
+    assertThat(cached).isInstanceOf(ConfigMap.class).isNotSameAs(configMap);
+    assertThat(cached.getApiVersion()).isEqualTo(configMap.getApiVersion());
+    assertThat(cached.getKind()).isEqualTo(configMap.getKind());
+    assertThat(cached.getData()).isNullOrEmpty();
+    final var metadata = cached.getMetadata();
+    assertThat(metadata.getResourceVersion()).isEqualTo("1");
+    assertThat(metadata.getLabels()).isEqualTo(Map.of("app", "test"));
+    assertThat(metadata.getAnnotations()).isEqualTo(Map.of("key", "value"));
+    assertThat(metadata.getOwnerReferences()).hasSize(1);
+    assertThat(metadata.getManagedFields()).isNullOrEmpty();
+    // the resource handed to the event handlers is left untouched
+    assertThat(configMap.getData()).isNotNull();
+    assertThat(configMap.getMetadata().getManagedFields()).hasSize(1);
+  }
+
+  @Test
+  void storesGenericResourcesInDelegate() {
+    final var delegate = new BasicItemStore<GenericKubernetesResource>(Cache::metaNamespaceKeyFunc);
+    final var store = new MetadataOnlyItemStore<>(delegate);
+    final var resource = new GenericKubernetesResourceBuilder().withApiVersion("example.com/v1")
+        .withKind("Example").withNewMetadata().withName("name").withNamespace("default")
+        .endMetadata().withAdditionalProperties(Map.of("spec", Map.of("replicas", 1))).build();
+
+    store.put(store.getKey(resource), resource);
+
+    final var cached = delegate.get("default/name");
+    assertThat(cached.getApiVersion()).isEqualTo("example.com/v1");
+    assertThat(cached.getKind()).isEqualTo("Example");
+    assertThat(cached.getMetadata().getName()).isEqualTo("name");
+    assertThat(cached.getAdditionalProperties()).isEmpty();
+    assertThat(store.size()).isEqualTo(1);
+  }
+}
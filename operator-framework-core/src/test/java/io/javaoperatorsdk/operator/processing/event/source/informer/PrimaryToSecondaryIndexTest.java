@@ -13,6 +13,8 @@ import io.javaoperatorsdk.operator.processing.event.source.SecondaryToPrimaryMap
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 class PrimaryToSecondaryIndexTest {
@@ -86,6 +88,69 @@ class PrimaryToSecondaryIndexTest {
     assertThat(secondaryResources2).isEmpty();
   }
 
+  @Test
+  void removesStaleLinksOnUpdate() {
+    primaryToSecondaryIndex.onAddOrUpdate(secondary1);
+    when(secondaryToPrimaryMapperMock.toPrimaryResourceIDs(any())).thenReturn(Set.of(primaryID2));
+
+    primaryToSecondaryIndex.onAddOrUpdate(secondary1);
+
+    assertThat(primaryToSecondaryIndex.getSecondaryResources(primaryID1)).isEmpty();
+    assertThat(primaryToSecondaryIndex.getSecondaryResources(primaryID2))
+        .containsOnly(ResourceID.fromResource(secondary1));
+
+    primaryToSecondaryIndex.onDelete(secondary1);
+
+    assertThat(primaryToSecondaryIndex.getSecondaryResources(primaryID2)).isEmpty();
+  }
+
+  @Test
+  void returnsSnapshotOfSecondaryResources() {
+    primaryToSecondaryIndex.onAddOrUpdate(secondary1);
+    var snapshot = primaryToSecondaryIndex.getSecondaryResources(primaryID1);
+
+    primaryToSecondaryIndex.onAddOrUpdate(secondary2);
+
+    assertThat(snapshot).containsOnly(ResourceID.fromResource(secondary1));
+  }
+
+  @Test
+  void memoizesMappingsPerResourceVersion() {
+    var memoizingIndex =
+        new DefaultPrimaryToSecondaryIndex<>(secondaryToPrimaryMapperMock, true);
+    secondary1.getMetadata().setResourceVersion("1");
+
+    memoizingIndex.onAddOrUpdate(secondary1);
+    memoizingIndex.onAddOrUpdate(secondary1);
+    verify(secondaryToPrimaryMapperMock, times(1)).toPrimaryResourceIDs(secondary1);
+
+    secondary1.getMetadata().setResourceVersion("2");
+    memoizingIndex.onAddOrUpdate(secondary1);
+    verify(secondaryToPrimaryMapperMock, times(2)).toPrimaryResourceIDs(secondary1);
+    assertThat(memoizingIndex.getSecondaryResources(primaryID1))
+        .containsOnly(ResourceID.fromResource(secondary1));
+  }
+
+  @Test
+  void ignoresMappingsOfOlderResourceVersions() {
+    secondary1.getMetadata().setResourceVersion("2");
+    primaryToSecondaryIndex.onAddOrUpdate(secondary1);
+    when(secondaryToPrimaryMapperMock.toPrimaryResourceIDs(any())).thenReturn(Set.of(primaryID2));
+
+    // e.g. an informer event delivered after the resource returned by an update was indexed
+    final var older = secondary("secondary1");
+    older.getMetadata().setResourceVersion("1");
+    primaryToSecondaryIndex.onAddOrUpdate(older);
+
+    assertThat(primaryToSecondaryIndex.getSecondaryResources(primaryID1))
+        .containsOnly(ResourceID.fromResource(secondary1));
+
+    secondary1.getMetadata().setResourceVersion("3");
+    primaryToSecondaryIndex.onAddOrUpdate(secondary1);
+
+    assertThat(primaryToSecondaryIndex.getSecondaryResources(primaryID1)).isEmpty();
+  }
+
   ConfigMap secondary(String name) {
     ConfigMap configMap = new ConfigMap();
     configMap.setMetadata(new ObjectMeta());
@@ -0,0 +1,124 @@
+package io.javaoperatorsdk.operator.processing.event.source.timer;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import io.javaoperatorsdk.operator.TestUtils;
+import io.javaoperatorsdk.operator.processing.event.Event;
+import io.javaoperatorsdk.operator.processing.event.EventHandler;
+import io.javaoperatorsdk.operator.processing.event.ResourceID;
+import io.javaoperatorsdk.operator.processing.event.source.AbstractEventSourceTestBase;
+import io.javaoperatorsdk.operator.processing.event.source.timer.HashedWheelTimerEventSourceTest.CapturingEventHandler;
+import io.javaoperatorsdk.operator.sample.simple.TestCustomResource;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
+import static org.awaitility.Awaitility.await;
+
+class HashedWheelTimerEventSourceTest
+    extends
+    AbstractEventSourceTestBase<HashedWheelTimerEventSource<TestCustomResource>, CapturingEventHandler> {
+
+  public static final int PERIOD = 50;
+
+  @BeforeEach
+  public void setup() {
+    // small wheel so that delays span multiple rounds
+    setUpSource(new HashedWheelTimerEventSource<>(Duration.ofMillis(5), 8),
+        new CapturingEventHandler());
+  }
+
+  @Test
+  void schedulesOnce() {
+    var resourceID = ResourceID.fromResource(TestUtils.testCustomResource());
+
+    final var start = System.currentTimeMillis();
+    source.scheduleOnce(resourceID, PERIOD);
+
+    await().untilAsserted(() -> assertThat(eventHandler.events).hasSize(1));
+    assertThat(eventHandler.timestamps.get(0) - start).isGreaterThanOrEqualTo(PERIOD);
+    await().pollDelay(Duration.ofMillis(PERIOD * 2))
+        .untilAsserted(() -> assertThat(eventHandler.events).hasSize(1));
+  }
+
+  @Test
+  void canCancelOnce() {
+    var resourceID = ResourceID.fromResource(TestUtils.testCustomResource());
+
+    source.scheduleOnce(resourceID, PERIOD);
+    source.cancelOnceSchedule(resourceID);
+
+    assertThat(source.pendingTimeouts()).isZero();
+    await().pollDelay(Duration.ofMillis(PERIOD * 2))
+        .untilAsserted(() -> assertThat(eventHandler.events).isEmpty());
+  }
+
+  @Test
+  void reschedulesInPlace() {
+    var resourceID = ResourceID.fromResource(TestUtils.testCustomResource());
+
+    for (int i = 0; i < 1000; i++) {
+      source.scheduleOnce(resourceID, 10_000);
+    }
+    assertThat(source.pendingTimeouts()).isEqualTo(1);
+
+    source.scheduleOnce(resourceID, PERIOD);
+
+    await().untilAsserted(() -> assertThat(eventHandler.events).hasSize(1));
+    assertThat(source.pendingTimeouts()).isZero();
+  }
+
+  @Test
+  void firesEventsForManyResources() {
+    for (int i = 0; i < 100; i++) {
+      source.scheduleOnce(new ResourceID("resource" + i, "default"), i);
+    }
+
+    await().untilAsserted(() -> assertThat(eventHandler.events).hasSize(100));
+  }
+
+  @Test
+  void deRegistersOnceEventSources() {
+    TestCustomResource customResource = TestUtils.testCustomResource();
+
+    source.scheduleOnce(ResourceID.fromResource(customResource), PERIOD);
+    source.onResourceDeleted(customResource);
+
+    assertThat(source.pendingTimeouts()).isZero();
+    await().pollDelay(Duration.ofMillis(PERIOD * 2))
+        .untilAsserted(() -> assertThat(eventHandler.events).isEmpty());
+  }
+
+  @Test
+  void eventNotRegisteredIfStopped() {
+    var resourceID = ResourceID.fromResource(TestUtils.testCustomResource());
+
+    source.stop();
+    assertThatExceptionOfType(IllegalStateException.class).isThrownBy(
+        () -> source.scheduleOnce(resourceID, PERIOD));
+  }
+
+  @Test
+  void eventNotFiredIfStopped() {
+    source.scheduleOnce(ResourceID.fromResource(TestUtils.testCustomResource()), PERIOD);
+    source.stop();
+
+    await().pollDelay(Duration.ofMillis(PERIOD * 2))
+        .untilAsserted(() -> assertThat(eventHandler.events).isEmpty());
+  }
+
+  public static class CapturingEventHandler implements EventHandler {
+    private final List<Event> events = new CopyOnWriteArrayList<>();
+    private final List<Long> timestamps = new CopyOnWriteArrayList<>();
+
+    @Override
+    public void handleEvent(Event event) {
+      timestamps.add(System.currentTimeMillis());
+      events.add(event);
+    }
+  }
+}
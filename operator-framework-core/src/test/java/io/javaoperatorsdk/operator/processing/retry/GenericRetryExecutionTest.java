@@ -1,12 +1,15 @@
 package io.javaoperatorsdk.operator.processing.retry;
 
 import java.util.Optional;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
 
 import org.junit.jupiter.api.Test;
 
 import io.javaoperatorsdk.operator.api.config.RetryConfiguration;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
 
 public class GenericRetryExecutionTest {
 
@@ -86,6 +89,73 @@ public class GenericRetryExecutionTest {
     assertThat(retryExecution.getAttemptCount()).isEqualTo(1);
   }
 
+  @Test
+  void fullJitterPicksDelaysUpToTheExponentialInterval() {
+    final var retry = new GenericRetry().setInitialInterval(1000).setIntervalMultiplier(2)
+        .setMaxInterval(8000).withoutMaxAttempts().setJitter(BackoffJitter.FULL);
+
+    for (int i = 0; i < 50; i++) {
+      final var execution = retry.initExecution();
+      assertThat(execution.nextDelay().orElseThrow()).isBetween(0L, 1000L);
+      execution.nextDelay();
+      assertThat(execution.nextDelay().orElseThrow()).isBetween(0L, 2000L);
+      assertThat(callNextDelayNTimes(execution, 5).orElseThrow()).isBetween(0L, 8000L);
+    }
+  }
+
+  @Test
+  void decorrelatedJitterPicksDelaysFromPreviousDelay() {
+    final var retry = new GenericRetry().setInitialInterval(1000).setMaxInterval(20000)
+        .withoutMaxAttempts().setJitter(BackoffJitter.DECORRELATED);
+
+    for (int i = 0; i < 50; i++) {
+      final var execution = retry.initExecution();
+      long previous = 1000;
+      for (int attempt = 0; attempt < 10; attempt++) {
+        final long delay = execution.nextDelay().orElseThrow();
+        assertThat(delay).isBetween(1000L, Math.min(20000L, previous * 3));
+        previous = delay;
+      }
+    }
+  }
+
+  @Test
+  void decorrelatedJitterDoesNotOverflowWithoutMaxInterval() {
+    final var retry = new GenericRetry().setInitialInterval(1000).setMaxInterval(-1)
+        .withoutMaxAttempts().setJitter(BackoffJitter.DECORRELATED);
+    final var execution = retry.initExecution();
+
+    for (int attempt = 0; attempt < 200; attempt++) {
+      assertThat(execution.nextDelay().orElseThrow()).isGreaterThanOrEqualTo(1000L);
+    }
+  }
+
+  @Test
+  void jitterSpreadsDelaysOfExecutions() {
+    final var retry = new GenericRetry().setJitter(BackoffJitter.DECORRELATED);
+
+    final var delays = IntStream.range(0, 20)
+        .mapToObj(i -> retry.initExecution().nextDelay().orElseThrow())
+        .collect(Collectors.toSet());
+
+    assertThat(delays).hasSizeGreaterThan(1);
+  }
+
+  @Test
+  void initializesJitterAndRetryBudgetFromAnnotation() {
+    final var retry = new GenericRetry();
+    retry.initFrom(Jittered.class.getAnnotation(GradualRetry.class));
+
+    assertThat(retry.getJitter()).isEqualTo(BackoffJitter.FULL);
+    assertThat(retry.retryBudget()).isEqualTo(0.25);
+    assertThatThrownBy(() -> retry.setRetryBudget(0)).isInstanceOf(IllegalArgumentException.class);
+    assertThat(new GenericRetry().retryBudget()).isEqualTo(GradualRetry.NO_RETRY_BUDGET);
+  }
+
+  @GradualRetry(jitter = BackoffJitter.FULL, retryBudget = 0.25)
+  private static class Jittered {
+  }
+
   private RetryExecution getDefaultRetryExecution() {
     return GenericRetry.defaultLimitedExponentialRetry().initExecution();
   }
@@ -167,6 +167,7 @@ class BaseConfigurationServiceTest {
   void maxIntervalCanBeConfigured() {
     var config = configFor(new MaxIntervalReconciler());
     assertEquals(50, config.maxReconciliationInterval().map(Duration::getSeconds).orElseThrow());
+    assertEquals(0.2, config.maxReconciliationIntervalJitter());
   }
 
   @Test
@@ -308,7 +309,7 @@ class BaseConfigurationServiceTest {
 
   @ControllerConfiguration(
       maxReconciliationInterval = @MaxReconciliationInterval(interval = 50,
-          timeUnit = TimeUnit.SECONDS))
+          timeUnit = TimeUnit.SECONDS, jitter = 0.2))
   private static class MaxIntervalReconciler implements Reconciler<ConfigMap> {
 
     @Override